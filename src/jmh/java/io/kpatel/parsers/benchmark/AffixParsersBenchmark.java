@@ -0,0 +1,57 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.AffixParsers;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+
+/**
+ * WHAT: Benchmarks for each factory in AffixParsers
+ * NOTE:
+ * - Parsers are built once, only the parse is measured
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AffixParsersBenchmark {
+    private ParserStream<String, Character> stream;
+
+    private Parser<Character, String, Character> prefix;
+    private Parser<Character, String, Character> suffix;
+    private Parser<Character, String, Character> between;
+
+    @Setup
+    public void setup() {
+        stream = new StringStream(Inputs.words());
+
+        Supplier<Parser<Character, String, Character>> a = item('a', () -> "Expected 'a'");
+        Supplier<Parser<Character, String, Character>> b = item('b', () -> "Expected 'b'");
+        Supplier<Parser<Character, String, Character>> c = item('c', () -> "Expected 'c'");
+
+        prefix = AffixParsers.prefix(a, b).get();
+        suffix = AffixParsers.suffix(a, b).get();
+        between = AffixParsers.between(a, b, c).get();
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> prefix() {
+        return prefix.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> suffix() {
+        return suffix.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> between() {
+        return between.parse(stream);
+    }
+}
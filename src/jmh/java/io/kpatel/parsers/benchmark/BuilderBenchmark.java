@@ -0,0 +1,115 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.builder.IntArray;
+import io.kpatel.parsers.builder.IntArrayBuilder;
+import io.kpatel.parsers.builder.ListBuilder;
+import io.kpatel.parsers.builder.MapBuilder;
+import io.kpatel.parsers.builder.TextBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WHAT: Benchmarks for the prebuilt Builders, w/ and w/o a capacity hint of
+ *   the number of parts, per appended part
+ * NOTE:
+ * - *Default builders start small and grow by copying, *Sized builders are
+ *   told the count first, as repeat and concatenate do
+ * - The GC Profiler's allocation per part of a Default builder, less that of
+ *   its Sized builder, is what resize copies cost, plus the unused capacity
+ *   that the Output keeps (Sized Outputs keep none)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BuilderBenchmark {
+    private static final int PARTS = 1000;
+
+    private String[] texts;
+    private Map.Entry<String, String>[] entries;
+
+    @Setup
+    public void setup() {
+        texts = new String[PARTS];
+        entries = newEntries(PARTS);
+        for (int idx = 0; idx < PARTS; idx++) {
+            texts[idx] = String.valueOf((char) ('a' + idx % 26));
+            entries[idx] = Map.entry(String.valueOf(idx), texts[idx]);
+        }
+    }
+
+    /**
+     * HELPER: An empty array of entries w/ the given length
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Map.Entry<K, V>[] newEntries(int length) {
+        return new Map.Entry[length];
+    }
+
+    private <Out, Prt> Out build(Builder<Out, Prt> builder, Prt[] parts) {
+        for (Prt part : parts) {
+            builder = builder.append(part);
+        }
+        return builder.toOutput();
+    }
+
+    private IntArray buildInts(IntArrayBuilder builder) {
+        for (int idx = 0; idx < PARTS; idx++) {
+            builder.appendInt(idx);
+        }
+        return builder.toOutput();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public List<String> listDefault() {
+        return build(new ListBuilder<>(), texts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public List<String> listSized() {
+        return build(new ListBuilder<String>().withCapacity(PARTS), texts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public Map<String, String> mapDefault() {
+        return build(new MapBuilder<>(), entries);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public Map<String, String> mapSized() {
+        return build(new MapBuilder<String, String>().withCapacity(PARTS), entries);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public String textDefault() {
+        return build(new TextBuilder(), texts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public String textSized() {
+        return build(new TextBuilder().withCapacity(PARTS), texts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public IntArray intsDefault() {
+        return buildInts(new IntArrayBuilder());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTS)
+    public IntArray intsSized() {
+        var builder = new IntArrayBuilder();
+        builder.withCapacity(PARTS);
+        return buildInts(builder);
+    }
+}
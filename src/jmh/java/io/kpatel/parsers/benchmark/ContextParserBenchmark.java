@@ -0,0 +1,158 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.prebuilt.ContextParser;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMore;
+import static io.kpatel.parsers.prebuilt.StringParsers.charItem;
+import static io.kpatel.parsers.prebuilt.StringParsers.letter;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+
+/**
+ * WHAT: Benchmarks for the context engine against the Result engine, per item
+ * NOTE:
+ * - letterCount counts a run of letters one Character at a time, so the builder
+ *   allocates nothing, and the allocation left is the engine's own
+ * - wordList parses the space separated words of {@link Inputs#words()}
+ * - branchList parses words which only the last of ten alternatives
+ *   accepts, so nine branches fail for every word
+ * - *Context benchmarks parse on a fresh ParseContext, and read the value
+ *   from the context, *Light benchmarks record failures in LIGHT mode, and
+ *   *Furthest benchmarks merge the expected items of the furthest failure
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContextParserBenchmark {
+    private StringStream letterStream;
+    private StringStream wordStream;
+    private StringStream branchStream;
+
+    private Parser<Integer, String, Character> letterCount;
+    private ContextParser<Integer, String, Character> letterCountContext;
+    private Parser<List<String>, String, Character> wordList;
+    private ContextParser<List<String>, String, Character> wordListContext;
+    private Parser<List<String>, String, Character> branchList;
+    private ContextParser<List<String>, String, Character> branchListContext;
+    private ContextParser<List<String>, String, Character> branchListLight;
+    private ContextParser<List<String>, String, Character> branchListFurthest;
+
+    @Setup
+    public void setup() {
+        letterStream = StringStream.withoutLineTracking(Inputs.letters());
+        wordStream = StringStream.withoutLineTracking(Inputs.words());
+
+        var counted = zeroOrMore(Count::new, letter());
+        letterCount = GrammarParsers.compile(counted);
+        letterCountContext = GrammarParsers.compileContext(counted);
+        var delimited = delimitedList(letters(), charItem(Character::isWhitespace, () -> "Expected a Space"));
+        wordList = GrammarParsers.compile(delimited);
+        wordListContext = GrammarParsers.compileContext(delimited);
+
+        branchStream = StringStream.withoutLineTracking(
+                String.join(" ", Collections.nCopies(Inputs.WORD_COUNT, "branch9")));
+        var branches = new ArrayList<Supplier<? extends Parser<? extends String, String, Character>>>();
+        for (int idx = 0; idx < 10; idx++) {
+            var branch = "branch" + idx;
+            branches.add(sequence(branch, () -> "Expected " + branch));
+        }
+        var alternatives = delimitedList(alternate(branches),
+                charItem(Character::isWhitespace, () -> "Expected a Space"));
+        branchList = GrammarParsers.compile(alternatives);
+        branchListContext = GrammarParsers.compileContext(alternatives);
+        branchListLight = branchListContext.withFailureMode(FailureMode.LIGHT);
+        branchListFurthest = branchListContext.withFailureMode(FailureMode.FURTHEST);
+    }
+
+    /**
+     * WHAT: A Builder which only counts its parts
+     */
+    private static final class Count implements Builder<Integer, Character> {
+        private int count;
+
+        @Override
+        public Builder<Integer, Character> append(Character part) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public Integer toOutput() {
+            return count;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<Integer, String, Character> letterCount() {
+        return letterCount.parse(letterStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Integer letterCountContext() {
+        var context = new ParseContext<>(letterStream);
+        letterCountContext.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<String>, String, Character> wordList() {
+        return wordList.parse(wordStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> wordListContext() {
+        var context = new ParseContext<>(wordStream);
+        wordListContext.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<String>, String, Character> branchList() {
+        return branchList.parse(branchStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> branchListContext() {
+        var context = new ParseContext<>(branchStream);
+        branchListContext.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> branchListLight() {
+        var context = new ParseContext<>(branchStream, FailureMode.LIGHT);
+        branchListLight.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> branchListFurthest() {
+        var context = new ParseContext<>(branchStream, FailureMode.FURTHEST);
+        branchListFurthest.parse(context);
+        return context.getValue();
+    }
+}
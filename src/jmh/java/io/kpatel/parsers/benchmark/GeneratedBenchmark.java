@@ -0,0 +1,156 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.prebuilt.ContextParser;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.oneOrMore;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMore;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMoreList;
+import static io.kpatel.parsers.prebuilt.StringParsers.charItem;
+import static io.kpatel.parsers.prebuilt.StringParsers.digit;
+import static io.kpatel.parsers.prebuilt.StringParsers.letter;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+
+/**
+ * WHAT: Benchmarks for the generated classes of a grammar against the
+ *   context engine, per item
+ * NOTE:
+ * - letterCount counts a run of letters one Character at a time
+ * - branchList parses words which only the last of ten alternatives
+ *   accepts, so nine branches fail for every word
+ * - sumList parses a sum of parenthesized sums, through a recursive Rule,
+ *   per parenthesized sum
+ * - *Generated benchmarks parse w/ the generated classes, on a fresh
+ *   ParseContext, as the others do
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeneratedBenchmark {
+    private StringStream letterStream;
+    private StringStream branchStream;
+    private StringStream sumStream;
+
+    private ContextParser<Integer, String, Character> letterCount;
+    private ContextParser<Integer, String, Character> letterCountGenerated;
+    private ContextParser<List<String>, String, Character> branchList;
+    private ContextParser<List<String>, String, Character> branchListGenerated;
+    private ContextParser<Integer, String, Character> sumList;
+    private ContextParser<Integer, String, Character> sumListGenerated;
+
+    @Setup
+    public void setup() {
+        letterStream = StringStream.withoutLineTracking(Inputs.letters());
+        var counted = zeroOrMore(Count::new, letter());
+        letterCount = GrammarParsers.compileContext(counted);
+        letterCountGenerated = GrammarParsers.compileGenerated(counted);
+
+        branchStream = StringStream.withoutLineTracking(
+                String.join(" ", Collections.nCopies(Inputs.WORD_COUNT, "branch9")));
+        var branches = new ArrayList<Supplier<? extends Parser<? extends String, String, Character>>>();
+        for (int idx = 0; idx < 10; idx++) {
+            var branch = "branch" + idx;
+            branches.add(sequence(branch, () -> "Expected " + branch));
+        }
+        var alternatives = zeroOrMoreList(suffix(alternate(branches),
+                charItem(Character::isWhitespace, () -> "Expected a Space")));
+        branchList = GrammarParsers.compileContext(alternatives);
+        branchListGenerated = GrammarParsers.compileGenerated(alternatives);
+
+        sumStream = StringStream.withoutLineTracking(
+                String.join("+", Collections.nCopies(Inputs.WORD_COUNT, "(12+345)")));
+        var sum = sum();
+        sumList = GrammarParsers.compileContext(sum);
+        sumListGenerated = GrammarParsers.compileGenerated(sum);
+    }
+
+    /**
+     * WHAT: A sum of numbers and parenthesized sums
+     */
+    private static Supplier<Parser<Integer, String, Character>> sum() {
+        Rule<Integer, String, Character> sum = GrammarParsers.rule("sum");
+        var number = oneOrMore(Count::new, digit());
+        var term = alternate(List.of(number, between(
+                sequence("(", () -> "Expected '('"),
+                sum,
+                sequence(")", () -> "Expected ')'"))));
+        var rest = zeroOrMoreList(suffix(item('+', () -> "Expected '+'"), term));
+        return sum.bind(suffix(term, rest));
+    }
+
+    /**
+     * WHAT: A Builder which only counts its parts
+     */
+    private static final class Count implements Builder<Integer, Character> {
+        private int count;
+
+        @Override
+        public Builder<Integer, Character> append(Character part) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public Integer toOutput() {
+            return count;
+        }
+    }
+
+    private static <T> T parse(ContextParser<T, String, Character> parser, StringStream stream) {
+        var context = new ParseContext<>(stream);
+        parser.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Integer letterCount() {
+        return parse(letterCount, letterStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Integer letterCountGenerated() {
+        return parse(letterCountGenerated, letterStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> branchList() {
+        return parse(branchList, branchStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> branchListGenerated() {
+        return parse(branchListGenerated, branchStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Integer sumList() {
+        return parse(sumList, sumStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Integer sumListGenerated() {
+        return parse(sumListGenerated, sumStream);
+    }
+}
@@ -0,0 +1,93 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+
+/**
+ * WHAT: Benchmarks for recursive grammars, by how their recursion is written
+ * NOTE:
+ * - The grammar is nested lists, value = 'x' | '[' value (',' value)* ']'
+ * - supplierRecursion refers to itself through a method reference, so the
+ *   grammar is rebuilt on every use, rule refers to itself through a Rule,
+ *   and compiled is the compiled form of the rule
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GrammarParsersBenchmark {
+    private ParserStream<String, Character> stream;
+
+    private Parser<Integer, String, Character> supplierRecursion;
+    private Parser<Integer, String, Character> rule;
+    private Parser<Integer, String, Character> compiled;
+
+    @Setup
+    public void setup() {
+        stream = new StringStream(nested(4));
+
+        supplierRecursion = value(this::value).get();
+        Rule<Integer, String, Character> valueRule = GrammarParsers.rule();
+        valueRule.bind(value(valueRule));
+        rule = valueRule.get();
+        compiled = GrammarParsers.compile(valueRule);
+    }
+
+    /**
+     * WHAT: Lists of three, nested to the given depth
+     */
+    private static String nested(int depth) {
+        if (depth == 0) {
+            return "x";
+        }
+        var inner = nested(depth - 1);
+        return "[" + inner + "," + inner + "," + inner + "]";
+    }
+
+    private Parser<Integer, String, Character> value() {
+        return value(this::value).get();
+    }
+
+    /**
+     * WHAT: The number of x in a value, with nested values parsed by the given parser
+     */
+    private static Supplier<Parser<Integer, String, Character>> value(
+            Supplier<Parser<Integer, String, Character>> nested) {
+        return alternate(List.of(
+                map(item('x', () -> "Expected 'x'"), x -> 1),
+                map(between(
+                        item('[', () -> "Expected '['"),
+                        delimitedList(nested, item(',', () -> "Expected ','")),
+                        item(']', () -> "Expected ']'")),
+                        values -> values.stream().mapToInt(Integer::intValue).sum())));
+    }
+
+    @Benchmark
+    public Result<Integer, String, Character> supplierRecursion() {
+        return supplierRecursion.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Integer, String, Character> rule() {
+        return rule.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Integer, String, Character> compiled() {
+        return compiled.parse(stream);
+    }
+}
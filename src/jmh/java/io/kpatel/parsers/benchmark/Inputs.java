@@ -0,0 +1,80 @@
+package io.kpatel.parsers.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * WHAT: Shared Benchmark Inputs
+ * NOTE:
+ * - Inputs are deterministic so runs between library versions are comparable
+ * - Benchmarks which walk an input should be normalized with
+ *   {@link org.openjdk.jmh.annotations.OperationsPerInvocation} so that the
+ *   GC Profiler reports allocation per parsed item
+ */
+final class Inputs {
+    /**
+     * WHY: Length of a word in {@link #words}
+     */
+    static final int WORD_LENGTH = 8;
+    /**
+     * WHY: Number of words in {@link #words}
+     */
+    static final int WORD_COUNT = 128;
+    /**
+     * WHY: Total Length of {@link #words} and {@link #letters}
+     */
+    static final int LENGTH = WORD_COUNT * (WORD_LENGTH + 1);
+
+    private Inputs() {
+
+    }
+
+    /**
+     * WHAT: Space separated lowercase words, spread over several lines
+     */
+    static String words() {
+        var builder = new StringBuilder(LENGTH);
+        for (int word = 0; word < WORD_COUNT; word++) {
+            for (int idx = 0; idx < WORD_LENGTH; idx++) {
+                builder.append((char) ('a' + (word + idx) % 26));
+            }
+            builder.append(word % 16 == 15 ? '\n' : ' ');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * WHAT: Distinct lowercase keywords of 2 to 9 letters, many sharing prefixes
+     */
+    static List<String> keywords(int count) {
+        var keywords = new ArrayList<String>(count);
+        for (int word = 0; word < count; word++) {
+            var builder = new StringBuilder();
+            int length = 2 + word % 8;
+            for (int idx = 0, value = word; idx < length; idx++, value /= 26) {
+                builder.append((char) ('a' + value % 26));
+            }
+            keywords.add(builder.toString());
+        }
+        return keywords;
+    }
+
+    /**
+     * WHAT: A single run of letters
+     */
+    static String letters() {
+        return String.join("", Collections.nCopies(LENGTH, "x"));
+    }
+
+    /**
+     * WHAT: The characters of a String as a list of tokens
+     */
+    static List<Character> tokens(String text) {
+        var tokens = new ArrayList<Character>(text.length());
+        for (int idx = 0; idx < text.length(); idx++) {
+            tokens.add(text.charAt(idx));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,90 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.MemoParsers;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.AffixParsers.prefix;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.MiscParsers.pipe;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+
+/**
+ * WHAT: Benchmarks for Memoization on a backtracking-heavy grammar
+ * NOTE:
+ * - The grammar is: E = T '+' E | T '-' E | T, and T = '(' E ')' | 'a'
+ * - On nested input such as "((a))" every level parses T three times, so the
+ *   plain grammar does exponential work in the depth, and the memoized
+ *   grammars do linear work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoBenchmark {
+    @Param({"4", "8", "12"})
+    private int depth;
+
+    private StringStream stream;
+
+    private Parser<String, String, Character> plain;
+    private Parser<String, String, Character> memo;
+    private Parser<String, String, Character> packrat;
+
+    @Setup
+    public void setup() {
+        stream = new StringStream(String.join("", Collections.nCopies(depth, "("))
+                + "a" + String.join("", Collections.nCopies(depth, ")")));
+
+        plain = grammar(Function.identity()).get();
+        memo = grammar(MemoParsers::memo).get();
+        packrat = MemoParsers.packrat(grammar(Function.identity())).get();
+    }
+
+    /**
+     * WHAT: Build the grammar, wrapping each rule with the given function
+     */
+    private static Supplier<Parser<String, String, Character>> grammar(
+            Function<Supplier<Parser<String, String, Character>>,
+                    Supplier<Parser<String, String, Character>>> rule) {
+        Rule<String, String, Character> expression = GrammarParsers.rule();
+
+        var term = rule.apply(alternate(List.of(
+                between(item('(', () -> "Expected '('"), expression,
+                        item(')', () -> "Expected ')'")),
+                map(item('a', () -> "Expected 'a'"), String::valueOf))));
+        expression.bind(rule.apply(alternate(List.of(
+                pipe(term, prefix(item('+', () -> "Expected '+'"), expression),
+                        (l, r) -> l + "+" + r),
+                pipe(term, prefix(item('-', () -> "Expected '-'"), expression),
+                        (l, r) -> l + "-" + r),
+                term))));
+        return expression;
+    }
+
+    @Benchmark
+    public Result<String, String, Character> plain() {
+        return plain.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> memo() {
+        return memo.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> packrat() {
+        return packrat.parse(stream);
+    }
+}
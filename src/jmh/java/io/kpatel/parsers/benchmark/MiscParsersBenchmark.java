@@ -0,0 +1,186 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.MiscParsers;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+
+/**
+ * WHAT: Benchmarks for each factory in MiscParsers
+ * NOTE:
+ * - Parsers are built once, only the parse is measured
+ * - Sub-Parsers are kept to single items so the combinator dominates
+ * - alternateWide* pick the last of 16 branches, alternateWideOpaque hides
+ *   the branches behind plain lambdas, so every branch is tried in order
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MiscParsersBenchmark {
+    private ParserStream<String, Character> stream;
+
+    private Parser<Integer, String, Character> map;
+    private Parser<Character, String, Character> flatMap;
+    private Parser<Character, String, Character> otherwiseFirst;
+    private Parser<Character, String, Character> otherwiseSecond;
+    private Parser<Character, String, Character> filterAccept;
+    private Parser<Character, String, Character> filterReject;
+    private Parser<String, String, Character> pipe;
+    private Parser<Map.Entry<Character, Character>, String, Character> entry;
+    private Parser<String, String, Character> alternateFirst;
+    private Parser<String, String, Character> alternateLast;
+    private Parser<String, String, Character> alternateNone;
+    private Parser<String, String, Character> alternateWide;
+    private Parser<String, String, Character> alternateWideOpaque;
+    private Parser<Character, String, Character> optionalPresent;
+    private Parser<Character, String, Character> optionalAbsent;
+    private Parser<Character, String, Character> omit;
+    private Parser<Character, String, Character> peek;
+
+    @Setup
+    public void setup() {
+        stream = new StringStream(Inputs.words());
+
+        Supplier<Parser<Character, String, Character>> a = item('a', () -> "Expected 'a'");
+        Supplier<Parser<Character, String, Character>> b = item('b', () -> "Expected 'b'");
+        Supplier<Parser<Character, String, Character>> z = item('z', () -> "Expected 'z'");
+
+        map = MiscParsers.map(a, Character::getNumericValue).get();
+        flatMap = MiscParsers.flatMap(a, c -> b).get();
+        otherwiseFirst = MiscParsers.otherwise(a, z).get();
+        otherwiseSecond = MiscParsers.otherwise(z, a).get();
+        filterAccept = MiscParsers.filter(a, Character::isLetter, () -> "Expected Letter").get();
+        filterReject = MiscParsers.filter(a, Character::isDigit, () -> "Expected Digit").get();
+        pipe = MiscParsers.pipe(a, b, (l, r) -> "ab").get();
+        entry = MiscParsers.entry(a, b).get();
+        alternateFirst = MiscParsers.<String, String, Character>alternate(List.of(
+                sequence("ab", () -> "Expected 'ab'"),
+                sequence("xy", () -> "Expected 'xy'"),
+                sequence("yz", () -> "Expected 'yz'"),
+                sequence("zz", () -> "Expected 'zz'"))).get();
+        alternateLast = MiscParsers.<String, String, Character>alternate(List.of(
+                sequence("xy", () -> "Expected 'xy'"),
+                sequence("yz", () -> "Expected 'yz'"),
+                sequence("zz", () -> "Expected 'zz'"),
+                sequence("ab", () -> "Expected 'ab'"))).get();
+        alternateNone = MiscParsers.<String, String, Character>alternate(List.of(
+                sequence("xy", () -> "Expected 'xy'"),
+                sequence("yz", () -> "Expected 'yz'"),
+                sequence("zz", () -> "Expected 'zz'"),
+                sequence("zy", () -> "Expected 'zy'"))).get();
+        List<Supplier<? extends Parser<? extends String, String, Character>>> wide = new ArrayList<>();
+        List<Supplier<? extends Parser<? extends String, String, Character>>> wideOpaque = new ArrayList<>();
+        for (char leading = 'p'; leading <= 'z'; leading++) {
+            wide.add(sequence(leading + "b", () -> "Expected Branch"));
+        }
+        for (char leading = 'b'; leading <= 'f'; leading++) {
+            wide.add(sequence(leading + "b", () -> "Expected Branch"));
+        }
+        wide.add(sequence("ab", () -> "Expected 'ab'"));
+        for (var branch : wide) {
+            wideOpaque.add(() -> branch.get());
+        }
+        alternateWide = MiscParsers.alternate(wide).get();
+        alternateWideOpaque = MiscParsers.alternate(wideOpaque).get();
+        optionalPresent = MiscParsers.optional(a, () -> '\0').get();
+        optionalAbsent = MiscParsers.optional(z, () -> '\0').get();
+        omit = MiscParsers.omit(a, () -> '\0').get();
+        peek = MiscParsers.peek(a).get();
+    }
+
+    @Benchmark
+    public Result<Integer, String, Character> map() {
+        return map.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> flatMap() {
+        return flatMap.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> otherwiseFirst() {
+        return otherwiseFirst.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> otherwiseSecond() {
+        return otherwiseSecond.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> filterAccept() {
+        return filterAccept.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> filterReject() {
+        return filterReject.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> pipe() {
+        return pipe.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Map.Entry<Character, Character>, String, Character> entry() {
+        return entry.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> alternateFirst() {
+        return alternateFirst.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> alternateLast() {
+        return alternateLast.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> alternateNone() {
+        return alternateNone.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> alternateWide() {
+        return alternateWide.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> alternateWideOpaque() {
+        return alternateWideOpaque.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> optionalPresent() {
+        return optionalPresent.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> optionalAbsent() {
+        return optionalAbsent.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> omit() {
+        return omit.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> peek() {
+        return peek.parse(stream);
+    }
+}
@@ -0,0 +1,178 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.prebuilt.ContextParser;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.MiscParsers.omit;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMore;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMoreList;
+import static io.kpatel.parsers.prebuilt.StringParsers.charItem;
+import static io.kpatel.parsers.prebuilt.StringParsers.letter;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+
+/**
+ * WHAT: Benchmarks for each rewrite of the optimizer, against the grammar it
+ *   rewrites
+ * NOTE:
+ * - tagList parses "<tag>" words, between three literals which are fused
+ * - letterCount counts a run of letters one Character at a time, which is
+ *   scanned in one loop
+ * - lengthList maps each word through three nested maps, which are flattened
+ * - omittedList omits a list of the letters of each word, which is only
+ *   recognized
+ * - *Optimized benchmarks parse w/ the optimized grammar, *Context
+ *   benchmarks on a fresh ParseContext
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OptimizerBenchmark {
+    private StringStream tagStream;
+    private StringStream letterStream;
+    private StringStream wordStream;
+
+    private Parser<List<String>, String, Character> tagList;
+    private Parser<List<String>, String, Character> tagListOptimized;
+    private Parser<Integer, String, Character> letterCount;
+    private Parser<Integer, String, Character> letterCountOptimized;
+    private ContextParser<Integer, String, Character> letterCountContext;
+    private ContextParser<Integer, String, Character> letterCountContextOptimized;
+    private Parser<List<Integer>, String, Character> lengthList;
+    private Parser<List<Integer>, String, Character> lengthListOptimized;
+    private Parser<List<List<Character>>, String, Character> omittedList;
+    private Parser<List<List<Character>>, String, Character> omittedListOptimized;
+
+    @Setup
+    public void setup() {
+        tagStream = StringStream.withoutLineTracking(
+                String.join(" ", Collections.nCopies(Inputs.WORD_COUNT, "<tag>")));
+        letterStream = StringStream.withoutLineTracking(Inputs.letters());
+        wordStream = StringStream.withoutLineTracking(Inputs.words());
+
+        var tags = words(between(
+                TerminalParsers.<String, Character>sequence("<", () -> "Expected '<'"),
+                TerminalParsers.<String, Character>sequence("tag", () -> "Expected 'tag'"),
+                TerminalParsers.<String, Character>sequence(">", () -> "Expected '>'")));
+        tagList = GrammarParsers.compile(tags);
+        tagListOptimized = GrammarParsers.compile(GrammarParsers.optimize(tags));
+
+        var counted = zeroOrMore(Count::new, letter());
+        letterCount = GrammarParsers.compile(counted);
+        letterCountOptimized = GrammarParsers.compile(GrammarParsers.optimize(counted));
+        letterCountContext = GrammarParsers.compileContext(counted);
+        letterCountContextOptimized = GrammarParsers.compileContext(GrammarParsers.optimize(counted));
+
+        var lengths = words(map(map(map(letters(), String::length), n -> n * 2), n -> n + 1));
+        lengthList = GrammarParsers.compile(lengths);
+        lengthListOptimized = GrammarParsers.compile(GrammarParsers.optimize(lengths));
+
+        var omitted = words(omit(zeroOrMoreList(letter()), List::of));
+        omittedList = GrammarParsers.compile(omitted);
+        omittedListOptimized = GrammarParsers.compile(GrammarParsers.optimize(omitted));
+    }
+
+    /**
+     * WHAT: A list of words, separated by a single space or newline
+     */
+    private static <T> Supplier<Parser<List<T>, String, Character>> words(
+            Supplier<Parser<T, String, Character>> word) {
+        return delimitedList(word, charItem(Character::isWhitespace, () -> "Expected a Space"));
+    }
+
+    /**
+     * WHAT: A Builder which only counts its parts
+     */
+    private static final class Count implements Builder<Integer, Character> {
+        private int count;
+
+        @Override
+        public Builder<Integer, Character> append(Character part) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public Integer toOutput() {
+            return count;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<String>, String, Character> tagList() {
+        return tagList.parse(tagStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<String>, String, Character> tagListOptimized() {
+        return tagListOptimized.parse(tagStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<Integer, String, Character> letterCount() {
+        return letterCount.parse(letterStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<Integer, String, Character> letterCountOptimized() {
+        return letterCountOptimized.parse(letterStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Integer letterCountContext() {
+        var context = new ParseContext<>(letterStream);
+        letterCountContext.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Integer letterCountContextOptimized() {
+        var context = new ParseContext<>(letterStream);
+        letterCountContextOptimized.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<Integer>, String, Character> lengthList() {
+        return lengthList.parse(wordStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<Integer>, String, Character> lengthListOptimized() {
+        return lengthListOptimized.parse(wordStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<List<Character>>, String, Character> omittedList() {
+        return omittedList.parse(wordStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Result<List<List<Character>>, String, Character> omittedListOptimized() {
+        return omittedListOptimized.parse(wordStream);
+    }
+}
@@ -0,0 +1,65 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.prefix;
+import static io.kpatel.parsers.prebuilt.MiscParsers.pipe;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.parallelDelimitedList;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+
+/**
+ * WHAT: Benchmarks for parallel repetition against the sequential one, per record
+ * NOTE:
+ * - records are RECORD_COUNT lines of "key=value", about 4 MB of text, so
+ *   they split into many chunks of the default size
+ * - Parallel benchmarks run on the common pool, and should scale with its
+ *   parallelism, sequential ones use a single core
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParallelRepetitionBenchmark {
+    private static final int RECORD_COUNT = 1 << 18;
+
+    private StringStream recordStream;
+    private Parser<List<Integer>, String, Character> recordList;
+    private Parser<List<Integer>, String, Character> recordListParallel;
+
+    @Setup
+    public void setup() {
+        var lines = new ArrayList<String>(RECORD_COUNT);
+        for (int idx = 0; idx < RECORD_COUNT; idx++) {
+            lines.add("key" + (char) ('a' + idx % 26) + "=" + idx);
+        }
+        recordStream = StringStream.withoutLineTracking(String.join("\n", lines));
+
+        var record = pipe(letters(), prefix(TerminalParsers.<String, Character>item('=', () -> "Expected '='"), digits()),
+                (key, value) -> key.length() + value.length());
+        var newline = TerminalParsers.<String, Character>item('\n', () -> "Expected a Newline");
+        recordList = GrammarParsers.compile(delimitedList(record, newline));
+        recordListParallel = GrammarParsers.compile(parallelDelimitedList(record, newline));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public Result<List<Integer>, String, Character> recordList() {
+        return recordList.parse(recordStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public Result<List<Integer>, String, Character> recordListParallel() {
+        return recordListParallel.parse(recordStream);
+    }
+}
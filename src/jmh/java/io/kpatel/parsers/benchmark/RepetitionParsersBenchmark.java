@@ -0,0 +1,159 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.IntArray;
+import io.kpatel.parsers.prebuilt.RepetitionParsers;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.MiscParsers.entry;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+
+/**
+ * WHAT: Benchmarks for each factory in RepetitionParsers
+ * NOTE:
+ * - Parsers are built once, only the parse is measured
+ * - Results are normalized per repeated element, so the GC Profiler reports
+ *   the allocation per parsed item
+ * - delimitedIntegerList and delimitedInts parse the same numbers into a
+ *   List of Integers and an IntArray
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RepetitionParsersBenchmark {
+    private static final int PAIRS = Inputs.LENGTH / 2;
+    private static final int CONCATENATED = Inputs.WORD_LENGTH;
+
+    private ParserStream<String, Character> stream;
+    private ParserStream<String, Character> delimitedStream;
+    private ParserStream<String, Character> numberStream;
+
+    private Parser<List<Character>, String, Character> concatenateList;
+    private Parser<String, String, Character> concatenateString;
+    private Parser<List<Character>, String, Character> zeroOrMoreList;
+    private Parser<String, String, Character> zeroOrMoreString;
+    private Parser<Map<Character, Character>, String, Character> zeroOrMoreMap;
+    private Parser<List<Character>, String, Character> oneOrMoreList;
+    private Parser<String, String, Character> oneOrMoreString;
+    private Parser<List<Character>, String, Character> delimitedList;
+    private Parser<List<Character>, String, Character> repeatList;
+    private Parser<List<Character>, String, Character> rangedRepeatList;
+    private Parser<List<Integer>, String, Character> delimitedIntegerList;
+    private Parser<IntArray, String, Character> delimitedInts;
+
+    @Setup
+    public void setup() {
+        stream = new StringStream(Inputs.letters());
+        delimitedStream = new StringStream(String.join(",", Collections.nCopies(PAIRS, "x")));
+        numberStream = new StringStream(String.join(",", Collections.nCopies(PAIRS, "123456")));
+
+        Supplier<Parser<Character, String, Character>> x = item('x', () -> "Expected 'x'");
+        Supplier<Parser<String, String, Character>> xs = sequence("x", () -> "Expected 'x'");
+        Supplier<Parser<Character, String, Character>> comma = item(',', () -> "Expected ','");
+
+        var characterParsers = new ArrayList<Supplier<? extends Parser<? extends Character, String, Character>>>();
+        var stringParsers = new ArrayList<Supplier<? extends Parser<? extends String, String, Character>>>();
+        for (int idx = 0; idx < CONCATENATED; idx++) {
+            characterParsers.add(x);
+            stringParsers.add(xs);
+        }
+
+        concatenateList = RepetitionParsers.concatenateList(characterParsers).get();
+        concatenateString = RepetitionParsers.concatenateString(stringParsers).get();
+        zeroOrMoreList = RepetitionParsers.zeroOrMoreList(x).get();
+        zeroOrMoreString = RepetitionParsers.zeroOrMoreString(xs).get();
+        zeroOrMoreMap = RepetitionParsers.zeroOrMoreMap(entry(x, x)).get();
+        oneOrMoreList = RepetitionParsers.oneOrMoreList(x).get();
+        oneOrMoreString = RepetitionParsers.oneOrMoreString(xs).get();
+        delimitedList = RepetitionParsers.delimitedList(x, comma).get();
+        repeatList = RepetitionParsers.repeatList(x, Inputs.LENGTH).get();
+        rangedRepeatList = RepetitionParsers.rangedRepeatList(x, 0, Inputs.LENGTH).get();
+        delimitedIntegerList = RepetitionParsers.delimitedList(map(digits(), Integer::valueOf), comma).get();
+        delimitedInts = RepetitionParsers.delimitedInts(digits(), comma, Integer::parseInt).get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCATENATED)
+    public Result<List<Character>, String, Character> concatenateList() {
+        return concatenateList.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCATENATED)
+    public Result<String, String, Character> concatenateString() {
+        return concatenateString.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<List<Character>, String, Character> zeroOrMoreList() {
+        return zeroOrMoreList.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<String, String, Character> zeroOrMoreString() {
+        return zeroOrMoreString.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public Result<Map<Character, Character>, String, Character> zeroOrMoreMap() {
+        return zeroOrMoreMap.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<List<Character>, String, Character> oneOrMoreList() {
+        return oneOrMoreList.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<String, String, Character> oneOrMoreString() {
+        return oneOrMoreString.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public Result<List<Character>, String, Character> delimitedList() {
+        return delimitedList.parse(delimitedStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<List<Character>, String, Character> repeatList() {
+        return repeatList.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public Result<List<Character>, String, Character> rangedRepeatList() {
+        return rangedRepeatList.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public Result<List<Integer>, String, Character> delimitedIntegerList() {
+        return delimitedIntegerList.parse(numberStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public Result<IntArray, String, Character> delimitedInts() {
+        return delimitedInts.parse(numberStream);
+    }
+}
@@ -0,0 +1,111 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * WHAT: Benchmarks for the ParserStream Primitives of StringStream and ListStream
+ * NOTE:
+ * - Single calls measure the cost of one query on a fresh stream
+ * - Walks measure the cost per item of advancing through a whole input
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreamBenchmark {
+    private final Predicate<Character> isLetter = Character::isLetter;
+
+    private StringStream stringStream;
+    private StringStream untrackedStringStream;
+    private ListStream<Character> listStream;
+
+    @Setup
+    public void setup() {
+        var text = Inputs.words();
+        stringStream = new StringStream(text);
+        untrackedStringStream = StringStream.withoutLineTracking(text);
+        listStream = new ListStream<>(Inputs.tokens(text));
+    }
+
+    @Benchmark
+    public Optional<Character> stringLeadingItem() {
+        return stringStream.getLeadingItem();
+    }
+
+    @Benchmark
+    public String stringLeadingSequence() {
+        return stringStream.getLeadingSequence(Inputs.WORD_LENGTH).getSequence();
+    }
+
+    @Benchmark
+    public String stringLeadingRun() {
+        return stringStream.getLeadingRun(isLetter).getSequence();
+    }
+
+    @Benchmark
+    public ParserStream<String, Character> stringJump() {
+        return stringStream.jump(Inputs.WORD_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public ParserStream<String, Character> stringWalk() {
+        ParserStream<String, Character> stream = stringStream;
+        while (stream.getLeadingItem().isPresent()) {
+            stream = stream.jump(1);
+        }
+        return stream;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public ParserStream<String, Character> untrackedStringWalk() {
+        ParserStream<String, Character> stream = untrackedStringStream;
+        while (stream.getLeadingItem().isPresent()) {
+            stream = stream.jump(1);
+        }
+        return stream;
+    }
+
+    @Benchmark
+    public int stringLineNumber() {
+        return stringStream.jump(Inputs.LENGTH / 2).getLineNumber();
+    }
+
+    @Benchmark
+    public Optional<Character> listLeadingItem() {
+        return listStream.getLeadingItem();
+    }
+
+    @Benchmark
+    public List<Character> listLeadingSequence() {
+        return listStream.getLeadingSequence(Inputs.WORD_LENGTH).getSequence();
+    }
+
+    @Benchmark
+    public List<Character> listLeadingRun() {
+        return listStream.getLeadingRun(isLetter).getSequence();
+    }
+
+    @Benchmark
+    public ParserStream<List<Character>, Character> listJump() {
+        return listStream.jump(Inputs.WORD_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.LENGTH)
+    public ParserStream<List<Character>, Character> listWalk() {
+        ParserStream<List<Character>, Character> stream = listStream;
+        while (stream.getLeadingItem().isPresent()) {
+            stream = stream.jump(1);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,81 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.MiscParsers;
+import io.kpatel.parsers.prebuilt.StringParsers;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Benchmarks for the keyword factories in StringParsers
+ * NOTE:
+ * - Parsers are built once, only the parse is measured
+ * - termAlternate* is an alternate over one term per keyword, as a baseline
+ *   for the Trie behind keywords
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringParsersBenchmark {
+    @Param({"16", "400"})
+    public int count;
+
+    private ParserStream<String, Character> firstStream;
+    private ParserStream<String, Character> lastStream;
+    private ParserStream<String, Character> noneStream;
+
+    private Parser<String, String, Character> keywords;
+    private Parser<String, String, Character> termAlternate;
+
+    @Setup
+    public void setup() {
+        var words = Inputs.keywords(count);
+        firstStream = new StringStream(words.get(0) + " " + Inputs.words());
+        lastStream = new StringStream(words.get(count - 1) + " " + Inputs.words());
+        noneStream = new StringStream("zzzzzzzzzz " + Inputs.words());
+
+        keywords = StringParsers.keywords(words).get();
+        List<Supplier<? extends Parser<? extends String, String, Character>>> terms = new ArrayList<>();
+        for (String word : words) {
+            terms.add(StringParsers.term(word));
+        }
+        termAlternate = MiscParsers.alternate(terms).get();
+    }
+
+    @Benchmark
+    public Result<String, String, Character> keywordsFirst() {
+        return keywords.parse(firstStream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> keywordsLast() {
+        return keywords.parse(lastStream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> keywordsNone() {
+        return keywords.parse(noneStream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> termAlternateFirst() {
+        return termAlternate.parse(firstStream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> termAlternateLast() {
+        return termAlternate.parse(lastStream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> termAlternateNone() {
+        return termAlternate.parse(noneStream);
+    }
+}
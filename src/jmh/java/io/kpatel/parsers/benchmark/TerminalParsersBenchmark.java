@@ -0,0 +1,151 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WHAT: Benchmarks for each factory in TerminalParsers
+ * NOTE:
+ * - Parsers are built once, only the parse is measured
+ * - Failure cases are measured as well, as failed branches are common in
+ *   alternations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TerminalParsersBenchmark {
+    private final List<Character> vowels = List.of('a', 'e', 'i', 'o', 'u');
+
+    private ParserStream<String, Character> stream;
+    private ParserStream<String, Character> end;
+
+    private Parser<Object, String, Character> endOfStream;
+    private Parser<Character, String, Character> anyItem;
+    private Parser<Character, String, Character> predicateItem;
+    private Parser<Character, String, Character> targetItem;
+    private Parser<Character, String, Character> collectionItem;
+    private Parser<String, String, Character> sequence;
+    private Parser<String, String, Character> missingSequence;
+    private Parser<String, String, Character> predicateOptionalRun;
+    private Parser<String, String, Character> targetOptionalRun;
+    private Parser<String, String, Character> collectionOptionalRun;
+    private Parser<String, String, Character> predicateRun;
+    private Parser<String, String, Character> targetRun;
+    private Parser<String, String, Character> collectionRun;
+
+    @Setup
+    public void setup() {
+        var text = Inputs.words();
+        stream = new StringStream(text);
+        end = stream.jump(text.length());
+
+        endOfStream = TerminalParsers.<String, Character>endOfStream().get();
+        anyItem = TerminalParsers.<String, Character>item().get();
+        predicateItem = TerminalParsers.<String, Character>
+                item(Character::isLetter, () -> "Expected Letter").get();
+        targetItem = TerminalParsers.<String, Character>
+                item('a', () -> "Expected 'a'").get();
+        collectionItem = TerminalParsers.<String, Character>
+                item(vowels, () -> "Expected Vowel").get();
+        sequence = TerminalParsers.<String, Character>
+                sequence(text.substring(0, Inputs.WORD_LENGTH), () -> "Expected Word").get();
+        missingSequence = TerminalParsers.<String, Character>
+                sequence("zzzzzzzz", () -> "Expected Word").get();
+        predicateOptionalRun = TerminalParsers.<String, Character>
+                optionalRun(Character::isLetter).get();
+        targetOptionalRun = TerminalParsers.<String, Character>
+                optionalRun('a').get();
+        collectionOptionalRun = TerminalParsers.<String, Character>
+                optionalRun(vowels).get();
+        predicateRun = TerminalParsers.<String, Character>
+                run(Character::isLetter, () -> "Expected Letters").get();
+        targetRun = TerminalParsers.<String, Character>
+                run('a', () -> "Expected 'a'").get();
+        collectionRun = TerminalParsers.<String, Character>
+                run(vowels, () -> "Expected Vowels").get();
+    }
+
+    @Benchmark
+    public Result<Object, String, Character> endOfStreamSuccess() {
+        return endOfStream.parse(end);
+    }
+
+    @Benchmark
+    public Result<Object, String, Character> endOfStreamFailure() {
+        return endOfStream.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> anyItemSuccess() {
+        return anyItem.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> anyItemFailure() {
+        return anyItem.parse(end);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> predicateItem() {
+        return predicateItem.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> targetItem() {
+        return targetItem.parse(stream);
+    }
+
+    @Benchmark
+    public Result<Character, String, Character> collectionItem() {
+        return collectionItem.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> sequenceSuccess() {
+        return sequence.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> sequenceFailure() {
+        return missingSequence.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_LENGTH)
+    public Result<String, String, Character> predicateOptionalRun() {
+        return predicateOptionalRun.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> targetOptionalRun() {
+        return targetOptionalRun.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> collectionOptionalRun() {
+        return collectionOptionalRun.parse(stream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_LENGTH)
+    public Result<String, String, Character> predicateRun() {
+        return predicateRun.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> targetRun() {
+        return targetRun.parse(stream);
+    }
+
+    @Benchmark
+    public Result<String, String, Character> collectionRun() {
+        return collectionRun.parse(stream);
+    }
+}
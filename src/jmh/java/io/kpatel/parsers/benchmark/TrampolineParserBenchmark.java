@@ -0,0 +1,109 @@
+package io.kpatel.parsers.benchmark;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.prebuilt.ContextParser;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TrampolineParser;
+import io.kpatel.parsers.stream.StringStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.filter;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.StringParsers.charItem;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+
+/**
+ * WHAT: Benchmarks for the trampoline engine against the direct context
+ *   engine, on shallow input, per item
+ * NOTE:
+ * - wordList parses the space separated words of {@link Inputs#words()}
+ * - sumList parses a sum of {@link Inputs#WORD_COUNT} terms, where every
+ *   other term is a parenthesized pair, so each term nests a few rules
+ * - *Trampoline benchmarks pay for a frame on every run of a composite node,
+ *   which is the price of nesting on the heap
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrampolineParserBenchmark {
+    private StringStream wordStream;
+    private StringStream sumStream;
+
+    private ContextParser<List<String>, String, Character> wordListContext;
+    private TrampolineParser<List<String>, String, Character> wordListTrampoline;
+    private ContextParser<Integer, String, Character> sumContext;
+    private TrampolineParser<Integer, String, Character> sumTrampoline;
+
+    @Setup
+    public void setup() {
+        wordStream = StringStream.withoutLineTracking(Inputs.words());
+        var words = delimitedList(letters(), charItem(Character::isWhitespace, () -> "Expected a Space"));
+        wordListContext = GrammarParsers.compileContext(words);
+        wordListTrampoline = GrammarParsers.compileTrampoline(words);
+
+        sumStream = StringStream.withoutLineTracking(
+                String.join("+", Collections.nCopies(Inputs.WORD_COUNT / 2, "12+(3+4)")));
+        sumContext = GrammarParsers.compileContext(sum());
+        sumTrampoline = GrammarParsers.compileTrampoline(sum());
+    }
+
+    /**
+     * WHAT: A sum of numbers, with parenthesized sub-sums, e.g. "1+(2+3)"
+     */
+    private static Supplier<Parser<Integer, String, Character>> sum() {
+        Rule<Integer, String, Character> sum = GrammarParsers.rule();
+        var number = map(filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"),
+                Integer::parseInt);
+        var term = alternate(List.of(number, between(
+                item('(', () -> "Expected '('"),
+                sum,
+                item(')', () -> "Expected ')'"))));
+        sum.bind(map(delimitedList(term, item('+', () -> "Expected '+'")),
+                terms -> terms.stream().mapToInt(Integer::intValue).sum()));
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> wordListContext() {
+        var context = new ParseContext<>(wordStream);
+        wordListContext.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public List<String> wordListTrampoline() {
+        var context = new ParseContext<>(wordStream);
+        wordListTrampoline.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Integer sumListContext() {
+        var context = new ParseContext<>(sumStream);
+        sumContext.parse(context);
+        return context.getValue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.WORD_COUNT)
+    public Integer sumListTrampoline() {
+        var context = new ParseContext<>(sumStream);
+        sumTrampoline.parse(context);
+        return context.getValue();
+    }
+}
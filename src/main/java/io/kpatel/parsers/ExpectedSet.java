@@ -0,0 +1,137 @@
+package io.kpatel.parsers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The items that the failures at one position of a parse expected
+ * INTENT: Merge what every failing branch expected into one compact set,
+ *   and only build the text of it when the failure is reported
+ * NOTE:
+ * - Expected characters are kept as a bitset
+ * - Anything else is kept as a token, the (unevaluated) message of its
+ *   failure, interned by identity, and is described by that message
+ * - The set belongs to its {@link ParseContext}, and changes as it parses
+ *
+ * @see FailureMode#FURTHEST
+ */
+public final class ExpectedSet {
+    private final BitSet chars;
+    private Supplier<?>[] tokens;
+    private int tokenCount;
+
+    ExpectedSet() {
+        this(new BitSet(128), new Supplier<?>[4], 0);
+    }
+
+    private ExpectedSet(BitSet chars, Supplier<?>[] tokens, int tokenCount) {
+        this.chars = chars;
+        this.tokens = tokens;
+        this.tokenCount = tokenCount;
+    }
+
+    void clear() {
+        chars.clear();
+        Arrays.fill(tokens, 0, tokenCount, null);
+        tokenCount = 0;
+    }
+
+    void addChars(char[] expected) {
+        for (char c : expected) {
+            chars.set(c);
+        }
+    }
+
+    /**
+     * WHAT: Add the token, unless it was already added
+     * - Returns its id, i.e. its index in this set
+     */
+    int addToken(Supplier<String> token) {
+        for (int id = 0; id < tokenCount; id++) {
+            if (tokens[id] == token) {
+                return id;
+            }
+        }
+        if (tokenCount == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokenCount * 2);
+        }
+        tokens[tokenCount] = token;
+        return tokenCount++;
+    }
+
+    /**
+     * WHAT: A copy which no longer changes with the parse
+     */
+    ExpectedSet snapshot() {
+        return new ExpectedSet((BitSet) chars.clone(),
+                Arrays.copyOf(tokens, tokenCount), tokenCount);
+    }
+
+    public boolean isEmpty() {
+        return chars.isEmpty() && tokenCount == 0;
+    }
+
+    public boolean expectsChar(char c) {
+        return chars.get(c);
+    }
+
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * WHAT: The message of the token with the given id
+     */
+    public String describeToken(int id) {
+        if (id < 0 || tokenCount <= id) {
+            throw new IndexOutOfBoundsException("No Token with id: " + id);
+        }
+        return String.valueOf(tokens[id].get());
+    }
+
+    /**
+     * WHAT: Describe the set, e.g. "Expected one of: '(', '+' | Expected a Number"
+     * - Tokens with the same message are described once
+     */
+    public String format() {
+        var parts = new ArrayList<String>();
+        if (!chars.isEmpty()) {
+            var quoted = new ArrayList<String>();
+            for (int c = chars.nextSetBit(0); 0 <= c; c = chars.nextSetBit(c + 1)) {
+                quoted.add(quote((char) c));
+            }
+            parts.add("Expected one of: " + String.join(", ", quoted));
+        }
+        var messages = new LinkedHashSet<String>();
+        for (int id = 0; id < tokenCount; id++) {
+            messages.add(describeToken(id));
+        }
+        parts.addAll(messages);
+        return parts.isEmpty()
+                ? "Unexpected Input"
+                : String.join(" | ", parts);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static String quote(char c) {
+        switch (c) {
+            case '\n':
+                return "'\\n'";
+            case '\r':
+                return "'\\r'";
+            case '\t':
+                return "'\\t'";
+            default:
+                return Character.isISOControl(c)
+                        ? String.format("'\\u%04x'", (int) c)
+                        : "'" + c + "'";
+        }
+    }
+}
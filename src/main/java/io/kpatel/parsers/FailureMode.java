@@ -0,0 +1,32 @@
+package io.kpatel.parsers;
+
+/**
+ * WHAT: How much a {@link ParseContext} records about its failures
+ * NOTE:
+ * - Failed branches usually outnumber Successes, so what a failure records
+ *   is most of the cost of backtracking
+ *
+ * @see ParseContext
+ */
+public enum FailureMode {
+    /**
+     * WHAT: Record the context and message of every failure, as the Result
+     * engine does
+     */
+    DIAGNOSTIC,
+    /**
+     * WHAT: Record only the position and code of every failure, which
+     * allocates nothing
+     * - The context and message are rebuilt by parsing again in DIAGNOSTIC
+     *   mode, when they are asked for
+     */
+    LIGHT,
+    /**
+     * WHAT: Record the furthest position that any failure reached, and merge
+     * what the failures there expected into an {@link ExpectedSet}
+     * - The furthest failure is reported instead of the last one, which
+     *   usually names the real mistake, and not a backtracked branch
+     * - Allocates nothing per failure, once the set has grown
+     */
+    FURTHEST
+}
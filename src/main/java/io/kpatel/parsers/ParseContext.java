@@ -0,0 +1,279 @@
+package io.kpatel.parsers;
+
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StreamCursor;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The Mutable State of one parse, a cursor over the stream with the
+ *   outcome of the last step
+ * INTENT: Let parsers report their outcome by updating a shared context,
+ *   instead of allocating a Result (and a stream) on every step
+ * REQUIREMENTS:
+ * - A step that succeeds leaves the cursor after the items it accepted,
+ *   and its value in the result slot
+ * - A step that fails leaves the cursor where it started
+ * NOTE:
+ * - A context belongs to one parse, and is not safe to share between Threads
+ * - The immutable Result of the parse is available from {@link #toResult()}
+ * - Failures always record their position and error code, and record their
+ *   context and message in {@link FailureMode#DIAGNOSTIC} mode only
+ * - In {@link FailureMode#FURTHEST} mode, failures also merge what they
+ *   expected into the set of the furthest failure
+ *
+ * @see Result
+ * @see StreamCursor
+ * @see FailureMode
+ */
+public final class ParseContext<Seq, Itm> {
+    /**
+     * WHAT: Error Code of a parser which did not find the input it expects
+     */
+    public static final int EXPECTED_INPUT = 1;
+    /**
+     * WHAT: Error Code of a parser which expects the end of the stream
+     */
+    public static final int EXPECTED_END = 2;
+    /**
+     * WHAT: Error Code of a value rejected by a filter
+     */
+    public static final int REJECTED = 3;
+    /**
+     * WHAT: Error Code of an alternation w/o a branch for the leading item
+     */
+    public static final int NO_ALTERNATIVE = 4;
+    /**
+     * WHAT: Error Code of a Parser which ran on a stream at the cursor
+     */
+    public static final int PARSER_FAILURE = 5;
+    /**
+     * WHAT: Error Code of a parse which nested deeper than its engine allows
+     */
+    public static final int DEPTH_EXCEEDED = 6;
+
+    private static final char[] NO_CHARS = new char[0];
+
+    private final StreamCursor<Seq, Itm> cursor;
+    private final FailureMode failureMode;
+    private boolean success;
+    private Object value;
+    private long errorPosition;
+    private int errorCode;
+    private Supplier<String> errorContext;
+    private Supplier<String> errorMessage;
+    private final ExpectedSet expected;
+    private long furthestPosition = Long.MIN_VALUE;
+
+    public ParseContext(ParserStream<Seq, Itm> stream) {
+        this(stream, FailureMode.DIAGNOSTIC);
+    }
+
+    public ParseContext(ParserStream<Seq, Itm> stream, FailureMode failureMode) {
+        Objects.requireNonNull(stream,
+                "Parser Stream must not be null");
+        this.failureMode = Objects.requireNonNull(failureMode,
+                "Failure Mode must not be null");
+        this.cursor = stream.cursor();
+        this.expected = failureMode == FailureMode.FURTHEST
+                ? new ExpectedSet()
+                : null;
+    }
+
+    public StreamCursor<Seq, Itm> getCursor() {
+        return cursor;
+    }
+
+    /**
+     * WHAT: Record a Success with the given value
+     * - Always returns true, so steps can return its outcome directly
+     */
+    public boolean succeed(Object value) {
+        this.value = Objects.requireNonNull(value,
+                "Result must not be Null");
+        this.success = true;
+        return true;
+    }
+
+    /**
+     * WHAT: Record a Failure at the current position of the cursor
+     * - Always returns false, so steps can return its outcome directly
+     * - The message is only kept in DIAGNOSTIC mode, and is the expected
+     *   token in FURTHEST mode
+     */
+    public boolean fail(int errorCode, Supplier<String> errorMessage) {
+        return fail(errorCode, errorMessage, NO_CHARS);
+    }
+
+    /**
+     * WHAT: Record a Failure which expected one of the given characters
+     * - In FURTHEST mode, the characters are expected instead of the message,
+     *   unless there are none
+     */
+    public boolean fail(int errorCode, Supplier<String> errorMessage, char[] expectedChars) {
+        this.errorPosition = cursor.getPosition();
+        this.errorCode = errorCode;
+        if (failureMode == FailureMode.DIAGNOSTIC) {
+            this.errorContext = cursor.toStream().getErrorContext();
+            this.errorMessage = errorMessage;
+        } else if (failureMode == FailureMode.FURTHEST) {
+            expect(expectedChars, errorMessage);
+        }
+        this.value = null;
+        this.success = false;
+        return false;
+    }
+
+    /**
+     * WHAT: Record the outcome of a Parser that ran on {@link StreamCursor#toStream()}
+     * - Moves the cursor to the remaining stream on Success
+     * - Returns whether it was a Success
+     */
+    public boolean accept(Result<?, Seq, Itm> result) {
+        Objects.requireNonNull(result,
+                "Result must not be null");
+        var remaining = result.remainingOrNull();
+        if (remaining != null) {
+            cursor.seek(remaining);
+            return succeed(result.getOrThrow());
+        }
+        this.errorPosition = cursor.getPosition();
+        this.errorCode = PARSER_FAILURE;
+        if (failureMode == FailureMode.DIAGNOSTIC) {
+            this.errorContext = result.contextOrNull();
+            this.errorMessage = result.errorMessageOrNull();
+        } else if (failureMode == FailureMode.FURTHEST) {
+            expect(NO_CHARS, result.errorMessageOrNull());
+        }
+        this.value = null;
+        this.success = false;
+        return false;
+    }
+
+    /**
+     * HELPER: Merge what a Failure expected into the set of the furthest
+     * failure, which it replaces if it is further
+     */
+    private void expect(char[] expectedChars, Supplier<String> token) {
+        if (errorPosition < furthestPosition) {
+            return;
+        } else if (furthestPosition < errorPosition) {
+            furthestPosition = errorPosition;
+            expected.clear();
+        }
+        if (expectedChars.length != 0) {
+            expected.addChars(expectedChars);
+        } else {
+            expected.addToken(token);
+        }
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public FailureMode getFailureMode() {
+        return failureMode;
+    }
+
+    /**
+     * WHAT: Position of the cursor at the last Failure
+     * - Negative for streams that cannot report a position
+     */
+    public long getErrorPosition() {
+        return errorPosition;
+    }
+
+    /**
+     * WHAT: Error Code of the last Failure, one of the Error Code constants
+     */
+    public int getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * WHAT: The stream state at the last Failure, in DIAGNOSTIC mode only
+     */
+    public Optional<Supplier<String>> getErrorContext() {
+        return Optional.ofNullable(errorContext);
+    }
+
+    /**
+     * WHAT: The explanation of the last Failure, in DIAGNOSTIC mode only
+     */
+    public Optional<Supplier<String>> getErrorMessage() {
+        return Optional.ofNullable(errorMessage);
+    }
+
+    /**
+     * WHAT: Position of the furthest Failure so far, in FURTHEST mode only
+     * - Long.MIN_VALUE before the first Failure
+     * - A reused context keeps the furthest Failure of all its parses
+     */
+    public long getFurthestPosition() {
+        return furthestPosition;
+    }
+
+    /**
+     * WHAT: What the Failures at the furthest position expected, in FURTHEST
+     * mode only
+     * - The set keeps changing as the context parses
+     */
+    public Optional<ExpectedSet> getExpected() {
+        return Optional.ofNullable(expected);
+    }
+
+    /**
+     * WHAT: The value of the last Success
+     * - The caller must know the type of the step it ran
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue() {
+        return (T) value;
+    }
+
+    /**
+     * WHAT: The last outcome as an immutable Result
+     * - In LIGHT mode, Failures only describe their position and error code
+     * - In FURTHEST mode, Failures describe the furthest failure, and format
+     *   what it expected when the message is asked for
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T, Seq, Itm> toResult() {
+        if (success) {
+            return Result.success((T) value, cursor.toStream());
+        } else if (failureMode == FailureMode.DIAGNOSTIC) {
+            return Result.failure(errorContext, errorMessage);
+        } else if (failureMode == FailureMode.FURTHEST && !expected.isEmpty()) {
+            var furthest = expected.snapshot();
+            return Result.failure(cursor.getErrorContext(furthestPosition), furthest::format);
+        }
+        long position = errorPosition;
+        int code = errorCode;
+        return Result.failure(
+                () -> String.format("(Pos: %d)", position),
+                () -> describe(code));
+    }
+
+    /**
+     * HELPER: A generic explanation of an Error Code
+     */
+    private static String describe(int errorCode) {
+        switch (errorCode) {
+            case EXPECTED_INPUT:
+                return "Unexpected Input";
+            case EXPECTED_END:
+                return "Expected End of Stream";
+            case REJECTED:
+                return "Input was Rejected";
+            case NO_ALTERNATIVE:
+                return "No Parsers To Alternate with.";
+            case DEPTH_EXCEEDED:
+                return "Maximum Depth Exceeded";
+            default:
+                return "Parser Failed";
+        }
+    }
+}
@@ -96,6 +96,12 @@ public abstract class Result<T, Seq, Itm> {
      */
     public abstract Optional<T> get();
 
+    /**
+     * WHAT: Visitor Pattern seeking the Success Case
+     * WHY: Wraps the remaining stream in Optional if present, or returns empty
+     */
+    public abstract Optional<ParserStream<Seq, Itm>> getRemainingStream();
+
     /**
      * WHAT: Visitor Pattern seeking the Success Case
      * WHY: Indicates Success Case
@@ -103,6 +109,22 @@ public abstract class Result<T, Seq, Itm> {
     public final boolean isSuccess() {
         return get().isPresent();
     }
+
+    /**
+     * HELPER: The remaining stream of the Success Case, or null
+     * WHY: Lets ParseContext record a Result w/o casting to its Cases
+     */
+    abstract ParserStream<Seq, Itm> remainingOrNull();
+
+    /**
+     * HELPER: The context supplier of the Failure Case, or null
+     */
+    abstract Supplier<String> contextOrNull();
+
+    /**
+     * HELPER: The error message supplier of the Failure Case, or null
+     */
+    abstract Supplier<String> errorMessageOrNull();
 }
 
 
@@ -190,6 +212,28 @@ final class Success<T, Seq, Itm> extends Result<T, Seq, Itm> {
     public Optional<T> get() {
         return Optional.of(getResult());
     }
+
+    /**
+     * WHAT: return wrapped remaining stream
+     *
+     * @see Result#getRemainingStream
+     * @see Failure#getRemainingStream
+     */
+    public Optional<ParserStream<Seq, Itm>> getRemainingStream() {
+        return Optional.of(getRemaining());
+    }
+
+    ParserStream<Seq, Itm> remainingOrNull() {
+        return getRemaining();
+    }
+
+    Supplier<String> contextOrNull() {
+        return null;
+    }
+
+    Supplier<String> errorMessageOrNull() {
+        return null;
+    }
 }
 
 final class Failure<T, Seq, Itm> extends Result<T, Seq, Itm> {
@@ -287,5 +331,27 @@ final class Failure<T, Seq, Itm> extends Result<T, Seq, Itm> {
         return Optional.empty();
     }
 
+    /**
+     * WHAT: return empty
+     *
+     * @see Result#getRemainingStream
+     * @see Success#getRemainingStream
+     */
+    public Optional<ParserStream<Seq, Itm>> getRemainingStream() {
+        return Optional.empty();
+    }
+
+    ParserStream<Seq, Itm> remainingOrNull() {
+        return null;
+    }
+
+    Supplier<String> contextOrNull() {
+        return getContext();
+    }
+
+    Supplier<String> errorMessageOrNull() {
+        return getErrorMessage();
+    }
+
 
 }
\ No newline at end of file
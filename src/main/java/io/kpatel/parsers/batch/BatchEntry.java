@@ -0,0 +1,38 @@
+package io.kpatel.parsers.batch;
+
+import io.kpatel.parsers.Result;
+
+/**
+ * WHAT: The Result of parsing one input of a batch
+ * NOTE:
+ * - The latency is the time from creating the input's stream to the end of
+ *   its parse, and excludes the time it waited for a Thread
+ *
+ * @see BatchResult
+ */
+public final class BatchEntry<T, Seq, Itm> {
+    private final int index;
+    private final Result<T, Seq, Itm> result;
+    private final long latencyNanos;
+
+    BatchEntry(int index, Result<T, Seq, Itm> result, long latencyNanos) {
+        this.index = index;
+        this.result = result;
+        this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * WHAT: The position of the input in the batch, from 0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Result<T, Seq, Itm> getResult() {
+        return result;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+}
@@ -0,0 +1,24 @@
+package io.kpatel.parsers.batch;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * WHAT: The executor of batch parsers that are not given one
+ * NOTE:
+ * - This is the Java 10 baseline, which parses on the common ForkJoinPool
+ * - The multi-release section for Java 21 (src/main/java21) replaces this
+ *   class with one that parses on virtual Threads
+ * - Both must keep the same package-private members
+ *
+ * @see BatchParser#withExecutor
+ */
+final class BatchExecutors {
+    private BatchExecutors() {
+
+    }
+
+    static Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+}
@@ -0,0 +1,20 @@
+package io.kpatel.parsers.batch;
+
+/**
+ * WHAT: The order of the entries of a {@link BatchResult}
+ *
+ * @see BatchParser#withOrder(BatchOrder)
+ */
+public enum BatchOrder {
+    /**
+     * WHAT: The order of the inputs, whatever order they were parsed in
+     */
+    INPUT,
+    /**
+     * WHAT: The order the parses completed in
+     * - Each entry keeps the index of its input
+     * - This is the order {@link BatchParser#parseEach} hands entries over
+     *   in, as they complete
+     */
+    COMPLETION
+}
@@ -0,0 +1,270 @@
+package io.kpatel.parsers.batch;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.stream.ParserStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * WHAT: Parses many independent inputs w/ one parser, concurrently
+ * INTENT: Parse large numbers of small payloads (e.g. requests) on every
+ *   core, w/ a bound on how many are parsed at once
+ * NOTE:
+ * - At most maxConcurrency inputs are in flight, so inputs are pulled from
+ *   the Iterable or Stream only as parses complete
+ * - Entries are either collected into a {@link BatchResult} by parseAll, or
+ *   handed to a consumer as they complete by parseEach
+ * - Each input is turned into a stream on the executor, just before its
+ *   parse, e.g. w/ StringStream::new
+ * - By default, inputs are parsed on the common ForkJoinPool, or on virtual
+ *   Threads when running on Java 21 or newer
+ * - A parser that throws stops the batch, which rethrows the first
+ *   exception in a CompletionException once the parses in flight complete
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads, when the parser is.
+ *
+ * @see BatchResult
+ * @see BatchStats
+ */
+public final class BatchParser<T, Seq, Itm> {
+    private final Parser<T, Seq, Itm> parser;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final BatchOrder order;
+
+    /**
+     * WHAT: A batch parser w/ the default executor, as many inputs in flight
+     *   as there are processors, and entries in the order of the inputs
+     * - The parser is usually compiled, e.g. w/ GrammarParsers.compileContext
+     */
+    public BatchParser(Parser<T, Seq, Itm> parser) {
+        this(Objects.requireNonNull(parser, "Parser must not be null"),
+                BatchExecutors.defaultExecutor(),
+                Runtime.getRuntime().availableProcessors(),
+                BatchOrder.INPUT);
+    }
+
+    private BatchParser(Parser<T, Seq, Itm> parser, Executor executor, int maxConcurrency, BatchOrder order) {
+        this.parser = parser;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.order = order;
+    }
+
+    /**
+     * WHAT: The same batch parser, parsing on the given executor
+     * - The executor is not shut down by the batch parser
+     */
+    public BatchParser<T, Seq, Itm> withExecutor(Executor executor) {
+        Objects.requireNonNull(executor,
+                "Executor must not be null");
+        return new BatchParser<>(parser, executor, maxConcurrency, order);
+    }
+
+    /**
+     * WHAT: The same batch parser, w/ at most the given number of inputs in flight
+     */
+    public BatchParser<T, Seq, Itm> withMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximum Concurrency must be positive: " + maxConcurrency);
+        }
+        return new BatchParser<>(parser, executor, maxConcurrency, order);
+    }
+
+    /**
+     * WHAT: The same batch parser, returning entries in the given order
+     */
+    public BatchParser<T, Seq, Itm> withOrder(BatchOrder order) {
+        Objects.requireNonNull(order,
+                "Batch Order must not be null");
+        return new BatchParser<>(parser, executor, maxConcurrency, order);
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public BatchOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * WHAT: Parse every input, and wait for all of them
+     * - Every entry is kept until the batch completes, use {@link #parseEach}
+     *   to handle entries as they complete instead
+     */
+    public <In> BatchResult<T, Seq, Itm> parseAll(
+            Iterable<? extends In> inputs,
+            Function<? super In, ? extends ParserStream<Seq, Itm>> toStream) {
+        Objects.requireNonNull(inputs,
+                "Inputs must not be null");
+        return parseAll(inputs.iterator(), toStream);
+    }
+
+    /**
+     * WHAT: Parse every input of the Stream, and wait for all of them
+     */
+    public <In> BatchResult<T, Seq, Itm> parseAll(
+            Stream<? extends In> inputs,
+            Function<? super In, ? extends ParserStream<Seq, Itm>> toStream) {
+        Objects.requireNonNull(inputs,
+                "Inputs must not be null");
+        return parseAll(inputs.iterator(), toStream);
+    }
+
+    /**
+     * WHAT: Parse every input, and hand each entry to the consumer as soon as
+     *   its parse completes, in the order the parses complete
+     * - The consumer runs on the calling Thread, one entry at a time, and an
+     *   input is only pulled once an entry was consumed, so at most
+     *   maxConcurrency entries are held at once, whatever the batch size
+     * - The order of the batch parser is ignored
+     * - Returns the statistics of the batch, once every entry was consumed
+     * - A consumer that throws stops the batch, which rethrows its exception
+     *   once the parses in flight complete
+     */
+    public <In> BatchStats parseEach(
+            Iterable<? extends In> inputs,
+            Function<? super In, ? extends ParserStream<Seq, Itm>> toStream,
+            Consumer<? super BatchEntry<T, Seq, Itm>> consumer) {
+        Objects.requireNonNull(inputs,
+                "Inputs must not be null");
+        return parseEach(inputs.iterator(), toStream, consumer);
+    }
+
+    /**
+     * WHAT: Parse every input of the Stream, and hand each entry to the
+     *   consumer as soon as its parse completes
+     * @see #parseEach(Iterable, Function, Consumer)
+     */
+    public <In> BatchStats parseEach(
+            Stream<? extends In> inputs,
+            Function<? super In, ? extends ParserStream<Seq, Itm>> toStream,
+            Consumer<? super BatchEntry<T, Seq, Itm>> consumer) {
+        Objects.requireNonNull(inputs,
+                "Inputs must not be null");
+        return parseEach(inputs.iterator(), toStream, consumer);
+    }
+
+    /**
+     * HELPER: Collect the entries, in completion order, then sort them if
+     * they are wanted in input order
+     */
+    private <In> BatchResult<T, Seq, Itm> parseAll(
+            Iterator<? extends In> inputs,
+            Function<? super In, ? extends ParserStream<Seq, Itm>> toStream) {
+        var entries = new ArrayList<BatchEntry<T, Seq, Itm>>();
+        var stats = parseEach(inputs, toStream, entries::add);
+        if (order == BatchOrder.INPUT) {
+            entries.sort(Comparator.comparingInt(BatchEntry::getIndex));
+        }
+        return new BatchResult<>(entries, stats);
+    }
+
+    /**
+     * HELPER: Submit a parse per input while fewer than maxConcurrency are in
+     * flight, and otherwise wait for the next parse to complete, and consume
+     * its entry
+     * - Only the calling Thread submits and consumes, so counting the parses
+     *   in flight bounds them
+     */
+    private <In> BatchStats parseEach(
+            Iterator<? extends In> inputs,
+            Function<? super In, ? extends ParserStream<Seq, Itm>> toStream,
+            Consumer<? super BatchEntry<T, Seq, Itm>> consumer) {
+        Objects.requireNonNull(toStream,
+                "Stream Function must not be null");
+        Objects.requireNonNull(consumer,
+                "Consumer must not be null");
+        var completed = new LinkedBlockingQueue<Optional<BatchEntry<T, Seq, Itm>>>();
+        var thrown = new AtomicReference<Throwable>();
+        var latencies = new long[16];
+        int count = 0;
+        int successCount = 0;
+        int inFlight = 0;
+        int index = 0;
+        long start = System.nanoTime();
+        try {
+            while (true) {
+                boolean submit = inFlight < maxConcurrency && thrown.get() == null && inputs.hasNext();
+                if (!submit && inFlight == 0) {
+                    break;
+                }
+                var done = submit ? completed.poll() : takeUninterruptibly(completed);
+                if (done == null) {
+                    In input = inputs.next();
+                    int inputIndex = index++;
+                    executor.execute(() -> {
+                        try {
+                            long begin = System.nanoTime();
+                            var result = parser.parse(toStream.apply(input));
+                            completed.add(Optional.of(new BatchEntry<>(inputIndex, result, System.nanoTime() - begin)));
+                        } catch (Throwable throwable) {
+                            thrown.compareAndSet(null, throwable);
+                            completed.add(Optional.empty());
+                        }
+                    });
+                    inFlight++;
+                } else {
+                    inFlight--;
+                    if (done.isPresent()) {
+                        var entry = done.get();
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, 2 * count);
+                        }
+                        latencies[count++] = entry.getLatencyNanos();
+                        successCount += entry.getResult().isSuccess() ? 1 : 0;
+                        consumer.accept(entry);
+                    }
+                }
+            }
+        } finally {
+            for (; 0 < inFlight; inFlight--) {
+                takeUninterruptibly(completed);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (thrown.get() != null) {
+            throw new CompletionException(thrown.get());
+        }
+        return BatchStats.of(successCount, Arrays.copyOf(latencies, count), elapsed);
+    }
+
+    /**
+     * HELPER: Wait for the next element of the queue, w/o giving up on an
+     * interrupt, which is restored once it is taken
+     */
+    private static <E> E takeUninterruptibly(BlockingQueue<E> queue) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return queue.take();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
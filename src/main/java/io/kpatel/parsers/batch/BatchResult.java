@@ -0,0 +1,44 @@
+package io.kpatel.parsers.batch;
+
+import io.kpatel.parsers.Result;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * WHAT: The entries of a parsed batch, in the order that was asked for, and
+ *   the statistics of the batch
+ *
+ * @see BatchParser
+ * @see BatchStats
+ */
+public final class BatchResult<T, Seq, Itm> {
+    private final List<BatchEntry<T, Seq, Itm>> entries;
+    private final BatchStats stats;
+
+    BatchResult(List<BatchEntry<T, Seq, Itm>> entries, BatchStats stats) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.stats = stats;
+    }
+
+    /**
+     * WHAT: An entry per input, in the order of the batch parser
+     */
+    public List<BatchEntry<T, Seq, Itm>> getEntries() {
+        return entries;
+    }
+
+    /**
+     * WHAT: The Result of every entry, in the same order
+     */
+    public List<Result<T, Seq, Itm>> getResults() {
+        return entries.stream()
+                .map(BatchEntry::getResult)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public BatchStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,91 @@
+package io.kpatel.parsers.batch;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * WHAT: The throughput and latency percentiles of a parsed batch
+ * INTENT: Size executors and concurrency against measured numbers
+ * NOTE:
+ * - Throughput is the number of inputs over the wall time of the whole
+ *   batch, including the time spent waiting for a Thread
+ * - Latencies are per input, as in {@link BatchEntry#getLatencyNanos()}
+ * - Percentiles are nearest-rank, so they are always a measured latency
+ *
+ * @see BatchResult#getStats()
+ */
+public final class BatchStats {
+    private final int successCount;
+    private final long elapsedNanos;
+    private final long[] latencies;
+
+    private BatchStats(int successCount, long elapsedNanos, long[] latencies) {
+        this.successCount = successCount;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+    }
+
+    /**
+     * WHAT: The statistics of a batch of the given latencies, which are sorted
+     *   in place
+     */
+    static BatchStats of(int successCount, long[] latencies, long elapsedNanos) {
+        Arrays.sort(latencies);
+        return new BatchStats(successCount, elapsedNanos, latencies);
+    }
+
+    public int getCount() {
+        return latencies.length;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return latencies.length - successCount;
+    }
+
+    /**
+     * WHAT: The wall time of the whole batch
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * WHAT: The number of inputs parsed per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0.0 : latencies.length * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * WHAT: The latency that the given percentage of inputs did not exceed,
+     *   or 0 for an empty batch
+     * - e.g. 50 for the median, 100 for the maximum
+     */
+    public long getLatencyPercentile(double percentile) {
+        if (!(0.0 <= percentile && percentile <= 100.0)) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]: " + percentile);
+        } else if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * latencies.length);
+        return latencies[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * WHAT: A one line report, e.g. "1000 Inputs (998 Successes) in 12.500 ms,
+     *   80000.0 Inputs/s, Latency p50 9.1 us, p90 ..., p99 ..., max ..."
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d Inputs (%d Successes) in %.3f ms, %.1f Inputs/s, "
+                        + "Latency p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us",
+                getCount(), successCount, elapsedNanos / 1e6, getThroughput(),
+                getLatencyPercentile(50) / 1e3, getLatencyPercentile(90) / 1e3,
+                getLatencyPercentile(99) / 1e3, getLatencyPercentile(100) / 1e3);
+    }
+}
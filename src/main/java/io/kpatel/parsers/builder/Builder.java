@@ -15,7 +15,8 @@ package io.kpatel.parsers.builder;
  * - Prefer Immutable Output types when appropriate to prevent dependant parsers
  * from relying on private implementation details over public interface guarantees.
  * NOTES:
- * - Prebuilt Builders for Lists, Map, and String are available.
+ * - Prebuilt Builders for Lists, Map, and String are available, as well as
+ *   Builders of int, long and double arrays, which do not box their values
  * - Builder are permitted to be either mutable or immutable.
  * - All of the provided Builders are mutable with immutable Outputs
  *
@@ -25,6 +26,7 @@ package io.kpatel.parsers.builder;
  * @see ListBuilder
  * @see MapBuilder
  * @see TextBuilder
+ * @see IntArrayBuilder
  */
 public interface Builder<Out, Prt> {
     /**
@@ -33,6 +35,21 @@ public interface Builder<Out, Prt> {
      */
     Builder<Out, Prt> append(Prt part);
 
+    /**
+     * INTENT: Prepare for the given number of parts, before any is appended,
+     * e.g. by sizing internal storage, so that the Output of exactly that
+     * many parts is built w/o growing or copying
+     * REQUIREMENTS:
+     * - return type must not be null
+     * - The number is a hint, more or fewer parts may still be appended
+     * NOTES:
+     * - Repetitions that know their count (e.g. repeat) call it on a fresh
+     *   builder, the default ignores it
+     */
+    default Builder<Out, Prt> withCapacity(int parts) {
+        return this;
+    }
+
     /**
      * INTENT: Convert the internal state to some Output
      * REQUIREMENT: return type must not be null
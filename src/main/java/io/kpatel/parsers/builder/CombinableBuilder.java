@@ -0,0 +1,28 @@
+package io.kpatel.parsers.builder;
+
+/**
+ * INTENT: A Builder whose partial states can be joined, so that parts can
+ * be built apart (e.g. on other Threads) and combined in order
+ * REQUIREMENTS:
+ * - combine must yield the state of appending every part of the later
+ *   builder after the parts of this one
+ * - The later builder comes from the same provider as this one, and is not
+ *   used after it was combined
+ * - append must return a CombinableBuilder as well
+ * - All return types must not be null
+ * NOTES:
+ * - The prebuilt Builders for Lists, Map, String and primitive arrays are
+ *   combinable
+ *
+ * @param <Out> the Final Output of the Builder
+ * @param <Prt> the Part type the Builder can make use to create Out Objects
+ * @see io.kpatel.parsers.prebuilt.RepetitionParsers#parallelDelimited
+ * @see Builder
+ */
+public interface CombinableBuilder<Out, Prt> extends Builder<Out, Prt> {
+    /**
+     * INTENT: Update the internal state with every part of the later builder
+     * REQUIREMENT: return type must not be null
+     */
+    CombinableBuilder<Out, Prt> combine(CombinableBuilder<Out, Prt> later);
+}
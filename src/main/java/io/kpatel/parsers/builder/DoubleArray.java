@@ -0,0 +1,76 @@
+package io.kpatel.parsers.builder;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * WHAT: An Immutable array of doubles
+ * INTENT: The Output of {@link DoubleArrayBuilder}, which holds parsed numbers
+ *   w/o boxing them
+ * NOTE:
+ * - Equal arrays hold the same doubles in the same order
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads.
+ *
+ * @see DoubleArrayBuilder
+ */
+public final class DoubleArray {
+    private final double[] values;
+
+    /**
+     * - values must not be shared with anything that changes them
+     */
+    DoubleArray(double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * WHAT: Factory for an array of a copy of the values
+     */
+    public static DoubleArray of(double... values) {
+        return new DoubleArray(values.clone());
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * WHAT: The value at the index
+     * - Throws an IndexOutOfBoundsException outside of [0, size)
+     */
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * WHAT: A copy of the values
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    public DoubleStream stream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof DoubleArray
+                && Arrays.equals(values, ((DoubleArray) other).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,122 @@
+package io.kpatel.parsers.builder;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * WHAT: Specialized Builder for arrays of doubles
+ * INTENT: Collect parsed numbers into a growable double[], instead of boxing
+ *   each into a List
+ * NOTE:
+ * - {@link #appendDouble} appends w/o boxing, append unboxes its part
+ * - {@link #converting} builds from parts of any type (e.g. the digits of a
+ *   number) w/o boxing the converted values
+ * - The Output holds exactly the appended values, and shares the array
+ *   only when it is full (e.g. after {@link #withCapacity} of the count),
+ *   as a full array is copied before it is appended to
+ * - This Implementation has Mutable internal states.
+ * - This Implementation has Immutable Output.
+ *
+ * @see Builder
+ * @see CombinableBuilder
+ * @see DoubleArray
+ */
+public final class DoubleArrayBuilder implements CombinableBuilder<DoubleArray, Double> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double[] EMPTY = new double[0];
+
+    private double[] values;
+    private int size;
+
+    public DoubleArrayBuilder() {
+        values = EMPTY;
+    }
+
+    /**
+     * WHAT: A Builder of parts converted to doubles by the converter
+     */
+    public static <T> CombinableBuilder<DoubleArray, T> converting(ToDoubleFunction<? super T> converter) {
+        return new Converting<>(new DoubleArrayBuilder(), converter);
+    }
+
+    /**
+     * WHAT: Append a value w/o boxing it
+     */
+    public DoubleArrayBuilder appendDouble(double value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public Builder<DoubleArray, Double> append(Double part) {
+        return appendDouble(part);
+    }
+
+    @Override
+    public Builder<DoubleArray, Double> withCapacity(int parts) {
+        ensureCapacity(parts);
+        return this;
+    }
+
+    @Override
+    public CombinableBuilder<DoubleArray, Double> combine(CombinableBuilder<DoubleArray, Double> later) {
+        appendAll((DoubleArrayBuilder) later);
+        return this;
+    }
+
+    @Override
+    public DoubleArray toOutput() {
+        return new DoubleArray(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private void appendAll(DoubleArrayBuilder later) {
+        ensureCapacity(size + later.size);
+        System.arraycopy(later.values, 0, values, size, later.size);
+        size += later.size;
+    }
+
+    /**
+     * WHAT: A Builder which converts its parts, and appends them w/o boxing
+     */
+    private static final class Converting<T> implements CombinableBuilder<DoubleArray, T> {
+        private final DoubleArrayBuilder builder;
+        private final ToDoubleFunction<? super T> converter;
+
+        private Converting(DoubleArrayBuilder builder, ToDoubleFunction<? super T> converter) {
+            this.builder = builder;
+            this.converter = converter;
+        }
+
+        @Override
+        public Builder<DoubleArray, T> append(T part) {
+            builder.appendDouble(converter.applyAsDouble(part));
+            return this;
+        }
+
+        @Override
+        public Builder<DoubleArray, T> withCapacity(int parts) {
+            builder.ensureCapacity(parts);
+            return this;
+        }
+
+        @Override
+        public CombinableBuilder<DoubleArray, T> combine(CombinableBuilder<DoubleArray, T> later) {
+            builder.appendAll(((Converting<T>) later).builder);
+            return this;
+        }
+
+        @Override
+        public DoubleArray toOutput() {
+            return builder.toOutput();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.kpatel.parsers.builder;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * WHAT: An Immutable array of ints
+ * INTENT: The Output of {@link IntArrayBuilder}, which holds parsed numbers
+ *   w/o boxing them
+ * NOTE:
+ * - Equal arrays hold the same ints in the same order
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads.
+ *
+ * @see IntArrayBuilder
+ */
+public final class IntArray {
+    private final int[] values;
+
+    /**
+     * - values must not be shared with anything that changes them
+     */
+    IntArray(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * WHAT: Factory for an array of a copy of the values
+     */
+    public static IntArray of(int... values) {
+        return new IntArray(values.clone());
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * WHAT: The value at the index
+     * - Throws an IndexOutOfBoundsException outside of [0, size)
+     */
+    public int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * WHAT: A copy of the values
+     */
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof IntArray
+                && Arrays.equals(values, ((IntArray) other).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,122 @@
+package io.kpatel.parsers.builder;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * WHAT: Specialized Builder for arrays of ints
+ * INTENT: Collect parsed numbers into a growable int[], instead of boxing
+ *   each into a List
+ * NOTE:
+ * - {@link #appendInt} appends w/o boxing, append unboxes its part
+ * - {@link #converting} builds from parts of any type (e.g. the digits of a
+ *   number) w/o boxing the converted values
+ * - The Output holds exactly the appended values, and shares the array
+ *   only when it is full (e.g. after {@link #withCapacity} of the count),
+ *   as a full array is copied before it is appended to
+ * - This Implementation has Mutable internal states.
+ * - This Implementation has Immutable Output.
+ *
+ * @see Builder
+ * @see CombinableBuilder
+ * @see IntArray
+ */
+public final class IntArrayBuilder implements CombinableBuilder<IntArray, Integer> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] EMPTY = new int[0];
+
+    private int[] values;
+    private int size;
+
+    public IntArrayBuilder() {
+        values = EMPTY;
+    }
+
+    /**
+     * WHAT: A Builder of parts converted to ints by the converter
+     */
+    public static <T> CombinableBuilder<IntArray, T> converting(ToIntFunction<? super T> converter) {
+        return new Converting<>(new IntArrayBuilder(), converter);
+    }
+
+    /**
+     * WHAT: Append a value w/o boxing it
+     */
+    public IntArrayBuilder appendInt(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public Builder<IntArray, Integer> append(Integer part) {
+        return appendInt(part);
+    }
+
+    @Override
+    public Builder<IntArray, Integer> withCapacity(int parts) {
+        ensureCapacity(parts);
+        return this;
+    }
+
+    @Override
+    public CombinableBuilder<IntArray, Integer> combine(CombinableBuilder<IntArray, Integer> later) {
+        appendAll((IntArrayBuilder) later);
+        return this;
+    }
+
+    @Override
+    public IntArray toOutput() {
+        return new IntArray(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private void appendAll(IntArrayBuilder later) {
+        ensureCapacity(size + later.size);
+        System.arraycopy(later.values, 0, values, size, later.size);
+        size += later.size;
+    }
+
+    /**
+     * WHAT: A Builder which converts its parts, and appends them w/o boxing
+     */
+    private static final class Converting<T> implements CombinableBuilder<IntArray, T> {
+        private final IntArrayBuilder builder;
+        private final ToIntFunction<? super T> converter;
+
+        private Converting(IntArrayBuilder builder, ToIntFunction<? super T> converter) {
+            this.builder = builder;
+            this.converter = converter;
+        }
+
+        @Override
+        public Builder<IntArray, T> append(T part) {
+            builder.appendInt(converter.applyAsInt(part));
+            return this;
+        }
+
+        @Override
+        public Builder<IntArray, T> withCapacity(int parts) {
+            builder.ensureCapacity(parts);
+            return this;
+        }
+
+        @Override
+        public CombinableBuilder<IntArray, T> combine(CombinableBuilder<IntArray, T> later) {
+            builder.appendAll(((Converting<T>) later).builder);
+            return this;
+        }
+
+        @Override
+        public IntArray toOutput() {
+            return builder.toOutput();
+        }
+    }
+}
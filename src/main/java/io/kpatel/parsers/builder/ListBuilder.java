@@ -11,8 +11,9 @@ import java.util.List;
  * - This Implementation has Immutable Output.
  *
  * @see Builder
+ * @see CombinableBuilder
  */
-public final class ListBuilder<T> implements Builder<List<T>, T> {
+public final class ListBuilder<T> implements CombinableBuilder<List<T>, T> {
     private final ArrayList<T> builder;
 
     public ListBuilder() {
@@ -25,6 +26,22 @@ public final class ListBuilder<T> implements Builder<List<T>, T> {
         return this;
     }
 
+    /**
+     * WHAT: Size the list for the parts, so a list of exactly that many parts
+     *   has no unused slots
+     */
+    @Override
+    public Builder<List<T>, T> withCapacity(int parts) {
+        builder.ensureCapacity(parts);
+        return this;
+    }
+
+    @Override
+    public CombinableBuilder<List<T>, T> combine(CombinableBuilder<List<T>, T> later) {
+        builder.addAll(((ListBuilder<T>) later).builder);
+        return this;
+    }
+
     @Override
     public List<T> toOutput() {
         return Collections.unmodifiableList(builder);
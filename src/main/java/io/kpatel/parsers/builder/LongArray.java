@@ -0,0 +1,76 @@
+package io.kpatel.parsers.builder;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * WHAT: An Immutable array of longs
+ * INTENT: The Output of {@link LongArrayBuilder}, which holds parsed numbers
+ *   w/o boxing them
+ * NOTE:
+ * - Equal arrays hold the same longs in the same order
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads.
+ *
+ * @see LongArrayBuilder
+ */
+public final class LongArray {
+    private final long[] values;
+
+    /**
+     * - values must not be shared with anything that changes them
+     */
+    LongArray(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * WHAT: Factory for an array of a copy of the values
+     */
+    public static LongArray of(long... values) {
+        return new LongArray(values.clone());
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * WHAT: The value at the index
+     * - Throws an IndexOutOfBoundsException outside of [0, size)
+     */
+    public long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * WHAT: A copy of the values
+     */
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof LongArray
+                && Arrays.equals(values, ((LongArray) other).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
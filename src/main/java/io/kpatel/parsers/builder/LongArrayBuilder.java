@@ -0,0 +1,122 @@
+package io.kpatel.parsers.builder;
+
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+
+/**
+ * WHAT: Specialized Builder for arrays of longs
+ * INTENT: Collect parsed numbers into a growable long[], instead of boxing
+ *   each into a List
+ * NOTE:
+ * - {@link #appendLong} appends w/o boxing, append unboxes its part
+ * - {@link #converting} builds from parts of any type (e.g. the digits of a
+ *   number) w/o boxing the converted values
+ * - The Output holds exactly the appended values, and shares the array
+ *   only when it is full (e.g. after {@link #withCapacity} of the count),
+ *   as a full array is copied before it is appended to
+ * - This Implementation has Mutable internal states.
+ * - This Implementation has Immutable Output.
+ *
+ * @see Builder
+ * @see CombinableBuilder
+ * @see LongArray
+ */
+public final class LongArrayBuilder implements CombinableBuilder<LongArray, Long> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long[] EMPTY = new long[0];
+
+    private long[] values;
+    private int size;
+
+    public LongArrayBuilder() {
+        values = EMPTY;
+    }
+
+    /**
+     * WHAT: A Builder of parts converted to longs by the converter
+     */
+    public static <T> CombinableBuilder<LongArray, T> converting(ToLongFunction<? super T> converter) {
+        return new Converting<>(new LongArrayBuilder(), converter);
+    }
+
+    /**
+     * WHAT: Append a value w/o boxing it
+     */
+    public LongArrayBuilder appendLong(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public Builder<LongArray, Long> append(Long part) {
+        return appendLong(part);
+    }
+
+    @Override
+    public Builder<LongArray, Long> withCapacity(int parts) {
+        ensureCapacity(parts);
+        return this;
+    }
+
+    @Override
+    public CombinableBuilder<LongArray, Long> combine(CombinableBuilder<LongArray, Long> later) {
+        appendAll((LongArrayBuilder) later);
+        return this;
+    }
+
+    @Override
+    public LongArray toOutput() {
+        return new LongArray(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private void appendAll(LongArrayBuilder later) {
+        ensureCapacity(size + later.size);
+        System.arraycopy(later.values, 0, values, size, later.size);
+        size += later.size;
+    }
+
+    /**
+     * WHAT: A Builder which converts its parts, and appends them w/o boxing
+     */
+    private static final class Converting<T> implements CombinableBuilder<LongArray, T> {
+        private final LongArrayBuilder builder;
+        private final ToLongFunction<? super T> converter;
+
+        private Converting(LongArrayBuilder builder, ToLongFunction<? super T> converter) {
+            this.builder = builder;
+            this.converter = converter;
+        }
+
+        @Override
+        public Builder<LongArray, T> append(T part) {
+            builder.appendLong(converter.applyAsLong(part));
+            return this;
+        }
+
+        @Override
+        public Builder<LongArray, T> withCapacity(int parts) {
+            builder.ensureCapacity(parts);
+            return this;
+        }
+
+        @Override
+        public CombinableBuilder<LongArray, T> combine(CombinableBuilder<LongArray, T> later) {
+            builder.appendAll(((Converting<T>) later).builder);
+            return this;
+        }
+
+        @Override
+        public LongArray toOutput() {
+            return builder.toOutput();
+        }
+    }
+}
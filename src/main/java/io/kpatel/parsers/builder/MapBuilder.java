@@ -11,9 +11,10 @@ import java.util.Map;
  * - This Implementation has Immutable Output.
  *
  * @see Builder
+ * @see CombinableBuilder
  */
-public final class MapBuilder<K, V> implements Builder<Map<K, V>, Map.Entry<K, V>> {
-    private final HashMap<K, V> builder;
+public final class MapBuilder<K, V> implements CombinableBuilder<Map<K, V>, Map.Entry<K, V>> {
+    private HashMap<K, V> builder;
 
     public MapBuilder() {
         builder = new HashMap<>();
@@ -25,6 +26,25 @@ public final class MapBuilder<K, V> implements Builder<Map<K, V>, Map.Entry<K, V
         return this;
     }
 
+    /**
+     * WHAT: Size the table for the parts, so it is not rehashed while they
+     *   are appended
+     */
+    @Override
+    public Builder<Map<K, V>, Map.Entry<K, V>> withCapacity(int parts) {
+        if (builder.isEmpty() && 0 < parts) {
+            builder = new HashMap<>((int) Math.min((parts * 4L + 2) / 3, 1 << 30));
+        }
+        return this;
+    }
+
+    @Override
+    public CombinableBuilder<Map<K, V>, Map.Entry<K, V>> combine(
+            CombinableBuilder<Map<K, V>, Map.Entry<K, V>> later) {
+        builder.putAll(((MapBuilder<K, V>) later).builder);
+        return this;
+    }
+
     @Override
     public Map<K, V> toOutput() {
         return Collections.unmodifiableMap(builder);
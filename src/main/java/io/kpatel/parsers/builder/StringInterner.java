@@ -0,0 +1,100 @@
+package io.kpatel.parsers.builder;
+
+import io.kpatel.parsers.stream.CharSlice;
+
+/**
+ * WHAT: A bounded cache of Strings, which returns a cached String of the same
+ *   characters instead of building a new one
+ * INTENT: Deduplicate values that repeat (e.g. identifiers, host names) in
+ *   large parse results, w/o the unbounded growth of String#intern
+ * NOTE:
+ * - The cache is a table of capacity slots, where each String may sit in one
+ *   of two neighbouring slots. A miss caches the String in its first slot,
+ *   and moves the String there (if any) to the second, evicting the one
+ *   before.
+ * - Characters are compared w/o copying, so a hit on a {@link CharSlice} or
+ *   a StringBuilder builds no String at all
+ * - Sequences longer than {@link #MAX_LENGTH} are not cached
+ * - This Implementation is Lock-Free, and safe to share between Threads.
+ *   Concurrent misses may cache duplicates, or evict each other, but a
+ *   returned String always holds the given characters.
+ *
+ * @see TextBuilder#TextBuilder(StringInterner)
+ * @see io.kpatel.parsers.prebuilt.MiscParsers#intern
+ */
+public final class StringInterner {
+    /**
+     * WHAT: The default number of cached Strings
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+    /**
+     * WHAT: The length of the longest cached sequence
+     */
+    public static final int MAX_LENGTH = 256;
+
+    private final String[] table;
+    private final int mask;
+
+    public StringInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * WHAT: A cache of at most capacity Strings, rounded up to a power of two
+     */
+    public StringInterner(int capacity) {
+        if (capacity <= 0 || 1 << 30 < capacity) {
+            throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + capacity);
+        }
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * WHAT: A String of the characters, from the cache if it holds one
+     */
+    public String intern(CharSequence chars) {
+        if (MAX_LENGTH < chars.length()) {
+            return chars.toString();
+        }
+        int hash = chars.hashCode();
+        if (!(chars instanceof String || chars instanceof CharSlice)) {
+            hash = 0;
+            for (int idx = 0; idx < chars.length(); idx++) {
+                hash = 31 * hash + chars.charAt(idx);
+            }
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String first = table[slot];
+        if (matches(first, hash, chars)) {
+            return first;
+        }
+        String second = table[slot ^ 1];
+        if (matches(second, hash, chars)) {
+            return second;
+        }
+        String value = chars.toString();
+        if (first != null) {
+            table[slot ^ 1] = first;
+        }
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * WHAT: The number of Strings the cache can hold
+     */
+    public int getCapacity() {
+        return table.length;
+    }
+
+    private static boolean matches(String cached, int hash, CharSequence chars) {
+        if (cached == null || cached.hashCode() != hash || cached.length() != chars.length()) {
+            return false;
+        }
+        return chars instanceof CharSlice
+                ? ((CharSlice) chars).contentEquals(cached)
+                : cached.contentEquals(chars);
+    }
+}
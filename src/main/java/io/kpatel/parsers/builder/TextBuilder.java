@@ -1,18 +1,34 @@
 package io.kpatel.parsers.builder;
 
+import java.util.Objects;
+
 /**
  * WHAT: Specialized Builder for Text
  * NOTE:
+ * - W/ a {@link StringInterner}, the Output is looked up by its characters,
+ *   and a cached String is returned w/o building a new one
  * - This Implementation has Mutable internal states.
  * - This Implementation has Immutable Output.
  *
  * @see Builder
+ * @see CombinableBuilder
  */
-public final class TextBuilder implements Builder<String, String> {
+public final class TextBuilder implements CombinableBuilder<String, String> {
     private final StringBuilder builder;
+    private final StringInterner interner;
 
     public TextBuilder() {
         builder = new StringBuilder();
+        interner = null;
+    }
+
+    /**
+     * WHAT: A Builder whose Output is deduplicated through the interner
+     */
+    public TextBuilder(StringInterner interner) {
+        builder = new StringBuilder();
+        this.interner = Objects.requireNonNull(interner,
+                "String Interner must not be null");
     }
 
     @Override
@@ -21,8 +37,24 @@ public final class TextBuilder implements Builder<String, String> {
         return this;
     }
 
+    /**
+     * WHAT: Size the text for the parts, assuming a character per part
+     * - The Output is a String of exactly the appended characters either way
+     */
+    @Override
+    public Builder<String, String> withCapacity(int parts) {
+        builder.ensureCapacity(parts);
+        return this;
+    }
+
+    @Override
+    public CombinableBuilder<String, String> combine(CombinableBuilder<String, String> later) {
+        builder.append(((TextBuilder) later).builder);
+        return this;
+    }
+
     @Override
     public String toOutput() {
-        return builder.toString();
+        return interner != null ? interner.intern(builder) : builder.toString();
     }
 }
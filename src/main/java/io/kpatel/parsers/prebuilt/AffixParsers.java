@@ -2,12 +2,10 @@ package io.kpatel.parsers.prebuilt;
 
 import io.kpatel.parsers.Parser;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import static io.kpatel.parsers.prebuilt.MiscParsers.flatMap;
-import static io.kpatel.parsers.prebuilt.MiscParsers.map;
-
 /**
  * INTENT: Top Level Generic Factories for Parsers handling Prefixes, and Suffixes
  *
@@ -29,7 +27,22 @@ public final class AffixParsers {
                 "Before Parser must not be null");
         Objects.requireNonNull(parser,
                 "Parser must not be null");
-        return flatMap(before, p -> parser);
+        return GrammarNode.composite("prefix", List.of(before, parser),
+                children -> prefix(GrammarNode.child(children, 0), GrammarNode.child(children, 1)),
+                () -> GrammarNode.firstSetOf(before).then(GrammarNode.firstSetOf(parser)),
+                () -> stream -> before.get().parse(stream)
+                        .chain((b, remaining) -> parser.get().parse(remaining)),
+                context -> {
+                    var cursor = context.getCursor();
+                    int mark = cursor.mark();
+                    if (ContextStep.run(before, context) && ContextStep.run(parser, context)) {
+                        cursor.release(mark);
+                        return true;
+                    }
+                    cursor.reset(mark);
+                    return false;
+                }, () -> new ContinuationFrames.PipeFrame<U, T, T, Seq, Itm>(before, parser, (b, p) -> p))
+                .describedAs(NodeForm.Affix.PREFIX);
     }
 
     /**
@@ -43,7 +56,28 @@ public final class AffixParsers {
                 "Before Parser must not be null");
         Objects.requireNonNull(after,
                 "Before Parser must not be null");
-        return flatMap(parser, p -> map(after, a -> p));
+        return GrammarNode.composite("suffix", List.of(parser, after),
+                children -> suffix(GrammarNode.child(children, 0), GrammarNode.child(children, 1)),
+                () -> GrammarNode.firstSetOf(parser).then(GrammarNode.firstSetOf(after)),
+                () -> stream -> parser.get().parse(stream)
+                        .chain((p, remaining) -> after.get().parse(remaining)
+                                .map(a -> p)),
+                context -> {
+                    var cursor = context.getCursor();
+                    int mark = cursor.mark();
+                    if (!ContextStep.run(parser, context)) {
+                        cursor.release(mark);
+                        return false;
+                    }
+                    T p = context.getValue();
+                    if (!ContextStep.run(after, context)) {
+                        cursor.reset(mark);
+                        return false;
+                    }
+                    cursor.release(mark);
+                    return context.succeed(p);
+                }, () -> new ContinuationFrames.PipeFrame<T, V, T, Seq, Itm>(parser, after, (p, a) -> p))
+                .describedAs(NodeForm.Affix.SUFFIX);
     }
 
     /**
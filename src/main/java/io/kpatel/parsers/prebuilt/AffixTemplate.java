@@ -0,0 +1,33 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.Affix}
+ * NOTE:
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class AffixTemplate implements ContextStep<Object, Object> {
+    private static final ContextStep<Object, Object> FIRST = GrammarCodegen.constant(0);
+    private static final ContextStep<Object, Object> SECOND = GrammarCodegen.constant(1);
+    private static final int KEPT = GrammarCodegen.<Integer>constant(2);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        var cursor = context.getCursor();
+        int mark = cursor.mark();
+        if (!FIRST.parse(context)) {
+            cursor.release(mark);
+            return false;
+        }
+        Object first = context.getValue();
+        if (!SECOND.parse(context)) {
+            cursor.reset(mark);
+            return false;
+        }
+        cursor.release(mark);
+        return KEPT == 0
+                ? context.succeed(first)
+                : true;
+    }
+}
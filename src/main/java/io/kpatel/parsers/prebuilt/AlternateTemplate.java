@@ -0,0 +1,31 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.Alternation}
+ * NOTE:
+ * - Its branches are a chain of {@link BranchTemplate} copies, or null if
+ *   it has none
+ * - Runs the step of its node to fail when no branch was tried
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class AlternateTemplate implements ContextStep<Object, Object> {
+    private static final FirstItemDispatch TABLE = GrammarCodegen.constant(0);
+    private static final GrammarCodegen.BranchChain BRANCHES = GrammarCodegen.constant(1);
+    private static final ContextStep<Object, Object> ORIGINAL = GrammarCodegen.constant(2);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        var leading = TABLE.isPredictive()
+                ? FirstItemDispatch.leadingItem(context.getCursor())
+                : null;
+        int outcome = BRANCHES != null
+                ? BRANCHES.parse(context, leading, TABLE.candidates(leading), 0)
+                : GrammarCodegen.BranchChain.SKIPPED;
+        if (outcome == GrammarCodegen.BranchChain.SKIPPED) {
+            return ORIGINAL.parse(context);
+        }
+        return outcome == GrammarCodegen.BranchChain.SUCCEEDED;
+    }
+}
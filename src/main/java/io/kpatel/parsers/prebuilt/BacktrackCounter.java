@@ -0,0 +1,77 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WHAT: The live counters of one node of a grammar traced for backtracking
+ * NOTE:
+ * - The state of the running parse is kept in the Trace of its Thread,
+ *   which reports into the counters
+ * - This Implementation is Thread-Safe, as nodes may run on many Threads
+ *   at once, but a snapshot taken while they run may mix parses
+ *
+ * @see BacktrackProfile
+ * @see BacktrackEntry
+ */
+final class BacktrackCounter implements NodeProbe {
+    private final BacktrackProfile profile;
+    private final int id;
+    private final String factory;
+    private final String rule;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder revisits = new LongAdder();
+    private final LongAccumulator maxVisits = new LongAccumulator(Long::max, 0);
+    private final LongAdder rewinds = new LongAdder();
+    private final LongAdder discardedItems = new LongAdder();
+    private final LongAccumulator maxRewind = new LongAccumulator(Long::max, 0);
+
+    /**
+     * - rule is null for a node outside of any named Rule
+     */
+    BacktrackCounter(BacktrackProfile profile, int id, String factory, String rule) {
+        this.profile = profile;
+        this.id = id;
+        this.factory = factory;
+        this.rule = rule;
+    }
+
+    @Override
+    public void enter(long position) {
+        invocations.increment();
+        profile.trace().enter(this, position);
+    }
+
+    @Override
+    public void leave(boolean success, long position) {
+        profile.trace().leave(this, success, position);
+    }
+
+    void revisit() {
+        revisits.increment();
+    }
+
+    void visited(int visits) {
+        maxVisits.accumulate(visits);
+    }
+
+    void rewind(long items) {
+        rewinds.increment();
+        discardedItems.add(items);
+        maxRewind.accumulate(items);
+    }
+
+    void reset() {
+        invocations.reset();
+        revisits.reset();
+        maxVisits.reset();
+        rewinds.reset();
+        discardedItems.reset();
+        maxRewind.reset();
+    }
+
+    BacktrackEntry snapshot() {
+        return new BacktrackEntry(id, factory, rule, invocations.sum(), revisits.sum(),
+                maxVisits.get(), rewinds.sum(), discardedItems.sum(), maxRewind.get());
+    }
+}
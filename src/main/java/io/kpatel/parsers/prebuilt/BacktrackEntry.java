@@ -0,0 +1,122 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.Optional;
+
+/**
+ * WHAT: How much work one node of a grammar repeated or threw away, over
+ *   every parse since the profile was created or reset
+ * NOTE:
+ * - A revisit is an invocation at a position the node was already invoked
+ *   at in the same parse, which memoizing the node would save
+ * - A rewind is an invocation that ends before the furthest Success of the
+ *   nodes it invoked, by failing (e.g. a concatenation whose last part
+ *   fails) or by resetting the stream (e.g. peek), and its items are thrown
+ *   away by this node, not by the nodes above it
+ * - Items are counted from the positions of the stream, and are 0 on
+ *   streams that cannot report a position
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads.
+ *
+ * @see BacktrackProfile#getEntries()
+ */
+public final class BacktrackEntry {
+    private final int id;
+    private final String factory;
+    private final String rule;
+    private final long invocations;
+    private final long revisits;
+    private final long maxVisits;
+    private final long rewinds;
+    private final long discardedItems;
+    private final long maxRewind;
+
+    BacktrackEntry(int id, String factory, String rule, long invocations, long revisits,
+                   long maxVisits, long rewinds, long discardedItems, long maxRewind) {
+        this.id = id;
+        this.factory = factory;
+        this.rule = rule;
+        this.invocations = invocations;
+        this.revisits = revisits;
+        this.maxVisits = maxVisits;
+        this.rewinds = rewinds;
+        this.discardedItems = discardedItems;
+        this.maxRewind = maxRewind;
+    }
+
+    /**
+     * WHAT: The number of the node within its profile, in the order the
+     *   nodes were compiled, to tell apart nodes of the same label
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * WHAT: The name of the factory that built the node (e.g. "sequence"),
+     *   or "custom" for a parser that was not built by a prebuilt factory
+     */
+    public String getFactory() {
+        return factory;
+    }
+
+    /**
+     * WHAT: The name of the closest named Rule the node is defined in, if any
+     */
+    public Optional<String> getRule() {
+        return Optional.ofNullable(rule);
+    }
+
+    /**
+     * WHAT: The rule and factory name, as "rule/factory" or "factory"
+     */
+    public String getLabel() {
+        return rule != null ? rule + "/" + factory : factory;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * WHAT: The number of invocations at a position the node had already
+     *   been invoked at, in the same parse
+     */
+    public long getRevisits() {
+        return revisits;
+    }
+
+    /**
+     * WHAT: The most invocations of the node at one position, in one parse
+     */
+    public long getMaxVisits() {
+        return maxVisits;
+    }
+
+    /**
+     * WHAT: The number of invocations that threw away consumed items
+     */
+    public long getRewinds() {
+        return rewinds;
+    }
+
+    /**
+     * WHAT: The number of items consumed, then thrown away by this node
+     */
+    public long getDiscardedItems() {
+        return discardedItems;
+    }
+
+    /**
+     * WHAT: The most items thrown away by one invocation, the distance the
+     *   stream was rewound by
+     */
+    public long getMaxRewind() {
+        return maxRewind;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s: %d Invocations (%d Revisits), %d Rewinds, %d Discarded Items, Max Rewind %d",
+                id, getLabel(), invocations, revisits, rewinds, discardedItems, maxRewind);
+    }
+}
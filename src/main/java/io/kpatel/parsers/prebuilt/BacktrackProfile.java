@@ -0,0 +1,268 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * WHAT: The per node counts of the work repeated and thrown away by
+ *   backtracking, of the grammars traced into it
+ * INTENT: Decide where to memoize or reorder branches, and how far back a
+ *   stream must keep its items to be rewound
+ * USAGE:
+ *   var backtracks = new BacktrackProfile();
+ *   var parser = GrammarParsers.compileContext(GrammarParsers.profile(grammar, backtracks));
+ *   inputs.forEach(input -> parser.parse(new StringStream(input)));
+ *   System.out.println(backtracks);
+ * NOTE:
+ * - Every node of a traced grammar counts its revisits and rewinds, see
+ *   {@link BacktrackEntry}
+ * - Histograms are over power of two buckets, where bucket i counts values
+ *   in [2^i, 2^(i+1))
+ * - Visits are counted per node and position until the parse ends, so
+ *   trace representative inputs rather than whole files
+ * - Nodes shared between named Rules are labelled by the first Rule that
+ *   reaches them
+ * - This Implementation is Thread-Safe, so one profile may record a whole
+ *   batch of parses.
+ *
+ * @see GrammarParsers#profile
+ */
+public final class BacktrackProfile extends GrammarProbe {
+    /**
+     * WHAT: The number of rules in the report of {@link #toString()}
+     */
+    public static final int REPORTED_RULES = 10;
+    /**
+     * WHY: Most items thrown away first, the order of the report
+     */
+    private static final Comparator<BacktrackEntry> MOST_WASTEFUL_FIRST =
+            Comparator.comparingLong(BacktrackEntry::getDiscardedItems).reversed()
+                    .thenComparing(Comparator.comparingLong(BacktrackEntry::getRevisits).reversed())
+                    .thenComparingInt(BacktrackEntry::getId);
+
+    private final List<BacktrackCounter> counters = new CopyOnWriteArrayList<>();
+    private final AtomicLongArray visitHistogram = new AtomicLongArray(Long.SIZE);
+    private final AtomicLongArray rewindHistogram = new AtomicLongArray(Long.SIZE);
+    private final ThreadLocal<Trace> traces = ThreadLocal.withInitial(() -> new Trace(this));
+
+    public BacktrackProfile() {
+
+    }
+
+    @Override
+    synchronized NodeProbe register(String factory, String rule) {
+        var counter = new BacktrackCounter(this, counters.size(), factory, rule);
+        counters.add(counter);
+        return counter;
+    }
+
+    /**
+     * WHAT: Counts the visits of each parse, once it is done
+     */
+    @Override
+    NodeProbe session() {
+        return new NodeProbe() {
+            @Override
+            public void enter(long position) {
+                trace().sessions++;
+            }
+
+            @Override
+            public void leave(boolean success, long position) {
+                var trace = trace();
+                if (--trace.sessions == 0) {
+                    trace.flushVisits();
+                }
+            }
+        };
+    }
+
+    Trace trace() {
+        return traces.get();
+    }
+
+    /**
+     * WHAT: How much work each traced node repeated or threw away so far,
+     *   most discarded items first
+     */
+    public List<BacktrackEntry> getEntries() {
+        var entries = new ArrayList<BacktrackEntry>(counters.size());
+        for (BacktrackCounter counter : counters) {
+            entries.add(counter.snapshot());
+        }
+        entries.sort(MOST_WASTEFUL_FIRST);
+        return entries;
+    }
+
+    /**
+     * WHAT: The most items any invocation threw away, the furthest the stream
+     *   was rewound by
+     */
+    public long getMaxRewind() {
+        long max = 0;
+        for (BacktrackCounter counter : counters) {
+            max = Math.max(max, counter.snapshot().getMaxRewind());
+        }
+        return max;
+    }
+
+    /**
+     * WHAT: How many (node, position) pairs were visited 1, 2-3, 4-7, ...
+     *   times in a parse
+     * - The array ends at the last bucket that is not empty
+     */
+    public long[] getVisitHistogram() {
+        return toArray(visitHistogram);
+    }
+
+    /**
+     * WHAT: How many rewinds threw away 1, 2-3, 4-7, ... items
+     * - The array ends at the last bucket that is not empty
+     */
+    public long[] getRewindHistogram() {
+        return toArray(rewindHistogram);
+    }
+
+    /**
+     * WHAT: Clear the counters of every traced node, and the histograms, to
+     *   trace another parse or batch w/ the same grammar
+     */
+    public void reset() {
+        for (BacktrackCounter counter : counters) {
+            counter.reset();
+        }
+        for (int bucket = 0; bucket < Long.SIZE; bucket++) {
+            visitHistogram.set(bucket, 0);
+            rewindHistogram.set(bucket, 0);
+        }
+    }
+
+    /**
+     * WHAT: The histograms, and the {@link #REPORTED_RULES} nodes that threw
+     *   away the most items, as text
+     */
+    @Override
+    public String toString() {
+        var report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Max Rewind: %d Items%n", getMaxRewind()));
+        appendHistogram(report, "Visits per Position", getVisitHistogram());
+        appendHistogram(report, "Items per Rewind", getRewindHistogram());
+
+        var entries = getEntries();
+        var top = entries.subList(0, Math.min(REPORTED_RULES, entries.size()));
+        int width = "Node".length();
+        for (BacktrackEntry entry : top) {
+            width = Math.max(width, entry.getLabel().length() + String.valueOf(entry.getId()).length() + 2);
+        }
+        var format = "%-" + width + "s %12s %12s %12s %12s %12s %12s%n";
+        report.append(String.format(Locale.ROOT, format, "Node",
+                "Invocations", "Revisits", "Max Visits", "Rewinds", "Discarded", "Max Rewind"));
+        for (BacktrackEntry entry : top) {
+            report.append(String.format(Locale.ROOT, format,
+                    "#" + entry.getId() + " " + entry.getLabel(),
+                    entry.getInvocations(), entry.getRevisits(), entry.getMaxVisits(),
+                    entry.getRewinds(), entry.getDiscardedItems(), entry.getMaxRewind()));
+        }
+        return report.toString();
+    }
+
+    private static void appendHistogram(StringBuilder report, String title, long[] histogram) {
+        report.append(title).append(':').append(System.lineSeparator());
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            long low = 1L << bucket;
+            long high = (low << 1) - 1;
+            report.append(String.format(Locale.ROOT, "%24s %12d%n",
+                    low == high ? String.valueOf(low) : low + "-" + high, histogram[bucket]));
+        }
+    }
+
+    private static long[] toArray(AtomicLongArray histogram) {
+        var counts = new long[histogram.length()];
+        int length = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            counts[bucket] = histogram.get(bucket);
+            if (counts[bucket] != 0) {
+                length = bucket + 1;
+            }
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    /**
+     * HELPER: The histogram bucket of a positive count
+     */
+    private static int bucket(long count) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(count);
+    }
+
+    /**
+     * WHAT: The state of the parses traced on one Thread, the stack of
+     *   running invocations w/ the furthest Success of the nodes they
+     *   invoked, and the visits of each node and position
+     */
+    static final class Trace {
+        private final BacktrackProfile profile;
+        private final IdentityHashMap<BacktrackCounter, HashMap<Long, int[]>> visits = new IdentityHashMap<>();
+        private long[] starts = new long[16];
+        private long[] furthest = new long[16];
+        private int depth;
+        private int sessions;
+
+        private Trace(BacktrackProfile profile) {
+            this.profile = profile;
+        }
+
+        void enter(BacktrackCounter counter, long position) {
+            if (depth == starts.length) {
+                starts = Arrays.copyOf(starts, 2 * depth);
+                furthest = Arrays.copyOf(furthest, 2 * depth);
+            }
+            starts[depth] = position;
+            furthest[depth] = position;
+            depth++;
+            if (0 <= position) {
+                var counts = visits.computeIfAbsent(counter, key -> new HashMap<>())
+                        .computeIfAbsent(position, key -> new int[1]);
+                if (0 < counts[0]++) {
+                    counter.revisit();
+                }
+            }
+        }
+
+        void leave(BacktrackCounter counter, boolean success, long position) {
+            depth--;
+            long start = starts[depth];
+            long end = success ? position : start;
+            long rewind = furthest[depth] - end;
+            if (0 <= start && 0 <= end && 0 < rewind) {
+                counter.rewind(rewind);
+                profile.rewindHistogram.incrementAndGet(bucket(rewind));
+            }
+            if (success && 0 < depth && furthest[depth - 1] < position) {
+                furthest[depth - 1] = position;
+            }
+        }
+
+        /**
+         * WHAT: Count the visits of the parse that ended, and forget them
+         */
+        void flushVisits() {
+            visits.forEach((counter, positions) -> {
+                int max = 0;
+                for (int[] counts : positions.values()) {
+                    profile.visitHistogram.incrementAndGet(bucket(counts[0]));
+                    max = Math.max(max, counts[0]);
+                }
+                counter.visited(max);
+            });
+            visits.clear();
+        }
+    }
+}
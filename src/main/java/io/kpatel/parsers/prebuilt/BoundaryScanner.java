@@ -0,0 +1,39 @@
+package io.kpatel.parsers.prebuilt;
+
+/**
+ * INTENT: Find where a record may start in a text, w/o parsing it, so that
+ * a repetition of records can be split into chunks and parsed in parallel
+ * REQUIREMENTS:
+ * - Must return an offset at or after from, and at most the length of the text
+ * - Should be cheap compared to parsing (e.g. a scan for a line break)
+ * NOTE:
+ * - A wrong boundary costs time but not correctness, the chunk that starts
+ *   at it is parsed again from where the previous chunk really ended
+ *
+ * @see RepetitionParsers#parallelDelimited
+ */
+@FunctionalInterface
+public interface BoundaryScanner {
+    /**
+     * WHAT: The first offset at or after from, where a record may start, or
+     * the length of the text if there is none
+     */
+    int nextBoundary(CharSequence text, int from);
+
+    /**
+     * USAGE: Records start after the given character, e.g. '\n' for lines
+     */
+    static BoundaryScanner after(char separator) {
+        return (text, from) -> {
+            if (from <= 0) {
+                return 0;
+            }
+            for (int idx = from; idx < text.length(); idx++) {
+                if (text.charAt(idx - 1) == separator) {
+                    return idx;
+                }
+            }
+            return text.length();
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+
+/**
+ * WHAT: The template of the generated class of a branch of a
+ *   {@link NodeForm.Alternation}
+ * NOTE:
+ * - The branch only runs if it is the next candidate, and may accept the
+ *   leading item, as on the {@link FirstItemDispatch} of the alternation
+ * - Its next branch is null for the last branch
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class BranchTemplate implements GrammarCodegen.BranchChain {
+    private static final int INDEX = GrammarCodegen.<Integer>constant(0);
+    private static final ContextStep<Object, Object> BRANCH = GrammarCodegen.constant(1);
+    private static final FirstItemDispatch TABLE = GrammarCodegen.constant(2);
+    private static final GrammarCodegen.BranchChain NEXT = GrammarCodegen.constant(3);
+
+    @Override
+    public int parse(ParseContext<Object, Object> context, Object leading, int[] candidates, int next) {
+        int outcome = SKIPPED;
+        if (next < candidates.length && candidates[next] == INDEX) {
+            next++;
+            if (TABLE.mayAccept(INDEX, leading)) {
+                if (BRANCH.parse(context)) {
+                    return SUCCEEDED;
+                }
+                outcome = FAILED;
+            }
+        }
+        return NEXT != null
+                ? Math.max(outcome, NEXT.parse(context, leading, candidates, next))
+                : outcome;
+    }
+}
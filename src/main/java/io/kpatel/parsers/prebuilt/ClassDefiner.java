@@ -0,0 +1,34 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * WHAT: Defines the classes generated for a grammar
+ * NOTE:
+ * - This is the Java 10 baseline, which defines each class by name in the
+ *   package of the lookup, where it stays until its ClassLoader is unloaded
+ * - The multi-release section of Java 21 replaces it, and both must keep
+ *   the same package-private members
+ *
+ * @see GrammarCodegen
+ */
+final class ClassDefiner {
+    private ClassDefiner() {
+
+    }
+
+    /**
+     * WHAT: Whether the classes defined are unloaded w/ their grammar
+     */
+    static boolean unloadsClasses() {
+        return false;
+    }
+
+    /**
+     * WHAT: A lookup w/ package access on the class of the class file, which
+     *   is defined, but not initialized
+     */
+    static MethodHandles.Lookup define(MethodHandles.Lookup lookup, byte[] classFile) throws IllegalAccessException {
+        return lookup.in(lookup.defineClass(classFile));
+    }
+}
@@ -0,0 +1,33 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.builder.Builder;
+
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.Concatenation}
+ * NOTE:
+ * - Its parts are a chain of {@link PartTemplate} copies, or null if it has none
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class ConcatTemplate implements ContextStep<Object, Object> {
+    private static final Supplier<Builder<Object, Object>> PROVIDER = GrammarCodegen.constant(0);
+    private static final GrammarCodegen.PartChain PARTS = GrammarCodegen.constant(1);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        var cursor = context.getCursor();
+        int mark = cursor.mark();
+        var builder = PROVIDER.get();
+        if (PARTS != null) {
+            builder = PARTS.append(context, builder);
+            if (builder == null) {
+                cursor.reset(mark);
+                return false;
+            }
+        }
+        cursor.release(mark);
+        return context.succeed(builder.toOutput());
+    }
+}
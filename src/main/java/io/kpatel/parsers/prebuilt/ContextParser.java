@@ -0,0 +1,88 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ParserStream;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A compiled grammar which parses on a mutable {@link ParseContext}
+ * INTENT: Parse w/o allocating a Result, or a stream, on every step of the
+ *   grammar, while still offering the Result API
+ * NOTE:
+ * - Parsing a stream runs the grammar on a fresh context, and wraps its
+ *   outcome in a Result
+ * - Parsing a context reports the outcome in the context, and allocates
+ *   nothing per step on streams with a specialized cursor (e.g. StringStream)
+ * - In {@link FailureMode#LIGHT} mode, a failed parse of a stream is parsed
+ *   again in DIAGNOSTIC mode once its context or message is asked for, so
+ *   the grammar must be pure
+ * - In {@link FailureMode#FURTHEST} mode, a failed parse of a stream reports
+ *   the furthest failure, and what was expected there
+ * - Parsers that are not built by the prebuilt factories (and memoizing
+ *   parsers) run on a stream at the cursor, as usual
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads, when the grammar's parsers are.
+ *
+ * @see GrammarParsers#compileContext(Supplier)
+ * @see ParseContext
+ */
+public final class ContextParser<T, Seq, Itm> implements Parser<T, Seq, Itm> {
+    /**
+     * WHAT: The name of this engine in parse session events
+     */
+    private static final String ENGINE = "context";
+
+    private final Supplier<Parser<T, Seq, Itm>> grammar;
+    private final FailureMode failureMode;
+
+    ContextParser(Supplier<Parser<T, Seq, Itm>> grammar, FailureMode failureMode) {
+        this.grammar = grammar;
+        this.failureMode = failureMode;
+    }
+
+    /**
+     * WHAT: The same grammar, parsing streams in the given mode
+     */
+    public ContextParser<T, Seq, Itm> withFailureMode(FailureMode failureMode) {
+        Objects.requireNonNull(failureMode,
+                "Failure Mode must not be null");
+        return new ContextParser<>(grammar, failureMode);
+    }
+
+    public FailureMode getFailureMode() {
+        return failureMode;
+    }
+
+    /**
+     * WHAT: Parse the stream, and wrap the outcome in a Result
+     * - Emits a Flight Recorder event of the parse session, on Java 11 and later
+     */
+    @Override
+    public Result<T, Seq, Itm> parse(ParserStream<Seq, Itm> stream) {
+        var session = ParseEvents.beginSession(ENGINE, stream);
+        var context = new ParseContext<>(stream, failureMode);
+        Result<T, Seq, Itm> result;
+        if (parse(context) || failureMode != FailureMode.LIGHT) {
+            result = context.toResult();
+        } else {
+            var diagnosis = new Diagnosis<>(this::parse, stream);
+            result = Result.failure(diagnosis::getErrorContext, diagnosis::getErrorMessage);
+        }
+        ParseEvents.endSession(session, stream, result);
+        return result;
+    }
+
+    /**
+     * WHAT: Parse from the cursor of the context
+     * - On Success, the value is in the context, and the cursor is after it
+     * - Returns whether it was a Success
+     */
+    public boolean parse(ParseContext<Seq, Itm> context) {
+        return ContextStep.run(grammar, context);
+    }
+}
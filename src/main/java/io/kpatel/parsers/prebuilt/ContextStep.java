@@ -0,0 +1,39 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The counterpart of a Parser which runs on a {@link ParseContext}
+ * INTENT: Let the prebuilt factories parse w/o allocating a Result, or a
+ *   stream, on every step
+ * REQUIREMENTS:
+ * - Must follow the requirements of {@link ParseContext}
+ * - Must accept the same input as the Parser of the same node
+ *
+ * @see GrammarNode
+ * @see ContextParser
+ */
+@FunctionalInterface
+interface ContextStep<Seq, Itm> {
+    boolean parse(ParseContext<Seq, Itm> context);
+
+    /**
+     * HELPER: Run any Parser Supplier on the context
+     * - Suppliers which are not GrammarNodes (e.g. user lambdas) run their
+     *   Parser on a stream at the cursor
+     */
+    @SuppressWarnings("unchecked")
+    static <Seq, Itm> boolean run(
+            Supplier<? extends Parser<?, Seq, Itm>> parser,
+            ParseContext<Seq, Itm> context) {
+        if (parser instanceof GrammarNode) {
+            return ((GrammarNode<?, Seq, Itm>) parser).getStep().parse(context);
+        } else if (parser instanceof Rule) {
+            return run(((Rule<?, Seq, Itm>) parser).getDefinition(), context);
+        }
+        return context.accept(parser.get().parse(context.getCursor().toStream()));
+    }
+}
@@ -0,0 +1,40 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The state of one composite node while it runs on the heap stack of
+ *   a {@link TrampolineParser}
+ * INTENT: Let a composite ask for its sub-parsers to be run, instead of
+ *   calling them, so nesting depth is limited by the heap and not the
+ *   Thread stack
+ * REQUIREMENTS:
+ * - resume is called once as the frame is entered, then once after each
+ *   sub-parser it returned has run, with that outcome in the context
+ * - Returns the next sub-parser to run, or null once the outcome of the
+ *   node is in the context
+ * - Must follow the requirements of {@link ParseContext}, and accept the
+ *   same input as the step of the same node
+ * NOTE:
+ * - A frame belongs to one run of its node, so it is created on entry
+ * - A frame whose parse ends before it is done (e.g. once too deep) is
+ *   abandoned instead
+ *
+ * @see ContinuationFrames
+ * @see ContextStep
+ */
+@FunctionalInterface
+interface ContinuationFrame<Seq, Itm> {
+    Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context);
+
+    /**
+     * WHAT: The parse ended before the frame was done, and it is not resumed again
+     * - Frames are abandoned from the top of the stack down
+     */
+    default void abandon(ParseContext<Seq, Itm> context) {
+
+    }
+}
@@ -0,0 +1,443 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.stream.StreamCursor;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The frames of the composite nodes, each the step of its node
+ *   turned into a state machine
+ * NOTE:
+ * - Frames mark and reset the cursor exactly as the steps do, so both
+ *   engines leave the cursor and the context in the same state
+ * - zeroOrMore, oneOrMore, repeat and rangedRepeat share {@link RepeatFrame},
+ *   and pipe, prefix and suffix share {@link PipeFrame}
+ *
+ * @see ContinuationFrame
+ */
+final class ContinuationFrames {
+    private ContinuationFrames() {
+
+    }
+
+    /**
+     * WHAT: Frame of map, which maps the value of its parser
+     */
+    static final class MapFrame<T, U, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> parser;
+        private final Function<T, U> mapper;
+        private boolean entered;
+
+        MapFrame(Supplier<? extends Parser<?, Seq, Itm>> parser, Function<T, U> mapper) {
+            this.parser = parser;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            if (!entered) {
+                entered = true;
+                return parser;
+            } else if (context.isSuccess()) {
+                context.succeed(mapper.apply(context.getValue()));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * WHAT: Frame of flatMap, which runs the parser its value maps to
+     */
+    static final class FlatMapFrame<T, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> parser;
+        private final Function<T, ? extends Supplier<? extends Parser<?, Seq, Itm>>> flatMapper;
+        private int state;
+        private int mark;
+
+        FlatMapFrame(
+                Supplier<? extends Parser<?, Seq, Itm>> parser,
+                Function<T, ? extends Supplier<? extends Parser<?, Seq, Itm>>> flatMapper) {
+            this.parser = parser;
+            this.flatMapper = flatMapper;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            switch (state++) {
+                case 0:
+                    mark = cursor.mark();
+                    return parser;
+                case 1:
+                    if (context.isSuccess()) {
+                        return flatMapper.apply(context.getValue());
+                    }
+                    cursor.reset(mark);
+                    return null;
+                default:
+                    if (context.isSuccess()) {
+                        cursor.release(mark);
+                    } else {
+                        cursor.reset(mark);
+                    }
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * WHAT: Frame of otherwise, which runs the alternative if its parser fails
+     */
+    static final class OtherwiseFrame<Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> parser;
+        private final Supplier<? extends Parser<?, Seq, Itm>> alternative;
+        private int state;
+
+        OtherwiseFrame(
+                Supplier<? extends Parser<?, Seq, Itm>> parser,
+                Supplier<? extends Parser<?, Seq, Itm>> alternative) {
+            this.parser = parser;
+            this.alternative = alternative;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            switch (state++) {
+                case 0:
+                    return parser;
+                case 1:
+                    return context.isSuccess() ? null : alternative;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * WHAT: Frame of filter, which rejects values that fail the predicate
+     */
+    static final class FilterFrame<T, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> parser;
+        private final Predicate<T> predicate;
+        private final Supplier<String> errorMessage;
+        private boolean entered;
+        private int mark;
+
+        FilterFrame(
+                Supplier<? extends Parser<?, Seq, Itm>> parser,
+                Predicate<T> predicate,
+                Supplier<String> errorMessage) {
+            this.parser = parser;
+            this.predicate = predicate;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            if (!entered) {
+                entered = true;
+                mark = cursor.mark();
+                return parser;
+            } else if (!context.isSuccess() || predicate.test(context.getValue())) {
+                cursor.release(mark);
+            } else {
+                cursor.reset(mark);
+                context.fail(ParseContext.REJECTED, errorMessage);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * WHAT: Frame of pipe (and prefix and suffix), which combines the values
+     * of two parsers in a row
+     */
+    static final class PipeFrame<K, V, T, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> left;
+        private final Supplier<? extends Parser<?, Seq, Itm>> right;
+        private final BiFunction<K, V, T> mapper;
+        private int state;
+        private int mark;
+        private K leftValue;
+
+        PipeFrame(
+                Supplier<? extends Parser<?, Seq, Itm>> left,
+                Supplier<? extends Parser<?, Seq, Itm>> right,
+                BiFunction<K, V, T> mapper) {
+            this.left = left;
+            this.right = right;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            switch (state++) {
+                case 0:
+                    mark = cursor.mark();
+                    return left;
+                case 1:
+                    if (!context.isSuccess()) {
+                        cursor.release(mark);
+                        return null;
+                    }
+                    leftValue = context.getValue();
+                    return right;
+                default:
+                    if (!context.isSuccess()) {
+                        cursor.reset(mark);
+                        return null;
+                    }
+                    cursor.release(mark);
+                    context.succeed(mapper.apply(leftValue, context.getValue()));
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * WHAT: Frame of alternate, which tries the branches that may accept the
+     * leading item until one succeeds
+     */
+    static final class AlternateFrame<Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final List<? extends Supplier<? extends Parser<?, Seq, Itm>>> parsers;
+        private final Supplier<FirstItemDispatch> dispatch;
+        private final Supplier<String> errorMessage;
+        private FirstItemDispatch table;
+        private Object leading;
+        private int[] candidates;
+        private int index;
+        private boolean tried;
+        private int fallback = -1;
+
+        AlternateFrame(
+                List<? extends Supplier<? extends Parser<?, Seq, Itm>>> parsers,
+                Supplier<FirstItemDispatch> dispatch,
+                Supplier<String> errorMessage) {
+            this.parsers = parsers;
+            this.dispatch = dispatch;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            if (candidates == null) {
+                table = dispatch.get();
+                leading = table.isPredictive()
+                        ? FirstItemDispatch.leadingItem(context.getCursor())
+                        : null;
+                candidates = table.candidates(leading);
+            } else if (context.isSuccess()) {
+                return null;
+            } else {
+                tried = true;
+            }
+            if (fallback < 0) {
+                while (index < candidates.length) {
+                    int branch = candidates[index++];
+                    if (table.mayAccept(branch, leading)) {
+                        return parsers.get(branch);
+                    }
+                }
+                if (tried) {
+                    return null;
+                } else if (parsers.isEmpty()) {
+                    context.fail(ParseContext.NO_ALTERNATIVE, errorMessage, table.getExpectedChars());
+                    return null;
+                }
+                // Every branch is ruled out, so they fail as w/o dispatch
+                fallback = FirstItemDispatch.fallbackBranch(parsers.size(), context.getFailureMode());
+            }
+            return fallback < parsers.size() ? parsers.get(fallback++) : null;
+        }
+    }
+
+    /**
+     * WHAT: Frame of peek, which runs its parser and rewinds
+     */
+    static final class PeekFrame<Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> parser;
+        private boolean entered;
+        private int mark;
+
+        PeekFrame(Supplier<? extends Parser<?, Seq, Itm>> parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            if (!entered) {
+                entered = true;
+                mark = context.getCursor().mark();
+                return parser;
+            }
+            context.getCursor().reset(mark);
+            return null;
+        }
+    }
+
+    /**
+     * WHAT: Frame of concatenate, which runs every parser in order
+     */
+    static final class ConcatenateFrame<Out, Prt, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<Builder<Out, Prt>> provider;
+        private final List<? extends Supplier<? extends Parser<? extends Prt, Seq, Itm>>> parsers;
+        private Builder<Out, Prt> builder;
+        private int index;
+        private int mark;
+
+        ConcatenateFrame(
+                Supplier<Builder<Out, Prt>> provider,
+                List<? extends Supplier<? extends Parser<? extends Prt, Seq, Itm>>> parsers) {
+            this.provider = provider;
+            this.parsers = parsers;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            if (builder == null) {
+                mark = cursor.mark();
+                builder = provider.get();
+            } else if (!context.isSuccess()) {
+                cursor.reset(mark);
+                return null;
+            } else {
+                builder = builder.append(context.getValue());
+            }
+            if (index < parsers.size()) {
+                return parsers.get(index++);
+            }
+            cursor.release(mark);
+            context.succeed(builder.toOutput());
+            return null;
+        }
+    }
+
+    /**
+     * WHAT: Frame of the repetitions, which requires low parts, then takes
+     * parts while they succeed, up to high parts in total
+     * - zeroOrMore and oneOrMore have no upper bound
+     */
+    static final class RepeatFrame<Out, Prt, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        static final long UNBOUNDED = Long.MAX_VALUE;
+
+        private final Supplier<Builder<Out, Prt>> provider;
+        private final Supplier<? extends Parser<? extends Prt, Seq, Itm>> parser;
+        private final long low;
+        private final long high;
+        private Builder<Out, Prt> builder;
+        private long count;
+        private int mark;
+        private boolean released;
+
+        RepeatFrame(
+                Supplier<Builder<Out, Prt>> provider,
+                Supplier<? extends Parser<? extends Prt, Seq, Itm>> parser,
+                long low, long high) {
+            this.provider = provider;
+            this.parser = parser;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            if (builder == null) {
+                mark = cursor.mark();
+                builder = provider.get();
+            } else if (!context.isSuccess()) {
+                if (!released) {
+                    cursor.reset(mark);
+                    return null;
+                }
+                context.succeed(builder.toOutput());
+                return null;
+            } else {
+                builder = builder.append(context.getValue());
+                count++;
+            }
+            if (!released && low <= count) {
+                released = true;
+                cursor.release(mark);
+            }
+            if (!released || count < high) {
+                return parser;
+            }
+            context.succeed(builder.toOutput());
+            return null;
+        }
+    }
+
+    /**
+     * WHAT: Frame of delimited, which takes parts separated by the delimiter
+     * while both succeed
+     */
+    static final class DelimitedFrame<Out, Prt, Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<Builder<Out, Prt>> provider;
+        private final Supplier<? extends Parser<? extends Prt, Seq, Itm>> parser;
+        private final Supplier<? extends Parser<?, Seq, Itm>> delimiter;
+        private Builder<Out, Prt> builder;
+        private int state;
+        private int mark;
+
+        DelimitedFrame(
+                Supplier<Builder<Out, Prt>> provider,
+                Supplier<? extends Parser<? extends Prt, Seq, Itm>> parser,
+                Supplier<? extends Parser<?, Seq, Itm>> delimiter) {
+            this.provider = provider;
+            this.parser = parser;
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            switch (state) {
+                case 0:
+                    state = 1;
+                    return parser;
+                case 1:
+                    if (!context.isSuccess()) {
+                        context.succeed(provider.get().toOutput());
+                        return null;
+                    }
+                    builder = provider.get().append(context.getValue());
+                    return nextDelimiter(cursor);
+                case 2:
+                    if (!context.isSuccess()) {
+                        cursor.release(mark);
+                        context.succeed(builder.toOutput());
+                        return null;
+                    }
+                    state = 3;
+                    return parser;
+                default:
+                    if (!context.isSuccess()) {
+                        cursor.reset(mark);
+                        context.succeed(builder.toOutput());
+                        return null;
+                    }
+                    cursor.release(mark);
+                    builder = builder.append(context.getValue());
+                    return nextDelimiter(cursor);
+            }
+        }
+
+        private Supplier<? extends Parser<?, Seq, Itm>> nextDelimiter(
+                StreamCursor<Seq, Itm> cursor) {
+            mark = cursor.mark();
+            state = 2;
+            return delimiter;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.stream.ParserStream;
+
+/**
+ * WHAT: A failed parse, replayed in DIAGNOSTIC mode on first use
+ * INTENT: Let an engine fail in LIGHT mode, and still explain the failure
+ *   when it is asked for
+ * NOTE:
+ * - The replay runs on the same engine, so it nests as deep as the parse did
+ *
+ * @see FailureMode#LIGHT
+ */
+final class Diagnosis<Seq, Itm> {
+    private final ContextStep<Seq, Itm> engine;
+    private final ParserStream<Seq, Itm> stream;
+    private volatile ParseContext<Seq, Itm> replayed;
+
+    Diagnosis(ContextStep<Seq, Itm> engine, ParserStream<Seq, Itm> stream) {
+        this.engine = engine;
+        this.stream = stream;
+    }
+
+    String getErrorContext() {
+        var context = replay();
+        return context.isSuccess()
+                ? stream.getErrorContext().get()
+                : context.getErrorContext().orElseThrow().get();
+    }
+
+    String getErrorMessage() {
+        var context = replay();
+        return context.isSuccess()
+                ? "Parser Succeeded when Replayed"
+                : context.getErrorMessage().orElseThrow().get();
+    }
+
+    private ParseContext<Seq, Itm> replay() {
+        var context = replayed;
+        if (context == null) {
+            context = new ParseContext<>(stream, FailureMode.DIAGNOSTIC);
+            engine.parse(context);
+            replayed = context;
+        }
+        return context;
+    }
+}
@@ -0,0 +1,184 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.stream.CharCursor;
+import io.kpatel.parsers.stream.CharParserStream;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StreamCursor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A table from the leading item to the branches of an alternation
+ *   which may accept it, in their original order
+ * INTENT: Let alternate skip branches that cannot accept the leading item,
+ *   instead of running each one to collect its failure
+ * NOTE:
+ * - Branches whose first set lists its items are only tried for those items
+ * - Branches whose first set has predicates are tried for any item that
+ *   passes them
+ * - Nullable and unknown branches are always tried, including at the end of
+ *   the stream
+ *
+ * @see FirstSet
+ * @see MiscParsers#alternate(List)
+ */
+final class FirstItemDispatch {
+    private final FirstSet[] branches;
+    private final boolean predictive;
+    private final Map<Object, int[]> byItem;
+    private final int[] otherItems;
+    private final int[] endOfStream;
+    private final char[] expectedChars;
+
+    private FirstItemDispatch(
+            FirstSet[] branches, boolean predictive, Map<Object, int[]> byItem,
+            int[] otherItems, int[] endOfStream, char[] expectedChars) {
+        this.branches = branches;
+        this.predictive = predictive;
+        this.byItem = byItem;
+        this.otherItems = otherItems;
+        this.endOfStream = endOfStream;
+        this.expectedChars = expectedChars;
+    }
+
+    /**
+     * WHAT: Factory for the table of the given branches, built on first use
+     */
+    static Supplier<FirstItemDispatch> lazy(List<? extends Supplier<?>> parsers) {
+        return new Supplier<>() {
+            private volatile FirstItemDispatch table;
+
+            @Override
+            public FirstItemDispatch get() {
+                var built = table;
+                if (built == null) {
+                    built = of(parsers);
+                    table = built;
+                }
+                return built;
+            }
+        };
+    }
+
+    /**
+     * WHAT: Factory for the table of the given branches
+     */
+    static FirstItemDispatch of(List<? extends Supplier<?>> parsers) {
+        var branches = new FirstSet[parsers.size()];
+        var first = FirstSet.NONE;
+        boolean predictive = false;
+        var keys = new LinkedHashSet<Object>();
+        for (int idx = 0; idx < branches.length; idx++) {
+            branches[idx] = GrammarNode.firstSetOf(parsers.get(idx));
+            predictive |= !branches[idx].isNullable();
+            first = first.union(branches[idx]);
+            if (branches[idx].isExplicit()) {
+                keys.addAll(branches[idx].getItems());
+            }
+        }
+        var byItem = new HashMap<Object, int[]>();
+        for (Object key : keys) {
+            var candidates = new ArrayList<Integer>();
+            for (int idx = 0; idx < branches.length; idx++) {
+                if (!branches[idx].isExplicit() || branches[idx].getItems().contains(key)) {
+                    candidates.add(idx);
+                }
+            }
+            byItem.put(key, toArray(candidates));
+        }
+        var otherItems = new ArrayList<Integer>();
+        var endOfStream = new ArrayList<Integer>();
+        for (int idx = 0; idx < branches.length; idx++) {
+            if (!branches[idx].isExplicit()) {
+                otherItems.add(idx);
+            }
+            if (branches[idx].isNullable()) {
+                endOfStream.add(idx);
+            }
+        }
+        return new FirstItemDispatch(branches, predictive, byItem,
+                toArray(otherItems), toArray(endOfStream), first.getChars());
+    }
+
+    /**
+     * WHAT: Whether any branch can be ruled out by the leading item
+     * - Otherwise every branch is a candidate at the end of the stream, so the
+     *   leading item need not be read
+     */
+    boolean isPredictive() {
+        return predictive;
+    }
+
+    /**
+     * WHAT: The leading item of the stream, or null at the end of the stream
+     */
+    static Object leadingItem(ParserStream<?, ?> stream) {
+        if (stream instanceof CharParserStream) {
+            int leading = ((CharParserStream) stream).peekChar();
+            return leading != CharParserStream.END_OF_STREAM
+                    ? Character.valueOf((char) leading)
+                    : null;
+        }
+        return stream.getLeadingItem().orElse(null);
+    }
+
+    /**
+     * WHAT: The leading item at the cursor, or null at the end of the stream
+     */
+    static Object leadingItem(StreamCursor<?, ?> cursor) {
+        if (cursor instanceof CharCursor) {
+            int leading = ((CharCursor) cursor).peekChar();
+            return leading != CharParserStream.END_OF_STREAM
+                    ? Character.valueOf((char) leading)
+                    : null;
+        }
+        return cursor.peekItem();
+    }
+
+    /**
+     * WHAT: The characters that some branch may start with, or none unless
+     * every branch lists its characters
+     */
+    char[] getExpectedChars() {
+        return expectedChars;
+    }
+
+    /**
+     * WHAT: The branches that may accept the leading item, in order
+     * - Branches with predicates must still be checked with {@link #mayAccept}
+     */
+    int[] candidates(Object leading) {
+        if (leading == null) {
+            return endOfStream;
+        }
+        return byItem.getOrDefault(leading, otherItems);
+    }
+
+    /**
+     * WHAT: Whether the branch may accept the leading item
+     */
+    boolean mayAccept(int branch, Object leading) {
+        return branches[branch].isExplicit()
+                || branches[branch].mayStartWith(leading);
+    }
+
+    /**
+     * WHAT: The first branch to run when every branch is ruled out, so the
+     * Failure is the one w/o dispatch
+     * - Only the last branch reports its message, but in FURTHEST mode every
+     *   branch adds to what was expected
+     */
+    static int fallbackBranch(int branchCount, FailureMode failureMode) {
+        return failureMode == FailureMode.FURTHEST ? 0 : branchCount - 1;
+    }
+
+    private static int[] toArray(List<Integer> indices) {
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
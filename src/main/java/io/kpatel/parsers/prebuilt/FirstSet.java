@@ -0,0 +1,179 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * WHAT: The items a parser may start with, when that can be determined
+ * INTENT: Let combinators rule out parsers which cannot accept the leading
+ *   item, without running them
+ * NOTE:
+ * - A parser which is not nullable fails unless the leading item is in its
+ *   items, or satisfies one of its predicates
+ * - A nullable parser may succeed without consuming anything, so it may be
+ *   followed by any item (or the end of stream)
+ * - An unknown parser may start with anything, and is treated as nullable
+ * - This Implementation is Strictly Immutable.
+ *
+ * @see GrammarNode
+ */
+final class FirstSet {
+    /**
+     * WHAT: The first set of parsers that were not built by this library
+     */
+    static final FirstSet UNKNOWN = new FirstSet(Set.of(), List.of(), true);
+    /**
+     * WHAT: The first set of parsers that succeed without consuming anything
+     */
+    static final FirstSet EMPTY = new FirstSet(Set.of(), List.of(), true);
+    /**
+     * WHAT: The first set of parsers that never succeed
+     */
+    static final FirstSet NONE = new FirstSet(Set.of(), List.of(), false);
+
+    private final Set<Object> items;
+    private final List<Predicate<Object>> predicates;
+    private final boolean nullable;
+
+    private FirstSet(Set<Object> items, List<Predicate<Object>> predicates, boolean nullable) {
+        this.items = items;
+        this.predicates = predicates;
+        this.nullable = nullable;
+    }
+
+    /**
+     * WHAT: The first set of parsers that start with the given item
+     */
+    static FirstSet of(Object item) {
+        return item == null ? UNKNOWN : new FirstSet(Set.of(item), List.of(), false);
+    }
+
+    /**
+     * WHAT: The first set of parsers that start with one of the given items
+     */
+    static FirstSet ofAll(Collection<?> items) {
+        var itemSet = new HashSet<Object>(items);
+        return itemSet.contains(null)
+                ? UNKNOWN
+                : new FirstSet(Collections.unmodifiableSet(itemSet), List.of(), false);
+    }
+
+    /**
+     * WHAT: The first set of parsers that start with an item satisfying the predicate
+     */
+    @SuppressWarnings("unchecked")
+    static <Itm> FirstSet matching(Predicate<Itm> predicate) {
+        // Leading items are read from the stream the parser is given, so they are always Itm
+        return new FirstSet(Set.of(), List.of((Predicate<Object>) predicate), false);
+    }
+
+    /**
+     * WHAT: The first set of parsers that accept the given sequence
+     * - Only Character Sequences and Lists can be inspected, other sequences
+     *   are unknown
+     */
+    static FirstSet ofSequence(Object sequence) {
+        if (sequence instanceof CharSequence) {
+            var chars = (CharSequence) sequence;
+            return chars.length() == 0 ? EMPTY : of(chars.charAt(0));
+        } else if (sequence instanceof List) {
+            var items = (List<?>) sequence;
+            return items.isEmpty() ? EMPTY : of(items.get(0));
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * WHAT: The first set of the given first set as an optional parser
+     */
+    FirstSet orEmpty() {
+        return nullable ? this : new FirstSet(items, predicates, true);
+    }
+
+    /**
+     * WHAT: The first set of a parser that accepts either parser
+     */
+    FirstSet union(FirstSet other) {
+        if (this == UNKNOWN || other == UNKNOWN) {
+            return UNKNOWN;
+        }
+        var unionItems = new HashSet<>(items);
+        unionItems.addAll(other.items);
+        var unionPredicates = new ArrayList<>(predicates);
+        unionPredicates.addAll(other.predicates);
+        return new FirstSet(
+                Collections.unmodifiableSet(unionItems),
+                Collections.unmodifiableList(unionPredicates),
+                nullable || other.nullable);
+    }
+
+    /**
+     * WHAT: The first set of a parser that accepts this parser, then the next one
+     */
+    FirstSet then(FirstSet next) {
+        if (!nullable) {
+            return this;
+        }
+        var followed = union(next);
+        return followed == UNKNOWN || next.nullable
+                ? followed
+                : new FirstSet(followed.items, followed.predicates, false);
+    }
+
+    /**
+     * WHAT: Whether the parser may succeed without consuming anything
+     */
+    boolean isNullable() {
+        return nullable;
+    }
+
+    /**
+     * WHAT: Whether the parser can only accept explicitly listed items
+     */
+    boolean isExplicit() {
+        return !nullable && predicates.isEmpty();
+    }
+
+    Set<Object> getItems() {
+        return items;
+    }
+
+    /**
+     * WHAT: The explicit items as characters, or none unless every item is one
+     * - Lets a failure expect characters, instead of its message
+     */
+    char[] getChars() {
+        if (!isExplicit()) {
+            return new char[0];
+        }
+        var chars = new char[items.size()];
+        int idx = 0;
+        for (Object item : items) {
+            if (!(item instanceof Character)) {
+                return new char[0];
+            }
+            chars[idx++] = (Character) item;
+        }
+        return chars;
+    }
+
+    /**
+     * WHAT: Whether the parser may accept the given leading item
+     */
+    boolean mayStartWith(Object item) {
+        if (nullable || items.contains(item)) {
+            return true;
+        }
+        for (Predicate<Object> predicate : predicates) {
+            if (predicate.test(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,371 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.Builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Generates a class for every node of a grammar, which runs the node
+ *   on a {@link ParseContext} w/ its sub-parsers and functions as constants
+ * INTENT: Let the JIT inline a whole grammar, as it would a hand written
+ *   recursive descent parser, instead of calling through the steps of the
+ *   factories, which every node of the same factory shares
+ * NOTE:
+ * - Each node is described by its {@link NodeForm}, and its class is a copy
+ *   of the template of its form, defined under a new name w/
+ *   {@link MethodHandles.Lookup}, so each copy has a call site of its own
+ * - The constants of a copy are handed to its static initializer, and are
+ *   static final fields the JIT folds, so calls to sub-parsers are direct
+ *   and inlined, repetitions are loops, and alternations are branches
+ * - Nodes w/o a form are rebuilt over the generated classes of their
+ *   sub-parsers, and run their own step, as usual
+ * - Literals, item tests and alternations fall back to the steps of their
+ *   nodes to fail, so failures are the same as on a {@link ContextParser}
+ * - Recursive Rules call through a link, whose target is set once the
+ *   class of the definition is generated
+ * - The root node or Rule of a grammar keeps its generated form, so the
+ *   same grammar is only generated once. Before Java 21, the copies are
+ *   never unloaded, and neither is the grammar their constants refer to, so
+ *   only the first {@link #MAX_RETAINED_GRAMMARS} grammars are generated,
+ *   and later ones are only compiled. The multi-release section of Java 21
+ *   defines them as hidden classes, unloaded w/ their grammar, instead
+ *
+ * @see GrammarParsers#compileGenerated(Supplier)
+ * @see ClassDefiner
+ */
+final class GrammarCodegen {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * WHY: The constants of the copy being initialized on this Thread
+     */
+    private static final ThreadLocal<Object[]> CONSTANTS = new ThreadLocal<>();
+    private static final Map<Class<?>, byte[]> TEMPLATES = new ConcurrentHashMap<>();
+    private static final AtomicLong COPIES = new AtomicLong();
+    /**
+     * WHY: The most grammars generated on runtimes that never unload the
+     * copies, which keep their grammars reachable for good
+     */
+    private static final int MAX_RETAINED_GRAMMARS = 64;
+    private static final AtomicInteger RETAINED_GRAMMARS = new AtomicInteger();
+    /**
+     * WHAT: The step of a Rule whose definition is being generated
+     */
+    private static final ContextStep<Object, Object> PENDING = context -> false;
+
+    private final IdentityHashMap<Supplier<?>, ContextStep<Object, Object>> generated = new IdentityHashMap<>();
+    private final IdentityHashMap<Supplier<?>, MethodHandles.Lookup> links = new IdentityHashMap<>();
+
+    private GrammarCodegen() {
+
+    }
+
+    /**
+     * WHAT: The part of a concatenation, and the parts after it, which
+     *   append their values to the builder, or yield null once one fails
+     */
+    interface PartChain {
+        Builder<Object, Object> append(ParseContext<Object, Object> context, Builder<Object, Object> builder);
+    }
+
+    /**
+     * WHAT: The branch of an alternation, and the branches after it, which
+     *   run if they are the next candidates for the leading item
+     */
+    interface BranchChain {
+        int SKIPPED = 0;
+        int FAILED = 1;
+        int SUCCEEDED = 2;
+
+        /**
+         * - next is the index of the next candidate to run
+         * - Yields the best outcome of the branches, SKIPPED when none ran
+         */
+        int parse(ParseContext<Object, Object> context, Object leading, int[] candidates, int next);
+    }
+
+    /**
+     * WHAT: The compiled form of the grammar, whose nodes run as generated
+     *   classes on a context
+     * - Generated once per root node or Rule, which keeps its generated form
+     */
+    @SuppressWarnings("unchecked")
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> generate(Supplier<Parser<T, Seq, Itm>> grammar) {
+        Supplier<Supplier<?>> generator = () -> generateNew(grammar);
+        if (grammar instanceof GrammarNode) {
+            return (Supplier<Parser<T, Seq, Itm>>) ((GrammarNode<?, ?, ?>) grammar).generated(generator);
+        } else if (grammar instanceof Rule) {
+            return (Supplier<Parser<T, Seq, Itm>>) ((Rule<?, ?, ?>) grammar).generated(generator);
+        }
+        // Opaque grammars are not described, so no class is generated for them
+        return GrammarCompiler.compile(grammar);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> generateNew(Supplier<Parser<T, Seq, Itm>> grammar) {
+        var compiled = GrammarCompiler.compile(grammar);
+        if (!ClassDefiner.unloadsClasses() && !retainAnother()) {
+            // Runs as on a ContextParser, instead of retaining yet another grammar
+            return compiled;
+        }
+        var step = new GrammarCodegen().stepOf(compiled);
+        return GrammarNode.leaf("generated", () -> GrammarNode.firstSetOf(compiled), compiled::get,
+                (ContextStep<Seq, Itm>) (ContextStep<?, ?>) step);
+    }
+
+    /**
+     * HELPER: Whether another grammar may be generated, and counts it if so
+     */
+    private static boolean retainAnother() {
+        return RETAINED_GRAMMARS.get() < MAX_RETAINED_GRAMMARS
+                && RETAINED_GRAMMARS.getAndIncrement() < MAX_RETAINED_GRAMMARS;
+    }
+
+    /**
+     * HELPER: A constant of the copy being initialized, for the static
+     * initializers of the templates
+     */
+    @SuppressWarnings("unchecked")
+    static <C> C constant(int index) {
+        var constants = CONSTANTS.get();
+        if (constants == null) {
+            throw new IllegalStateException("Templates are only initialized as generated copies");
+        }
+        return (C) constants[index];
+    }
+
+    private ContextStep<Object, Object> stepOf(Supplier<?> parser) {
+        var done = generated.get(parser);
+        if (done == PENDING) {
+            return link(parser);
+        } else if (done != null) {
+            return done;
+        }
+        ContextStep<Object, Object> step;
+        if (parser instanceof Rule) {
+            // Pending until its definition is generated, so cycles end at a link
+            generated.put(parser, PENDING);
+            step = stepOf(((Rule<?, ?, ?>) parser).getDefinition());
+            var link = links.get(parser);
+            if (link != null) {
+                setTarget(link, step);
+            }
+        } else if (parser instanceof GrammarNode) {
+            step = nodeStep((GrammarNode<?, ?, ?>) parser);
+        } else {
+            var opaque = stepParser(parser);
+            step = context -> ContextStep.run(opaque, context);
+        }
+        generated.put(parser, step);
+        return step;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<? extends Parser<?, Object, Object>> stepParser(Supplier<?> parser) {
+        return (Supplier<? extends Parser<?, Object, Object>>) parser;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ContextStep<Object, Object> nodeStep(GrammarNode<?, ?, ?> node) {
+        var form = node.getForm();
+        var children = node.getChildren();
+        var original = (ContextStep<Object, Object>) (ContextStep<?, ?>) node.getStep();
+        if (form instanceof NodeForm.Literal) {
+            var literal = (NodeForm.Literal) form;
+            return define(LiteralTemplate.class, literal.text, literal.value, original);
+        } else if (form instanceof NodeForm.ItemTest) {
+            return define(ItemTemplate.class, ((NodeForm.ItemTest) form).predicate, original);
+        } else if (form instanceof NodeForm.Mapping) {
+            return define(MapTemplate.class, stepOf(children.get(0)), ((NodeForm.Mapping) form).mapper);
+        } else if (form instanceof NodeForm.Omission) {
+            var placeholder = ((NodeForm.Omission) form).placeholder;
+            Function<Object, Object> omitted = value -> placeholder.get();
+            return define(MapTemplate.class, stepOf(children.get(0)), omitted);
+        } else if (form instanceof NodeForm.Repetition) {
+            var repetition = (NodeForm.Repetition) form;
+            return define(RepeatTemplate.class, repetition.provider, stepOf(children.get(0)), repetition.min);
+        } else if (form instanceof NodeForm.Concatenation) {
+            var provider = (Supplier<Builder<Object, Object>>) ((NodeForm.Concatenation) form).provider;
+            int parts = children.size();
+            var sized = RepetitionParsers.sized(provider, parts);
+            PartChain chain = null;
+            for (int idx = parts - 1; 0 <= idx; idx--) {
+                chain = define(PartTemplate.class, stepOf(children.get(idx)), chain);
+            }
+            return define(ConcatTemplate.class, sized, chain);
+        } else if (form instanceof NodeForm.Affix) {
+            return define(AffixTemplate.class, stepOf(children.get(0)), stepOf(children.get(1)),
+                    ((NodeForm.Affix) form).kept);
+        } else if (form instanceof NodeForm.Alternation) {
+            var table = FirstItemDispatch.of(children);
+            BranchChain chain = null;
+            for (int idx = children.size() - 1; 0 <= idx; idx--) {
+                chain = define(BranchTemplate.class, idx, stepOf(children.get(idx)), table, chain);
+            }
+            return define(AlternateTemplate.class, table, chain, original);
+        } else if (children.isEmpty()) {
+            return original;
+        }
+        Supplier<?> rebuilt = node.rebuild(generatedChildren(children));
+        if (rebuilt instanceof GrammarNode) {
+            return (ContextStep<Object, Object>) (ContextStep<?, ?>) ((GrammarNode<?, ?, ?>) rebuilt).getStep();
+        }
+        var opaque = stepParser(rebuilt);
+        return context -> ContextStep.run(opaque, context);
+    }
+
+    /**
+     * HELPER: Nodes which parse as the sub-parsers, and run their generated
+     * classes on a context, for nodes w/o a form to be rebuilt over
+     */
+    @SuppressWarnings("unchecked")
+    private List<Supplier<?>> generatedChildren(List<Supplier<?>> children) {
+        var rebuilt = new ArrayList<Supplier<?>>();
+        for (Supplier<?> child : children) {
+            var parser = (Supplier<Parser<Object, Object, Object>>) child;
+            rebuilt.add(GrammarNode.leaf(ProbedNode.nameOf(child), () -> GrammarNode.firstSetOf(child),
+                    parser::get, stepOf(child)));
+        }
+        return rebuilt;
+    }
+
+    /**
+     * HELPER: The link to a Rule whose definition is still being generated
+     */
+    private ContextStep<Object, Object> link(Supplier<?> rule) {
+        var link = links.computeIfAbsent(rule, r -> defineCopy(LinkTemplate.class));
+        return construct(link);
+    }
+
+    /**
+     * HELPER: Set the target of a link, once it is generated
+     */
+    private static void setTarget(MethodHandles.Lookup link, ContextStep<Object, Object> step) {
+        try {
+            link.findStaticSetter(link.lookupClass(), "target", ContextStep.class).invoke(step);
+        } catch (Throwable error) {
+            throw new IllegalStateException("Cannot link the generated class of a Rule", error);
+        }
+    }
+
+    /**
+     * HELPER: An instance of a new copy of the template, initialized w/ the constants
+     */
+    private static <C> C define(Class<?> template, Object... constants) {
+        CONSTANTS.set(constants);
+        try {
+            return construct(defineCopy(template));
+        } finally {
+            CONSTANTS.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> C construct(MethodHandles.Lookup copy) {
+        try {
+            return (C) copy.findConstructor(copy.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable error) {
+            throw new IllegalStateException("Cannot construct the generated class " + copy.lookupClass().getName(), error);
+        }
+    }
+
+    /**
+     * HELPER: Define a copy of the template under a new name, which is not initialized yet
+     */
+    private static MethodHandles.Lookup defineCopy(Class<?> template) {
+        var bytes = TEMPLATES.computeIfAbsent(template, GrammarCodegen::readTemplate);
+        var name = template.getName().replace('.', '/');
+        try {
+            return ClassDefiner.define(LOOKUP, rename(bytes, name, name + "$" + COPIES.incrementAndGet()));
+        } catch (IllegalAccessException | IOException error) {
+            throw new IllegalStateException("Cannot define a copy of " + template.getName(), error);
+        }
+    }
+
+    private static byte[] readTemplate(Class<?> template) {
+        try (InputStream in = template.getResourceAsStream(template.getSimpleName() + ".class")) {
+            if (in == null) {
+                throw new IllegalStateException("Cannot find the class file of " + template.getName());
+            }
+            return in.readAllBytes();
+        } catch (IOException error) {
+            throw new IllegalStateException("Cannot read the class file of " + template.getName(), error);
+        }
+    }
+
+    /**
+     * HELPER: The class file w/ the name of its class replaced
+     * - Templates refer to their own class by its name only, and never in a
+     *   descriptor, so only that constant is replaced
+     */
+    private static byte[] rename(byte[] classFile, String from, String to) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(classFile));
+        var bytes = new ByteArrayOutputStream(classFile.length + 16);
+        var out = new DataOutputStream(bytes);
+        // magic, minor and major version
+        out.writeInt(in.readInt());
+        out.writeInt(in.readInt());
+        int count = in.readUnsignedShort();
+        out.writeShort(count);
+        for (int idx = 1; idx < count; idx++) {
+            int tag = in.readUnsignedByte();
+            out.writeByte(tag);
+            switch (tag) {
+                case 1: // Utf8
+                    var text = in.readUTF();
+                    out.writeUTF(text.equals(from) ? to : text);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    out.writeLong(in.readLong());
+                    idx++;
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    out.writeInt(in.readInt());
+                    break;
+                case 15: // MethodHandle
+                    out.writeByte(in.readUnsignedByte());
+                    out.writeShort(in.readUnsignedShort());
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    out.writeShort(in.readUnsignedShort());
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag: " + tag);
+            }
+        }
+        in.transferTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
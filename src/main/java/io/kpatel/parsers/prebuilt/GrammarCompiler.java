@@ -0,0 +1,157 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Parser;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Resolves a grammar of Parser Suppliers into a fixed graph of Parsers
+ * INTENT: Build every parser of a grammar once, instead of on every parse
+ * NOTE:
+ * - Opaque Suppliers (e.g. user lambdas) are asked for their parser once,
+ *   and their parser is reused from then on
+ * - Rules are copied, and bound to their compiled definitions, which keeps
+ *   recursive grammars finite
+ * - Suppliers reused within the grammar stay shared in the compiled graph,
+ *   so memoizing parsers keep their identity
+ * - Parsers chosen at parse time (by flatMap) are not compiled
+ * - When instrumenting, every node is wrapped in a {@link ProbedNode} that
+ *   reports to a probe of the {@link GrammarProbe}, labelled by the closest
+ *   named Rule, the definitions of named Rules in one that reports each
+ *   invocation of the Rule, and the root in one that reports each whole
+ *   parse, wherever the probe asks for them
+ * - Grammars w/ memoizing parsers open one table for each whole parse at
+ *   the root, and packrat grammars wrap every node in a memoizing parser
+ *
+ * @see GrammarParsers#compile(Supplier)
+ * @see GrammarParsers#profile(Supplier, GrammarProfile)
+ * @see MemoParsers#packrat(Supplier)
+ */
+final class GrammarCompiler {
+    private final IdentityHashMap<Supplier<?>, Supplier<?>> compiled = new IdentityHashMap<>();
+    private final GrammarProbe probe;
+    private final boolean packrat;
+    private boolean memoized;
+    private String rule;
+
+    /**
+     * - probe is null for a grammar that is not instrumented
+     */
+    private GrammarCompiler(GrammarProbe probe, boolean packrat) {
+        this.probe = probe;
+        this.packrat = packrat;
+    }
+
+    /**
+     * WHAT: The compiled form of the grammar, with every parser already built
+     */
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> compile(Supplier<Parser<T, Seq, Itm>> grammar) {
+        return compile(grammar, null);
+    }
+
+    /**
+     * WHAT: The compiled form of the grammar, w/ every node reporting to a
+     * probe, unless the probe is null
+     */
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> compile(Supplier<Parser<T, Seq, Itm>> grammar, GrammarProbe probe) {
+        return new GrammarCompiler(probe, false).compileRoot(grammar);
+    }
+
+    /**
+     * WHAT: The compiled form of the grammar, w/ every node memoized
+     */
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> packrat(Supplier<Parser<T, Seq, Itm>> grammar) {
+        return new GrammarCompiler(null, true).compileRoot(grammar);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> compileRoot(Supplier<Parser<T, Seq, Itm>> grammar) {
+        var root = (Supplier<Parser<T, Seq, Itm>>) freeze(grammar);
+        for (Supplier<?> parser : compiled.values()) {
+            parser.get();
+        }
+        if (memoized && !MemoTable.isScope(root)) {
+            root = MemoTable.scoped(root);
+            root.get();
+        }
+        var session = probe != null ? probe.session() : null;
+        if (session != null) {
+            root = ProbedNode.wrap(root, session);
+            root.get();
+        }
+        return root;
+    }
+
+    private Supplier<?> freeze(Supplier<?> parser) {
+        var done = compiled.get(parser);
+        if (done != null) {
+            return done;
+        }
+        Supplier<?> frozen;
+        if (parser instanceof Rule) {
+            var original = (Rule<?, ?, ?>) parser;
+            var copy = new Rule<>(original.getName().orElse(null));
+            // Registered before its definition, so cycles end at the copy
+            compiled.put(parser, copy);
+            var enclosing = rule;
+            rule = original.getName().orElse(enclosing);
+            try {
+                var definition = freeze(original.getDefinition());
+                var ruleProbe = probe != null && original.getName().isPresent()
+                        ? probe.registerRule(rule)
+                        : null;
+                copy.bindCompiled(ruleProbe != null ? ProbedNode.wrap(definition, ruleProbe) : definition);
+            } finally {
+                rule = enclosing;
+            }
+            return copy;
+        } else if (parser instanceof GrammarNode) {
+            var node = (GrammarNode<?, ?, ?>) parser;
+            var children = new ArrayList<Supplier<?>>();
+            boolean changed = false;
+            for (Supplier<?> child : node.getChildren()) {
+                var frozenChild = freeze(child);
+                children.add(frozenChild);
+                changed |= frozenChild != child;
+            }
+            frozen = changed ? node.rebuild(children) : node;
+        } else {
+            frozen = constant(parser);
+        }
+        if (packrat && !MemoTable.isMemo(frozen)) {
+            frozen = memo(frozen);
+        }
+        memoized |= MemoTable.isMemo(frozen);
+        if (probe != null && !ProbedNode.isWrapper(frozen)) {
+            var nodeProbe = probe.register(ProbedNode.nameOf(frozen), rule);
+            if (nodeProbe != null) {
+                frozen = ProbedNode.wrap(frozen, nodeProbe);
+            }
+        }
+        compiled.put(parser, frozen);
+        return frozen;
+    }
+
+    /**
+     * HELPER: The node, memoized
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> memo(Supplier<?> node) {
+        return MemoParsers.memo((Supplier<Parser<Object, Object, Object>>) node);
+    }
+
+    /**
+     * HELPER: A node that always supplies the parser the opaque Supplier gives now
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> constant(Supplier<?> parser) {
+        var resolved = (Parser<Object, Object, Object>) parser.get();
+        return GrammarNode.leaf("custom", () -> FirstSet.UNKNOWN, () -> resolved);
+    }
+}
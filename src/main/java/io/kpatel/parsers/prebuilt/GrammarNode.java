@@ -0,0 +1,281 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A Parser Supplier built by the prebuilt factories, which describes
+ *   the parser it supplies
+ * INTENT: Let combinators inspect their sub-parsers (e.g. their first sets)
+ *   without running them
+ * NOTE:
+ * - Suppliers which are not GrammarNodes (e.g. user lambdas) are opaque,
+ *   and are described conservatively
+ * - Descriptions are computed once, on first use, so sub-parsers may be
+ *   bound after the node is built
+ * - The supplied Parser is built once, and shared by every call to get
+ * - Composite nodes list their sub-parsers, and can be rebuilt over other
+ *   sub-parsers (e.g. their compiled form)
+ * - Nodes may also give a step which runs on a {@link io.kpatel.parsers.ParseContext},
+ *   nodes w/o one run their Parser on a stream at the cursor
+ * - Composite nodes may also give a frame, to run on the heap stack of a
+ *   {@link TrampolineParser}, nodes w/o one run their step
+ * - Nodes are named after the factory that built them, to label them in
+ *   a {@link GrammarProfile}
+ * - Nodes may also describe what they parse as a {@link NodeForm}, for the
+ *   {@link GrammarOptimizer} to rewrite
+ *
+ * @see FirstSet
+ * @see GrammarCompiler
+ * @see ContextStep
+ * @see ContinuationFrame
+ * @see NodeForm
+ */
+final class GrammarNode<T, Seq, Itm> implements Supplier<Parser<T, Seq, Itm>> {
+    /**
+     * WHY: Nodes and Rules whose first set is being computed on this Thread,
+     * one that is reached again is part of a cycle and is described as unknown
+     */
+    private static final ThreadLocal<Set<Supplier<?>>> VISITING =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final String name;
+    private final List<Supplier<?>> children;
+    private final Function<List<Supplier<?>>, Supplier<Parser<T, Seq, Itm>>> rebuild;
+    private final Supplier<FirstSet> first;
+    private final Supplier<Parser<T, Seq, Itm>> factory;
+    private final ContextStep<Seq, Itm> step;
+    private final boolean ownStep;
+    private final Supplier<? extends ContinuationFrame<Seq, Itm>> frame;
+    private final NodeForm form;
+    private volatile FirstSet firstSet;
+    private volatile Parser<T, Seq, Itm> parser;
+    private Supplier<?> generated;
+
+    private GrammarNode(
+            String name,
+            List<Supplier<?>> children,
+            Function<List<Supplier<?>>, Supplier<Parser<T, Seq, Itm>>> rebuild,
+            Supplier<FirstSet> first,
+            Supplier<Parser<T, Seq, Itm>> factory,
+            ContextStep<Seq, Itm> step,
+            Supplier<? extends ContinuationFrame<Seq, Itm>> frame,
+            NodeForm form) {
+        this.name = name;
+        this.children = children;
+        this.rebuild = rebuild;
+        this.first = first;
+        this.factory = factory;
+        this.ownStep = step != null;
+        this.step = step != null
+                ? step
+                : context -> context.accept(get().parse(context.getCursor().toStream()));
+        this.frame = frame;
+        this.form = form;
+    }
+
+    /**
+     * WHAT: Factory for a node without sub-parsers
+     * - name is the name of the factory that built the node (e.g. "sequence")
+     * - first computes the first set of the parser
+     */
+    static <T, Seq, Itm>
+    GrammarNode<T, Seq, Itm> leaf(
+            String name,
+            Supplier<FirstSet> first,
+            Supplier<Parser<T, Seq, Itm>> factory) {
+        return new GrammarNode<>(name, List.of(), null, first, factory, null, null, null);
+    }
+
+    /**
+     * WHAT: Factory for a node without sub-parsers, which also runs on a context
+     * - step must accept the same input as the parsers of factory
+     */
+    static <T, Seq, Itm>
+    GrammarNode<T, Seq, Itm> leaf(
+            String name,
+            Supplier<FirstSet> first,
+            Supplier<Parser<T, Seq, Itm>> factory,
+            ContextStep<Seq, Itm> step) {
+        return new GrammarNode<>(name, List.of(), null, first, factory, step, null, null);
+    }
+
+    /**
+     * WHAT: Factory for a node over the given sub-parsers
+     * - rebuild creates the same node over other sub-parsers, in the same order
+     * - first computes the first set of the parser, from its sub-parsers
+     */
+    static <T, Seq, Itm>
+    GrammarNode<T, Seq, Itm> composite(
+            String name,
+            List<? extends Supplier<?>> children,
+            Function<List<Supplier<?>>, Supplier<Parser<T, Seq, Itm>>> rebuild,
+            Supplier<FirstSet> first,
+            Supplier<Parser<T, Seq, Itm>> factory) {
+        return new GrammarNode<>(name, List.copyOf(children), rebuild, first, factory, null, null, null);
+    }
+
+    /**
+     * WHAT: Factory for a node over the given sub-parsers, which also runs on a context
+     * - step must accept the same input as the parsers of factory
+     */
+    static <T, Seq, Itm>
+    GrammarNode<T, Seq, Itm> composite(
+            String name,
+            List<? extends Supplier<?>> children,
+            Function<List<Supplier<?>>, Supplier<Parser<T, Seq, Itm>>> rebuild,
+            Supplier<FirstSet> first,
+            Supplier<Parser<T, Seq, Itm>> factory,
+            ContextStep<Seq, Itm> step) {
+        return new GrammarNode<>(name, List.copyOf(children), rebuild, first, factory, step, null, null);
+    }
+
+    /**
+     * WHAT: Factory for a node over the given sub-parsers, which also runs on a
+     * context, and on the heap stack of a {@link TrampolineParser}
+     * - frame creates the state of one run of the node, which must accept the
+     *   same input as step
+     */
+    static <T, Seq, Itm>
+    GrammarNode<T, Seq, Itm> composite(
+            String name,
+            List<? extends Supplier<?>> children,
+            Function<List<Supplier<?>>, Supplier<Parser<T, Seq, Itm>>> rebuild,
+            Supplier<FirstSet> first,
+            Supplier<Parser<T, Seq, Itm>> factory,
+            ContextStep<Seq, Itm> step,
+            Supplier<? extends ContinuationFrame<Seq, Itm>> frame) {
+        return new GrammarNode<>(name, List.copyOf(children), rebuild, first, factory, step, frame, null);
+    }
+
+    /**
+     * WHAT: The same node, described as the form
+     */
+    GrammarNode<T, Seq, Itm> describedAs(NodeForm form) {
+        return new GrammarNode<>(name, children, rebuild, first, factory, ownStep ? step : null, frame, form);
+    }
+
+    /**
+     * HELPER: A sub-parser given to rebuild, as the type the factory expects
+     * - Rebuilt sub-parsers supply the same parser types as the originals
+     */
+    @SuppressWarnings("unchecked")
+    static <P extends Supplier<?>> P child(List<Supplier<?>> children, int index) {
+        return (P) children.get(index);
+    }
+
+    /**
+     * HELPER: The sub-parsers given to rebuild, as the type the factory expects
+     */
+    @SuppressWarnings("unchecked")
+    static <P extends Supplier<?>> List<P> children(List<Supplier<?>> children) {
+        return new ArrayList<>((List<P>) (List<?>) children);
+    }
+
+    /**
+     * WHAT: The first set of any Parser Supplier
+     */
+    static FirstSet firstSetOf(Supplier<?> parser) {
+        if (parser instanceof GrammarNode) {
+            return ((GrammarNode<?, ?, ?>) parser).getFirstSet();
+        } else if (parser instanceof Rule) {
+            return ((Rule<?, ?, ?>) parser).getFirstSet();
+        }
+        return FirstSet.UNKNOWN;
+    }
+
+    @Override
+    public Parser<T, Seq, Itm> get() {
+        var built = parser;
+        if (built == null) {
+            built = factory.get();
+            parser = built;
+        }
+        return built;
+    }
+
+    /**
+     * WHAT: The name of the factory that built the node
+     */
+    String getName() {
+        return name;
+    }
+
+    ContextStep<Seq, Itm> getStep() {
+        return step;
+    }
+
+    /**
+     * WHAT: A new frame for one run of the node, or null if it has none
+     */
+    ContinuationFrame<Seq, Itm> newFrame() {
+        return frame != null ? frame.get() : null;
+    }
+
+    /**
+     * WHAT: What the node parses, or null if it is not described
+     */
+    NodeForm getForm() {
+        return form;
+    }
+
+    List<Supplier<?>> getChildren() {
+        return children;
+    }
+
+    /**
+     * WHAT: The same node over the given sub-parsers
+     */
+    Supplier<Parser<T, Seq, Itm>> rebuild(List<Supplier<?>> newChildren) {
+        return rebuild != null ? rebuild.apply(newChildren) : this;
+    }
+
+    /**
+     * WHAT: The generated form of the grammar rooted at this node, made by
+     *   the generator on first use only
+     * WHY: Each generation defines new classes, which stay loaded until
+     *   their ClassLoader is unloaded before Java 21
+     * @see GrammarCodegen
+     */
+    synchronized Supplier<?> generated(Supplier<? extends Supplier<?>> generator) {
+        if (generated == null) {
+            generated = generator.get();
+        }
+        return generated;
+    }
+
+    /**
+     * WHAT: The items the supplied parsers may start with
+     */
+    FirstSet getFirstSet() {
+        var computed = firstSet;
+        if (computed == null) {
+            computed = guardCycles(this, first);
+            firstSet = computed;
+        }
+        return computed;
+    }
+
+    /**
+     * HELPER: Compute the first set of a node or rule, unless it is already
+     * being computed further up this Thread
+     */
+    static FirstSet guardCycles(Supplier<?> parser, Supplier<FirstSet> first) {
+        var visiting = VISITING.get();
+        if (!visiting.add(parser)) {
+            return FirstSet.UNKNOWN;
+        }
+        try {
+            return first.get();
+        } finally {
+            visiting.remove(parser);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.stream.CharCursor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Rewrites a grammar into an equivalent grammar of fewer, cheaper nodes
+ * INTENT: Do once, ahead of parsing, what the combinators would otherwise
+ *   repeat on every item (e.g. a Result per item of a run)
+ * NOTE:
+ * - Nodes are rewritten bottom up, by what their {@link NodeForm} says they
+ *   parse, and nodes w/o a form are left as is:
+ *   - Prefixes, suffixes and concatenations of String literals are fused
+ *     into one literal, compared at once
+ *   - Repetitions of a single item test scan the run in one loop, w/o a
+ *     Result or step per item
+ *   - Nested maps are flattened into one mapping function
+ *   - What an omit discards is only recognized, so maps under it are
+ *     dropped, and builders under it append to nothing
+ * - Rewritten nodes yield the same values and remaining streams, and fall
+ *   back to the nodes they replace to fail, so failures are the same
+ * - Rules are copied, and Suppliers reused within the grammar stay shared,
+ *   as by the {@link GrammarCompiler}
+ * - Values that are omitted are no longer built, so mapping functions and
+ *   Builders must be pure, as they are required to be
+ *
+ * @see GrammarParsers#optimize(Supplier)
+ * @see NodeForm
+ */
+final class GrammarOptimizer {
+    /**
+     * WHAT: The value of nodes whose value is discarded
+     */
+    private static final Object RECOGNIZED = new Object();
+    /**
+     * WHAT: A Builder of values that are discarded, which keeps no parts
+     */
+    private static final Builder<Object, Object> DISCARDED = new Builder<>() {
+        @Override
+        public Builder<Object, Object> append(Object part) {
+            return this;
+        }
+
+        @Override
+        public Object toOutput() {
+            return RECOGNIZED;
+        }
+    };
+    private static final Supplier<Builder<Object, Object>> DISCARDING = () -> DISCARDED;
+
+    private final IdentityHashMap<Supplier<?>, Supplier<?>> optimized = new IdentityHashMap<>();
+    private final IdentityHashMap<Supplier<?>, Supplier<?>> recognized = new IdentityHashMap<>();
+
+    private GrammarOptimizer() {
+
+    }
+
+    /**
+     * WHAT: The optimized form of the grammar
+     */
+    @SuppressWarnings("unchecked")
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> optimize(Supplier<Parser<T, Seq, Itm>> grammar) {
+        return (Supplier<Parser<T, Seq, Itm>>) new GrammarOptimizer().rewriteAll(grammar);
+    }
+
+    private Supplier<?> rewriteAll(Supplier<?> parser) {
+        var done = optimized.get(parser);
+        if (done != null) {
+            return done;
+        }
+        if (parser instanceof Rule) {
+            var original = (Rule<?, ?, ?>) parser;
+            var copy = new Rule<>(original.getName().orElse(null));
+            // Registered before its definition, so cycles end at the copy
+            optimized.put(parser, copy);
+            copy.bindCompiled(rewriteAll(original.getDefinition()));
+            return copy;
+        }
+        var rewritten = parser;
+        if (parser instanceof GrammarNode) {
+            var node = (GrammarNode<?, ?, ?>) parser;
+            var children = new ArrayList<Supplier<?>>();
+            boolean changed = false;
+            for (Supplier<?> child : node.getChildren()) {
+                var optimizedChild = rewriteAll(child);
+                children.add(optimizedChild);
+                changed |= optimizedChild != child;
+            }
+            rewritten = simplify(changed ? node.rebuild(children) : node);
+        }
+        optimized.put(parser, rewritten);
+        return rewritten;
+    }
+
+    /**
+     * HELPER: Rewrite the node until no rewrite applies
+     */
+    private Supplier<?> simplify(Supplier<?> parser) {
+        while (parser instanceof GrammarNode) {
+            var rewritten = rewrite((GrammarNode<?, ?, ?>) parser);
+            if (rewritten == parser) {
+                break;
+            }
+            parser = rewritten;
+        }
+        return parser;
+    }
+
+    /**
+     * HELPER: The node after one rewrite, or the node if none applies
+     */
+    private Supplier<?> rewrite(GrammarNode<?, ?, ?> node) {
+        var form = node.getForm();
+        var children = node.getChildren();
+        if (form instanceof NodeForm.Mapping && formOf(children.get(0)) instanceof NodeForm.Mapping) {
+            var inner = (GrammarNode<?, ?, ?>) children.get(0);
+            return flatten(inner.getChildren().get(0),
+                    ((NodeForm.Mapping) formOf(inner)).mapper, ((NodeForm.Mapping) form).mapper);
+        } else if (form instanceof NodeForm.Omission) {
+            var recognizedChild = recognize(children.get(0));
+            return recognizedChild != children.get(0) ? node.rebuild(List.of(recognizedChild)) : node;
+        } else if (form instanceof NodeForm.Affix && allLiterals(children)) {
+            var kept = (NodeForm.Literal) formOf(children.get(((NodeForm.Affix) form).kept));
+            return fuse(node, textOf(children), kept.value);
+        } else if (form instanceof NodeForm.Concatenation && 1 < children.size() && allLiterals(children)) {
+            return fuse(node, textOf(children), concatenated(((NodeForm.Concatenation) form).provider, children));
+        } else if (form instanceof NodeForm.Repetition && formOf(children.get(0)) instanceof NodeForm.ItemTest) {
+            var repetition = (NodeForm.Repetition) form;
+            return scan(repetition.provider, repetition.min, children.get(0),
+                    ((NodeForm.ItemTest) formOf(children.get(0))).predicate);
+        }
+        return node;
+    }
+
+    /**
+     * WHAT: A node which accepts what the parser does, but whose value is
+     *   discarded, so it need not be built
+     * - Rules, and nodes whose value decides what they accept (e.g. filter),
+     *   are left as is
+     */
+    private Supplier<?> recognize(Supplier<?> parser) {
+        var done = recognized.get(parser);
+        if (done != null) {
+            return done;
+        }
+        var result = parser;
+        var form = formOf(parser);
+        if (form != null) {
+            var children = ((GrammarNode<?, ?, ?>) parser).getChildren();
+            if (form instanceof NodeForm.Mapping || form instanceof NodeForm.Omission) {
+                result = recognize(children.get(0));
+            } else if (form instanceof NodeForm.Repetition) {
+                var child = recognize(children.get(0));
+                if (((NodeForm.Repetition) form).provider != DISCARDING || child != children.get(0)) {
+                    result = simplify(repeat(((NodeForm.Repetition) form).min, child));
+                }
+            } else if (form instanceof NodeForm.Concatenation) {
+                var parts = recognizeAll(children);
+                if (((NodeForm.Concatenation) form).provider != DISCARDING || !parts.equals(children)) {
+                    result = simplify(concatenate(parts));
+                }
+            } else if (form instanceof NodeForm.Affix) {
+                var parts = recognizeAll(children);
+                if (!parts.equals(children)) {
+                    result = simplify(((GrammarNode<?, ?, ?>) parser).rebuild(parts));
+                }
+            }
+        }
+        recognized.put(parser, result);
+        recognized.put(result, result);
+        return result;
+    }
+
+    private List<Supplier<?>> recognizeAll(List<Supplier<?>> children) {
+        var parts = new ArrayList<Supplier<?>>(children.size());
+        for (Supplier<?> child : children) {
+            parts.add(recognize(child));
+        }
+        return parts;
+    }
+
+    private static NodeForm formOf(Supplier<?> parser) {
+        return parser instanceof GrammarNode ? ((GrammarNode<?, ?, ?>) parser).getForm() : null;
+    }
+
+    private static boolean allLiterals(List<Supplier<?>> children) {
+        for (Supplier<?> child : children) {
+            if (!(formOf(child) instanceof NodeForm.Literal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String textOf(List<Supplier<?>> literals) {
+        var text = new StringBuilder();
+        for (Supplier<?> literal : literals) {
+            text.append(((NodeForm.Literal) formOf(literal)).text);
+        }
+        return text.toString();
+    }
+
+    /**
+     * HELPER: The value of a concatenation of literals, built as the
+     *   concatenation builds it
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> concatenated(Supplier<? extends Builder<?, ?>> provider, List<Supplier<?>> literals) {
+        var values = new ArrayList<Supplier<?>>(literals.size());
+        for (Supplier<?> literal : literals) {
+            values.add(((NodeForm.Literal) formOf(literal)).value);
+        }
+        return () -> {
+            var builder = (Builder<Object, Object>) provider.get().withCapacity(values.size());
+            for (Supplier<?> value : values) {
+                builder = builder.append(value.get());
+            }
+            return builder.toOutput();
+        };
+    }
+
+    /**
+     * WHAT: The parser, mapped by one function, instead of two nested maps
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> flatten(Supplier<?> parser, Function<?, ?> inner, Function<?, ?> outer) {
+        var mapper = ((Function<Object, Object>) inner).andThen((Function<Object, Object>) outer);
+        return MiscParsers.map((Supplier<Parser<Object, Object, Object>>) parser, mapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> repeat(int min, Supplier<?> parser) {
+        var part = (Supplier<Parser<Object, Object, Object>>) parser;
+        return min == 0
+                ? RepetitionParsers.zeroOrMore(DISCARDING, part)
+                : RepetitionParsers.oneOrMore(DISCARDING, part);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> concatenate(List<Supplier<?>> parts) {
+        return RepetitionParsers.<Object, Object, Object, Object>concatenate(DISCARDING,
+                GrammarNode.children(parts));
+    }
+
+    /**
+     * WHAT: A literal of the whole text, which yields the value, and fails
+     *   as the fused node does
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> fuse(GrammarNode<?, ?, ?> fused, String text, Supplier<?> value) {
+        var original = (GrammarNode<Object, String, Character>) fused;
+        var literal = TerminalParsers.<String, Character>sequence(text, () -> "Expected " + text);
+        return GrammarNode.<Object, String, Character>leaf("fusedSequence", () -> GrammarNode.firstSetOf(original),
+                () -> stream -> {
+                    var result = literal.get().parse(stream);
+                    return result.isSuccess()
+                            ? result.chain((sequence, remaining) -> Result.success(value.get(), remaining))
+                            : original.get().parse(stream);
+                }, context -> {
+                    var cursor = context.getCursor();
+                    if (cursor instanceof CharCursor && ((CharCursor) cursor).startsWith(text)) {
+                        cursor.advance(text.length());
+                        return context.succeed(value.get());
+                    }
+                    return ContextStep.run(original, context);
+                }).describedAs(new NodeForm.Literal(text, value));
+    }
+
+    /**
+     * WHAT: A repetition of the item test, which scans its run in one loop,
+     *   and runs the item once more to fail as the repetition does
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<Parser<Object, Object, Object>> scan(
+            Supplier<? extends Builder<?, ?>> provider,
+            int min,
+            Supplier<?> parser,
+            Predicate<?> test) {
+        var item = (Supplier<Parser<Object, Object, Object>>) parser;
+        var predicate = (Predicate<Object>) test;
+        return GrammarNode.<Object, Object, Object>composite("fusedRepetition", List.of(item),
+                children -> scan(provider, min, GrammarNode.child(children, 0), test),
+                () -> min == 0
+                        ? GrammarNode.firstSetOf(item).orEmpty()
+                        : GrammarNode.firstSetOf(item),
+                () -> stream -> {
+                    var cursor = stream.cursor();
+                    var builder = (Builder<Object, Object>) provider.get();
+                    int count = 0;
+                    Object leading;
+                    while ((leading = cursor.peekItem()) != null && predicate.test(leading)) {
+                        builder = builder.append(leading);
+                        cursor.advance(1);
+                        count++;
+                    }
+                    return count < min
+                            ? item.get().parse(stream)
+                            : Result.success(builder.toOutput(), cursor.toStream());
+                }, context -> {
+                    var cursor = context.getCursor();
+                    var builder = (Builder<Object, Object>) provider.get();
+                    int count = 0;
+                    Object leading;
+                    while ((leading = cursor.peekItem()) != null && predicate.test(leading)) {
+                        builder = builder.append(leading);
+                        cursor.advance(1);
+                        count++;
+                    }
+                    // The item fails here, as the last try of the repetition did
+                    ContextStep.run(item, context);
+                    return min <= count && context.succeed(builder.toOutput());
+                });
+    }
+}
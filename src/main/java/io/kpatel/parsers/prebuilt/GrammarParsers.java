@@ -0,0 +1,252 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.Parser;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * INTENT: Top Level Generic Factories for Recursive Rules and Compiled Grammars
+ * NOTE:
+ * - Grammars built by the prebuilt factories build each parser once, on
+ *   first use. Compiling also resolves user Suppliers and Rules once, ahead
+ *   of the first parse.
+ * - Prefer Rules over Suppliers that call their own factory method for
+ *   recursion, as those rebuild the grammar on every use
+ *
+ * @see Parser
+ * @see Rule
+ */
+public final class GrammarParsers {
+    /**
+     * WHAT: The default least number of items a node must throw away to emit
+     *   a deep backtrack event
+     * @see #recordEvents(Supplier)
+     */
+    public static final long DEFAULT_DEEP_BACKTRACK = 1024;
+
+    private GrammarParsers() {
+
+    }
+
+    /**
+     * USAGE: Create a rule that can be referred to before it is defined
+     * - Define the rule with {@link Rule#bind(Supplier)}
+     */
+    public static <T, Seq, Itm> Rule<T, Seq, Itm> rule() {
+        return new Rule<>(null);
+    }
+
+    /**
+     * USAGE: Create a named rule that can be referred to before it is defined
+     * - Nodes of its definition are labelled w/ the name in a {@link GrammarProfile}
+     */
+    public static <T, Seq, Itm> Rule<T, Seq, Itm> rule(String name) {
+        Objects.requireNonNull(name,
+                "Rule Name must not be null");
+        return new Rule<>(name);
+    }
+
+    /**
+     * USAGE: Name a parser, to label its nodes in a {@link GrammarProfile}
+     * - Parses exactly as the given parser
+     */
+    public static <T, Seq, Itm>
+    Rule<T, Seq, Itm> named(
+            String name,
+            Supplier<Parser<T, Seq, Itm>> parser) {
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        return GrammarParsers.<T, Seq, Itm>rule(name).bind(parser);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a reusable parser, to parse many streams
+     * - Every Rule reachable from the grammar must be bound
+     * - The parser is safe to share between Threads, when the grammar's
+     *   parsers are
+     * - Each parse emits a Flight Recorder event of the parse session, on
+     *   Java 11 and later, see {@link #recordEvents(Supplier)}
+     */
+    public static <T, Seq, Itm>
+    Parser<T, Seq, Itm> compile(
+            Supplier<Parser<T, Seq, Itm>> grammar) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        var parser = GrammarCompiler.compile(grammar).get();
+        return stream -> {
+            var session = ParseEvents.beginSession("result", stream);
+            var result = parser.parse(stream);
+            ParseEvents.endSession(session, stream, result);
+            return result;
+        };
+    }
+
+    /**
+     * USAGE: Rewrite the grammar into an equivalent grammar of fewer, cheaper
+     * nodes, for any of the compile methods
+     * - Adjacent String literals (of prefix, suffix, between and
+     *   concatenate) are compared as one literal
+     * - Repetitions of single items (zeroOrMore and oneOrMore over item or
+     *   charItem) scan their run in one loop
+     * - Nested maps are flattened into one function
+     * - Values under omit are no longer built, only recognized
+     * - Parses yield equal values and remaining streams, and fail the same
+     * - Mapping functions and Builders must be pure, as omitted values are
+     *   no longer built
+     * - Every Rule reachable from the grammar must be bound
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> optimize(
+            Supplier<Parser<T, Seq, Itm>> grammar) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        return GrammarOptimizer.optimize(grammar);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a grammar which records how each of its
+     * nodes performs into the profile, for any of the compile methods
+     * - Nodes are labelled by the factory that built them, and the name of
+     *   the closest named Rule they are defined in
+     * - Grammars that are not profiled run w/o any of its cost
+     * - Every Rule reachable from the grammar must be bound
+     * @see GrammarProfile
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> profile(
+            Supplier<Parser<T, Seq, Itm>> grammar,
+            GrammarProfile profile) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        Objects.requireNonNull(profile,
+                "Grammar Profile must not be null");
+        return GrammarCompiler.compile(grammar, profile);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a grammar which counts the work each of
+     * its nodes repeats or throws away by backtracking into the profile, for
+     * any of the compile methods
+     * - Nodes are labelled as by {@link #profile(Supplier, GrammarProfile)}, and
+     *   grammars may be profiled both ways, one after the other
+     * - Grammars that are not profiled run w/o any of its cost
+     * - Every Rule reachable from the grammar must be bound
+     * @see BacktrackProfile
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> profile(
+            Supplier<Parser<T, Seq, Itm>> grammar,
+            BacktrackProfile profile) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        Objects.requireNonNull(profile,
+                "Backtrack Profile must not be null");
+        return GrammarCompiler.compile(grammar, profile);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a grammar which emits Flight Recorder
+     * events of its slow Rules and deep backtracks, for any of the compile
+     * methods
+     * - Each invocation of a named Rule emits an io.kpatel.parsers.SlowRule
+     *   event, once it takes longer than the threshold of the recording
+     * - Each node that throws away at least
+     *   {@link #DEFAULT_DEEP_BACKTRACK} items emits an
+     *   io.kpatel.parsers.DeepBacktrack event
+     * - Every top level parse emits an io.kpatel.parsers.ParseSession event,
+     *   whether or not its grammar records these
+     * - Events are only emitted on Java 11 and later, and the grammar is
+     *   left as is on Java 10
+     * - Every Rule reachable from the grammar must be bound
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> recordEvents(
+            Supplier<Parser<T, Seq, Itm>> grammar) {
+        return recordEvents(grammar, DEFAULT_DEEP_BACKTRACK);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a grammar which emits Flight Recorder
+     * events as by {@link #recordEvents(Supplier)}, for nodes that throw
+     * away at least the given number of items
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> recordEvents(
+            Supplier<Parser<T, Seq, Itm>> grammar,
+            long deepBacktrack) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        if (deepBacktrack <= 0) {
+            throw new IllegalArgumentException("Deep Backtrack must be positive: " + deepBacktrack);
+        }
+        return GrammarCompiler.compile(grammar, new RuleEvents(deepBacktrack));
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a reusable parser, which runs on a
+     * mutable {@link io.kpatel.parsers.ParseContext} instead of allocating
+     * a Result on every step
+     * - Failures are recorded in DIAGNOSTIC mode, see
+     *   {@link ContextParser#withFailureMode} for the cheaper LIGHT mode
+     * - Every Rule reachable from the grammar must be bound
+     * - The parser is safe to share between Threads, when the grammar's
+     *   parsers are
+     */
+    public static <T, Seq, Itm>
+    ContextParser<T, Seq, Itm> compileContext(
+            Supplier<Parser<T, Seq, Itm>> grammar) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        return new ContextParser<>(GrammarCompiler.compile(grammar), FailureMode.DIAGNOSTIC);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a reusable parser, which runs on a
+     * mutable {@link io.kpatel.parsers.ParseContext} as classes generated for
+     * each of its nodes, for the JIT to inline as one parser
+     * - Parses exactly as {@link #compileContext(Supplier)}, w/ the same
+     *   failure modes
+     * - Nodes of the prebuilt factories are generated, the rest run as usual
+     * - Generating takes a class per node, which are generated once per
+     *   grammar, and reused by later calls w/ the same grammar Supplier. On
+     *   Java 21 and later, the classes are hidden, and unloaded w/ the grammar.
+     * - Before Java 21, the classes are never unloaded, and keep the grammar
+     *   and every Supplier of it reachable for good. Only the first 64
+     *   grammars are generated, later ones run as by
+     *   {@link #compileContext(Supplier)}, so generate a few long lived
+     *   grammars, and not one per parse
+     * - Throws IllegalStateException if the classes cannot be defined
+     * - Every Rule reachable from the grammar must be bound
+     * - The parser is safe to share between Threads, when the grammar's
+     *   parsers are
+     */
+    public static <T, Seq, Itm>
+    ContextParser<T, Seq, Itm> compileGenerated(
+            Supplier<Parser<T, Seq, Itm>> grammar) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        return new ContextParser<>(GrammarCodegen.generate(grammar), FailureMode.DIAGNOSTIC);
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a reusable parser, which runs on a
+     * mutable {@link io.kpatel.parsers.ParseContext}, and nests on the heap
+     * instead of the Thread stack, for deeply nested input
+     * - Fails once a parse needs more than
+     *   {@link TrampolineParser#DEFAULT_MAX_DEPTH} frames, see
+     *   {@link TrampolineParser#withMaxDepth}
+     * - Every Rule reachable from the grammar must be bound
+     * - The parser is safe to share between Threads, when the grammar's
+     *   parsers are
+     */
+    public static <T, Seq, Itm>
+    TrampolineParser<T, Seq, Itm> compileTrampoline(
+            Supplier<Parser<T, Seq, Itm>> grammar) {
+        Objects.requireNonNull(grammar,
+                "Grammar must not be null");
+        return new TrampolineParser<>(GrammarCompiler.compile(grammar),
+                FailureMode.DIAGNOSTIC, TrampolineParser.DEFAULT_MAX_DEPTH);
+    }
+}
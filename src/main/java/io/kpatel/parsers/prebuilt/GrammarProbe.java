@@ -0,0 +1,43 @@
+package io.kpatel.parsers.prebuilt;
+
+/**
+ * WHAT: Instruments the nodes of a grammar as it is compiled, w/ a probe per node
+ * INTENT: Measure a grammar w/o any cost to the grammars that are not measured,
+ *   as only the compiled copy is instrumented
+ * NOTE:
+ * - Probes may also watch each invocation of a named Rule, and each whole
+ *   parse, through a probe of the root
+ *
+ * @see GrammarCompiler
+ * @see GrammarProfile
+ * @see BacktrackProfile
+ * @see RuleEvents
+ */
+abstract class GrammarProbe {
+    GrammarProbe() {
+
+    }
+
+    /**
+     * WHAT: The probe of a node being compiled, or null to leave the node as is
+     * - factory is the name of the factory that built the node
+     * - rule is the closest named Rule the node is defined in, or null
+     */
+    abstract NodeProbe register(String factory, String rule);
+
+    /**
+     * WHAT: The probe of each invocation of a named Rule, or null if it
+     *   needs none
+     * - It wraps the whole definition, outside of the probes of its nodes
+     */
+    NodeProbe registerRule(String rule) {
+        return null;
+    }
+
+    /**
+     * WHAT: The probe of each whole parse, or null if it needs none
+     */
+    NodeProbe session() {
+        return null;
+    }
+}
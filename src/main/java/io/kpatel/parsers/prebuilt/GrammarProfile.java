@@ -0,0 +1,131 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * WHAT: The per node counters of the grammars profiled into it, and a report
+ *   of the nodes that took the longest
+ * INTENT: Find which rule of a slow grammar is responsible, when a profiler
+ *   only shows anonymous lambdas
+ * USAGE:
+ *   var profile = new GrammarProfile();
+ *   var parser = GrammarParsers.compileContext(GrammarParsers.profile(grammar, profile));
+ *   inputs.forEach(input -> parser.parse(new StringStream(input)));
+ *   System.out.println(profile);
+ * NOTE:
+ * - Every node of a profiled grammar counts its invocations, Successes,
+ *   Failures, inclusive and exclusive time, and consumed items, see
+ *   {@link ProfileEntry}
+ * - Nodes shared between named Rules are labelled by the first Rule that
+ *   reaches them
+ * - Profiled nodes take the time twice per invocation, so the profile
+ *   is most accurate for the nodes that do the most work per invocation
+ * - This Implementation is Thread-Safe, so one profile may record a whole
+ *   batch of parses.
+ *
+ * @see GrammarParsers#profile
+ */
+public final class GrammarProfile extends GrammarProbe {
+    /**
+     * WHY: Longest first, the order of the report
+     */
+    private static final Comparator<ProfileEntry> HOTTEST_FIRST =
+            Comparator.comparingLong(ProfileEntry::getExclusiveNanos).reversed()
+                    .thenComparing(Comparator.comparingLong(ProfileEntry::getInvocations).reversed())
+                    .thenComparingInt(ProfileEntry::getId);
+
+    private final List<ProfileCounter> counters = new CopyOnWriteArrayList<>();
+
+    public GrammarProfile() {
+
+    }
+
+    @Override
+    synchronized NodeProbe register(String factory, String rule) {
+        var counter = new ProfileCounter(counters.size(), factory, rule);
+        counters.add(counter);
+        return counter;
+    }
+
+    /**
+     * WHAT: How each profiled node performed so far, longest exclusive time first
+     */
+    public List<ProfileEntry> getEntries() {
+        var entries = new ArrayList<ProfileEntry>(counters.size());
+        for (ProfileCounter counter : counters) {
+            entries.add(counter.snapshot());
+        }
+        entries.sort(HOTTEST_FIRST);
+        return entries;
+    }
+
+    /**
+     * WHAT: Clear the counters of every profiled node, to profile another
+     *   parse or batch with the same grammar
+     */
+    public void reset() {
+        for (ProfileCounter counter : counters) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * WHAT: The entries as CSV, w/ a header row, in the order of {@link #getEntries()}
+     */
+    public String toCsv() {
+        var csv = new StringBuilder("id,rule,factory,invocations,successes,failures,"
+                + "inclusiveNanos,exclusiveNanos,itemsConsumed\n");
+        for (ProfileEntry entry : getEntries()) {
+            csv.append(entry.getId()).append(',')
+                    .append(entry.getRule().map(GrammarProfile::quote).orElse("")).append(',')
+                    .append(entry.getFactory()).append(',')
+                    .append(entry.getInvocations()).append(',')
+                    .append(entry.getSuccesses()).append(',')
+                    .append(entry.getFailures()).append(',')
+                    .append(entry.getInclusiveNanos()).append(',')
+                    .append(entry.getExclusiveNanos()).append(',')
+                    .append(entry.getItemsConsumed()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * WHAT: The entries as a table, in the order of {@link #getEntries()},
+     *   w/ each node's share of the total exclusive time
+     */
+    @Override
+    public String toString() {
+        var entries = getEntries();
+        int width = "Node".length();
+        long total = 0;
+        for (ProfileEntry entry : entries) {
+            width = Math.max(width, entry.getLabel().length() + String.valueOf(entry.getId()).length() + 2);
+            total += entry.getExclusiveNanos();
+        }
+        var format = "%-" + width + "s %12s %12s %12s %12s %12s %7s %12s%n";
+        var report = new StringBuilder(String.format(Locale.ROOT, format, "Node",
+                "Invocations", "Successes", "Failures", "Incl (us)", "Excl (us)", "Excl %", "Items"));
+        for (ProfileEntry entry : entries) {
+            report.append(String.format(Locale.ROOT, format,
+                    "#" + entry.getId() + " " + entry.getLabel(),
+                    entry.getInvocations(), entry.getSuccesses(), entry.getFailures(),
+                    entry.getInclusiveNanos() / 1000, entry.getExclusiveNanos() / 1000,
+                    String.format(Locale.ROOT, "%.1f", total == 0 ? 0.0 : 100.0 * entry.getExclusiveNanos() / total),
+                    entry.getItemsConsumed()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * HELPER: A CSV field, quoted if it holds a separator or quote
+     */
+    private static String quote(String field) {
+        return field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+                ? field
+                : '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,27 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+
+import java.util.function.Predicate;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.ItemTest}
+ * NOTE:
+ * - Runs the step of its node to fail
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class ItemTemplate implements ContextStep<Object, Object> {
+    private static final Predicate<Object> PREDICATE = GrammarCodegen.constant(0);
+    private static final ContextStep<Object, Object> ORIGINAL = GrammarCodegen.constant(1);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        var cursor = context.getCursor();
+        Object leading = cursor.peekItem();
+        if (leading != null && PREDICATE.test(leading)) {
+            cursor.advance(1);
+            return context.succeed(leading);
+        }
+        return ORIGINAL.parse(context);
+    }
+}
@@ -0,0 +1,162 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.stream.CharParserStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * WHAT: A Character Trie of keywords, which finds the longest keyword that
+ *   ends at a word boundary
+ * INTENT: Recognize one of many keywords in a single pass over the stream,
+ *   instead of comparing the stream against every keyword in turn
+ * NOTE:
+ * - A word boundary is a non-alphanumeric character or the end of stream
+ * - Each node keeps its children in a sorted array, and finds a child by
+ *   binary search
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads.
+ *
+ * @see StringParsers#keywords(Collection)
+ */
+final class KeywordTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+    private final int maxLength;
+
+    private KeywordTrie(Node root, int maxLength) {
+        this.root = root;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * WHAT: Factory for the Trie of the given words
+     */
+    static KeywordTrie of(Collection<String> words) {
+        Objects.requireNonNull(words,
+                "Words must not be null");
+        var root = new NodeBuilder();
+        int maxLength = 0;
+        for (String word : words) {
+            Objects.requireNonNull(word,
+                    "Word must not be null");
+            var node = root;
+            for (int idx = 0; idx < word.length(); idx++) {
+                node = node.children.computeIfAbsent(word.charAt(idx), c -> new NodeBuilder());
+            }
+            node.word = word;
+            maxLength = Math.max(maxLength, word.length());
+        }
+        return new KeywordTrie(root.build(), maxLength);
+    }
+
+    /**
+     * WHAT: Length of the longest keyword
+     */
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * WHAT: The characters the keywords start with
+     */
+    FirstSet getFirstSet() {
+        var leading = new ArrayList<Character>(root.keys.length);
+        for (char key : root.keys) {
+            leading.add(key);
+        }
+        var first = FirstSet.ofAll(leading);
+        return root.word != null ? first.orEmpty() : first;
+    }
+
+    /**
+     * WHAT: The longest keyword at the start of the input, which is followed
+     *   by a word boundary, or null if there is none
+     * NOTE: Shorter keywords are only retried when the longest one is not
+     *   followed by a word boundary (e.g. "a" in "a-b" when "a-" is a keyword)
+     */
+    String match(Lookahead input) {
+        int limit = Integer.MAX_VALUE;
+        while (true) {
+            Node node = root;
+            Node longest = null;
+            int depth = 0;
+            while (node != null && depth < limit) {
+                if (node.word != null) {
+                    longest = node;
+                }
+                node = node.child(input.charAt(depth++));
+            }
+            if (longest == null) {
+                return null;
+            }
+            int following = input.charAt(longest.word.length());
+            if (following == CharParserStream.END_OF_STREAM
+                    || !Character.isLetterOrDigit(following)) {
+                return longest.word;
+            }
+            limit = longest.word.length();
+        }
+    }
+
+    /**
+     * WHAT: The characters at the start of the input, by offset
+     * - Returns {@link CharParserStream#END_OF_STREAM} past the end of input
+     */
+    @FunctionalInterface
+    interface Lookahead {
+        int charAt(int offset);
+    }
+
+    /**
+     * WHAT: A frozen node of the Trie
+     * - word is the keyword ending at this node, or null
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final String word;
+
+        private Node(char[] keys, Node[] children, String word) {
+            this.keys = keys;
+            this.children = children;
+            this.word = word;
+        }
+
+        private Node child(int key) {
+            if (key < 0) {
+                return null;
+            }
+            int idx = Arrays.binarySearch(keys, (char) key);
+            return idx >= 0 ? children[idx] : null;
+        }
+    }
+
+    /**
+     * WHAT: A mutable node, used while the Trie is built
+     */
+    private static final class NodeBuilder {
+        private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+        private String word;
+
+        private Node build() {
+            if (children.isEmpty()) {
+                return new Node(NO_KEYS, NO_CHILDREN, word);
+            }
+            var keys = new char[children.size()];
+            var nodes = new Node[children.size()];
+            int idx = 0;
+            for (var child : children.entrySet()) {
+                keys[idx] = child.getKey();
+                nodes[idx] = child.getValue().build();
+                idx++;
+            }
+            return new Node(keys, nodes, word);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+
+/**
+ * WHAT: The template of the generated class of a recursive Rule, which
+ *   calls the generated class of its definition
+ * NOTE:
+ * - The target is set once the definition is generated, before the
+ *   grammar is published
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class LinkTemplate implements ContextStep<Object, Object> {
+    static volatile ContextStep<Object, Object> target;
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        return target.parse(context);
+    }
+}
@@ -0,0 +1,30 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.stream.CharCursor;
+import io.kpatel.parsers.stream.StreamCursor;
+
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.Literal}
+ * NOTE:
+ * - Compares the text in place on a {@link CharCursor}, and runs the step
+ *   of its node on any other cursor, and to fail
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class LiteralTemplate implements ContextStep<Object, Object> {
+    private static final String TEXT = GrammarCodegen.constant(0);
+    private static final Supplier<Object> VALUE = GrammarCodegen.constant(1);
+    private static final ContextStep<Object, Object> ORIGINAL = GrammarCodegen.constant(2);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        StreamCursor<?, ?> cursor = context.getCursor();
+        if (cursor instanceof CharCursor && ((CharCursor) cursor).startsWith(TEXT)) {
+            cursor.advance(TEXT.length());
+            return context.succeed(VALUE.get());
+        }
+        return ORIGINAL.parse(context);
+    }
+}
@@ -0,0 +1,22 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+
+import java.util.function.Function;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.Mapping},
+ *   and of a {@link NodeForm.Omission}, whose mapper yields the placeholder
+ * NOTE:
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class MapTemplate implements ContextStep<Object, Object> {
+    private static final ContextStep<Object, Object> PART = GrammarCodegen.constant(0);
+    private static final Function<Object, Object> MAPPER = GrammarCodegen.constant(1);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        return PART.parse(context)
+                && context.succeed(MAPPER.apply(context.getValue()));
+    }
+}
@@ -0,0 +1,59 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Parser;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * INTENT: Top Level Generic Factories for Memoizing (Packrat) Parsers
+ * NOTE:
+ * - Results are cached by (parser identity, stream position) for the
+ *   duration of one parse, which bounds backtracking to linear work
+ * - Parsers are identified by their Supplier, so reuse the same Supplier
+ *   for the same rule (e.g. keep rules in variables or fields)
+ * - Only Streams which report a position are memoized
+ *
+ * @see Parser
+ * @see io.kpatel.parsers.stream.ParserStream#getPosition()
+ */
+public final class MemoParsers {
+    private MemoParsers() {
+
+    }
+
+    /**
+     * USAGE: Create a parser that parses each position at most once per parse,
+     * and reuses its Result afterwards.
+     * - Compiled grammars share one table for each whole parse, otherwise
+     *   the outermost memoizing parser running opens one for its own parse
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> memo(
+            Supplier<Parser<T, Seq, Itm>> parser) {
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        return GrammarNode.composite("memo", List.of(parser),
+                children -> memo(GrammarNode.child(children, 0)),
+                () -> GrammarNode.firstSetOf(parser),
+                () -> stream -> MemoTable.memoize(parser, stream));
+    }
+
+    /**
+     * USAGE: Resolve the grammar into a grammar whose every node and Rule is
+     * memoized, in one table for each whole parse
+     * - Opt-in Grammar-Wide alternative to wrapping rules with {@link #memo},
+     *   and grammars that are not packrat run w/o any of its cost
+     * - Opaque Suppliers (e.g. user lambdas) are memoized as a whole, and
+     *   Sub-Parsers chosen at parse time (by flatMap) are not memoized
+     * - Every Rule reachable from the grammar must be bound
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> packrat(
+            Supplier<Parser<T, Seq, Itm>> parser) {
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        return GrammarCompiler.packrat(parser);
+    }
+}
@@ -0,0 +1,237 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A Cache of Results keyed by (parser identity, stream position) for
+ *   the duration of one parse
+ * INTENT: Let backtracking combinators reuse the Result of a sub-parser
+ *   instead of parsing the same position again
+ * NOTE:
+ * - Parsers must be pure for the cached Results to be valid
+ * - Parsers are identified by the Supplier they were given as, so grammars
+ *   should reuse the same Supplier for the same rule
+ * - Tables are confined to the Thread running the parse
+ * - Compiled grammars w/ memoizing parsers open one table for each whole
+ *   parse, see {@link #scoped}, otherwise the outermost memoizing parser
+ *   running opens one
+ * - Streams which cannot report a position are never cached
+ * - StringStream and ListStream positions are cached in dense arrays, other
+ *   streams are cached in hash maps
+ *
+ * @see MemoParsers
+ */
+final class MemoTable {
+    /**
+     * WHAT: The names of memoizing nodes, and of the node opening a table
+     *   for a whole parse
+     */
+    private static final String MEMO = "memo";
+    private static final String SCOPE = "memoTable";
+    private static final ThreadLocal<MemoTable> CURRENT = new ThreadLocal<>();
+
+    private final IdentityHashMap<Object, Slots> entries = new IdentityHashMap<>();
+
+    private MemoTable() {
+
+    }
+
+    /**
+     * WHAT: The grammar, opening one table for each whole parse, on every engine
+     */
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> scoped(Supplier<Parser<T, Seq, Itm>> grammar) {
+        return GrammarNode.composite(SCOPE, List.of(grammar),
+                children -> scoped(GrammarNode.child(children, 0)),
+                () -> GrammarNode.firstSetOf(grammar),
+                () -> stream -> session(() -> grammar.get().parse(stream)),
+                context -> session(() -> ContextStep.run(grammar, context)),
+                () -> new ScopeFrame<>(grammar));
+    }
+
+    /**
+     * WHAT: Whether the node is a memoizing parser, or a table for a whole parse
+     */
+    static boolean isMemo(Supplier<?> node) {
+        return ProbedNode.nameOf(node).equals(MEMO) || isScope(node);
+    }
+
+    /**
+     * WHAT: Whether the node opens a table for a whole parse
+     */
+    static boolean isScope(Supplier<?> node) {
+        return ProbedNode.nameOf(node).equals(SCOPE);
+    }
+
+    /**
+     * HELPER: Invoke a memoized parser, opening a table if none is open
+     */
+    static <T, Seq, Itm>
+    Result<T, Seq, Itm> memoize(
+            Supplier<? extends Parser<? extends T, Seq, Itm>> parser,
+            ParserStream<Seq, Itm> stream) {
+        var table = CURRENT.get();
+        return table != null
+                ? table.lookup(parser, stream)
+                : session(() -> CURRENT.get().lookup(parser, stream));
+    }
+
+    /**
+     * HELPER: Run the body with a fresh table, and restore the previous one after
+     */
+    static <R> R session(Supplier<R> body) {
+        var previous = open();
+        try {
+            return body.get();
+        } finally {
+            close(previous);
+        }
+    }
+
+    /**
+     * HELPER: Open a fresh table, and yield the one it replaces, to close it with
+     */
+    private static MemoTable open() {
+        var previous = CURRENT.get();
+        CURRENT.set(new MemoTable());
+        return previous;
+    }
+
+    /**
+     * HELPER: Close the open table, and restore the one it replaced
+     */
+    private static void close(MemoTable previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, Seq, Itm>
+    Result<T, Seq, Itm> lookup(
+            Supplier<? extends Parser<? extends T, Seq, Itm>> parser,
+            ParserStream<Seq, Itm> stream) {
+        long position = stream.getPosition();
+        if (position < 0) {
+            return widen(parser.get().parse(stream));
+        }
+        var slots = entries.get(parser);
+        if (slots == null) {
+            slots = stream instanceof StringStream || stream instanceof ListStream
+                    ? new DenseSlots()
+                    : new SparseSlots();
+            entries.put(parser, slots);
+        }
+        var cached = slots.get(position);
+        if (cached != null) {
+            return (Result<T, Seq, Itm>) cached;
+        }
+        Result<T, Seq, Itm> result = widen(parser.get().parse(stream));
+        slots.put(position, result);
+        return result;
+    }
+
+    /**
+     * HELPER: Results are immutable, so a Result of a subtype is a Result of its supertype
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, Seq, Itm>
+    Result<T, Seq, Itm> widen(Result<? extends T, Seq, Itm> result) {
+        return (Result<T, Seq, Itm>) result;
+    }
+
+    /**
+     * WHAT: Frame of a table for a whole parse, which keeps it open until the
+     *   grammar is done or abandoned
+     */
+    private static final class ScopeFrame<Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> grammar;
+        private boolean entered;
+        private MemoTable previous;
+
+        ScopeFrame(Supplier<? extends Parser<?, Seq, Itm>> grammar) {
+            this.grammar = grammar;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            if (!entered) {
+                entered = true;
+                previous = open();
+                return grammar;
+            }
+            close(previous);
+            return null;
+        }
+
+        @Override
+        public void abandon(ParseContext<Seq, Itm> context) {
+            if (entered) {
+                close(previous);
+            }
+        }
+    }
+
+    /**
+     * WHAT: The cached Results of one parser, by position
+     */
+    private interface Slots {
+        Result<?, ?, ?> get(long position);
+
+        void put(long position, Result<?, ?, ?> result);
+    }
+
+    /**
+     * WHAT: Slots in an array indexed by position, grown as needed
+     */
+    private static final class DenseSlots implements Slots {
+        private Result<?, ?, ?>[] results = new Result<?, ?, ?>[16];
+
+        @Override
+        public Result<?, ?, ?> get(long position) {
+            return position < results.length ? results[(int) position] : null;
+        }
+
+        @Override
+        public void put(long position, Result<?, ?, ?> result) {
+            if (results.length <= position) {
+                int length = results.length;
+                while (length <= position) {
+                    length *= 2;
+                }
+                results = Arrays.copyOf(results, length);
+            }
+            results[(int) position] = result;
+        }
+    }
+
+    /**
+     * WHAT: Slots in a hash map, for streams with unbounded positions
+     */
+    private static final class SparseSlots implements Slots {
+        private final HashMap<Long, Result<?, ?, ?>> results = new HashMap<>();
+
+        @Override
+        public Result<?, ?, ?> get(long position) {
+            return results.get(position);
+        }
+
+        @Override
+        public void put(long position, Result<?, ?, ?> result) {
+            results.put(position, result);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.kpatel.parsers.prebuilt;
 
+import io.kpatel.parsers.ParseContext;
 import io.kpatel.parsers.Parser;
 import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.StringInterner;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,7 +36,13 @@ public final class MiscParsers {
                 "Parser must not be null");
         Objects.requireNonNull(mapper,
                 "Mapping Function must not be null");
-        return () -> stream -> parser.get().parse(stream).map(mapper);
+        return GrammarNode.composite("map", List.of(parser),
+                children -> map(GrammarNode.child(children, 0), mapper),
+                () -> GrammarNode.firstSetOf(parser),
+                () -> stream -> parser.get().parse(stream).map(mapper),
+                context -> ContextStep.run(parser, context)
+                        && context.succeed(mapper.apply(context.getValue())),
+                () -> new ContinuationFrames.MapFrame<>(parser, mapper)).describedAs(new NodeForm.Mapping(mapper));
     }
 
 
@@ -50,8 +58,22 @@ public final class MiscParsers {
                 "Parser must not be null");
         Objects.requireNonNull(flatMapper,
                 "Flat Mapping Function must not be null");
-        return () -> stream -> parser.get().parse(stream)
-                .chain((t, remaining) -> flatMapper.apply(t).get().parse(remaining).map(u -> u));
+        return GrammarNode.composite("flatMap", List.of(parser),
+                children -> flatMap(GrammarNode.child(children, 0), flatMapper),
+                () -> GrammarNode.firstSetOf(parser).then(FirstSet.UNKNOWN),
+                () -> stream -> parser.get().parse(stream)
+                        .chain((t, remaining) -> flatMapper.apply(t).get().parse(remaining).map(u -> u)),
+                context -> {
+                    var cursor = context.getCursor();
+                    int mark = cursor.mark();
+                    if (ContextStep.run(parser, context)
+                            && ContextStep.run(flatMapper.apply(context.getValue()), context)) {
+                        cursor.release(mark);
+                        return true;
+                    }
+                    cursor.reset(mark);
+                    return false;
+                }, () -> new ContinuationFrames.FlatMapFrame<>(parser, flatMapper));
     }
 
 
@@ -67,8 +89,14 @@ public final class MiscParsers {
                 "Parser must not be null");
         Objects.requireNonNull(alternative,
                 "Alternative Parser must not be null");
-        return () -> stream -> parser.get().parse(stream).orElse(() ->
-                alternative.get().parse(stream));
+        return GrammarNode.composite("otherwise", List.of(parser, alternative),
+                children -> otherwise(GrammarNode.child(children, 0), GrammarNode.child(children, 1)),
+                () -> GrammarNode.firstSetOf(parser).union(GrammarNode.firstSetOf(alternative)),
+                () -> stream -> parser.get().parse(stream).orElse(() ->
+                        alternative.get().parse(stream)),
+                context -> ContextStep.run(parser, context)
+                        || ContextStep.run(alternative, context),
+                () -> new ContinuationFrames.OtherwiseFrame<>(parser, alternative));
     }
 
     /**
@@ -84,10 +112,26 @@ public final class MiscParsers {
         Objects.requireNonNull(predicate,
                 "Predicate must not be null");
 
-        return () -> stream -> parser.get().parse(stream).chain(
-                (item, remaining) -> predicate.test(item)
-                        ? Result.success(item, remaining)
-                        : Result.failure(stream.getErrorContext(), errorMessage));
+        return GrammarNode.composite("filter", List.of(parser),
+                children -> filter(GrammarNode.child(children, 0), predicate, errorMessage),
+                () -> GrammarNode.firstSetOf(parser),
+                () -> stream -> parser.get().parse(stream).chain(
+                        (item, remaining) -> predicate.test(item)
+                                ? Result.success(item, remaining)
+                                : Result.failure(stream.getErrorContext(), errorMessage)),
+                context -> {
+                    var cursor = context.getCursor();
+                    int mark = cursor.mark();
+                    if (!ContextStep.run(parser, context)) {
+                        cursor.release(mark);
+                        return false;
+                    } else if (predicate.test(context.getValue())) {
+                        cursor.release(mark);
+                        return true;
+                    }
+                    cursor.reset(mark);
+                    return context.fail(ParseContext.REJECTED, errorMessage);
+                }, () -> new ContinuationFrames.FilterFrame<>(parser, predicate, errorMessage));
     }
 
     /**
@@ -104,7 +148,27 @@ public final class MiscParsers {
                 "Right Parser must not be null");
         Objects.requireNonNull(mapper,
                 "Mapping Function must not be null");
-        return flatMap(left, l -> map(right, r -> mapper.apply(l, r)));
+        return GrammarNode.composite("pipe", List.of(left, right),
+                children -> pipe(GrammarNode.child(children, 0), GrammarNode.child(children, 1), mapper),
+                () -> GrammarNode.firstSetOf(left).then(GrammarNode.firstSetOf(right)),
+                () -> stream -> left.get().parse(stream)
+                        .chain((l, remaining) -> right.get().parse(remaining)
+                                .map(r -> mapper.apply(l, r))),
+                context -> {
+                    var cursor = context.getCursor();
+                    int mark = cursor.mark();
+                    if (!ContextStep.run(left, context)) {
+                        cursor.release(mark);
+                        return false;
+                    }
+                    K l = context.getValue();
+                    if (!ContextStep.run(right, context)) {
+                        cursor.reset(mark);
+                        return false;
+                    }
+                    cursor.release(mark);
+                    return context.succeed(mapper.apply(l, context.getValue()));
+                }, () -> new ContinuationFrames.PipeFrame<>(left, right, mapper));
     }
 
     /**
@@ -124,6 +188,10 @@ public final class MiscParsers {
     /**
      * USAGE: Create a parser that parse the initial stream until one parser
      * success or all of them fail.
+     * - Parsers that cannot start with the leading item are skipped, when
+     *   their first items can be determined
+     * - If every parser is skipped, the last one still runs, so failures are
+     *   reported as if none was skipped
      */
     public static <T, Seq, Itm>
     Supplier<Parser<T, Seq, Itm>> alternate(
@@ -131,19 +199,75 @@ public final class MiscParsers {
 
         ArrayList<Supplier<? extends Parser<? extends T, Seq, Itm>>> parserList =
                 new ArrayList<>(parsers);
-        return () -> stream -> {
-            var result = Result.<T, Seq, Itm>failure(
-                    stream.getErrorContext(),
-                    () -> "No Parsers To Alternate with.");
-
-            for (Supplier<? extends Parser<? extends T, Seq, Itm>> parser : parserList) {
-                result = result.orElse(() -> parser.get().parse(stream).map(t -> t));
-                if (result.isSuccess()) {
-                    return result;
+        var dispatch = FirstItemDispatch.lazy(parserList);
+        Supplier<String> errorMessage = () -> "No Parsers To Alternate with.";
+        return GrammarNode.composite("alternate", parserList,
+                children -> alternate(GrammarNode.children(children)), () -> {
+            var first = FirstSet.NONE;
+            for (Supplier<?> parser : parserList) {
+                first = first.union(GrammarNode.firstSetOf(parser));
+            }
+            return first;
+        }, () -> stream -> {
+            var table = dispatch.get();
+            var leading = table.isPredictive()
+                    ? FirstItemDispatch.leadingItem(stream)
+                    : null;
+            Result<T, Seq, Itm> result = null;
+
+            for (int branch : table.candidates(leading)) {
+                if (table.mayAccept(branch, leading)) {
+                    result = widen(parserList.get(branch).get().parse(stream));
+                    if (result.isSuccess()) {
+                        return result;
+                    }
+                }
+            }
+            if (result != null) {
+                return result;
+            } else if (!parserList.isEmpty()) {
+                // Every branch is ruled out, the last one fails as w/o dispatch
+                return widen(parserList.get(parserList.size() - 1).get().parse(stream));
+            }
+            return Result.failure(stream.getErrorContext(), errorMessage);
+        }, context -> {
+            var table = dispatch.get();
+            var leading = table.isPredictive()
+                    ? FirstItemDispatch.leadingItem(context.getCursor())
+                    : null;
+            boolean tried = false;
+
+            for (int branch : table.candidates(leading)) {
+                if (table.mayAccept(branch, leading)) {
+                    if (ContextStep.run(parserList.get(branch), context)) {
+                        return true;
+                    }
+                    tried = true;
+                }
+            }
+            if (tried) {
+                return false;
+            } else if (parserList.isEmpty()) {
+                return context.fail(ParseContext.NO_ALTERNATIVE, errorMessage, table.getExpectedChars());
+            }
+            int branch = FirstItemDispatch.fallbackBranch(parserList.size(), context.getFailureMode());
+            for (; branch < parserList.size(); branch++) {
+                if (ContextStep.run(parserList.get(branch), context)) {
+                    return true;
                 }
             }
-            return result;
-        };
+            return false;
+        }, () -> new ContinuationFrames.AlternateFrame<>(parserList, dispatch, errorMessage))
+                .describedAs(NodeForm.Alternation.FIRST_SUCCESS);
+    }
+
+    /**
+     * HELPER: Results are immutable, so a Result of a subtype is a Result of its supertype
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, Seq, Itm>
+    Result<T, Seq, Itm> widen(Result<? extends T, Seq, Itm> result) {
+        return (Result<T, Seq, Itm>) result;
     }
 
     /**
@@ -157,7 +281,9 @@ public final class MiscParsers {
                 "Parser must not be null");
         Objects.requireNonNull(placeholder,
                 "Supplier must not be null");
-        return otherwise(parser, () -> stream -> Result.success(placeholder.get(), stream));
+        return otherwise(parser, GrammarNode.leaf("optional", () -> FirstSet.EMPTY,
+                () -> stream -> Result.success(placeholder.get(), stream),
+                context -> context.succeed(placeholder.get())));
     }
 
     /**
@@ -183,8 +309,14 @@ public final class MiscParsers {
                 "Parser must not be null");
         Objects.requireNonNull(placeholder,
                 "Supplier must not be null");
-
-        return map(parser, item -> placeholder.get());
+        Function<T, T> omitted = item -> placeholder.get();
+        return GrammarNode.composite("omit", List.of(parser),
+                children -> omit(GrammarNode.child(children, 0), placeholder),
+                () -> GrammarNode.firstSetOf(parser),
+                () -> stream -> parser.get().parse(stream).map(omitted),
+                context -> ContextStep.run(parser, context)
+                        && context.succeed(placeholder.get()),
+                () -> new ContinuationFrames.MapFrame<>(parser, omitted)).describedAs(new NodeForm.Omission(placeholder));
     }
 
     /**
@@ -199,6 +331,46 @@ public final class MiscParsers {
     }
 
 
+    /**
+     * USAGE: Deduplicate accepted Strings through a bounded cache, so that equal values share one
+     * String. Fail as normal
+     * - Share the interner between the parsers of equal values (e.g. every identifier)
+     * - Runs are interned where they are accepted, so a hit on a run of a
+     *   {@link io.kpatel.parsers.stream.StringStream} builds no String, and
+     *   literals are interned once, here. Other parsers are mapped through the interner
+     * @see StringInterner
+     */
+    @SuppressWarnings("unchecked")
+    public static <Seq, Itm>
+    Supplier<Parser<String, Seq, Itm>> intern(
+            Supplier<Parser<String, Seq, Itm>> parser,
+            StringInterner interner) {
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        Objects.requireNonNull(interner,
+                "String Interner must not be null");
+        var form = parser instanceof GrammarNode
+                ? ((GrammarNode<?, ?, ?>) parser).getForm()
+                : null;
+        if (form instanceof NodeForm.Text) {
+            return (Supplier<Parser<String, Seq, Itm>>) ((NodeForm.Text) form).interned.apply(interner);
+        } else if (form instanceof NodeForm.Literal) {
+            var shared = interner.intern((String) ((NodeForm.Literal) form).value.get());
+            return omit(parser, () -> shared);
+        }
+        return map(parser, interner::intern);
+    }
+
+    /**
+     * USAGE: Deduplicate accepted Strings through a cache of {@link StringInterner#DEFAULT_CAPACITY}
+     * Strings, of this parser alone. Fail as normal
+     */
+    public static <Seq, Itm>
+    Supplier<Parser<String, Seq, Itm>> intern(
+            Supplier<Parser<String, Seq, Itm>> parser) {
+        return intern(parser, new StringInterner());
+    }
+
     /**
      * USAGE: Peek a head and see given parser can accept the input.
      */
@@ -207,8 +379,18 @@ public final class MiscParsers {
             Supplier<Parser<T, Seq, Itm>> parser) {
         Objects.requireNonNull(parser,
                 "Parser must not be null");
-        return () -> stream -> parser.get().parse(stream)
-                .chain((item, remaining) -> Result.success(item, stream));
+        return GrammarNode.composite("peek", List.of(parser),
+                children -> peek(GrammarNode.child(children, 0)),
+                () -> GrammarNode.firstSetOf(parser),
+                () -> stream -> parser.get().parse(stream)
+                        .chain((item, remaining) -> Result.success(item, stream)),
+                context -> {
+                    var cursor = context.getCursor();
+                    int mark = cursor.mark();
+                    boolean accepted = ContextStep.run(parser, context);
+                    cursor.reset(mark);
+                    return accepted;
+                }, () -> new ContinuationFrames.PeekFrame<>(parser));
     }
 
 
@@ -0,0 +1,142 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.builder.StringInterner;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: What a node of a grammar parses, in terms the optimizer can rewrite,
+ *   and the code generator can generate a class for
+ * NOTE:
+ * - Only the nodes the optimizer, the code generator or
+ *   {@link MiscParsers#intern} handle are described, every other node has
+ *   no form and is left as is
+ * - A form describes the node alone, its sub-parsers are the children of
+ *   the node, in the same order
+ * - Forms are kept by rebuilt nodes, as rebuild calls the same factory
+ *
+ * @see GrammarNode#describedAs(NodeForm)
+ * @see GrammarOptimizer
+ * @see GrammarCodegen
+ */
+abstract class NodeForm {
+    private NodeForm() {
+
+    }
+
+    /**
+     * WHAT: Accepts exactly the given text, and yields the value
+     * - Built by sequence over a String, and by fusing literals
+     */
+    static final class Literal extends NodeForm {
+        final String text;
+        final Supplier<?> value;
+
+        Literal(String text, Supplier<?> value) {
+            this.text = text;
+            this.value = value;
+        }
+    }
+
+    /**
+     * WHAT: Accepts a run of characters, and yields them as a new String
+     * - interned builds the same node, which yields the String of an
+     *   interner w/ the characters instead
+     */
+    static final class Text extends NodeForm {
+        final Function<StringInterner, Supplier<?>> interned;
+
+        Text(Function<StringInterner, Supplier<?>> interned) {
+            this.interned = interned;
+        }
+    }
+
+    /**
+     * WHAT: Accepts a single item that satisfies the predicate, and yields it
+     */
+    static final class ItemTest extends NodeForm {
+        final Predicate<?> predicate;
+
+        ItemTest(Predicate<?> predicate) {
+            this.predicate = predicate;
+        }
+    }
+
+    /**
+     * WHAT: Transforms the value of its only child by the mapper
+     */
+    static final class Mapping extends NodeForm {
+        final Function<?, ?> mapper;
+
+        Mapping(Function<?, ?> mapper) {
+            this.mapper = mapper;
+        }
+    }
+
+    /**
+     * WHAT: Replaces the value of its only child by the placeholder
+     */
+    static final class Omission extends NodeForm {
+        final Supplier<?> placeholder;
+
+        Omission(Supplier<?> placeholder) {
+            this.placeholder = placeholder;
+        }
+    }
+
+    /**
+     * WHAT: Repeats its only child at least min times, until it fails, and
+     *   joins its values w/ a builder of the provider
+     */
+    static final class Repetition extends NodeForm {
+        final Supplier<? extends Builder<?, ?>> provider;
+        final int min;
+
+        Repetition(Supplier<? extends Builder<?, ?>> provider, int min) {
+            this.provider = provider;
+            this.min = min;
+        }
+    }
+
+    /**
+     * WHAT: Runs each child in order, and joins their values w/ a builder of
+     *   the provider
+     */
+    static final class Concatenation extends NodeForm {
+        final Supplier<? extends Builder<?, ?>> provider;
+
+        Concatenation(Supplier<? extends Builder<?, ?>> provider) {
+            this.provider = provider;
+        }
+    }
+
+    /**
+     * WHAT: Runs its two children in order, and yields the value of one of
+     *   them, the first for a suffix, the second for a prefix
+     */
+    static final class Affix extends NodeForm {
+        static final Affix PREFIX = new Affix(1);
+        static final Affix SUFFIX = new Affix(0);
+
+        final int kept;
+
+        private Affix(int kept) {
+            this.kept = kept;
+        }
+    }
+
+    /**
+     * WHAT: Runs the children that may accept the leading item, in order,
+     *   until one succeeds, and yields its value
+     */
+    static final class Alternation extends NodeForm {
+        static final Alternation FIRST_SUCCESS = new Alternation();
+
+        private Alternation() {
+
+        }
+    }
+}
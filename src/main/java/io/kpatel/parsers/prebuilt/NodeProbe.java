@@ -0,0 +1,28 @@
+package io.kpatel.parsers.prebuilt;
+
+/**
+ * WHAT: Observes every invocation of one node of an instrumented grammar
+ * REQUIREMENTS:
+ * - Invocations on one Thread are entered and left in order, so a probe
+ *   may keep a stack per Thread
+ * - Must be safe to call from many Threads at once
+ * NOTE:
+ * - Positions are those of {@link io.kpatel.parsers.stream.ParserStream#getPosition()},
+ *   so they are negative on streams that cannot report one
+ *
+ * @see GrammarProbe
+ * @see ProbedNode
+ */
+interface NodeProbe {
+    /**
+     * WHAT: The node is about to run at the position
+     */
+    void enter(long position);
+
+    /**
+     * WHAT: The node ran, and the stream is at the position after it
+     * - On Failure, the position is where the node started, unless the
+     *   engine abandoned the node (e.g. once too deep)
+     */
+    void leave(boolean success, long position);
+}
@@ -0,0 +1,198 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.CombinableBuilder;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A repetition of records (w/ or w/o a delimiter) which splits a
+ *   StringStream into chunks, parses them on a ForkJoinPool, and combines
+ *   their builders in order
+ * INTENT: Use every core on long inputs of independent records (e.g. lines)
+ * NOTE:
+ * - The output and the remaining stream are the same as the sequential
+ *   repetition's, whatever boundaries the scanner finds
+ * - A chunk parses records until the record start it reaches is at or after
+ *   its end, the next chunk is only used if it starts exactly there,
+ *   otherwise its range is parsed again from there
+ * - The last chunk is always parsed to a failure, as a record may still
+ *   accept the end of the text
+ * - Other streams, and inputs shorter than two chunks, are parsed by the
+ *   sequential repetition
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads, when the record and delimiter parsers are.
+ *
+ * @see RepetitionParsers#parallelDelimited
+ * @see RepetitionParsers#parallelZeroOrMore
+ * @see BoundaryScanner
+ */
+final class ParallelRepetition<Out, Prt> implements Parser<Out, String, Character> {
+    private final Supplier<CombinableBuilder<Out, Prt>> provider;
+    private final Supplier<Parser<Prt, String, Character>> parser;
+    private final Supplier<? extends Parser<?, String, Character>> delimiter;
+    private final Supplier<BoundaryScanner> scanner;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final Parser<Out, String, Character> sequential;
+
+    /**
+     * - delimiter is null for a repetition w/o delimiters
+     * - scanner supplies null if no boundaries can be found
+     */
+    ParallelRepetition(
+            Supplier<CombinableBuilder<Out, Prt>> provider,
+            Supplier<Parser<Prt, String, Character>> parser,
+            Supplier<? extends Parser<?, String, Character>> delimiter,
+            Supplier<BoundaryScanner> scanner,
+            ForkJoinPool pool, int chunkSize,
+            Parser<Out, String, Character> sequential) {
+        this.provider = provider;
+        this.parser = parser;
+        this.delimiter = delimiter;
+        this.scanner = scanner;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.sequential = sequential;
+    }
+
+    /**
+     * WHAT: A scanner for records after a delimiter of a single character
+     * - Supplies null for other delimiters
+     */
+    static Supplier<BoundaryScanner> derive(Supplier<?> delimiter) {
+        return () -> {
+            var chars = GrammarNode.firstSetOf(delimiter).getChars();
+            return chars.length == 1 ? BoundaryScanner.after(chars[0]) : null;
+        };
+    }
+
+    @Override
+    public Result<Out, String, Character> parse(ParserStream<String, Character> stream) {
+        var boundaries = stream instanceof StringStream
+                ? split(((StringStream) stream).getRemaining())
+                : null;
+        if (boundaries == null) {
+            return sequential.parse(stream);
+        }
+        var start = (StringStream) stream;
+        var tasks = new ArrayList<ForkJoinTask<Chunk<Out, Prt>>>(boundaries.size() - 1);
+        for (int idx = 0; idx + 1 < boundaries.size(); idx++) {
+            int from = boundaries.get(idx);
+            int until = boundaries.get(idx + 1);
+            tasks.add(pool.submit(() -> parseChunk(start, from, until)));
+        }
+
+        CombinableBuilder<Out, Prt> combined = null;
+        int at = 0;
+        int recordEnd = 0;
+        for (int idx = 0; idx < tasks.size(); idx++) {
+            int from = boundaries.get(idx);
+            int until = boundaries.get(idx + 1);
+            boolean last = idx + 1 == tasks.size();
+            if (at < 0 || (until <= at && !last)) {
+                tasks.get(idx).cancel(false);
+                continue;
+            }
+            Chunk<Out, Prt> chunk;
+            if (from == at) {
+                chunk = tasks.get(idx).join();
+            } else {
+                tasks.get(idx).cancel(false);
+                chunk = parseChunk(start, at, until);
+            }
+            combined = combined == null ? chunk.builder : combined.combine(chunk.builder);
+            if (0 < chunk.count) {
+                recordEnd = chunk.recordEnd;
+            }
+            at = chunk.next;
+        }
+        return Result.success(combined.toOutput(), start.jump(recordEnd));
+    }
+
+    /**
+     * HELPER: The offsets where chunks start, then the end of the text, or
+     * null if the text should not be split
+     */
+    private List<Integer> split(CharSequence text) {
+        if (text.length() / 2 < chunkSize) {
+            return null;
+        }
+        var boundaryScanner = scanner.get();
+        if (boundaryScanner == null) {
+            return null;
+        }
+        var boundaries = new ArrayList<Integer>();
+        boundaries.add(0);
+        for (long target = chunkSize; target < text.length(); ) {
+            int boundary = boundaryScanner.nextBoundary(text, (int) target);
+            if (boundary < target || text.length() < boundary) {
+                throw new IllegalStateException(String.format(
+                        "Boundary %d is not in [%d, %d]", boundary, target, text.length()));
+            } else if (boundary == text.length()) {
+                break;
+            }
+            boundaries.add(boundary);
+            target = (long) boundary + chunkSize;
+        }
+        boundaries.add(text.length());
+        return boundaries.size() < 3 ? null : boundaries;
+    }
+
+    /**
+     * HELPER: Parse records from the offset, until one fails, or the next
+     * record would start at or after until
+     * - The last chunk ends at the end of the text, and only stops on a failure
+     */
+    private Chunk<Out, Prt> parseChunk(StringStream start, int from, int until) {
+        long origin = start.getPosition();
+        var context = new ParseContext<>(start.jump(from), FailureMode.LIGHT);
+        var cursor = context.getCursor();
+        boolean last = start.getRemaining().length() <= until;
+        var chunk = new Chunk<Out, Prt>(provider.get());
+
+        while (ContextStep.run(parser, context)) {
+            chunk.append(context.getValue());
+            chunk.recordEnd = (int) (cursor.getPosition() - origin);
+            if (delimiter != null && !ContextStep.run(delimiter, context)) {
+                break;
+            }
+            int next = (int) (cursor.getPosition() - origin);
+            if (!last && until <= next) {
+                chunk.next = next;
+                break;
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * WHAT: The records of one chunk
+     * - next is where the following record starts, or -1 if the repetition
+     *   stopped in this chunk
+     */
+    private static final class Chunk<Out, Prt> {
+        private CombinableBuilder<Out, Prt> builder;
+        private int count;
+        private int recordEnd;
+        private int next = -1;
+
+        private Chunk(CombinableBuilder<Out, Prt> builder) {
+            this.builder = builder;
+        }
+
+        private void append(Prt part) {
+            builder = (CombinableBuilder<Out, Prt>) builder.append(part);
+            count++;
+        }
+    }
+}
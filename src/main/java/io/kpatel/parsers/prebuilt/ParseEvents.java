@@ -0,0 +1,60 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ParserStream;
+
+/**
+ * WHAT: Emits the Flight Recorder events of parse sessions, slow rules and
+ *   deep backtracks
+ * NOTE:
+ * - This is the Java 10 baseline, which has no Flight Recorder API, so it
+ *   emits nothing, and tells the grammars not to record rule events
+ * - The multi-release section for Java 11 (src/main/java11) replaces this
+ *   class with one that emits jdk.jfr events
+ * - Both must keep the same package-private members
+ * - Sessions and rules begin w/ a token, which is null if nothing is
+ *   recorded, and must be given back as they end
+ *
+ * @see GrammarParsers#recordEvents(java.util.function.Supplier)
+ */
+final class ParseEvents {
+    private ParseEvents() {
+
+    }
+
+    /**
+     * WHAT: Whether this runtime can record events at all
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * WHAT: Begin a top level parse of the stream, by the named engine
+     */
+    static Object beginSession(String engine, ParserStream<?, ?> stream) {
+        return null;
+    }
+
+    static <Seq, Itm> void endSession(Object session, ParserStream<Seq, Itm> stream, Result<?, Seq, Itm> result) {
+
+    }
+
+    /**
+     * WHAT: Begin an invocation of the named rule at the position
+     */
+    static Object beginRule(String rule, long position) {
+        return null;
+    }
+
+    static void endRule(Object invocation, boolean success, long position) {
+
+    }
+
+    /**
+     * WHAT: A node threw away the given number of items it consumed from the position
+     */
+    static void deepBacktrack(String rule, String factory, long position, long items) {
+
+    }
+}
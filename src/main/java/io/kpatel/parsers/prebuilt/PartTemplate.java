@@ -0,0 +1,25 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.builder.Builder;
+
+/**
+ * WHAT: The template of the generated class of a part of a
+ *   {@link NodeForm.Concatenation}
+ * NOTE:
+ * - Its next part is null for the last part
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class PartTemplate implements GrammarCodegen.PartChain {
+    private static final ContextStep<Object, Object> PART = GrammarCodegen.constant(0);
+    private static final GrammarCodegen.PartChain NEXT = GrammarCodegen.constant(1);
+
+    @Override
+    public Builder<Object, Object> append(ParseContext<Object, Object> context, Builder<Object, Object> builder) {
+        if (!PART.parse(context)) {
+            return null;
+        }
+        var appended = builder.append(context.getValue());
+        return NEXT != null ? NEXT.append(context, appended) : appended;
+    }
+}
@@ -0,0 +1,138 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ParserStream;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Wraps a node of a grammar being instrumented, so that every
+ *   invocation of the node enters and leaves its {@link NodeProbe}, on
+ *   every engine
+ * NOTE:
+ * - On the {@link TrampolineParser}, the node's frame enters the probe as
+ *   it is entered, and leaves it once it is done or abandoned
+ * - The wrapper invokes its node directly, so memoizing combinators cache
+ *   the wrapper, and a cached Result does not reach the probe again
+ * - Wrappers are not wrapped again, so a grammar may be instrumented for
+ *   more than one probe, one after another
+ *
+ * @see GrammarCompiler
+ * @see GrammarProbe
+ */
+final class ProbedNode {
+    private ProbedNode() {
+
+    }
+
+    /**
+     * WHAT: The node, reporting to the probe
+     */
+    @SuppressWarnings("unchecked")
+    static <T, Seq, Itm>
+    Supplier<Parser<T, Seq, Itm>> wrap(Supplier<?> wrapped, NodeProbe probe) {
+        var node = (Supplier<Parser<T, Seq, Itm>>) wrapped;
+        return GrammarNode.composite(nameOf(node), List.of(node),
+                children -> wrap(GrammarNode.child(children, 0), probe),
+                () -> GrammarNode.firstSetOf(node),
+                () -> stream -> parse(node, probe, stream),
+                new ProbeStep<>(node, probe),
+                () -> new ProbeFrame<>(node, probe));
+    }
+
+    /**
+     * WHAT: Whether the node is a wrapper of another node
+     */
+    static boolean isWrapper(Supplier<?> node) {
+        return node instanceof GrammarNode && ((GrammarNode<?, ?, ?>) node).getStep() instanceof ProbeStep;
+    }
+
+    /**
+     * WHAT: The name of the factory that built the node, or "custom" for any
+     *   other Supplier
+     */
+    static String nameOf(Supplier<?> node) {
+        return node instanceof GrammarNode
+                ? ((GrammarNode<?, ?, ?>) node).getName()
+                : "custom";
+    }
+
+    private static <T, Seq, Itm>
+    Result<T, Seq, Itm> parse(
+            Supplier<Parser<T, Seq, Itm>> node,
+            NodeProbe probe,
+            ParserStream<Seq, Itm> stream) {
+        long position = stream.getPosition();
+        probe.enter(position);
+        Result<T, Seq, Itm> result = null;
+        try {
+            result = node.get().parse(stream);
+        } finally {
+            boolean success = result != null && result.isSuccess();
+            probe.leave(success, success ? result.getRemainingStream().get().getPosition() : position);
+        }
+        return result;
+    }
+
+    /**
+     * WHAT: Step of a wrapper, which runs the node between the probe's calls
+     */
+    private static final class ProbeStep<Seq, Itm> implements ContextStep<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> node;
+        private final NodeProbe probe;
+
+        ProbeStep(Supplier<? extends Parser<?, Seq, Itm>> node, NodeProbe probe) {
+            this.node = node;
+            this.probe = probe;
+        }
+
+        @Override
+        public boolean parse(ParseContext<Seq, Itm> context) {
+            var cursor = context.getCursor();
+            probe.enter(cursor.getPosition());
+            boolean success = false;
+            try {
+                success = ContextStep.run(node, context);
+            } finally {
+                probe.leave(success, cursor.getPosition());
+            }
+            return success;
+        }
+    }
+
+    /**
+     * WHAT: Frame of a wrapper, which runs the node and leaves the probe once
+     *   it is done
+     */
+    private static final class ProbeFrame<Seq, Itm> implements ContinuationFrame<Seq, Itm> {
+        private final Supplier<? extends Parser<?, Seq, Itm>> node;
+        private final NodeProbe probe;
+        private boolean entered;
+
+        ProbeFrame(Supplier<? extends Parser<?, Seq, Itm>> node, NodeProbe probe) {
+            this.node = node;
+            this.probe = probe;
+        }
+
+        @Override
+        public Supplier<? extends Parser<?, Seq, Itm>> resume(ParseContext<Seq, Itm> context) {
+            if (!entered) {
+                entered = true;
+                probe.enter(context.getCursor().getPosition());
+                return node;
+            }
+            probe.leave(context.isSuccess(), context.getCursor().getPosition());
+            return null;
+        }
+
+        @Override
+        public void abandon(ParseContext<Seq, Itm> context) {
+            if (entered) {
+                probe.leave(false, context.getCursor().getPosition());
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WHAT: The live counters of one profiled node, which time each of its
+ *   invocations
+ * NOTE:
+ * - Exclusive time is inclusive time, less the inclusive time of the
+ *   profiled nodes invoked meanwhile on the same Thread, which each
+ *   Thread tracks in its {@link Clock}
+ * - This Implementation is Thread-Safe, as nodes may run on many Threads
+ *   at once, but a snapshot taken while they run may mix parses
+ *
+ * @see GrammarProfile
+ * @see ProfileEntry
+ */
+final class ProfileCounter implements NodeProbe {
+    private static final ThreadLocal<Clock> CLOCK = ThreadLocal.withInitial(Clock::new);
+
+    private final int id;
+    private final String factory;
+    private final String rule;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder inclusiveNanos = new LongAdder();
+    private final LongAdder exclusiveNanos = new LongAdder();
+    private final LongAdder itemsConsumed = new LongAdder();
+
+    /**
+     * - rule is null for a node outside of any named Rule
+     */
+    ProfileCounter(int id, String factory, String rule) {
+        this.id = id;
+        this.factory = factory;
+        this.rule = rule;
+    }
+
+    @Override
+    public void enter(long position) {
+        CLOCK.get().start(position);
+    }
+
+    @Override
+    public void leave(boolean success, long position) {
+        CLOCK.get().stop(this, success, position);
+    }
+
+    /**
+     * WHAT: Record one invocation of the node
+     * - consumed is ignored on Failure, or when negative
+     */
+    private void record(boolean success, long inclusive, long exclusive, long consumed) {
+        if (success) {
+            successes.increment();
+            if (0 < consumed) {
+                itemsConsumed.add(consumed);
+            }
+        } else {
+            failures.increment();
+        }
+        inclusiveNanos.add(inclusive);
+        exclusiveNanos.add(exclusive);
+    }
+
+    void reset() {
+        successes.reset();
+        failures.reset();
+        inclusiveNanos.reset();
+        exclusiveNanos.reset();
+        itemsConsumed.reset();
+    }
+
+    ProfileEntry snapshot() {
+        return new ProfileEntry(id, factory, rule, successes.sum(), failures.sum(),
+                inclusiveNanos.sum(), exclusiveNanos.sum(), itemsConsumed.sum());
+    }
+
+    /**
+     * WHAT: The stack of profiled invocations running on one Thread, w/ the
+     *   start position, start time and the invoker's children time of each
+     */
+    private static final class Clock {
+        private long[] stack = new long[3 * 16];
+        private int depth;
+        /**
+         * WHY: Inclusive time of the nodes invoked by the running invocation,
+         * less than its own inclusive time by its exclusive time
+         */
+        private long childNanos;
+
+        void start(long position) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, 2 * depth);
+            }
+            stack[depth] = position;
+            stack[depth + 1] = childNanos;
+            stack[depth + 2] = System.nanoTime();
+            depth += 3;
+            childNanos = 0;
+        }
+
+        void stop(ProfileCounter counter, boolean success, long position) {
+            depth -= 3;
+            long inclusive = System.nanoTime() - stack[depth + 2];
+            long start = stack[depth];
+            counter.record(success, inclusive, inclusive - childNanos,
+                    0 <= start && 0 <= position ? position - start : -1);
+            childNanos = stack[depth + 1] + inclusive;
+        }
+    }
+}
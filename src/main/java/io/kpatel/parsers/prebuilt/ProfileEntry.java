@@ -0,0 +1,104 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.Optional;
+
+/**
+ * WHAT: How one node of a profiled grammar performed, over every parse since
+ *   the profile was created or reset
+ * NOTE:
+ * - Inclusive time is spent in the node and every node it invoked, while
+ *   exclusive time leaves out the time of the profiled nodes it invoked
+ * - Recursive nodes count the inclusive time of each nested invocation
+ *   again, so only their exclusive time adds up over the grammar
+ * - Items are counted on Success only, from the positions of the stream,
+ *   and are 0 on streams that cannot report a position
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads.
+ *
+ * @see GrammarProfile#getEntries()
+ */
+public final class ProfileEntry {
+    private final int id;
+    private final String factory;
+    private final String rule;
+    private final long successes;
+    private final long failures;
+    private final long inclusiveNanos;
+    private final long exclusiveNanos;
+    private final long itemsConsumed;
+
+    ProfileEntry(int id, String factory, String rule, long successes, long failures,
+                 long inclusiveNanos, long exclusiveNanos, long itemsConsumed) {
+        this.id = id;
+        this.factory = factory;
+        this.rule = rule;
+        this.successes = successes;
+        this.failures = failures;
+        this.inclusiveNanos = inclusiveNanos;
+        this.exclusiveNanos = exclusiveNanos;
+        this.itemsConsumed = itemsConsumed;
+    }
+
+    /**
+     * WHAT: The number of the node within its profile, in the order the
+     *   nodes were compiled, to tell apart nodes of the same label
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * WHAT: The name of the factory that built the node (e.g. "sequence"),
+     *   or "custom" for a parser that was not built by a prebuilt factory
+     */
+    public String getFactory() {
+        return factory;
+    }
+
+    /**
+     * WHAT: The name of the closest named Rule the node is defined in, if any
+     */
+    public Optional<String> getRule() {
+        return Optional.ofNullable(rule);
+    }
+
+    /**
+     * WHAT: The rule and factory name, as "rule/factory" or "factory"
+     */
+    public String getLabel() {
+        return rule != null ? rule + "/" + factory : factory;
+    }
+
+    public long getInvocations() {
+        return successes + failures;
+    }
+
+    public long getSuccesses() {
+        return successes;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getInclusiveNanos() {
+        return inclusiveNanos;
+    }
+
+    public long getExclusiveNanos() {
+        return exclusiveNanos;
+    }
+
+    /**
+     * WHAT: The number of items consumed by the successful invocations
+     */
+    public long getItemsConsumed() {
+        return itemsConsumed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s: %d Invocations (%d Successes), %d ns Inclusive, %d ns Exclusive, %d Items",
+                id, getLabel(), getInvocations(), successes, inclusiveNanos, exclusiveNanos, itemsConsumed);
+    }
+}
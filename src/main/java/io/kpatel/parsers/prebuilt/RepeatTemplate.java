@@ -0,0 +1,33 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.builder.Builder;
+
+import java.util.function.Supplier;
+
+/**
+ * WHAT: The template of the generated class of a {@link NodeForm.Repetition}
+ * NOTE:
+ * - Only initialized as a copy, see {@link GrammarCodegen}
+ */
+final class RepeatTemplate implements ContextStep<Object, Object> {
+    private static final Supplier<Builder<Object, Object>> PROVIDER = GrammarCodegen.constant(0);
+    private static final ContextStep<Object, Object> PART = GrammarCodegen.constant(1);
+    private static final int MIN = GrammarCodegen.<Integer>constant(2);
+
+    @Override
+    public boolean parse(ParseContext<Object, Object> context) {
+        Builder<Object, Object> builder;
+        if (MIN == 0) {
+            builder = PROVIDER.get();
+        } else if (PART.parse(context)) {
+            builder = PROVIDER.get().append(context.getValue());
+        } else {
+            return false;
+        }
+        while (PART.parse(context)) {
+            builder = builder.append(context.getValue());
+        }
+        return context.succeed(builder.toOutput());
+    }
+}
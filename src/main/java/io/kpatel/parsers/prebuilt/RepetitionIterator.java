@@ -0,0 +1,86 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ParserStream;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * WHAT: Lazily parses the elements of a repetition over a whole stream, one
+ *   element per call of next()
+ * INTENT: Process records (e.g. lines of a large file) as they are parsed,
+ *   w/o holding every record, or the consumed input, in memory
+ * NOTE:
+ * - There is a next element until the stream is at its end
+ * - An element (or delimiter) that fails throws its {@link ParserError} from
+ *   next(), and ends the iteration
+ * - Only the stream after the last element is held, so streams that free
+ *   what is behind them (e.g. ReaderStream) free the consumed prefix, as
+ *   long as the caller does not hold the initial stream
+ * - An element that succeeds w/o consuming anything, w/o a delimiter, is
+ *   parsed again at the same position forever
+ * - This Implementation is Mutable, and not safe to share between Threads.
+ *
+ * @see RepetitionParsers#iterate
+ * @see RepetitionParsers#iterateDelimited
+ */
+public final class RepetitionIterator<T, Seq, Itm> implements Iterator<T> {
+    private final Parser<T, Seq, Itm> parser;
+    private final Parser<?, Seq, Itm> delimiter;
+    private ParserStream<Seq, Itm> remaining;
+    private boolean first;
+    private boolean failed;
+
+    /**
+     * - delimiter is null for a repetition w/o delimiters
+     */
+    RepetitionIterator(Parser<T, Seq, Itm> parser, Parser<?, Seq, Itm> delimiter, ParserStream<Seq, Itm> stream) {
+        this.parser = parser;
+        this.delimiter = delimiter;
+        this.remaining = stream;
+        this.first = true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !failed && !remaining.atEndOfStream();
+    }
+
+    /**
+     * WHAT: Parse the next element (after a delimiter, if it is not the first)
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No Elements after " + remaining.getErrorContext().get());
+        }
+        if (!first && delimiter != null) {
+            advance(delimiter.parse(remaining));
+        }
+        first = false;
+        return advance(parser.parse(remaining));
+    }
+
+    /**
+     * WHAT: The stream after the last element that was parsed
+     */
+    public ParserStream<Seq, Itm> getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * HELPER: Move after a Success, or throw the error of a Failure
+     */
+    private <U> U advance(Result<U, Seq, Itm> result) {
+        var stream = result.getRemainingStream();
+        if (!stream.isPresent()) {
+            failed = true;
+        } else {
+            remaining = stream.get();
+        }
+        return result.getOrThrow();
+    }
+}
@@ -1,19 +1,35 @@
 package io.kpatel.parsers.prebuilt;
 
+import io.kpatel.parsers.ParseContext;
 import io.kpatel.parsers.Parser;
 import io.kpatel.parsers.Result;
 import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.builder.CombinableBuilder;
+import io.kpatel.parsers.builder.DoubleArray;
+import io.kpatel.parsers.builder.DoubleArrayBuilder;
+import io.kpatel.parsers.builder.IntArray;
+import io.kpatel.parsers.builder.IntArrayBuilder;
 import io.kpatel.parsers.builder.ListBuilder;
+import io.kpatel.parsers.builder.LongArray;
+import io.kpatel.parsers.builder.LongArrayBuilder;
 import io.kpatel.parsers.builder.MapBuilder;
 import io.kpatel.parsers.builder.TextBuilder;
+import io.kpatel.parsers.stream.ParserStream;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
-
-import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * INTENT: Top Level Generic Factories for Repeating/Concatenating Parsers and
@@ -23,13 +39,25 @@ import static io.kpatel.parsers.prebuilt.MiscParsers.map;
  * @see Builder
  */
 public final class RepetitionParsers {
+    /**
+     * WHAT: The default number of characters in a chunk of a parallel repetition
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    /**
+     * WHY: The most parts builders are told to expect, as a count need not
+     * fit the input (e.g. a repeat of many parts on a short stream)
+     */
+    private static final int MAX_CAPACITY_HINT = 1 << 10;
+
     private RepetitionParsers() {
 
     }
 
     /**
      * USAGE: Parse until all parsers succeeds or one parser fail and join the results with a builder.
+     * - Builders are told to expect a part per parser
      * @see Builder
+     * @see Builder#withCapacity(int)
      */
     public static <Out, Prt, Seq, Itm>
     Supplier<Parser<Out, Seq, Itm>> concatenate(
@@ -38,8 +66,16 @@ public final class RepetitionParsers {
         Objects.requireNonNull(provider,
                 "Builder Supplier must not be null");
         var parserList = new ArrayList<>(parsers);
-        return () -> stream -> {
-            var result = Result.success(provider.get(), stream);
+        var sized = sized(provider, parserList.size());
+        return GrammarNode.composite("concatenate", parserList,
+                children -> concatenate(provider, GrammarNode.children(children)), () -> {
+            var first = FirstSet.EMPTY;
+            for (Supplier<?> parser : parserList) {
+                first = first.then(GrammarNode.firstSetOf(parser));
+            }
+            return first;
+        }, () -> stream -> {
+            var result = Result.success(sized.get(), stream);
 
             for (Supplier<? extends Parser<? extends Prt, Seq, Itm>> parser : parserList) {
                 result = appendResult(parser, result);
@@ -48,7 +84,22 @@ public final class RepetitionParsers {
                 }
             }
             return result.map(Builder::toOutput);
-        };
+        }, context -> {
+            var cursor = context.getCursor();
+            int mark = cursor.mark();
+            var builder = sized.get();
+
+            for (Supplier<? extends Parser<? extends Prt, Seq, Itm>> parser : parserList) {
+                if (!ContextStep.run(parser, context)) {
+                    cursor.reset(mark);
+                    return false;
+                }
+                builder = builder.append(context.getValue());
+            }
+            cursor.release(mark);
+            return context.succeed(builder.toOutput());
+        }, () -> new ContinuationFrames.ConcatenateFrame<>(sized, parserList))
+                .describedAs(new NodeForm.Concatenation(provider));
     }
 
     /**
@@ -90,7 +141,9 @@ public final class RepetitionParsers {
                 "Builder Supplier must not be null");
         Objects.requireNonNull(parser,
                 "Parser must not be null");
-        return () -> stream -> {
+        return GrammarNode.composite("zeroOrMore", List.of(parser),
+                children -> zeroOrMore(provider, GrammarNode.child(children, 0)),
+                () -> GrammarNode.firstSetOf(parser).orEmpty(), () -> stream -> {
             var result = Result.success(provider.get(), stream);
             var nextResult = result;
 
@@ -99,7 +152,9 @@ public final class RepetitionParsers {
                 nextResult = appendResult(parser, nextResult);
             }
             return result.map(Builder::toOutput);
-        };
+        }, context -> context.succeed(appendAll(provider.get(), parser, context).toOutput()),
+                () -> new ContinuationFrames.RepeatFrame<>(provider, parser, 0, ContinuationFrames.RepeatFrame.UNBOUNDED))
+                .describedAs(new NodeForm.Repetition(provider, 0));
     }
 
     /**
@@ -142,7 +197,9 @@ public final class RepetitionParsers {
                 "Builder Supplier must not be null");
         Objects.requireNonNull(parser,
                 "Parser must not be null");
-        return () -> stream -> {
+        return GrammarNode.composite("oneOrMore", List.of(parser),
+                children -> oneOrMore(provider, GrammarNode.child(children, 0)),
+                () -> GrammarNode.firstSetOf(parser), () -> stream -> {
             var result = parser.get().parse(stream)
                     .map(part -> provider.get().append(part));
             var nextResult = result;
@@ -152,7 +209,10 @@ public final class RepetitionParsers {
                 nextResult = appendResult(parser, nextResult);
             }
             return result.map(Builder::toOutput);
-        };
+        }, context -> ContextStep.run(parser, context)
+                && context.succeed(appendAll(provider.get().append(context.getValue()), parser, context).toOutput()),
+                () -> new ContinuationFrames.RepeatFrame<>(provider, parser, 1, ContinuationFrames.RepeatFrame.UNBOUNDED))
+                .describedAs(new NodeForm.Repetition(provider, 1));
     }
 
     /**
@@ -200,9 +260,14 @@ public final class RepetitionParsers {
                 "Parser must not be null");
         Objects.requireNonNull(delimiter,
                 "Delimiter must not be null");
-        Supplier<Parser<Builder<Out, Prt>, Seq, Itm>> delimitedParser = () -> stream -> {
+        return GrammarNode.composite("delimited", List.of(parser, delimiter),
+                children -> delimited(provider, GrammarNode.child(children, 0), GrammarNode.child(children, 1)),
+                () -> GrammarNode.firstSetOf(parser).orEmpty(), () -> stream -> {
             var result = parser.get().parse(stream)
                     .map(part -> provider.get().append(part));
+            if (!result.isSuccess()) {
+                return Result.success(provider.get().toOutput(), stream);
+            }
             var nextResult = result;
 
             while (nextResult.isSuccess()) {
@@ -210,11 +275,28 @@ public final class RepetitionParsers {
                 nextResult = appendDelimiterResult(delimiter, nextResult);
                 nextResult = appendResult(parser, nextResult);
             }
-            return result;
-        };
-        var optDelimitedParser = MiscParsers.optional(delimitedParser, provider);
+            return result.map(Builder::toOutput);
+        }, context -> {
+            if (!ContextStep.run(parser, context)) {
+                return context.succeed(provider.get().toOutput());
+            }
+            var cursor = context.getCursor();
+            var builder = provider.get().append(context.getValue());
 
-        return map(optDelimitedParser, Builder::toOutput);
+            while (true) {
+                int mark = cursor.mark();
+                if (!ContextStep.run(delimiter, context)) {
+                    cursor.release(mark);
+                    break;
+                } else if (!ContextStep.run(parser, context)) {
+                    cursor.reset(mark);
+                    break;
+                }
+                cursor.release(mark);
+                builder = builder.append(context.getValue());
+            }
+            return context.succeed(builder.toOutput());
+        }, () -> new ContinuationFrames.DelimitedFrame<>(provider, parser, delimiter));
     }
 
     /**
@@ -247,9 +329,222 @@ public final class RepetitionParsers {
         return delimited(MapBuilder::new, parser, delimiter);
     }
 
+    /**
+     * USAGE: Parse a parser until it fails and join the results, converted to ints, to a IntArray.
+     * - The converted values are never boxed, e.g. w/ Integer::parseInt as the converter
+     * @see IntArrayBuilder
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<IntArray, Seq, Itm>> zeroOrMoreInts(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            ToIntFunction<? super T> converter) {
+        Objects.requireNonNull(converter,
+                "Converter must not be null");
+        return zeroOrMore(() -> IntArrayBuilder.converting(converter), parser);
+    }
+
+    /**
+     * USAGE: Parse with parser with a delimiter between each value and join the results, converted
+     * to ints, to a IntArray.
+     * - The converted values are never boxed
+     * @see IntArrayBuilder
+     */
+    public static <T, Del, Seq, Itm>
+    Supplier<Parser<IntArray, Seq, Itm>> delimitedInts(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            Supplier<Parser<Del, Seq, Itm>> delimiter,
+            ToIntFunction<? super T> converter) {
+        Objects.requireNonNull(converter,
+                "Converter must not be null");
+        return delimited(() -> IntArrayBuilder.converting(converter), parser, delimiter);
+    }
+
+    /**
+     * USAGE: Parse a parser until it fails and join the results, converted to longs, to a LongArray.
+     * - The converted values are never boxed, e.g. w/ Long::parseLong as the converter
+     * @see LongArrayBuilder
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<LongArray, Seq, Itm>> zeroOrMoreLongs(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            ToLongFunction<? super T> converter) {
+        Objects.requireNonNull(converter,
+                "Converter must not be null");
+        return zeroOrMore(() -> LongArrayBuilder.converting(converter), parser);
+    }
+
+    /**
+     * USAGE: Parse with parser with a delimiter between each value and join the results, converted
+     * to longs, to a LongArray.
+     * - The converted values are never boxed
+     * @see LongArrayBuilder
+     */
+    public static <T, Del, Seq, Itm>
+    Supplier<Parser<LongArray, Seq, Itm>> delimitedLongs(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            Supplier<Parser<Del, Seq, Itm>> delimiter,
+            ToLongFunction<? super T> converter) {
+        Objects.requireNonNull(converter,
+                "Converter must not be null");
+        return delimited(() -> LongArrayBuilder.converting(converter), parser, delimiter);
+    }
+
+    /**
+     * USAGE: Parse a parser until it fails and join the results, converted to doubles, to a DoubleArray.
+     * - The converted values are never boxed, e.g. w/ Double::parseDouble as the converter
+     * @see DoubleArrayBuilder
+     */
+    public static <T, Seq, Itm>
+    Supplier<Parser<DoubleArray, Seq, Itm>> zeroOrMoreDoubles(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            ToDoubleFunction<? super T> converter) {
+        Objects.requireNonNull(converter,
+                "Converter must not be null");
+        return zeroOrMore(() -> DoubleArrayBuilder.converting(converter), parser);
+    }
+
+    /**
+     * USAGE: Parse with parser with a delimiter between each value and join the results, converted
+     * to doubles, to a DoubleArray.
+     * - The converted values are never boxed
+     * @see DoubleArrayBuilder
+     */
+    public static <T, Del, Seq, Itm>
+    Supplier<Parser<DoubleArray, Seq, Itm>> delimitedDoubles(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            Supplier<Parser<Del, Seq, Itm>> delimiter,
+            ToDoubleFunction<? super T> converter) {
+        Objects.requireNonNull(converter,
+                "Converter must not be null");
+        return delimited(() -> DoubleArrayBuilder.converting(converter), parser, delimiter);
+    }
+
+    /**
+     * USAGE: Parse with parser with a delimiter between each value, like delimited, but split long
+     * StringStreams into chunks at the record boundaries the scanner finds, parse the chunks on the
+     * pool, and combine their builders in order.
+     * - Yields the same output and remaining stream as delimited, even if a boundary is wrong
+     * - Other streams, and inputs shorter than two chunks, are parsed as delimited
+     * - The parser and delimiter must be pure and safe to share between Threads, and records
+     *   must not depend on what comes before them
+     * @see BoundaryScanner
+     * @see CombinableBuilder
+     */
+    public static <Out, Prt, Del>
+    Supplier<Parser<Out, String, Character>> parallelDelimited(
+            Supplier<CombinableBuilder<Out, Prt>> provider,
+            Supplier<Parser<Prt, String, Character>> parser,
+            Supplier<Parser<Del, String, Character>> delimiter,
+            BoundaryScanner scanner,
+            ForkJoinPool pool,
+            int chunkSize) {
+        Objects.requireNonNull(scanner,
+                "Boundary Scanner must not be null");
+        return parallelDelimited(provider, parser, delimiter, () -> scanner, pool, chunkSize);
+    }
+
+    /**
+     * USAGE: Parse with parser with a delimiter between each value in parallel, and join the results
+     * to a list.
+     * - The delimiter must accept a single character, which records start after,
+     *   otherwise the input is parsed as delimited
+     * - Chunks of {@link #DEFAULT_CHUNK_SIZE} characters are parsed on the common pool
+     */
+    public static <T, Del>
+    Supplier<Parser<List<T>, String, Character>> parallelDelimitedList(
+            Supplier<Parser<T, String, Character>> parser,
+            Supplier<Parser<Del, String, Character>> delimiter) {
+        Objects.requireNonNull(delimiter,
+                "Delimiter must not be null");
+        return parallelDelimited(ListBuilder::new, parser, delimiter,
+                ParallelRepetition.derive(delimiter), ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * USAGE: Parse a parser until it fails, like zeroOrMore, but split long StringStreams into chunks
+     * at the record boundaries the scanner finds, parse the chunks on the pool, and combine their
+     * builders in order.
+     * - Yields the same output and remaining stream as zeroOrMore, even if a boundary is wrong
+     * - Other streams, and inputs shorter than two chunks, are parsed as zeroOrMore
+     * - The parser must be pure and safe to share between Threads, and records must not depend on
+     *   what comes before them
+     * @see BoundaryScanner
+     * @see CombinableBuilder
+     */
+    public static <Out, Prt>
+    Supplier<Parser<Out, String, Character>> parallelZeroOrMore(
+            Supplier<CombinableBuilder<Out, Prt>> provider,
+            Supplier<Parser<Prt, String, Character>> parser,
+            BoundaryScanner scanner,
+            ForkJoinPool pool,
+            int chunkSize) {
+        Objects.requireNonNull(provider,
+                "Builder Supplier must not be null");
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        Objects.requireNonNull(scanner,
+                "Boundary Scanner must not be null");
+        requireParallelism(pool, chunkSize);
+        var sequential = zeroOrMore(provider::get, parser);
+        return GrammarNode.composite("parallelZeroOrMore", List.of(parser),
+                children -> parallelZeroOrMore(provider, GrammarNode.child(children, 0), scanner, pool, chunkSize),
+                () -> GrammarNode.firstSetOf(parser).orEmpty(),
+                () -> new ParallelRepetition<>(provider, parser, null, () -> scanner,
+                        pool, chunkSize, sequential.get()));
+    }
+
+    /**
+     * USAGE: Parse a parser until it fails in parallel, and join the results to a list.
+     * - Chunks of {@link #DEFAULT_CHUNK_SIZE} characters are parsed on the common pool
+     */
+    public static <T>
+    Supplier<Parser<List<T>, String, Character>> parallelZeroOrMoreList(
+            Supplier<Parser<T, String, Character>> parser,
+            BoundaryScanner scanner) {
+        return parallelZeroOrMore(ListBuilder::new, parser, scanner,
+                ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * HELPER: parallelDelimited with a scanner derived on first use
+     */
+    private static <Out, Prt, Del>
+    Supplier<Parser<Out, String, Character>> parallelDelimited(
+            Supplier<CombinableBuilder<Out, Prt>> provider,
+            Supplier<Parser<Prt, String, Character>> parser,
+            Supplier<Parser<Del, String, Character>> delimiter,
+            Supplier<BoundaryScanner> scanner,
+            ForkJoinPool pool,
+            int chunkSize) {
+        Objects.requireNonNull(provider,
+                "Builder Supplier must not be null");
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        Objects.requireNonNull(delimiter,
+                "Delimiter must not be null");
+        requireParallelism(pool, chunkSize);
+        var sequential = delimited(provider::get, parser, delimiter);
+        return GrammarNode.composite("parallelDelimited", List.of(parser, delimiter),
+                children -> parallelDelimited(provider, GrammarNode.child(children, 0),
+                        GrammarNode.child(children, 1), scanner, pool, chunkSize),
+                () -> GrammarNode.firstSetOf(parser).orEmpty(),
+                () -> new ParallelRepetition<>(provider, parser, delimiter, scanner,
+                        pool, chunkSize, sequential.get()));
+    }
+
+    private static void requireParallelism(ForkJoinPool pool, int chunkSize) {
+        Objects.requireNonNull(pool,
+                "Fork Join Pool must not be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk Size must be positive: " + chunkSize);
+        }
+    }
+
     /**
      * USAGE: Parses an exact number of an items and join the results with a builder.
+     * - Builders are told to expect count parts, up to a limit
      * @see Builder
+     * @see Builder#withCapacity(int)
      */
     public static <Out, Prt, Seq, Itm>
     Supplier<Parser<Out, Seq, Itm>> repeat(
@@ -260,14 +555,31 @@ public final class RepetitionParsers {
                 "Builder Supplier must not be null");
         Objects.requireNonNull(parser,
                 "Parser must not be null");
-        return () -> stream -> {
-            var result = Result.success(provider.get(), stream);
+        var sized = sized(provider, count);
+        return GrammarNode.composite("repeat", List.of(parser),
+                children -> repeat(provider, GrammarNode.child(children, 0), count),
+                () -> count <= 0 ? FirstSet.EMPTY : GrammarNode.firstSetOf(parser), () -> stream -> {
+            var result = Result.success(sized.get(), stream);
 
             for (int i = 0; i < count && result.isSuccess(); i++) {
                 result = appendResult(parser, result);
             }
             return result.map(Builder::toOutput);
-        };
+        }, context -> {
+            var cursor = context.getCursor();
+            int mark = cursor.mark();
+            var builder = sized.get();
+
+            for (int i = 0; i < count; i++) {
+                if (!ContextStep.run(parser, context)) {
+                    cursor.reset(mark);
+                    return false;
+                }
+                builder = builder.append(context.getValue());
+            }
+            cursor.release(mark);
+            return context.succeed(builder.toOutput());
+        }, () -> new ContinuationFrames.RepeatFrame<>(sized, parser, count, count));
     }
 
     /**
@@ -303,7 +615,9 @@ public final class RepetitionParsers {
 
     /**
      * USAGE: Parses a range of an item and join the results with a builder.
+     * - Builders are told to expect inclusiveLow parts, the only count that is certain
      * @see Builder
+     * @see Builder#withCapacity(int)
      */
     public static <Out, Prt, Seq, Itm>
     Supplier<Parser<Out, Seq, Itm>> rangedRepeat(
@@ -314,8 +628,13 @@ public final class RepetitionParsers {
                 "Builder Supplier must not be null");
         Objects.requireNonNull(parser,
                 "Parser must not be null");
-        return () -> stream -> {
-            var result = Result.success(provider.get(), stream);
+        var sized = sized(provider, inclusiveLow);
+        return GrammarNode.composite("rangedRepeat", List.of(parser),
+                children -> rangedRepeat(provider, GrammarNode.child(children, 0), inclusiveLow, inclusiveHigh),
+                () -> inclusiveLow <= 0
+                ? GrammarNode.firstSetOf(parser).orEmpty()
+                : GrammarNode.firstSetOf(parser), () -> stream -> {
+            var result = Result.success(sized.get(), stream);
             for (int i = 0; i < inclusiveLow && result.isSuccess(); i++) {
                 result = appendResult(parser, result);
             }
@@ -328,7 +647,25 @@ public final class RepetitionParsers {
                 }
             }
             return result.map(Builder::toOutput);
-        };
+        }, context -> {
+            var cursor = context.getCursor();
+            int mark = cursor.mark();
+            var builder = sized.get();
+
+            for (int i = 0; i < inclusiveLow; i++) {
+                if (!ContextStep.run(parser, context)) {
+                    cursor.reset(mark);
+                    return false;
+                }
+                builder = builder.append(context.getValue());
+            }
+            cursor.release(mark);
+            for (int i = inclusiveLow; i < inclusiveHigh && ContextStep.run(parser, context); i++) {
+                builder = builder.append(context.getValue());
+            }
+            return context.succeed(builder.toOutput());
+        }, () -> new ContinuationFrames.RepeatFrame<>(sized, parser,
+                inclusiveLow, (long) inclusiveHigh - Math.min(inclusiveLow, 0)));
     }
 
     /**
@@ -367,6 +704,86 @@ public final class RepetitionParsers {
                 inclusiveLow, inclusiveHigh);
     }
 
+    /**
+     * USAGE: Lazily parse a parser until the end of the stream, one element per call of next(),
+     * instead of joining the results to a builder.
+     * - An element that fails before the end of the stream is thrown as a ParserError from next()
+     * - Only the stream after the last element is held, so hand over a stream that nothing else holds
+     * @see RepetitionIterator
+     */
+    public static <T, Seq, Itm>
+    RepetitionIterator<T, Seq, Itm> iterate(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            ParserStream<Seq, Itm> stream) {
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        Objects.requireNonNull(stream,
+                "Parser Stream must not be null");
+        return new RepetitionIterator<>(parser.get(), null, stream);
+    }
+
+    /**
+     * USAGE: Lazily parse with parser with a delimiter between each value until the end of the
+     * stream, one element per call of next(), instead of joining the results to a builder.
+     * - An element or delimiter that fails before the end of the stream is thrown as a ParserError
+     *   from next()
+     * @see RepetitionIterator
+     */
+    public static <T, Del, Seq, Itm>
+    RepetitionIterator<T, Seq, Itm> iterateDelimited(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            Supplier<Parser<Del, Seq, Itm>> delimiter,
+            ParserStream<Seq, Itm> stream) {
+        Objects.requireNonNull(parser,
+                "Parser must not be null");
+        Objects.requireNonNull(delimiter,
+                "Delimiter must not be null");
+        Objects.requireNonNull(stream,
+                "Parser Stream must not be null");
+        return new RepetitionIterator<>(parser.get(), delimiter.get(), stream);
+    }
+
+    /**
+     * USAGE: A sequential, ordered java.util.stream.Stream over iterate
+     * - Elements are parsed as the Stream pulls them
+     */
+    public static <T, Seq, Itm>
+    Stream<T> stream(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            ParserStream<Seq, Itm> stream) {
+        return toStream(iterate(parser, stream));
+    }
+
+    /**
+     * USAGE: A sequential, ordered java.util.stream.Stream over iterateDelimited
+     * - Elements are parsed as the Stream pulls them
+     */
+    public static <T, Del, Seq, Itm>
+    Stream<T> streamDelimited(
+            Supplier<Parser<T, Seq, Itm>> parser,
+            Supplier<Parser<Del, Seq, Itm>> delimiter,
+            ParserStream<Seq, Itm> stream) {
+        return toStream(iterateDelimited(parser, delimiter, stream));
+    }
+
+    private static <T> Stream<T> toStream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * HELPER: A provider of builders which expect the given number of parts,
+     * up to {@link #MAX_CAPACITY_HINT}
+     * @see Builder#withCapacity(int)
+     */
+    static <Out, Prt>
+    Supplier<Builder<Out, Prt>> sized(
+            Supplier<Builder<Out, Prt>> provider,
+            int parts) {
+        int hint = Math.min(parts, MAX_CAPACITY_HINT);
+        return hint <= 0 ? provider : () -> provider.get().withCapacity(hint);
+    }
+
     /**
      * HELPER: Parse a part and append it to the builder, otherwise fail as normal
      */
@@ -378,6 +795,20 @@ public final class RepetitionParsers {
                 parser.get().parse(remaining).map(bld::append));
     }
 
+    /**
+     * HELPER: Parse parts until one fails, and append them to the builder
+     */
+    private static <Out, Prt, Seq, Itm>
+    Builder<Out, Prt> appendAll(
+            Builder<Out, Prt> builder,
+            Supplier<Parser<Prt, Seq, Itm>> parser,
+            ParseContext<Seq, Itm> context) {
+        while (ContextStep.run(parser, context)) {
+            builder = builder.append(context.getValue());
+        }
+        return builder;
+    }
+
     private static <Out, Prt, Del, Seq, Itm>
     Result<Builder<Out, Prt>, Seq, Itm> appendDelimiterResult(
             Supplier<Parser<Del, Seq, Itm>> parser,
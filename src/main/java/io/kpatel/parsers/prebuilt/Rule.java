@@ -0,0 +1,110 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Parser;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A Parser Supplier which is bound to its definition after it is created
+ * INTENT: Let recursive grammars refer to a rule before it is defined, so the
+ *   rule is built once instead of on every use
+ * USAGE:
+ *   Rule<Integer, String, Character> expr = GrammarParsers.rule();
+ *   expr.bind(alternate(List.of(number, between(open, expr, close))));
+ * NOTE:
+ * - A Rule can be bound only once, and must be bound before it is parsed
+ * - A Rule may be named, to label the nodes of its definition in a
+ *   {@link GrammarProfile}
+ * - Once bound, this Implementation is Effectively Immutable, and safe to
+ *   share between Threads.
+ *
+ * @see GrammarParsers#rule()
+ */
+public final class Rule<T, Seq, Itm> implements Supplier<Parser<T, Seq, Itm>> {
+    private final String name;
+    private volatile Supplier<? extends Parser<? extends T, Seq, Itm>> definition;
+    private Supplier<?> generated;
+
+    /**
+     * - name is null for a Rule w/o a name
+     */
+    Rule(String name) {
+        this.name = name;
+    }
+
+    /**
+     * WHAT: The name the Rule was created with, if any
+     */
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    /**
+     * WHAT: Define the rule as the given parser
+     * - Throws {@link IllegalStateException} if the rule is already bound
+     */
+    public synchronized Rule<T, Seq, Itm> bind(
+            Supplier<? extends Parser<? extends T, Seq, Itm>> definition) {
+        Objects.requireNonNull(definition,
+                "Definition must not be null");
+        if (this.definition != null) {
+            throw new IllegalStateException("Rule is already bound");
+        }
+        this.definition = definition;
+        return this;
+    }
+
+    /**
+     * WHAT: Whether the rule has been bound to its definition
+     */
+    public boolean isBound() {
+        return definition != null;
+    }
+
+    /**
+     * WHAT: The parser of the definition
+     * - Throws {@link IllegalStateException} if the rule is not bound yet
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Parser<T, Seq, Itm> get() {
+        // Results are immutable, so a Parser of a subtype is a Parser of its supertype
+        return (Parser<T, Seq, Itm>) getDefinition().get();
+    }
+
+    Supplier<? extends Parser<? extends T, Seq, Itm>> getDefinition() {
+        var bound = definition;
+        if (bound == null) {
+            throw new IllegalStateException("Rule is not bound");
+        }
+        return bound;
+    }
+
+    /**
+     * HELPER: Bind a rule created while compiling, to its compiled definition
+     */
+    @SuppressWarnings("unchecked")
+    void bindCompiled(Supplier<?> compiled) {
+        bind((Supplier<? extends Parser<? extends T, Seq, Itm>>) compiled);
+    }
+
+    /**
+     * WHAT: The generated form of the grammar rooted at this Rule, as by
+     *   {@link GrammarNode#generated(Supplier)}
+     */
+    synchronized Supplier<?> generated(Supplier<? extends Supplier<?>> generator) {
+        if (generated == null) {
+            generated = generator.get();
+        }
+        return generated;
+    }
+
+    FirstSet getFirstSet() {
+        var bound = definition;
+        return bound != null
+                ? GrammarNode.guardCycles(this, () -> GrammarNode.firstSetOf(bound))
+                : FirstSet.UNKNOWN;
+    }
+}
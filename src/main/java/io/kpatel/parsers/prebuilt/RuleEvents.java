@@ -0,0 +1,122 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.util.Arrays;
+
+/**
+ * WHAT: Instruments a grammar to emit the Flight Recorder events of its
+ *   named Rules, and of its nodes that backtrack deeply
+ * NOTE:
+ * - Every invocation of a named Rule may emit a slow rule event, and every
+ *   node that throws away at least the given number of items emits a deep
+ *   backtrack event, w/ rewinds measured as in {@link BacktrackProfile}
+ * - Nothing is instrumented on runtimes w/o the Flight Recorder, see
+ *   {@link ParseEvents#isSupported()}
+ * - The state of the running parse is kept in a Trace per Thread, so this
+ *   Implementation is Thread-Safe
+ *
+ * @see GrammarParsers#recordEvents(java.util.function.Supplier, long)
+ */
+final class RuleEvents extends GrammarProbe {
+    private final long deepBacktrack;
+    private final ThreadLocal<Trace> traces = ThreadLocal.withInitial(Trace::new);
+
+    /**
+     * - deepBacktrack is the least number of discarded items to report
+     */
+    RuleEvents(long deepBacktrack) {
+        this.deepBacktrack = deepBacktrack;
+    }
+
+    @Override
+    NodeProbe register(String factory, String rule) {
+        if (!ParseEvents.isSupported()) {
+            return null;
+        }
+        return new NodeProbe() {
+            @Override
+            public void enter(long position) {
+                traces.get().enter(position);
+            }
+
+            @Override
+            public void leave(boolean success, long position) {
+                var trace = traces.get();
+                long rewind = trace.leave(success, position);
+                if (deepBacktrack <= rewind) {
+                    ParseEvents.deepBacktrack(rule, factory, trace.start, rewind);
+                }
+            }
+        };
+    }
+
+    @Override
+    NodeProbe registerRule(String rule) {
+        if (!ParseEvents.isSupported()) {
+            return null;
+        }
+        return new NodeProbe() {
+            @Override
+            public void enter(long position) {
+                traces.get().push(ParseEvents.beginRule(rule, position));
+            }
+
+            @Override
+            public void leave(boolean success, long position) {
+                ParseEvents.endRule(traces.get().pop(), success, position);
+            }
+        };
+    }
+
+    /**
+     * WHAT: The state of the parses on one Thread, the stack of running
+     *   nodes w/ the furthest Success of the nodes they invoked, and the
+     *   stack of running Rules w/ their events
+     */
+    private static final class Trace {
+        private long[] starts = new long[16];
+        private long[] furthest = new long[16];
+        private int depth;
+        private Object[] rules = new Object[16];
+        private int ruleDepth;
+        /**
+         * WHAT: The start of the node that left last
+         */
+        private long start;
+
+        void enter(long position) {
+            if (depth == starts.length) {
+                starts = Arrays.copyOf(starts, 2 * depth);
+                furthest = Arrays.copyOf(furthest, 2 * depth);
+            }
+            starts[depth] = position;
+            furthest[depth] = position;
+            depth++;
+        }
+
+        /**
+         * WHAT: The number of items the node threw away, or 0
+         */
+        long leave(boolean success, long position) {
+            depth--;
+            start = starts[depth];
+            long end = success ? position : start;
+            if (success && 0 < depth && furthest[depth - 1] < position) {
+                furthest[depth - 1] = position;
+            }
+            return 0 <= start && 0 <= end ? Math.max(0, furthest[depth] - end) : 0;
+        }
+
+        void push(Object event) {
+            if (ruleDepth == rules.length) {
+                rules = Arrays.copyOf(rules, 2 * ruleDepth);
+            }
+            rules[ruleDepth++] = event;
+        }
+
+        Object pop() {
+            var event = rules[--ruleDepth];
+            rules[ruleDepth] = null;
+            return event;
+        }
+    }
+}
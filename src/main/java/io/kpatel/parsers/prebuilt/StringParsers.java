@@ -1,8 +1,15 @@
 package io.kpatel.parsers.prebuilt;
 
+import io.kpatel.parsers.ParseContext;
 import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.StringInterner;
+import io.kpatel.parsers.stream.CharCursor;
+import io.kpatel.parsers.stream.CharParserStream;
+import io.kpatel.parsers.stream.SequenceHolder;
 
 import java.util.*;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -53,29 +60,131 @@ public final class StringParsers {
 
     /**
      * USAGE: Create a parser that accepts one of the given words
+     * - Accepts the longest word that is followed by a word boundary
+     * - Words are compiled into a Trie, so the stream is scanned once
+     *   regardless of the number of words
      */
     public static Supplier<Parser<String, String, Character>> keywords(
             Collection<String> words) {
-        var wordList = new ArrayList<>(words);
-        List<Supplier<? extends Parser<? extends String, String, Character>>>
-                keywordParsers = new ArrayList<>();
+        var trie = KeywordTrie.of(words);
+        Supplier<String> errorMessage = () -> "Cannot Find Keyword";
+        return GrammarNode.leaf("keywords", trie::getFirstSet, () -> stream -> {
+            String word;
+            if (stream instanceof CharParserStream) {
+                word = trie.match(((CharParserStream) stream)::peekChar);
+            } else {
+                // One extra character, to test the word boundary
+                String leading = stream.getLeadingSequence(trie.getMaxLength() + 1).getSequence();
+                word = trie.match(offset -> offset < leading.length()
+                        ? leading.charAt(offset)
+                        : CharParserStream.END_OF_STREAM);
+            }
+            return word != null
+                    ? Result.success(word, stream.jump(word.length()))
+                    : Result.failure(stream.getErrorContext(), errorMessage);
+        }, context -> {
+            var cursor = context.getCursor();
+            String word;
+            if (cursor instanceof CharCursor) {
+                word = trie.match(((CharCursor) cursor)::peekChar);
+            } else {
+                String leading = cursor.getLeadingSequence(trie.getMaxLength() + 1).getSequence();
+                word = trie.match(offset -> offset < leading.length()
+                        ? leading.charAt(offset)
+                        : CharParserStream.END_OF_STREAM);
+            }
+            if (word != null) {
+                cursor.advance(word.length());
+                return context.succeed(word);
+            }
+            return context.fail(ParseContext.EXPECTED_INPUT, errorMessage);
+        });
+    }
 
-        // Sort by Length Descending order, then Natural Order in Ascending Order
-        wordList.sort(Comparator.comparing(String::length).reversed()
-                .thenComparing(Comparator.naturalOrder()));
+    /**
+     * USAGE: Create a parser that accepts a Character that satisfy a given predicate
+     * - Will fail if at end of stream
+     * - Characters are tested w/o boxing on a {@link CharParserStream}
+     */
+    public static Supplier<Parser<Character, String, Character>> charItem(
+            IntPredicate predicate,
+            Supplier<String> errorMessage) {
+        Objects.requireNonNull(predicate,
+                "Predicate must not be null");
+        var fallback = TerminalParsers.<String, Character>item(
+                c -> predicate.test(c), errorMessage);
+        var first = FirstSet.<Character>matching(c -> predicate.test(c));
+        return GrammarNode.<Character, String, Character>leaf("charItem", () -> first, () -> stream -> {
+            if (stream instanceof CharParserStream) {
+                var chars = (CharParserStream) stream;
+                int leading = chars.peekChar();
+                return leading != CharParserStream.END_OF_STREAM && predicate.test(leading)
+                        ? Result.success((char) leading, chars.jump(1))
+                        : Result.failure(stream.getErrorContext(), errorMessage);
+            }
+            return fallback.get().parse(stream);
+        }, context -> {
+            var cursor = context.getCursor();
+            if (cursor instanceof CharCursor) {
+                int leading = ((CharCursor) cursor).peekChar();
+                if (leading != CharParserStream.END_OF_STREAM && predicate.test(leading)) {
+                    cursor.advance(1);
+                    return context.succeed((char) leading);
+                }
+                return context.fail(ParseContext.EXPECTED_INPUT, errorMessage);
+            }
+            return ContextStep.run(fallback, context);
+        }).describedAs(new NodeForm.ItemTest((Predicate<Character>) c -> predicate.test(c)));
+    }
 
-        for (String word : wordList) {
-            keywordParsers.add(term(word));
-        }
+    /**
+     * USAGE: Create a parser that accepts a run of Characters that satisfy a given predicate
+     * - Will always succeed
+     * - Characters are tested w/o boxing on a {@link CharParserStream}
+     */
+    public static Supplier<Parser<String, String, Character>> optionalCharRun(
+            IntPredicate predicate) {
+        Objects.requireNonNull(predicate,
+                "Predicate must not be null");
+        return optionalCharRun(predicate, null);
+    }
 
-        return alternate(keywordParsers);
+    /**
+     * HELPER: Accept a run of Characters that satisfy the predicate, and
+     * yield it through the interner, if there is one
+     */
+    private static Supplier<Parser<String, String, Character>> optionalCharRun(
+            IntPredicate predicate,
+            StringInterner interner) {
+        var fallback = TerminalParsers.<String, Character>optionalRun(
+                c -> predicate.test(c));
+        var internedFallback = interner != null
+                ? MiscParsers.intern(fallback, interner)
+                : fallback;
+        var first = FirstSet.<Character>matching(c -> predicate.test(c)).orEmpty();
+        return GrammarNode.<String, String, Character>leaf("optionalCharRun", () -> first, () -> stream -> {
+            if (stream instanceof CharParserStream) {
+                var chars = (CharParserStream) stream;
+                SequenceHolder<String> holder = chars.getLeadingCharRun(predicate);
+                return Result.success(sequenceOf(holder, interner), chars.jump(holder.getLength()));
+            }
+            return internedFallback.get().parse(stream);
+        }, context -> {
+            var cursor = context.getCursor();
+            if (cursor instanceof CharCursor) {
+                SequenceHolder<String> holder = ((CharCursor) cursor).getLeadingCharRun(predicate);
+                cursor.advance(holder.getLength());
+                return context.succeed(sequenceOf(holder, interner));
+            }
+            return ContextStep.run(internedFallback, context);
+        }).describedAs(new NodeForm.Text(shared -> optionalCharRun(predicate, shared)));
     }
 
     /**
      * USAGE: Create a parser that accepts an Letter Characters
      */
     public static Supplier<Parser<Character, String, Character>> letter() {
-        return item(Character::isLetter,
+        return charItem(Character::isLetter,
                 () -> "Expected a Letter Character");
     }
 
@@ -83,7 +192,7 @@ public final class StringParsers {
      * USAGE: Create a parser that accepts an Digit Characters
      */
     public static Supplier<Parser<Character, String, Character>> digit() {
-        return item(Character::isDigit,
+        return charItem(Character::isDigit,
                 () -> "Expected a Digit Character");
     }
 
@@ -91,7 +200,7 @@ public final class StringParsers {
      * USAGE: Create a parser that accepts an Alphanumeric Characters
      */
     public static Supplier<Parser<Character, String, Character>> alphanumeric() {
-        return item(Character::isLetterOrDigit,
+        return charItem(Character::isLetterOrDigit,
                 () -> "Expected a Alpha Numeric Character");
     }
 
@@ -100,28 +209,28 @@ public final class StringParsers {
      * USAGE: Create a parser that accepts a run of Whitespace Characters, (including newlines)
      */
     public static Supplier<Parser<String, String, Character>> whitespace() {
-        return optionalRun(Character::isSpaceChar);
+        return optionalCharRun(Character::isSpaceChar);
     }
 
     /**
      * USAGE: Create a parser that accepts a run of Letter Characters
      */
     public static Supplier<Parser<String, String, Character>> letters() {
-        return optionalRun(Character::isLetter);
+        return optionalCharRun(Character::isLetter);
     }
 
     /**
      * USAGE: Create a parser that accepts a run of Digit Characters
      */
     public static Supplier<Parser<String, String, Character>> digits() {
-        return optionalRun(Character::isDigit);
+        return optionalCharRun(Character::isDigit);
     }
 
     /**
      * USAGE: Create a parser that accepts a run of Alphanumeric Characters
      */
     public static Supplier<Parser<String, String, Character>> alphanumerics() {
-        return optionalRun(Character::isLetterOrDigit);
+        return optionalCharRun(Character::isLetterOrDigit);
     }
 
     /**
@@ -135,8 +244,7 @@ public final class StringParsers {
      * USAGE: Create a parser that does not accepts an Alphanumeric Characters
      */
     private static Supplier<Parser<Character, String, Character>> nonAlphanumeric() {
-        Predicate<Character> predicate = Character::isLetterOrDigit;
-        return item(predicate.negate(),
+        return charItem(c -> !Character.isLetterOrDigit(c),
                 () -> "Cannot Find Word Boundary");
     }
 }
@@ -1,19 +1,23 @@
 package io.kpatel.parsers.prebuilt;
 
+import io.kpatel.parsers.ParseContext;
 import io.kpatel.parsers.Parser;
 import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.StringInterner;
+import io.kpatel.parsers.stream.CharCursor;
+import io.kpatel.parsers.stream.CharParserStream;
+import io.kpatel.parsers.stream.CharSlice;
+import io.kpatel.parsers.stream.ParserStream;
 import io.kpatel.parsers.stream.SequenceHolder;
 
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import static io.kpatel.parsers.prebuilt.MiscParsers.flatMap;
-import static io.kpatel.parsers.prebuilt.MiscParsers.peek;
-
 /**
  * INTENT: Top Level Generic Factories for Parsers handling ParserStream Primitives
  *
@@ -31,9 +35,13 @@ public final class TerminalParsers {
      */
     public static <Seq, Itm>
     Supplier<Parser<Object, Seq, Itm>> endOfStream() {
-        return () -> stream -> stream.atEndOfStream()
+        Supplier<String> errorMessage = () -> "Expected End of Stream";
+        return GrammarNode.leaf("endOfStream", () -> FirstSet.EMPTY, () -> stream -> stream.atEndOfStream()
                 ? Result.success(eofSentinel, stream)
-                : Result.failure(stream.getErrorContext(), () -> "Expected End of Stream");
+                : Result.failure(stream.getErrorContext(), errorMessage),
+                context -> context.getCursor().atEndOfStream()
+                        ? context.succeed(eofSentinel)
+                        : context.fail(ParseContext.EXPECTED_END, errorMessage));
     }
 
     /**
@@ -42,9 +50,8 @@ public final class TerminalParsers {
      */
     public static <Seq, Itm>
     Supplier<Parser<Itm, Seq, Itm>> item() {
-        return () -> stream -> stream.getLeadingItem()
-                .map(i -> Result.success(i, stream.jump(1)))
-                .orElseGet(() -> Result.failure(stream.getErrorContext(), () -> "Unexpected End of Stream"));
+        Supplier<String> errorMessage = () -> "Unexpected End of Stream";
+        return itemNode(i -> true, FirstSet.matching(i -> true), errorMessage);
     }
 
     /**
@@ -57,10 +64,7 @@ public final class TerminalParsers {
             Supplier<String> errorMessage) {
         Objects.requireNonNull(predicate,
                 "Predicate must not be null");
-        return () -> stream -> stream.getLeadingItem()
-                .filter(predicate)
-                .map(i -> Result.success(i, stream.jump(1)))
-                .orElseGet(() -> Result.failure(stream.getErrorContext(), errorMessage));
+        return itemNode(predicate, FirstSet.matching(predicate), errorMessage);
     }
 
     /**
@@ -74,7 +78,7 @@ public final class TerminalParsers {
             Supplier<String> errorMessage) {
         Objects.requireNonNull(target,
                 "Item must not be null");
-        return item(target::equals, errorMessage);
+        return itemNode(target::equals, FirstSet.of(target), errorMessage);
     }
 
     /**
@@ -87,12 +91,14 @@ public final class TerminalParsers {
             Collection<Itm> items,
             Supplier<String> errorMessage) {
         Set<Itm> itemSet = new HashSet<>(items);
-        return item(itemSet::contains, errorMessage);
+        return itemNode(itemSet::contains, FirstSet.ofAll(itemSet), errorMessage);
     }
 
     /**
      * USAGE: Create a parser that will accept the given sequence
      * - items are checked with {@link Object#equals(Object)}
+     * - Character Sequences held as a {@link CharSlice} are compared w/o copying,
+     *   and yield the given sequence
      */
     public static <Seq, Itm>
     Supplier<Parser<Seq, Seq, Itm>> sequence(
@@ -100,15 +106,42 @@ public final class TerminalParsers {
             Supplier<String> errorMessage) {
         Objects.requireNonNull(sequence,
                 "Sequence must not be null");
-        return () -> stream -> {
+        var node = GrammarNode.<Seq, Seq, Itm>leaf("sequence", () -> FirstSet.ofSequence(sequence), () -> stream -> {
             SequenceHolder<Seq> holder = stream.holdSequence(sequence);
             int size = holder.getLength();
             SequenceHolder<Seq> leading = stream.getLeadingSequence(size);
+            Optional<CharSlice> slice = leading.getSlice();
+            if (slice.isPresent() && sequence instanceof CharSequence) {
+                return slice.get().contentEquals((CharSequence) sequence)
+                        ? Result.success(sequence, stream.jump(leading.getLength()))
+                        : Result.failure(stream.getErrorContext(), errorMessage);
+            }
             Seq seq = leading.getSequence();
             return seq.equals(sequence)
                     ? Result.success(seq, stream.jump(leading.getLength()))
                     : Result.failure(stream.getErrorContext(), errorMessage);
-        };
+        }, context -> {
+            var cursor = context.getCursor();
+            if (cursor instanceof CharCursor && sequence instanceof CharSequence) {
+                var chars = (CharSequence) sequence;
+                if (((CharCursor) cursor).startsWith(chars)) {
+                    cursor.advance(chars.length());
+                    return context.succeed(sequence);
+                }
+                return context.fail(ParseContext.EXPECTED_INPUT, errorMessage);
+            }
+            SequenceHolder<Seq> leading = cursor.getLeadingSequence(
+                    cursor.holdSequence(sequence).getLength());
+            Seq seq = leading.getSequence();
+            if (seq.equals(sequence)) {
+                cursor.advance(leading.getLength());
+                return context.succeed(seq);
+            }
+            return context.fail(ParseContext.EXPECTED_INPUT, errorMessage);
+        });
+        return sequence instanceof String
+                ? node.describedAs(new NodeForm.Literal((String) sequence, () -> sequence))
+                : node;
     }
 
     /**
@@ -120,10 +153,26 @@ public final class TerminalParsers {
             Predicate<Itm> predicate) {
         Objects.requireNonNull(predicate,
                 "Predicate must not be null");
-        return () -> stream -> {
+        return optionalRun(predicate, null);
+    }
+
+    /**
+     * HELPER: Accept a run of items that satisfy the predicate, and yield it
+     * through the interner, if there is one
+     */
+    private static <Seq, Itm>
+    Supplier<Parser<Seq, Seq, Itm>> optionalRun(
+            Predicate<Itm> predicate,
+            StringInterner interner) {
+        return GrammarNode.<Seq, Seq, Itm>leaf("optionalRun", () -> FirstSet.matching(predicate).orEmpty(), () -> stream -> {
             SequenceHolder<Seq> holder = stream.getLeadingRun(predicate);
             int size = holder.getLength();
-            return Result.success(holder.getSequence(), stream.jump(size)); };
+            return Result.success(sequenceOf(holder, interner), stream.jump(size));
+        }, context -> {
+            SequenceHolder<Seq> holder = context.getCursor().getLeadingRun(predicate);
+            context.getCursor().advance(holder.getLength());
+            return context.succeed(sequenceOf(holder, interner));
+        }).describedAs(new NodeForm.Text(shared -> optionalRun(predicate, shared)));
     }
 
 
@@ -162,7 +211,7 @@ public final class TerminalParsers {
             Supplier<String> errorMessage) {
         Objects.requireNonNull(predicate,
                 "Predicate must not be null");
-        return flatMap(peek(item(predicate, errorMessage)), t -> optionalRun(predicate));
+        return nonEmptyRun(predicate, FirstSet.matching(predicate), errorMessage, null);
     }
 
     /**
@@ -176,7 +225,7 @@ public final class TerminalParsers {
             Supplier<String> errorMessage) {
         Objects.requireNonNull(target,
                 "Item must not be null");
-        return flatMap(peek(item(target, errorMessage)), t -> optionalRun(target));
+        return nonEmptyRun(target::equals, FirstSet.of(target), errorMessage, null);
 
     }
 
@@ -190,7 +239,99 @@ public final class TerminalParsers {
             Collection<Itm> items,
             Supplier<String> errorMessage) {
         Set<Itm> itemSet = new HashSet<>(items);
-        return flatMap(peek(item(itemSet::contains, errorMessage)), t -> optionalRun(itemSet::contains));
+        return nonEmptyRun(itemSet::contains, FirstSet.ofAll(itemSet), errorMessage, null);
+    }
+
+    /**
+     * HELPER: Accept a run of at least one item that satisfy the predicate,
+     * and yield it through the interner, if there is one
+     */
+    private static <Seq, Itm>
+    Supplier<Parser<Seq, Seq, Itm>> nonEmptyRun(
+            Predicate<Itm> predicate,
+            FirstSet first,
+            Supplier<String> errorMessage,
+            StringInterner interner) {
+        char[] expectedChars = first.getChars();
+        return GrammarNode.<Seq, Seq, Itm>leaf("run", () -> first, () -> stream -> {
+            SequenceHolder<Seq> holder = stream.getLeadingRun(predicate);
+            int size = holder.getLength();
+            return 0 < size
+                    ? Result.success(sequenceOf(holder, interner), stream.jump(size))
+                    : Result.failure(stream.getErrorContext(), errorMessage);
+        }, context -> {
+            SequenceHolder<Seq> holder = context.getCursor().getLeadingRun(predicate);
+            if (0 < holder.getLength()) {
+                context.getCursor().advance(holder.getLength());
+                return context.succeed(sequenceOf(holder, interner));
+            }
+            return context.fail(ParseContext.EXPECTED_INPUT, errorMessage, expectedChars);
+        }).describedAs(new NodeForm.Text(shared -> nonEmptyRun(predicate, first, errorMessage, shared)));
+    }
+
+    /**
+     * HELPER: The held sequence, or the String of the interner w/ its
+     * characters, if there is an interner
+     * - A held {@link CharSlice} is looked up w/o building a String
+     * - Only parsers of Strings are given an interner, so Seq is String
+     */
+    @SuppressWarnings("unchecked")
+    static <Seq> Seq sequenceOf(SequenceHolder<Seq> holder, StringInterner interner) {
+        if (interner == null) {
+            return holder.getSequence();
+        }
+        Optional<CharSlice> slice = holder.getSlice();
+        return (Seq) (slice.isPresent()
+                ? interner.intern(slice.get())
+                : interner.intern((CharSequence) holder.getSequence()));
+    }
+
+    /**
+     * HELPER: Accept a single item that satisfy the predicate
+     */
+    private static <Seq, Itm>
+    Supplier<Parser<Itm, Seq, Itm>> itemNode(
+            Predicate<Itm> predicate,
+            FirstSet first,
+            Supplier<String> errorMessage) {
+        char[] expectedChars = first.getChars();
+        return GrammarNode.<Itm, Seq, Itm>leaf("item", () -> first,
+                () -> stream -> stream instanceof CharParserStream
+                        ? leadingChar((CharParserStream) stream, predicate, errorMessage)
+                        : stream.getLeadingItem()
+                        .filter(predicate)
+                        .map(i -> Result.success(i, stream.jump(1)))
+                        .orElseGet(() -> Result.failure(stream.getErrorContext(), errorMessage)),
+                context -> {
+                    var cursor = context.getCursor();
+                    Itm leading = cursor.peekItem();
+                    if (leading != null && predicate.test(leading)) {
+                        cursor.advance(1);
+                        return context.succeed(leading);
+                    }
+                    return context.fail(ParseContext.EXPECTED_INPUT, errorMessage, expectedChars);
+                }).describedAs(new NodeForm.ItemTest(predicate));
+    }
+
+    /**
+     * HELPER: Accept the leading character of a CharParserStream w/o wrapping it in an Optional
+     * - Only reachable when Itm is Character, as CharParserStream is a ParserStream of Characters
+     */
+    @SuppressWarnings("unchecked")
+    private static <Seq, Itm>
+    Result<Itm, Seq, Itm> leadingChar(
+            CharParserStream stream,
+            Predicate<Itm> predicate,
+            Supplier<String> errorMessage) {
+        int leading = stream.peekChar();
+        if (leading != CharParserStream.END_OF_STREAM) {
+            var item = (Itm) Character.valueOf((char) leading);
+            if (predicate.test(item)) {
+                var remaining = (ParserStream<Seq, Itm>) (ParserStream<?, ?>) stream.jump(1);
+                return Result.success(item, remaining);
+            }
+        }
+        return Result.failure(stream.getErrorContext(), errorMessage);
     }
 
 }
@@ -0,0 +1,186 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ParserStream;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: A compiled grammar which parses on a {@link ParseContext}, and keeps
+ *   its composite nodes on a stack on the heap, instead of the Thread stack
+ * INTENT: Parse deeply nested input (e.g. nested brackets) w/o a
+ *   StackOverflowError, as nesting depth is limited by the heap
+ * NOTE:
+ * - Each run of a composite node pushes a {@link ContinuationFrame}, which
+ *   asks for its sub-parsers to be run instead of calling them
+ * - A parse that needs more frames than the maximum depth fails with
+ *   {@link ParseContext#DEPTH_EXCEEDED}, as a whole, abandons its frames,
+ *   and leaves the cursor where it started
+ * - Leaves, memoizing parsers and parsers that are not built by the
+ *   prebuilt factories run as in the {@link ContextParser}, so only their
+ *   own nesting uses the Thread stack
+ * - Frames are allocated on every run of a composite node, so the direct
+ *   {@link ContextParser} is faster on shallow input
+ * - This Implementation is Strictly Immutable, and safe to share between
+ *   Threads, when the grammar's parsers are.
+ *
+ * @see GrammarParsers#compileTrampoline(Supplier)
+ * @see ContinuationFrame
+ */
+public final class TrampolineParser<T, Seq, Itm> implements Parser<T, Seq, Itm> {
+    /**
+     * WHAT: The default maximum number of frames on the stack of one parse
+     */
+    public static final int DEFAULT_MAX_DEPTH = 1 << 20;
+    /**
+     * WHAT: The name of this engine in parse session events
+     */
+    private static final String ENGINE = "trampoline";
+
+    private final Supplier<Parser<T, Seq, Itm>> grammar;
+    private final FailureMode failureMode;
+    private final int maxDepth;
+
+    TrampolineParser(Supplier<Parser<T, Seq, Itm>> grammar, FailureMode failureMode, int maxDepth) {
+        this.grammar = grammar;
+        this.failureMode = failureMode;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * WHAT: The same grammar, parsing streams in the given mode
+     */
+    public TrampolineParser<T, Seq, Itm> withFailureMode(FailureMode failureMode) {
+        Objects.requireNonNull(failureMode,
+                "Failure Mode must not be null");
+        return new TrampolineParser<>(grammar, failureMode, maxDepth);
+    }
+
+    /**
+     * WHAT: The same grammar, allowing at most the given number of frames
+     */
+    public TrampolineParser<T, Seq, Itm> withMaxDepth(int maxDepth) {
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("Maximum Depth must be positive: " + maxDepth);
+        }
+        return new TrampolineParser<>(grammar, failureMode, maxDepth);
+    }
+
+    public FailureMode getFailureMode() {
+        return failureMode;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * WHAT: Parse the stream, and wrap the outcome in a Result
+     * - Emits a Flight Recorder event of the parse session, on Java 11 and later
+     */
+    @Override
+    public Result<T, Seq, Itm> parse(ParserStream<Seq, Itm> stream) {
+        var session = ParseEvents.beginSession(ENGINE, stream);
+        var context = new ParseContext<>(stream, failureMode);
+        Result<T, Seq, Itm> result;
+        if (parse(context) || failureMode != FailureMode.LIGHT) {
+            result = context.toResult();
+        } else {
+            var diagnosis = new Diagnosis<>(this::parse, stream);
+            result = Result.failure(diagnosis::getErrorContext, diagnosis::getErrorMessage);
+        }
+        ParseEvents.endSession(session, stream, result);
+        return result;
+    }
+
+    /**
+     * WHAT: Parse from the cursor of the context
+     * - On Success, the value is in the context, and the cursor is after it
+     * - Returns whether it was a Success
+     */
+    public boolean parse(ParseContext<Seq, Itm> context) {
+        var cursor = context.getCursor();
+        int start = cursor.mark();
+        ContinuationFrame<Seq, Itm>[] stack = newStack(16);
+        int depth = 0;
+        Supplier<? extends Parser<?, Seq, Itm>> next = grammar;
+
+        try {
+            while (true) {
+                if (next != null) {
+                    var frame = enter(next, context);
+                    if (frame != null) {
+                        if (depth == maxDepth) {
+                            context.fail(ParseContext.DEPTH_EXCEEDED,
+                                    () -> String.format("Maximum Depth of %d Exceeded", maxDepth));
+                            abandon(stack, depth, context);
+                            cursor.reset(start);
+                            return false;
+                        } else if (depth == stack.length) {
+                            stack = Arrays.copyOf(stack, (int) Math.min(2L * depth, maxDepth));
+                        }
+                        stack[depth++] = frame;
+                    }
+                }
+                if (depth == 0) {
+                    cursor.release(start);
+                    return context.isSuccess();
+                }
+                next = stack[depth - 1].resume(context);
+                if (next == null) {
+                    stack[--depth] = null;
+                }
+            }
+        } catch (RuntimeException | Error failure) {
+            abandon(stack, depth, context);
+            throw failure;
+        }
+    }
+
+    /**
+     * HELPER: An empty stack of frames w/ the given capacity
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <Seq, Itm> ContinuationFrame<Seq, Itm>[] newStack(int capacity) {
+        return new ContinuationFrame[capacity];
+    }
+
+    /**
+     * HELPER: Abandon the frames on the stack, from the top down
+     */
+    private static <Seq, Itm> void abandon(
+            ContinuationFrame<Seq, Itm>[] stack,
+            int depth,
+            ParseContext<Seq, Itm> context) {
+        for (int idx = depth - 1; 0 <= idx; idx--) {
+            stack[idx].abandon(context);
+        }
+    }
+
+    /**
+     * HELPER: The frame of a composite node, or null once the parser ran directly
+     */
+    @SuppressWarnings("unchecked")
+    private static <Seq, Itm> ContinuationFrame<Seq, Itm> enter(
+            Supplier<? extends Parser<?, Seq, Itm>> parser,
+            ParseContext<Seq, Itm> context) {
+        while (parser instanceof Rule) {
+            parser = ((Rule<?, Seq, Itm>) parser).getDefinition();
+        }
+        if (parser instanceof GrammarNode) {
+            var node = (GrammarNode<?, Seq, Itm>) parser;
+            var frame = node.newFrame();
+            if (frame == null) {
+                node.getStep().parse(context);
+            }
+            return frame;
+        }
+        context.accept(parser.get().parse(context.getCursor().toStream()));
+        return null;
+    }
+}
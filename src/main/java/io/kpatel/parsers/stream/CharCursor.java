@@ -0,0 +1,48 @@
+package io.kpatel.parsers.stream;
+
+import java.util.function.IntPredicate;
+
+/**
+ * INTENT: A Specialized StreamCursor for Character Streams with primitive
+ *   access, the cursor counterpart of {@link CharParserStream}
+ * REQUIREMENTS:
+ * - Primitive Queries must agree with their boxed counterparts in
+ *   {@link StreamCursor}
+ *
+ * @see CharParserStream#cursor()
+ */
+public interface CharCursor extends StreamCursor<String, Character> {
+
+    /**
+     * @see CharParserStream#peekChar()
+     */
+    default int peekChar() {
+        return peekChar(0);
+    }
+
+    /**
+     * @see CharParserStream#peekChar(int)
+     */
+    int peekChar(int offset);
+
+    /**
+     * @see CharParserStream#getLeadingCharRun(IntPredicate)
+     */
+    SequenceHolder<String> getLeadingCharRun(IntPredicate predicate);
+
+    /**
+     * INTENT: Whether the stream starts with the given characters, compared
+     * in place w/o holding a sequence
+     */
+    default boolean startsWith(CharSequence sequence) {
+        for (int idx = 0; idx < sequence.length(); idx++) {
+            if (peekChar(idx) != sequence.charAt(idx)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    CharParserStream toStream();
+}
@@ -0,0 +1,72 @@
+package io.kpatel.parsers.stream;
+
+import java.util.function.IntPredicate;
+
+/**
+ * INTENT: A Specialized ParserStream for Character Streams with primitive
+ *   access, so that parsers can query characters w/o boxing them into
+ *   Characters and wrapping them into Optionals.
+ * REQUIREMENTS:
+ * - All methods must be effectively pure
+ * - No method return null
+ * - Primitive Queries must agree with their boxed counterparts in
+ *   {@link ParserStream}
+ * RECOMMENDATIONS:
+ * - Parsers should check for this interface with "instanceof" and fallback
+ *   to the {@link ParserStream} methods otherwise.
+ *
+ * @see ParserStream
+ * @see StringStream
+ */
+public interface CharParserStream extends ParserStream<String, Character> {
+    /**
+     * WHAT: Value returned by Primitive Queries past the end of the stream
+     */
+    int END_OF_STREAM = -1;
+
+    /**
+     * INTENT: Primitive counterpart to {@link #getLeadingItem()}
+     * REQUIREMENTS:
+     * - must be effectively pure
+     * - If the stream is empty, return {@link #END_OF_STREAM}
+     */
+    default int peekChar() {
+        return peekChar(0);
+    }
+
+    /**
+     * INTENT: Non Destructive Query Operation for the character offset items
+     * "ahead" of the Stream's current "position"
+     * REQUIREMENTS:
+     * - must be effectively pure
+     * - If the offset is negative or beyond the end of the stream, return
+     *   {@link #END_OF_STREAM}
+     */
+    int peekChar(int offset);
+
+    /**
+     * INTENT: Primitive counterpart to {@link #getLeadingRun}
+     * REQUIREMENTS:
+     * - must be effectively pure
+     * - return type must not be null
+     * - the length given to SequenceHolder must represent the length of
+     *   Sequence
+     */
+    SequenceHolder<String> getLeadingCharRun(IntPredicate predicate);
+
+    /**
+     * INTENT: Specialize {@link ParserStream#jump} so that jumps preserve
+     * primitive access
+     */
+    @Override
+    CharParserStream jump(int n);
+
+    /**
+     * INTENT: Specialize {@link ParserStream#cursor} so that cursors preserve
+     * primitive access
+     */
+    @Override
+    default CharCursor cursor() {
+        return new CharSnapshotCursor(this);
+    }
+}
@@ -0,0 +1,116 @@
+package io.kpatel.parsers.stream;
+
+import java.util.Objects;
+
+/**
+ * WHAT: A View over a region of a String w/o copying its characters
+ * INTENT: Let parsers compare or discard tokens w/o materializing a String
+ *   for every one of them.
+ * NOTE:
+ * - This Implementation is Effectively Immutable, the materialized String
+ *   is cached on first use of {@link #toString()}
+ * - Equality is by content, and only between CharSlices
+ *
+ * @see SequenceHolder
+ * @see StringStream
+ */
+public final class CharSlice implements CharSequence {
+    private final String source;
+    private final int start;
+    private final int end;
+    private String materialized;
+
+    public CharSlice(String source, int start, int end) {
+        this.source = Objects.requireNonNull(source,
+                "Source String must not be null");
+        if (start < 0 || end < start || source.length() < end) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Slice [%d, %d) is out of bounds for length %d",
+                    start, end, source.length()));
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || length() <= index) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Index %d is out of bounds for length %d",
+                    index, length()));
+        }
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSlice subSequence(int start, int end) {
+        if (start < 0 || end < start || length() < end) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Slice [%d, %d) is out of bounds for length %d",
+                    start, end, length()));
+        }
+        return new CharSlice(source, this.start + start, this.start + end);
+    }
+
+    /**
+     * WHAT: Compare the content of this slice with any CharSequence w/o copying
+     */
+    public boolean contentEquals(CharSequence other) {
+        Objects.requireNonNull(other,
+                "Character Sequence must not be null");
+        if (other.length() != length()) {
+            return false;
+        }
+        if (other instanceof String) {
+            return source.regionMatches(start, (String) other, 0, length());
+        }
+        for (int idx = 0; idx < length(); idx++) {
+            if (source.charAt(start + idx) != other.charAt(idx)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * WHAT: Materialize the slice as a String
+     * NOTE: Copies on first call only, later calls return the same String
+     */
+    @Override
+    public String toString() {
+        if (materialized == null) {
+            materialized = source.substring(start, end);
+        }
+        return materialized;
+    }
+
+    /**
+     * WHAT: Whether {@link #toString()} has built the String of this slice
+     */
+    boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof CharSlice
+                && contentEquals((CharSlice) other));
+    }
+
+    /**
+     * WHAT: Agrees with {@link String#hashCode()} of the same content
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int idx = start; idx < end; idx++) {
+            hash = 31 * hash + source.charAt(idx);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,40 @@
+package io.kpatel.parsers.stream;
+
+import java.util.function.IntPredicate;
+
+/**
+ * WHAT: A CharCursor over any CharParserStream, which holds the current stream
+ *
+ * @see SnapshotCursor
+ * @see CharParserStream#cursor()
+ */
+final class CharSnapshotCursor extends SnapshotCursor<String, Character> implements CharCursor {
+
+    CharSnapshotCursor(CharParserStream stream) {
+        super(stream);
+    }
+
+    @Override
+    public int peekChar(int offset) {
+        return toStream().peekChar(offset);
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingCharRun(IntPredicate predicate) {
+        return toStream().getLeadingCharRun(predicate);
+    }
+
+    @Override
+    public CharParserStream toStream() {
+        // Only CharParserStreams are seeked to, as they are jumped from one
+        return (CharParserStream) super.toStream();
+    }
+
+    @Override
+    public void seek(ParserStream<String, Character> stream) {
+        if (!(stream instanceof CharParserStream)) {
+            throw new IllegalArgumentException("Stream must be a CharParserStream");
+        }
+        super.seek(stream);
+    }
+}
@@ -0,0 +1,73 @@
+package io.kpatel.parsers.stream;
+
+import java.util.Arrays;
+
+/**
+ * WHAT: A Table of the offsets where each line of a String starts
+ * INTENT: Let StringStreams share one table per source, and resolve Line and
+ *   Col numbers only when they are asked for (usually on failure).
+ * NOTE:
+ * - The table is built on first query, and shared by every stream over
+ *   the same source
+ * - Lines are separated by '\n' only, and are numbered from 1
+ * - Columns are numbered from 0
+ *
+ * @see StringStream
+ */
+final class LineIndex {
+    private final String source;
+    private volatile int[] lineStarts;
+
+    LineIndex(String source) {
+        this.source = source;
+    }
+
+    /**
+     * WHAT: The Line Number of the given offset, by binary search
+     */
+    int getLineNumber(int position) {
+        return lineOf(position) + 1;
+    }
+
+    /**
+     * WHAT: The Column Number of the given offset, by binary search
+     */
+    int getColumnNumber(int position) {
+        return position - lineStarts()[lineOf(position)];
+    }
+
+    /**
+     * HELPER: Index of the last line starting at or before the given offset
+     */
+    private int lineOf(int position) {
+        int[] starts = lineStarts();
+        int idx = Arrays.binarySearch(starts, position);
+        return idx >= 0 ? idx : -idx - 2;
+    }
+
+    /**
+     * HELPER: Build the table once
+     * NOTE: Concurrent first queries may both build the table, which is
+     * harmless as they build the same table.
+     */
+    private int[] lineStarts() {
+        int[] starts = lineStarts;
+        if (starts == null) {
+            int count = 1;
+            for (int idx = 0; idx < source.length(); idx++) {
+                if (source.charAt(idx) == '\n') {
+                    count++;
+                }
+            }
+            starts = new int[count];
+            int line = 1;
+            for (int idx = 0; idx < source.length(); idx++) {
+                if (source.charAt(idx) == '\n') {
+                    starts[line++] = idx + 1;
+                }
+            }
+            lineStarts = starts;
+        }
+        return starts;
+    }
+}
@@ -70,11 +70,22 @@ public final class ListStream<Tkn> implements ParserStream<List<Tkn>, Tkn> {
     @Override
     public ParserStream<List<Tkn>, Tkn> jump(int n) {
         if (0 < n) {
-            return new ListStream<>(stream, position + n);
+            int endPosition = n < stream.size() - position
+                    ? position + n
+                    : stream.size();
+            return new ListStream<>(stream, endPosition);
         }
         return this;
     }
 
+    /**
+     * WHAT: Offset of this stream from the start of the List
+     */
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
     @Override
     public Supplier<String> getErrorContext() {
         final var pos = position;
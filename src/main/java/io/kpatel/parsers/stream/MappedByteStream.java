@@ -0,0 +1,103 @@
+package io.kpatel.parsers.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Specialized ParserStream for the Bytes of a memory mapped File
+ * NOTE:
+ * - This Implementation supports Files larger than 2 GB, positions are long
+ *   byte offsets
+ * - Sequences are read-only ByteBuffers, which compare by content. Sequences
+ *   within one segment are views of the mapping, and are not copied.
+ * - A single Sequence or Run holds at most {@link Integer#MAX_VALUE} bytes
+ * - This Implementation is Strictly Immutable.
+ * @see ParserStream
+ * @see MappedCharStream
+ */
+public final class MappedByteStream implements ParserStream<ByteBuffer, Byte> {
+    private final MappedSource source;
+    private final long position;
+
+    private MappedByteStream(MappedSource source, long position) {
+        this.source = source;
+        this.position = position;
+    }
+
+    /**
+     * WHAT: Factory for a Stream over the bytes of the given File
+     */
+    public static MappedByteStream open(Path path) throws IOException {
+        return open(path, MappedSource.DEFAULT_SEGMENT_SIZE);
+    }
+
+    static MappedByteStream open(Path path, int segmentSize) throws IOException {
+        return new MappedByteStream(MappedSource.map(path, segmentSize), 0);
+    }
+
+    @Override
+    public Optional<Byte> getLeadingItem() {
+        return position < source.size()
+                ? Optional.of(source.get(position))
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean atEndOfStream() {
+        return source.size() <= position;
+    }
+
+    @Override
+    public SequenceHolder<ByteBuffer> getLeadingSequence(int length) {
+        if (0 < length && position < source.size()) {
+            long endPosition = Math.min(position + length, source.size());
+            return holdSequence(source.slice(position, endPosition));
+        }
+        return holdSequence(ByteBuffer.allocate(0));
+    }
+
+    @Override
+    public SequenceHolder<ByteBuffer> getLeadingRun(Predicate<Byte> predicate) {
+        long limit = Math.min(source.size(), position + Integer.MAX_VALUE);
+        long endPosition = position;
+        while (endPosition < limit
+                && predicate.test(source.get(endPosition)))
+            endPosition++;
+        return holdSequence(source.slice(position, endPosition));
+    }
+
+    @Override
+    public SequenceHolder<ByteBuffer> holdSequence(ByteBuffer sequence) {
+        Objects.requireNonNull(sequence,
+                "Sequence must not be null");
+        return new SequenceHolder<>(sequence.remaining(), sequence);
+    }
+
+    @Override
+    public MappedByteStream jump(int n) {
+        if (0 < n) {
+            return new MappedByteStream(source,
+                    Math.min(position + n, source.size()));
+        }
+        return this;
+    }
+
+    /**
+     * WHAT: Byte offset of this stream from the start of the File
+     */
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public Supplier<String> getErrorContext() {
+        final var pos = position;
+        return () -> String.format("(Byte: %d)", pos);
+    }
+}
@@ -0,0 +1,300 @@
+package io.kpatel.parsers.stream;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Specialized ParserStream for the decoded Characters of a memory
+ *   mapped File
+ * NOTE:
+ * - This Implementation supports Files larger than 2 GB, positions are long
+ *   byte offsets of the current character (see {@link #getPosition()})
+ * - Supported Charsets are US-ASCII, ISO-8859-1 and UTF-8
+ * - Characters are decoded as they are queried, malformed input decodes to
+ *   U+FFFD, and supplementary characters yield their surrogate pair
+ * - A single Sequence or Run holds at most as many characters as a String,
+ *   longer Runs throw the OutOfMemoryError of their builder, and are never
+ *   cut short
+ * - This Implementation is Strictly Immutable.
+ * - This Implementation supports primitive access through {@link CharParserStream}
+ * @see ParserStream
+ * @see CharParserStream
+ * @see MappedByteStream
+ */
+public final class MappedCharStream implements CharParserStream {
+    private final MappedSource source;
+    private final Encoding encoding;
+    private final long position;
+    private final boolean lowSurrogate;
+
+    private MappedCharStream(
+            MappedSource source, Encoding encoding,
+            long position, boolean lowSurrogate) {
+        this.source = source;
+        this.encoding = encoding;
+        this.position = position;
+        this.lowSurrogate = lowSurrogate;
+    }
+
+    /**
+     * WHAT: Factory for a Stream over the characters of the given File
+     */
+    public static MappedCharStream open(Path path, Charset charset) throws IOException {
+        return open(path, charset, MappedSource.DEFAULT_SEGMENT_SIZE);
+    }
+
+    static MappedCharStream open(Path path, Charset charset, int segmentSize) throws IOException {
+        var encoding = Encoding.of(charset);
+        return new MappedCharStream(MappedSource.map(path, segmentSize), encoding, 0, false);
+    }
+
+    @Override
+    public Optional<Character> getLeadingItem() {
+        int leading = peekChar();
+        return leading != END_OF_STREAM
+                ? Optional.of((char) leading)
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean atEndOfStream() {
+        return source.size() <= position;
+    }
+
+    @Override
+    public int peekChar() {
+        return position < source.size()
+                ? charAt(position, lowSurrogate)
+                : END_OF_STREAM;
+    }
+
+    @Override
+    public int peekChar(int offset) {
+        if (offset < 0) {
+            return END_OF_STREAM;
+        }
+        var cursor = new Cursor(position, lowSurrogate);
+        for (int idx = 0; idx < offset && cursor.position < source.size(); idx++) {
+            advance(cursor);
+        }
+        return cursor.position < source.size()
+                ? charAt(cursor.position, cursor.lowSurrogate)
+                : END_OF_STREAM;
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingSequence(int length) {
+        var builder = new StringBuilder();
+        var cursor = new Cursor(position, lowSurrogate);
+        while (builder.length() < length && cursor.position < source.size()) {
+            builder.append((char) charAt(cursor.position, cursor.lowSurrogate));
+            advance(cursor);
+        }
+        return holdSequence(builder.toString());
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingRun(Predicate<Character> predicate) {
+        return getLeadingCharRun(c -> predicate.test((char) c));
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingCharRun(IntPredicate predicate) {
+        var builder = new StringBuilder();
+        var cursor = new Cursor(position, lowSurrogate);
+        while (cursor.position < source.size()) {
+            int leading = charAt(cursor.position, cursor.lowSurrogate);
+            if (!predicate.test(leading)) {
+                break;
+            }
+            builder.append((char) leading);
+            advance(cursor);
+        }
+        return holdSequence(builder.toString());
+    }
+
+    @Override
+    public SequenceHolder<String> holdSequence(String sequence) {
+        return new SequenceHolder<>(sequence.length(), sequence);
+    }
+
+    @Override
+    public MappedCharStream jump(int n) {
+        if (0 < n) {
+            var cursor = new Cursor(position, lowSurrogate);
+            for (int idx = 0; idx < n && cursor.position < source.size(); idx++) {
+                advance(cursor);
+            }
+            return new MappedCharStream(source, encoding,
+                    cursor.position, cursor.lowSurrogate);
+        }
+        return this;
+    }
+
+    /**
+     * WHAT: Byte offset of the current character from the start of the File
+     * NOTE: The low half of a surrogate pair reports the offset of its code
+     *   point plus one, which still lies within its 4 byte UTF-8 encoding, so
+     *   every character has a distinct position
+     */
+    @Override
+    public long getPosition() {
+        return lowSurrogate ? position + 1 : position;
+    }
+
+    @Override
+    public Supplier<String> getErrorContext() {
+        final var pos = position;
+        return () -> String.format("(Byte: %d)", pos);
+    }
+
+    /**
+     * HELPER: The character at the given byte offset
+     */
+    private int charAt(long offset, boolean low) {
+        int codePoint = encoding.codePointAt(source, offset);
+        if (Character.isBmpCodePoint(codePoint)) {
+            return codePoint;
+        }
+        return low
+                ? Character.lowSurrogate(codePoint)
+                : Character.highSurrogate(codePoint);
+    }
+
+    /**
+     * HELPER: Move the cursor to the next character
+     */
+    private void advance(Cursor cursor) {
+        int codePoint = encoding.codePointAt(source, cursor.position);
+        if (!Character.isBmpCodePoint(codePoint) && !cursor.lowSurrogate) {
+            cursor.lowSurrogate = true;
+        } else {
+            cursor.position += encoding.widthAt(source, cursor.position);
+            cursor.lowSurrogate = false;
+        }
+    }
+
+    /**
+     * WHAT: A mutable position used while scanning ahead
+     */
+    private static final class Cursor {
+        private long position;
+        private boolean lowSurrogate;
+
+        private Cursor(long position, boolean lowSurrogate) {
+            this.position = position;
+            this.lowSurrogate = lowSurrogate;
+        }
+    }
+
+    /**
+     * WHAT: The supported decodings of bytes to code points
+     */
+    private enum Encoding {
+        US_ASCII {
+            @Override
+            int codePointAt(MappedSource source, long offset) {
+                int leading = source.get(offset);
+                return leading >= 0 ? leading : REPLACEMENT;
+            }
+
+            @Override
+            int widthAt(MappedSource source, long offset) {
+                return 1;
+            }
+        },
+        ISO_8859_1 {
+            @Override
+            int codePointAt(MappedSource source, long offset) {
+                return source.get(offset) & 0xFF;
+            }
+
+            @Override
+            int widthAt(MappedSource source, long offset) {
+                return 1;
+            }
+        },
+        UTF_8 {
+            @Override
+            int codePointAt(MappedSource source, long offset) {
+                int width = widthAt(source, offset);
+                int leading = source.get(offset) & 0xFF;
+                switch (width) {
+                    case 2:
+                        return (leading & 0x1F) << 6
+                                | continuation(source, offset + 1);
+                    case 3:
+                        return (leading & 0x0F) << 12
+                                | continuation(source, offset + 1) << 6
+                                | continuation(source, offset + 2);
+                    case 4:
+                        return (leading & 0x07) << 18
+                                | continuation(source, offset + 1) << 12
+                                | continuation(source, offset + 2) << 6
+                                | continuation(source, offset + 3);
+                    default:
+                        return leading < 0x80 ? leading : REPLACEMENT;
+                }
+            }
+
+            /**
+             * NOTE: Malformed sequences have a width of 1, and decode to U+FFFD
+             */
+            @Override
+            int widthAt(MappedSource source, long offset) {
+                int leading = source.get(offset) & 0xFF;
+                int width = leading < 0x80 ? 1
+                        : leading < 0xC2 ? 0
+                        : leading < 0xE0 ? 2
+                        : leading < 0xF0 ? 3
+                        : leading < 0xF5 ? 4
+                        : 0;
+                if (width <= 1 || source.size() - offset < width) {
+                    return 1;
+                }
+                for (int idx = 1; idx < width; idx++) {
+                    if ((source.get(offset + idx) & 0xC0) != 0x80) {
+                        return 1;
+                    }
+                }
+                int second = source.get(offset + 1) & 0xFF;
+                boolean wellFormed = leading == 0xE0 ? second >= 0xA0
+                        : leading == 0xED ? second <= 0x9F
+                        : leading == 0xF0 ? second >= 0x90
+                        : leading != 0xF4 || second <= 0x8F;
+                return wellFormed ? width : 1;
+            }
+
+            private int continuation(MappedSource source, long offset) {
+                return source.get(offset) & 0x3F;
+            }
+        };
+
+        private static final int REPLACEMENT = 0xFFFD;
+
+        abstract int codePointAt(MappedSource source, long offset);
+
+        abstract int widthAt(MappedSource source, long offset);
+
+        static Encoding of(Charset charset) {
+            Objects.requireNonNull(charset,
+                    "Charset must not be null");
+            if (StandardCharsets.US_ASCII.equals(charset)) {
+                return US_ASCII;
+            } else if (StandardCharsets.ISO_8859_1.equals(charset)) {
+                return ISO_8859_1;
+            } else if (StandardCharsets.UTF_8.equals(charset)) {
+                return UTF_8;
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Unsupported Charset '%s'", charset));
+        }
+    }
+}
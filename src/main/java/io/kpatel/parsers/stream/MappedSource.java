@@ -0,0 +1,95 @@
+package io.kpatel.parsers.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * WHAT: A read-only file mapped into memory as a sequence of segments
+ * INTENT: Address files larger than a single mapping (~2 GB) with long offsets
+ * NOTE:
+ * - Every segment is a separate mapping of at most segmentSize bytes
+ * - The channel is closed once mapped, the mappings stay valid until they
+ *   are garbage collected.
+ * - This Implementation is Strictly Immutable and safe to share between
+ *   Threads, as only absolute reads are used.
+ *
+ * @see MappedByteStream
+ * @see MappedCharStream
+ */
+final class MappedSource {
+    /**
+     * WHY: Largest power of two a single mapping can hold
+     */
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final MappedByteBuffer[] segments;
+    private final int segmentSize;
+    private final long size;
+
+    private MappedSource(MappedByteBuffer[] segments, int segmentSize, long size) {
+        this.segments = segments;
+        this.segmentSize = segmentSize;
+        this.size = size;
+    }
+
+    static MappedSource map(Path path, int segmentSize) throws IOException {
+        Objects.requireNonNull(path,
+                "Path must not be null");
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Segment Size must be positive");
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int count = (int) ((size + segmentSize - 1) / segmentSize);
+            var segments = new MappedByteBuffer[count];
+            for (int idx = 0; idx < count; idx++) {
+                long start = (long) idx * segmentSize;
+                long length = Math.min(segmentSize, size - start);
+                segments[idx] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            return new MappedSource(segments, segmentSize, size);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * WHAT: The byte at the given offset
+     * REQUIREMENT: 0 <= offset < size
+     */
+    byte get(long offset) {
+        return segments[(int) (offset / segmentSize)].get((int) (offset % segmentSize));
+    }
+
+    /**
+     * WHAT: A read-only view of the bytes in [start, end)
+     * NOTE: Regions within one segment are not copied, regions spanning
+     * several segments are.
+     */
+    ByteBuffer slice(long start, long end) {
+        int length = (int) (end - start);
+        int segment = (int) (start / segmentSize);
+        int offset = (int) (start % segmentSize);
+        if (length == 0) {
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
+        }
+        if (offset + length <= segmentSize) {
+            var view = segments[segment].duplicate();
+            view.position(offset).limit(offset + length);
+            return view.slice().asReadOnlyBuffer();
+        }
+        var copy = new byte[length];
+        for (int idx = 0; idx < length; idx++) {
+            copy[idx] = get(start + idx);
+        }
+        return ByteBuffer.wrap(copy).asReadOnlyBuffer();
+    }
+}
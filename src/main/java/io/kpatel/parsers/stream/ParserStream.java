@@ -96,6 +96,21 @@ public interface ParserStream<Seq, Itm> {
      */
     ParserStream<Seq, Itm> jump(int n);
 
+    /**
+     * INTENT: Non Destructive Query Operation for the Stream's offset from the
+     * start of its source
+     * REQUIREMENTS:
+     * - must be effectively pure
+     * - Positions must grow with every jump, and Streams over the same
+     *   source at the same position must report the same value
+     * - Streams that cannot report a position must return a negative value
+     * RECOMMENDATION:
+     * - The unit of the offset is up to the Stream (e.g. items or bytes)
+     */
+    default long getPosition() {
+        return -1;
+    }
+
     /**
      * INTENT: Lazily Provide Context When an Error Occurs, For use in
      * {@link io.kpatel.parsers.Result}
@@ -107,4 +122,18 @@ public interface ParserStream<Seq, Itm> {
      * - supplier must be pure
      */
     Supplier<String> getErrorContext();
+
+    /**
+     * INTENT: A Mutable Cursor starting at this Stream, for parsers that move
+     * through the stream in place
+     * REQUIREMENTS:
+     * - return type must not be null
+     * - the cursor must not alter this Stream
+     * RECOMMENDATION:
+     * - Streams with a cheaper way to move (e.g. an index) should return a
+     *   specialized cursor
+     */
+    default StreamCursor<Seq, Itm> cursor() {
+        return new SnapshotCursor<>(this);
+    }
 }
@@ -0,0 +1,263 @@
+package io.kpatel.parsers.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * WHAT: Specialized ParserStream for Characters pulled from a Reader
+ * NOTE:
+ * - Characters are read in chunks, and only when a query needs them
+ * - Chunks are linked from older to newer only, once no live stream refers
+ *   to a chunk, it is left to the garbage collector. Peak memory depends on
+ *   how far behind the oldest live stream is (the grammar's lookahead), not
+ *   on the size of the input.
+ * - Do not hold on to the initial stream, as it keeps every chunk reachable
+ * - The Reader is not closed by this stream
+ * - Read failures are rethrown as {@link UncheckedIOException}
+ * - This Implementation is Effectively Immutable, and safe to share between
+ *   Threads.
+ * - This Implementation supports primitive access through {@link CharParserStream}
+ * @see ParserStream
+ * @see CharParserStream
+ */
+public final class ReaderStream implements CharParserStream {
+    /**
+     * WHY: Default number of characters requested per read
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final Chunk chunk;
+    private final int index;
+
+    private ReaderStream(Chunk chunk, int index) {
+        this.chunk = chunk;
+        this.index = index;
+    }
+
+    /**
+     * WHAT: Factory for a Stream over the characters of a Reader
+     */
+    public static ReaderStream of(Reader reader) {
+        return of(reader, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * WHAT: Factory for a Stream over the characters of a Reader, read at
+     * most chunkSize characters at a time
+     */
+    public static ReaderStream of(Reader reader, int chunkSize) {
+        Objects.requireNonNull(reader,
+                "Reader must not be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Chunk Size must be positive");
+        }
+        return new ReaderStream(Chunk.head(reader, chunkSize), 0);
+    }
+
+    /**
+     * WHAT: Factory for a Stream over the decoded characters of a Channel
+     */
+    public static ReaderStream of(ReadableByteChannel channel, Charset charset) {
+        Objects.requireNonNull(channel,
+                "Channel must not be null");
+        Objects.requireNonNull(charset,
+                "Charset must not be null");
+        return of(Channels.newReader(channel, charset.newDecoder(), -1));
+    }
+
+    @Override
+    public Optional<Character> getLeadingItem() {
+        int leading = peekChar();
+        return leading != END_OF_STREAM
+                ? Optional.of((char) leading)
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean atEndOfStream() {
+        return peekChar() == END_OF_STREAM;
+    }
+
+    @Override
+    public int peekChar(int offset) {
+        if (offset < 0) {
+            return END_OF_STREAM;
+        }
+        Chunk current = chunk;
+        long idx = (long) index + offset;
+        while (current != null && current.length <= idx) {
+            idx -= current.length;
+            current = current.next();
+        }
+        return current != null
+                ? current.chars[(int) idx]
+                : END_OF_STREAM;
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingSequence(int length) {
+        var builder = new StringBuilder();
+        Chunk current = chunk;
+        int idx = index;
+        while (current != null && builder.length() < length) {
+            int count = Math.min(current.length - idx, length - builder.length());
+            builder.append(current.chars, idx, count);
+            current = current.next();
+            idx = 0;
+        }
+        return holdSequence(builder.toString());
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingRun(Predicate<Character> predicate) {
+        return getLeadingCharRun(c -> predicate.test((char) c));
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingCharRun(IntPredicate predicate) {
+        var builder = new StringBuilder();
+        Chunk current = chunk;
+        int idx = index;
+        while (current != null) {
+            int start = idx;
+            while (idx < current.length && predicate.test(current.chars[idx])) {
+                idx++;
+            }
+            builder.append(current.chars, start, idx - start);
+            if (idx < current.length) {
+                break;
+            }
+            current = current.next();
+            idx = 0;
+        }
+        return holdSequence(builder.toString());
+    }
+
+    @Override
+    public SequenceHolder<String> holdSequence(String sequence) {
+        return new SequenceHolder<>(sequence.length(), sequence);
+    }
+
+    @Override
+    public ReaderStream jump(int n) {
+        if (0 < n) {
+            Chunk current = chunk;
+            long idx = (long) index + n;
+            while (current.length < idx) {
+                Chunk next = current.next();
+                if (next == null) {
+                    return new ReaderStream(current, current.length);
+                }
+                idx -= current.length;
+                current = next;
+            }
+            return new ReaderStream(current, (int) idx);
+        }
+        return this;
+    }
+
+    /**
+     * WHAT: Offset of this stream from the first character of the Reader
+     */
+    @Override
+    public long getPosition() {
+        return chunk.start + index;
+    }
+
+    @Override
+    public Supplier<String> getErrorContext() {
+        final var pos = getPosition();
+        return () -> String.format("(Pos: %d)", pos);
+    }
+
+    /**
+     * WHAT: A block of characters read from the shared Reader
+     * NOTE:
+     * - Every chunk refers to the next chunk only, which is read on first use
+     * - Reads are serialized on the shared Source
+     */
+    private static final class Chunk {
+        private final Source source;
+        private final char[] chars;
+        private final int length;
+        private final long start;
+        private volatile Chunk next;
+
+        private Chunk(Source source, char[] chars, int length, long start) {
+            this.source = source;
+            this.chars = chars;
+            this.length = length;
+            this.start = start;
+        }
+
+        private static Chunk head(Reader reader, int chunkSize) {
+            return new Chunk(new Source(reader, chunkSize), new char[0], 0, 0);
+        }
+
+        /**
+         * WHAT: The following chunk, or null at the end of the Reader
+         */
+        private Chunk next() {
+            Chunk following = next;
+            if (following == null) {
+                synchronized (source) {
+                    following = next;
+                    if (following == null && !source.exhausted) {
+                        following = source.read(start + length);
+                        next = following;
+                    }
+                }
+            }
+            return following;
+        }
+    }
+
+    /**
+     * WHAT: The Reader shared by every chunk of a stream
+     */
+    private static final class Source {
+        private final Reader reader;
+        private final int chunkSize;
+        private boolean exhausted;
+
+        private Source(Reader reader, int chunkSize) {
+            this.reader = reader;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * WHAT: Read the next non-empty chunk, or null at the end of the Reader
+         */
+        private Chunk read(long start) {
+            try {
+                var chars = new char[chunkSize];
+                int count = 0;
+                while (count == 0) {
+                    count = reader.read(chars, 0, chunkSize);
+                }
+                if (count < 0) {
+                    exhausted = true;
+                    return null;
+                }
+                // Short reads (e.g. from pipes) should not pin a full chunk
+                if (count < chunkSize / 2) {
+                    chars = Arrays.copyOf(chars, count);
+                }
+                return new Chunk(this, chars, count, start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -1,27 +1,63 @@
 package io.kpatel.parsers.stream;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * WHAT: A generic wrapper for sequences to capture length
+ * NOTE:
+ * - A Holder may instead carry a {@link CharSlice} over its source, in
+ *   which case the sequence is only materialized when asked for.
  *
  * @see ParserStream
  */
 public final class SequenceHolder<Seq> {
     private final int length;
-    private final Seq sequence;
+    private final CharSlice slice;
+    private Seq sequence;
 
     public SequenceHolder(int length, Seq sequence) {
         this.length = length;
+        this.slice = null;
         this.sequence = Objects.requireNonNull(sequence,
                 "Sequences may not be null");
     }
 
+    private SequenceHolder(CharSlice slice) {
+        this.length = slice.length();
+        this.slice = slice;
+        this.sequence = null;
+    }
+
+    /**
+     * WHAT: Factory for a Holder over a slice of a String w/o copying it
+     * WHY: Most Sequences are only compared or discarded
+     */
+    public static SequenceHolder<String> ofSlice(CharSlice slice) {
+        Objects.requireNonNull(slice,
+                "Slice may not be null");
+        return new SequenceHolder<>(slice);
+    }
+
     public int getLength() {
         return length;
     }
 
+    /**
+     * WHAT: The held sequence, materialized from the slice on first use
+     */
+    @SuppressWarnings("unchecked")
     public Seq getSequence() {
+        if (sequence == null) {
+            sequence = (Seq) slice.toString();
+        }
         return sequence;
     }
+
+    /**
+     * WHAT: The view over the source, if this Holder was made from a slice
+     */
+    public Optional<CharSlice> getSlice() {
+        return Optional.ofNullable(slice);
+    }
 }
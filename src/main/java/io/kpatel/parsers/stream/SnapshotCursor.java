@@ -0,0 +1,93 @@
+package io.kpatel.parsers.stream;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * WHAT: A StreamCursor over any ParserStream, which holds the current stream
+ *   and keeps marked streams on a stack
+ * NOTE:
+ * - Moves still create streams by jumping, this cursor only saves Parsers
+ *   from passing them around
+ *
+ * @see ParserStream#cursor()
+ */
+class SnapshotCursor<Seq, Itm> implements StreamCursor<Seq, Itm> {
+    private ParserStream<Seq, Itm> current;
+    private ParserStream<?, ?>[] marks = new ParserStream<?, ?>[8];
+    private int depth;
+
+    SnapshotCursor(ParserStream<Seq, Itm> stream) {
+        this.current = Objects.requireNonNull(stream,
+                "Stream must not be null");
+    }
+
+    @Override
+    public int mark() {
+        if (depth == marks.length) {
+            marks = Arrays.copyOf(marks, depth * 2);
+        }
+        marks[depth] = current;
+        return depth++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void reset(int mark) {
+        current = (ParserStream<Seq, Itm>) marks[mark];
+        release(mark);
+    }
+
+    @Override
+    public void release(int mark) {
+        Arrays.fill(marks, mark, depth, null);
+        depth = mark;
+    }
+
+    @Override
+    public Itm peekItem() {
+        return current.getLeadingItem().orElse(null);
+    }
+
+    @Override
+    public boolean atEndOfStream() {
+        return current.atEndOfStream();
+    }
+
+    @Override
+    public SequenceHolder<Seq> getLeadingSequence(int length) {
+        return current.getLeadingSequence(length);
+    }
+
+    @Override
+    public SequenceHolder<Seq> getLeadingRun(Predicate<Itm> predicate) {
+        return current.getLeadingRun(predicate);
+    }
+
+    @Override
+    public SequenceHolder<Seq> holdSequence(Seq sequence) {
+        return current.holdSequence(sequence);
+    }
+
+    @Override
+    public void advance(int n) {
+        current = current.jump(n);
+    }
+
+    @Override
+    public long getPosition() {
+        return current.getPosition();
+    }
+
+    @Override
+    public ParserStream<Seq, Itm> toStream() {
+        return current;
+    }
+
+    @Override
+    public void seek(ParserStream<Seq, Itm> stream) {
+        current = Objects.requireNonNull(stream,
+                "Stream must not be null");
+    }
+}
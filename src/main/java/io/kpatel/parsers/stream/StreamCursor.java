@@ -0,0 +1,99 @@
+package io.kpatel.parsers.stream;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * INTENT: A Mutable Position over a ParserStream, which moves in place
+ *   instead of creating a new stream on every jump
+ * REQUIREMENTS:
+ * - Queries must agree with the same queries on {@link #toStream()}
+ * - Marks must be discarded in the reverse order they were taken,
+ *   by either {@link #reset} or {@link #release}
+ * NOTE:
+ * - A cursor belongs to one parse, and is not safe to share between Threads
+ * - Cursors over Streams w/o a specialized cursor wrap the current stream,
+ *   and still create a new stream on every move
+ *
+ * @see ParserStream#cursor()
+ */
+public interface StreamCursor<Seq, Itm> {
+
+    /**
+     * INTENT: Checkpoint the current position, so that it can be restored
+     * REQUIREMENTS:
+     * - The mark must be discarded with {@link #reset} or {@link #release}
+     */
+    int mark();
+
+    /**
+     * INTENT: Restore the position of the given mark, and discard it along
+     * with every later mark
+     */
+    void reset(int mark);
+
+    /**
+     * INTENT: Discard the given mark along with every later mark, w/o moving
+     */
+    void release(int mark);
+
+    /**
+     * INTENT: Primitive counterpart to {@link ParserStream#getLeadingItem()}
+     * REQUIREMENTS:
+     * - If the stream is empty, return null
+     */
+    Itm peekItem();
+
+    /**
+     * @see ParserStream#atEndOfStream()
+     */
+    boolean atEndOfStream();
+
+    /**
+     * @see ParserStream#getLeadingSequence(int)
+     */
+    SequenceHolder<Seq> getLeadingSequence(int length);
+
+    /**
+     * @see ParserStream#getLeadingRun(Predicate)
+     */
+    SequenceHolder<Seq> getLeadingRun(Predicate<Itm> predicate);
+
+    /**
+     * @see ParserStream#holdSequence(Object)
+     */
+    SequenceHolder<Seq> holdSequence(Seq sequence);
+
+    /**
+     * INTENT: Move n Items "ahead", with the same flooring as {@link ParserStream#jump}
+     */
+    void advance(int n);
+
+    /**
+     * @see ParserStream#getPosition()
+     */
+    long getPosition();
+
+    /**
+     * INTENT: The error context of a position this cursor has been at, for
+     * failures that are reported after the cursor moved on
+     * - Cursors that cannot return to the position describe it by number
+     */
+    default Supplier<String> getErrorContext(long position) {
+        return position == getPosition()
+                ? toStream().getErrorContext()
+                : () -> String.format("(Pos: %d)", position);
+    }
+
+    /**
+     * INTENT: An immutable ParserStream at the current position, for
+     * parsers that do not run on cursors
+     */
+    ParserStream<Seq, Itm> toStream();
+
+    /**
+     * INTENT: Move to the given stream, which must have been reached from
+     * {@link #toStream()} by jumps
+     */
+    void seek(ParserStream<Seq, Itm> stream);
+}
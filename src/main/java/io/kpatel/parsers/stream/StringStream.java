@@ -2,6 +2,7 @@ package io.kpatel.parsers.stream;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -9,30 +10,44 @@ import java.util.function.Supplier;
  * WHAT: Specialized ParserStream for Strings
  * NOTE:
  * - This Implementation is keeps track of Line and Col numbers
+ * - Line and Col numbers are resolved on demand from a {@link LineIndex}
+ *   shared by every stream over the same String
  * - This Implementation is Strictly Immutable.
+ * - This Implementation supports primitive access through {@link CharParserStream}
+ * - Sequences and Runs are held as {@link CharSlice} views, and are only
+ *   copied when their String is asked for
+ * - Cursors over this Stream move an index, and create no streams
  * @see ParserStream
+ * @see CharParserStream
  */
-public final class StringStream implements ParserStream<String, Character> {
+public final class StringStream implements CharParserStream {
     private final String stream;
     private final int position;
-    private final int lineNumber;
-    private final int columnNumber;
+    private final LineIndex lineIndex;
 
     public StringStream(String stream) {
         this.stream = Objects.requireNonNull(stream,
                 "String for Stream must not be null");
         this.position = 0;
-        this.lineNumber = 1;
-        this.columnNumber = 0;
+        this.lineIndex = new LineIndex(stream);
     }
 
     private StringStream(
             String stream, int position,
-            int lineNumber, int columnNumber) {
+            LineIndex lineIndex) {
         this.stream = stream;
         this.position = position;
-        this.lineNumber = lineNumber;
-        this.columnNumber = columnNumber;
+        this.lineIndex = lineIndex;
+    }
+
+    /**
+     * WHAT: Factory for a StringStream that only tracks its position
+     * WHY: Parsers that never report Line and Col numbers need no LineIndex
+     */
+    public static StringStream withoutLineTracking(String stream) {
+        Objects.requireNonNull(stream,
+                "String for Stream must not be null");
+        return new StringStream(stream, 0, null);
     }
 
     @Override
@@ -42,6 +57,19 @@ public final class StringStream implements ParserStream<String, Character> {
                 : Optional.empty();
     }
 
+    @Override
+    public boolean atEndOfStream() {
+        return stream.length() <= position;
+    }
+
+    @Override
+    public int peekChar(int offset) {
+        if (0 <= offset && offset < stream.length() - position) {
+            return stream.charAt(position + offset);
+        }
+        return END_OF_STREAM;
+    }
+
     @Override
     public SequenceHolder<String> getLeadingSequence(int length) {
         if (0 < length && position < stream.length()) {
@@ -50,7 +78,7 @@ public final class StringStream implements ParserStream<String, Character> {
                 endPosition = stream.length();
             }
 
-            return holdSequence(stream.substring(position, endPosition));
+            return SequenceHolder.ofSlice(new CharSlice(stream, position, endPosition));
         }
         return holdSequence("");
     }
@@ -63,7 +91,20 @@ public final class StringStream implements ParserStream<String, Character> {
                     && predicate.test(stream.charAt(endPosition)))
                 endPosition++;
 
-            return holdSequence(stream.substring(position, endPosition));
+            return SequenceHolder.ofSlice(new CharSlice(stream, position, endPosition));
+        }
+        return holdSequence("");
+    }
+
+    @Override
+    public SequenceHolder<String> getLeadingCharRun(IntPredicate predicate) {
+        if (position < stream.length()) {
+            int endPosition = position;
+            while (endPosition < stream.length()
+                    && predicate.test(stream.charAt(endPosition)))
+                endPosition++;
+
+            return SequenceHolder.ofSlice(new CharSlice(stream, position, endPosition));
         }
         return holdSequence("");
     }
@@ -74,43 +115,212 @@ public final class StringStream implements ParserStream<String, Character> {
     }
 
     @Override
-    public ParserStream<String, Character> jump(int n) {
+    public StringStream jump(int n) {
         if (0 < n) {
-            SequenceHolder<String> holder = getLeadingSequence(n);
-            String stage = holder.getSequence();
-            int lineCount = 0;
-            int colCount = 0;
-            for (int idx = stage.length() - 1; idx >= 0; idx--) {
-                if (stage.charAt(idx) == '\n') {
-                    lineCount++;
-                }
-                if (lineCount == 0) {
-                    colCount++;
-                }
-            }
-            if (lineCount == 0) {
-                colCount += columnNumber;
-            } else {
-                lineCount += lineNumber;
-            }
-            return new StringStream(
-                    stream, position + n,
-                    lineCount, colCount);
+            int endPosition = n < stream.length() - position
+                    ? position + n
+                    : stream.length();
+            return new StringStream(stream, endPosition, lineIndex);
         }
         return this;
     }
 
+    /**
+     * WHAT: Offset of this stream from the start of the String
+     */
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * WHAT: The rest of the String, as a view w/o copying it
+     * - Offsets into it are offsets to jump from this stream
+     */
+    public CharSlice getRemaining() {
+        return new CharSlice(stream, position, stream.length());
+    }
+
+    /**
+     * WHAT: Whether Line and Col numbers are available, i.e. the stream was
+     *   not built w/ {@link #withoutLineTracking(String)}
+     */
+    public boolean isTrackingLines() {
+        return lineIndex != null;
+    }
+
+    /**
+     * WHAT: Line number of this stream, starting at 1
+     * - Throws UnsupportedOperationException on a stream built w/
+     *   {@link #withoutLineTracking(String)}, check {@link #isTrackingLines()}
+     *   first, or use {@link #getPosition()}
+     */
     public int getLineNumber() {
-        return lineNumber;
+        return getLineIndex().getLineNumber(position);
     }
 
+    /**
+     * WHAT: Col number of this stream, starting at 0
+     * - Throws UnsupportedOperationException on a stream built w/
+     *   {@link #withoutLineTracking(String)}, check {@link #isTrackingLines()}
+     *   first, or use {@link #getPosition()}
+     */
     public int getColumnNumber() {
-        return columnNumber;
+        return getLineIndex().getColumnNumber(position);
     }
 
     public Supplier<String> getErrorContext() {
-        final var lineNo = getLineNumber();
-        final var colNo = getLineNumber();
-        return () -> String.format("(Line: %d, Col: %d)", lineNo, colNo);
+        return isTrackingLines()
+                ? () -> String.format("(Line: %d, Col: %d)", getLineNumber(), getColumnNumber())
+                : () -> String.format("(Pos: %d)", getPosition());
+    }
+
+    /**
+     * WHAT: A cursor which moves an index over the same String
+     */
+    @Override
+    public CharCursor cursor() {
+        return new Cursor(stream, position, lineIndex);
+    }
+
+    private LineIndex getLineIndex() {
+        if (lineIndex == null) {
+            throw new UnsupportedOperationException(
+                    "Line Tracking is disabled for this Stream");
+        }
+        return lineIndex;
+    }
+
+    /**
+     * WHAT: Specialized CharCursor for Strings
+     * NOTE:
+     * - Marks are the index itself, so marking and releasing are free
+     */
+    private static final class Cursor implements CharCursor {
+        private final String stream;
+        private final LineIndex lineIndex;
+        private int position;
+
+        private Cursor(String stream, int position, LineIndex lineIndex) {
+            this.stream = stream;
+            this.position = position;
+            this.lineIndex = lineIndex;
+        }
+
+        @Override
+        public int mark() {
+            return position;
+        }
+
+        @Override
+        public void reset(int mark) {
+            position = mark;
+        }
+
+        @Override
+        public void release(int mark) {
+
+        }
+
+        @Override
+        public Character peekItem() {
+            return position < stream.length()
+                    ? stream.charAt(position)
+                    : null;
+        }
+
+        @Override
+        public boolean atEndOfStream() {
+            return stream.length() <= position;
+        }
+
+        @Override
+        public int peekChar() {
+            return position < stream.length()
+                    ? stream.charAt(position)
+                    : END_OF_STREAM;
+        }
+
+        @Override
+        public int peekChar(int offset) {
+            if (0 <= offset && offset < stream.length() - position) {
+                return stream.charAt(position + offset);
+            }
+            return END_OF_STREAM;
+        }
+
+        @Override
+        public boolean startsWith(CharSequence sequence) {
+            int length = sequence.length();
+            if (stream.length() - position < length) {
+                return false;
+            }
+            for (int idx = 0; idx < length; idx++) {
+                if (stream.charAt(position + idx) != sequence.charAt(idx)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public SequenceHolder<String> getLeadingSequence(int length) {
+            return toStream().getLeadingSequence(length);
+        }
+
+        @Override
+        public SequenceHolder<String> getLeadingRun(Predicate<Character> predicate) {
+            int endPosition = position;
+            while (endPosition < stream.length()
+                    && predicate.test(stream.charAt(endPosition)))
+                endPosition++;
+            return SequenceHolder.ofSlice(new CharSlice(stream, position, endPosition));
+        }
+
+        @Override
+        public SequenceHolder<String> getLeadingCharRun(IntPredicate predicate) {
+            int endPosition = position;
+            while (endPosition < stream.length()
+                    && predicate.test(stream.charAt(endPosition)))
+                endPosition++;
+            return SequenceHolder.ofSlice(new CharSlice(stream, position, endPosition));
+        }
+
+        @Override
+        public SequenceHolder<String> holdSequence(String sequence) {
+            return new SequenceHolder<>(sequence.length(), sequence);
+        }
+
+        @Override
+        public void advance(int n) {
+            if (0 < n) {
+                position = n < stream.length() - position
+                        ? position + n
+                        : stream.length();
+            }
+        }
+
+        @Override
+        public long getPosition() {
+            return position;
+        }
+
+        @Override
+        public StringStream toStream() {
+            return new StringStream(stream, position, lineIndex);
+        }
+
+        @Override
+        public Supplier<String> getErrorContext(long position) {
+            return new StringStream(stream, (int) position, lineIndex).getErrorContext();
+        }
+
+        @Override
+        public void seek(ParserStream<String, Character> target) {
+            if (!(target instanceof StringStream) || ((StringStream) target).stream != stream) {
+                throw new IllegalArgumentException("Stream must be over the same String");
+            }
+            position = ((StringStream) target).position;
+        }
     }
 }
@@ -0,0 +1,169 @@
+package io.kpatel.parsers.prebuilt;
+
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * WHAT: Emits the Flight Recorder events of parse sessions, slow rules and
+ *   deep backtracks
+ * NOTE:
+ * - This is the Java 11 section of the multi-release jar, which replaces
+ *   the baseline w/ one that emits jdk.jfr events
+ * - Both must keep the same package-private members
+ * - Events that are not enabled in a recording are not allocated, so an
+ *   unrecorded parse only checks a flag per session and per rule
+ * - Slow rules are those longer than the threshold of their event type
+ *   (20 ms unless the recording sets one)
+ *
+ * @see GrammarParsers#recordEvents(java.util.function.Supplier)
+ */
+final class ParseEvents {
+    private static final EventType SESSIONS = EventType.getEventType(SessionEvent.class);
+    private static final EventType SLOW_RULES = EventType.getEventType(SlowRuleEvent.class);
+    private static final EventType DEEP_BACKTRACKS = EventType.getEventType(DeepBacktrackEvent.class);
+
+    private ParseEvents() {
+
+    }
+
+    /**
+     * WHAT: Whether this runtime can record events at all
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * WHAT: Begin a top level parse of the stream, by the named engine
+     */
+    static Object beginSession(String engine, ParserStream<?, ?> stream) {
+        if (!SESSIONS.isEnabled()) {
+            return null;
+        }
+        var event = new SessionEvent();
+        event.engine = engine;
+        event.position = stream.getPosition();
+        event.inputSize = stream instanceof StringStream
+                ? ((StringStream) stream).getRemaining().length()
+                : -1;
+        event.begin();
+        return event;
+    }
+
+    static <Seq, Itm> void endSession(Object session, ParserStream<Seq, Itm> stream, Result<?, Seq, Itm> result) {
+        if (session == null) {
+            return;
+        }
+        var event = (SessionEvent) session;
+        event.end();
+        if (event.shouldCommit()) {
+            event.success = result.isSuccess();
+            if (event.success && 0 <= event.position) {
+                event.itemsConsumed = result.getRemainingStream().get().getPosition() - event.position;
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * WHAT: Begin an invocation of the named rule at the position
+     */
+    static Object beginRule(String rule, long position) {
+        if (!SLOW_RULES.isEnabled()) {
+            return null;
+        }
+        var event = new SlowRuleEvent();
+        event.rule = rule;
+        event.position = position;
+        event.begin();
+        return event;
+    }
+
+    static void endRule(Object invocation, boolean success, long position) {
+        if (invocation == null) {
+            return;
+        }
+        var event = (SlowRuleEvent) invocation;
+        event.end();
+        if (event.shouldCommit()) {
+            event.success = success;
+            event.itemsConsumed = success && 0 <= event.position ? position - event.position : 0;
+            event.commit();
+        }
+    }
+
+    /**
+     * WHAT: A node threw away the given number of items it consumed from the position
+     */
+    static void deepBacktrack(String rule, String factory, long position, long items) {
+        if (!DEEP_BACKTRACKS.isEnabled()) {
+            return;
+        }
+        var event = new DeepBacktrackEvent();
+        event.rule = rule;
+        event.factory = factory;
+        event.position = position;
+        event.discardedItems = items;
+        event.commit();
+    }
+
+    @Name("io.kpatel.parsers.ParseSession")
+    @Label("Parse Session")
+    @Category("Parsers")
+    @Description("A top level parse of a stream by a compiled grammar")
+    static final class SessionEvent extends Event {
+        @Label("Engine")
+        String engine;
+        @Label("Start Position")
+        long position;
+        @Label("Input Size")
+        @Description("Items left in the stream as the parse began, or -1 if the stream cannot tell")
+        long inputSize;
+        @Label("Items Consumed")
+        long itemsConsumed;
+        @Label("Success")
+        boolean success;
+    }
+
+    @Name("io.kpatel.parsers.SlowRule")
+    @Label("Slow Rule")
+    @Category("Parsers")
+    @Description("An invocation of a named rule that took longer than the threshold")
+    @Threshold("20 ms")
+    @StackTrace(false)
+    static final class SlowRuleEvent extends Event {
+        @Label("Rule")
+        String rule;
+        @Label("Start Position")
+        long position;
+        @Label("Items Consumed")
+        long itemsConsumed;
+        @Label("Success")
+        boolean success;
+    }
+
+    @Name("io.kpatel.parsers.DeepBacktrack")
+    @Label("Deep Backtrack")
+    @Category("Parsers")
+    @Description("A node that threw away at least the configured number of items it consumed")
+    @StackTrace(false)
+    static final class DeepBacktrackEvent extends Event {
+        @Label("Rule")
+        String rule;
+        @Label("Factory")
+        String factory;
+        @Label("Start Position")
+        long position;
+        @Label("Discarded Items")
+        long discardedItems;
+    }
+}
@@ -0,0 +1,28 @@
+package io.kpatel.parsers.batch;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * WHAT: The executor of batch parsers that are not given one
+ * NOTE:
+ * - This is the multi-release section for Java 21, which parses each input
+ *   on its own virtual Thread, so inputs that block (e.g. ReaderStreams)
+ *   do not hold a platform Thread
+ * - It replaces the Java 10 baseline in src/main/java, and both must keep
+ *   the same package-private members
+ *
+ * @see BatchParser#withExecutor
+ */
+final class BatchExecutors {
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private BatchExecutors() {
+
+    }
+
+    static Executor defaultExecutor() {
+        return VIRTUAL_THREADS;
+    }
+}
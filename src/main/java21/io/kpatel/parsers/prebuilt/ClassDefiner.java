@@ -0,0 +1,34 @@
+package io.kpatel.parsers.prebuilt;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * WHAT: Defines the classes generated for a grammar
+ * NOTE:
+ * - This is the multi-release section for Java 21, which defines each
+ *   class as a hidden class, unloaded once its grammar is unreachable
+ * - It replaces the Java 10 baseline in src/main/java, and both must keep
+ *   the same package-private members
+ *
+ * @see GrammarCodegen
+ */
+final class ClassDefiner {
+    private ClassDefiner() {
+
+    }
+
+    /**
+     * WHAT: Whether the classes defined are unloaded w/ their grammar
+     */
+    static boolean unloadsClasses() {
+        return true;
+    }
+
+    /**
+     * WHAT: A lookup w/ package access on the class of the class file, which
+     *   is defined, but not initialized
+     */
+    static MethodHandles.Lookup define(MethodHandles.Lookup lookup, byte[] classFile) throws IllegalAccessException {
+        return lookup.defineHiddenClass(classFile, false);
+    }
+}
@@ -80,4 +80,25 @@ public class ResultUnwrapTest {
 
         assertFalse(opt.isPresent());
     }
+
+    @Test
+    public void testRemainingStreamSuccess() {
+        var parserStream = new StringStream("Hello");
+        var result = Result.success("Hello", parserStream);
+
+        var opt = result.getRemainingStream();
+
+        assertTrue(opt.isPresent());
+        assertSame(parserStream, opt.get());
+    }
+
+    @Test
+    public void testRemainingStreamFailure() {
+        var parserStream = new StringStream("");
+        var result = Result.failure(parserStream.getErrorContext(), () -> "Error");
+
+        var opt = result.getRemainingStream();
+
+        assertFalse(opt.isPresent());
+    }
 }
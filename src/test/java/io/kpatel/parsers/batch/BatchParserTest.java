@@ -0,0 +1,197 @@
+package io.kpatel.parsers.batch;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.MiscParsers.filter;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.StringParsers.endOfFile;
+import static org.junit.Assert.*;
+
+public class BatchParserTest {
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(4);
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private static Parser<Integer, String, Character> number() {
+        return GrammarParsers.compileContext(suffix(map(
+                filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"),
+                Integer::parseInt), endOfFile()));
+    }
+
+    private static List<String> inputs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(idx -> idx % 10 == 9 ? "x" + idx : String.valueOf(idx))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testInputOrder() {
+        var batch = new BatchParser<>(number()).withExecutor(POOL).withMaxConcurrency(3);
+        var result = batch.parseAll(inputs(1000), StringStream::new);
+
+        var entries = result.getEntries();
+        assertEquals(1000, entries.size());
+        for (int idx = 0; idx < entries.size(); idx++) {
+            assertEquals(idx, entries.get(idx).getIndex());
+            assertEquals(idx % 10 != 9, entries.get(idx).getResult().isSuccess());
+        }
+        assertEquals(Integer.valueOf(42), result.getResults().get(42).getOrThrow());
+        assertEquals(900, result.getStats().getSuccessCount());
+        assertEquals(100, result.getStats().getFailureCount());
+    }
+
+    @Test
+    public void testCompletionOrder() {
+        var batch = new BatchParser<>(number()).withExecutor(POOL).withOrder(BatchOrder.COMPLETION);
+        var result = batch.parseAll(inputs(500).stream(), StringStream::new);
+
+        var indices = new ArrayList<Integer>();
+        for (var entry : result.getEntries()) {
+            indices.add(entry.getIndex());
+            assertEquals(Integer.valueOf(entry.getIndex()),
+                    entry.getResult().getOrElse(() -> Integer.parseInt(
+                            inputs(500).get(entry.getIndex()).substring(1))));
+        }
+        indices.sort(null);
+        assertEquals(IntStream.range(0, 500).boxed().collect(Collectors.toList()), indices);
+    }
+
+    @Test
+    public void testParseEach() {
+        var pulled = new AtomicInteger();
+        var consumed = new ArrayList<Integer>();
+        Iterable<String> inputs = () -> inputs(300).stream()
+                .peek(input -> pulled.incrementAndGet())
+                .iterator();
+        var batch = new BatchParser<>(number()).withExecutor(POOL).withMaxConcurrency(3);
+
+        var stats = batch.parseEach(inputs, StringStream::new, entry -> {
+            assertTrue(pulled.get() <= consumed.size() + 3);
+            consumed.add(entry.getIndex());
+        });
+
+        consumed.sort(null);
+        assertEquals(IntStream.range(0, 300).boxed().collect(Collectors.toList()), consumed);
+        assertEquals(300, stats.getCount());
+        assertEquals(270, stats.getSuccessCount());
+    }
+
+    @Test
+    public void testConsumerThrows() {
+        var batch = new BatchParser<>(number()).withExecutor(POOL);
+        try {
+            batch.parseEach(inputs(100).stream(), StringStream::new, entry -> {
+                throw new IllegalStateException("Boom");
+            });
+            fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            assertEquals("Boom", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testBoundedConcurrency() {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        Parser<Integer, String, Character> parser = stream -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.yield();
+            var result = number().parse(stream);
+            inFlight.decrementAndGet();
+            return result;
+        };
+        var result = new BatchParser<>(parser).withExecutor(POOL).withMaxConcurrency(2)
+                .parseAll(inputs(200), StringStream::new);
+
+        assertEquals(200, result.getEntries().size());
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void testDefaultExecutor() {
+        var batch = new BatchParser<>(number());
+        var result = batch.parseAll(inputs(100), StringStream::new);
+
+        assertNotNull(batch.getExecutor());
+        assertEquals(Runtime.getRuntime().availableProcessors(), batch.getMaxConcurrency());
+        assertEquals(90, result.getStats().getSuccessCount());
+    }
+
+    @Test
+    public void testStats() {
+        var result = new BatchParser<>(number()).withExecutor(Runnable::run)
+                .parseAll(inputs(100), StringStream::new);
+        var stats = result.getStats();
+
+        assertEquals(100, stats.getCount());
+        assertTrue(0 < stats.getElapsedNanos());
+        assertTrue(0.0 < stats.getThroughput());
+        assertTrue(stats.getLatencyPercentile(50) <= stats.getLatencyPercentile(99));
+        assertEquals(result.getEntries().stream().mapToLong(BatchEntry::getLatencyNanos).max().getAsLong(),
+                stats.getLatencyPercentile(100));
+        assertTrue(stats.toString().startsWith("100 Inputs (90 Successes) in "));
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        var result = new BatchParser<>(number()).parseAll(List.<String>of(), StringStream::new);
+
+        assertTrue(result.getEntries().isEmpty());
+        assertEquals(0, result.getStats().getLatencyPercentile(99));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongPercentile() {
+        new BatchParser<>(number()).parseAll(inputs(1), StringStream::new)
+                .getStats().getLatencyPercentile(101);
+    }
+
+    @Test
+    public void testParserThrows() {
+        Parser<Integer, String, Character> parser = stream -> {
+            var result = number().parse(stream);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Boom");
+            }
+            return result;
+        };
+        try {
+            new BatchParser<>(parser).withExecutor(POOL).parseAll(inputs(100), StringStream::new);
+            fail("Expected a CompletionException");
+        } catch (CompletionException exception) {
+            assertEquals("Boom", exception.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testListStream() {
+        Parser<Integer, List<Integer>, Integer> one = TerminalParsers.<List<Integer>, Integer>item(1, () -> "Expected 1")
+                .get();
+        var result = new BatchParser<>(one).withExecutor(POOL)
+                .parseAll(List.of(List.of(1), List.of(2)), ListStream::new);
+
+        assertEquals(List.of(true, false), result.getResults().stream()
+                .map(Result::isSuccess).collect(Collectors.toList()));
+    }
+}
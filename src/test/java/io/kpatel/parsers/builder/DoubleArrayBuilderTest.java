@@ -0,0 +1,91 @@
+package io.kpatel.parsers.builder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DoubleArrayBuilderTest {
+    @Test
+    public void testEmpty() {
+        var builder = new DoubleArrayBuilder();
+
+        var out = builder.toOutput();
+
+        assertTrue(out.isEmpty());
+        assertEquals(DoubleArray.of(), out);
+    }
+
+    @Test
+    public void testAppendPart() {
+        var builder = new DoubleArrayBuilder();
+        builder.appendDouble(1.5)
+                .appendDouble(-2.25)
+                .append(Double.valueOf(7.0));
+
+        var out = builder.toOutput();
+
+        assertEquals(DoubleArray.of(1.5, -2.25, 7.0), out);
+        assertEquals(3, out.size());
+        assertEquals(-2.25, out.get(1), 0);
+    }
+
+    @Test
+    public void testGrowth() {
+        var builder = new DoubleArrayBuilder();
+        for (int idx = 0; idx < 1000; idx++) {
+            builder.appendDouble(idx);
+        }
+
+        var out = builder.toOutput();
+
+        assertEquals(1000, out.size());
+        assertEquals(999, out.get(999), 0);
+        assertEquals(999 * 1000 / 2, out.stream().sum(), 0);
+    }
+
+    @Test
+    public void testOutputIsImmutable() {
+        var builder = new DoubleArrayBuilder();
+        builder.appendDouble(1.5);
+        var out = builder.toOutput();
+        out.toArray()[0] = -2.25;
+        builder.appendDouble(7.0);
+
+        assertEquals(DoubleArray.of(1.5), out);
+    }
+
+    @Test
+    public void testConverting() {
+        var builder = DoubleArrayBuilder.<String>converting(Double::parseDouble);
+        builder.append("1.5").append("-2.25");
+
+        var out = builder.toOutput();
+
+        assertEquals(DoubleArray.of(1.5, -2.25), out);
+    }
+
+    @Test
+    public void testCombine() {
+        var builder = DoubleArrayBuilder.<String>converting(Double::parseDouble);
+        builder.append("1.5");
+        var later = DoubleArrayBuilder.<String>converting(Double::parseDouble);
+        later.append("-2.25").append("7.0");
+
+        var out = builder.combine(later).toOutput();
+
+        assertEquals(DoubleArray.of(1.5, -2.25, 7.0), out);
+        assertEquals("[1.5, -2.25, 7.0]", out.toString());
+    }
+
+    @Test
+    public void testWithCapacity() {
+        var builder = new DoubleArrayBuilder();
+        builder.withCapacity(2);
+        builder.appendDouble(7.0).appendDouble(7.0);
+        var out = builder.toOutput();
+        builder.appendDouble(7.0);
+
+        assertEquals(DoubleArray.of(7.0, 7.0), out);
+        assertEquals(DoubleArray.of(7.0, 7.0, 7.0), builder.toOutput());
+    }
+}
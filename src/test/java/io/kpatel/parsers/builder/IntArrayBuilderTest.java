@@ -0,0 +1,91 @@
+package io.kpatel.parsers.builder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IntArrayBuilderTest {
+    @Test
+    public void testEmpty() {
+        var builder = new IntArrayBuilder();
+
+        var out = builder.toOutput();
+
+        assertTrue(out.isEmpty());
+        assertEquals(IntArray.of(), out);
+    }
+
+    @Test
+    public void testAppendPart() {
+        var builder = new IntArrayBuilder();
+        builder.appendInt(4)
+                .appendInt(-2)
+                .append(Integer.valueOf(7));
+
+        var out = builder.toOutput();
+
+        assertEquals(IntArray.of(4, -2, 7), out);
+        assertEquals(3, out.size());
+        assertEquals(-2, out.get(1));
+    }
+
+    @Test
+    public void testGrowth() {
+        var builder = new IntArrayBuilder();
+        for (int idx = 0; idx < 1000; idx++) {
+            builder.appendInt(idx);
+        }
+
+        var out = builder.toOutput();
+
+        assertEquals(1000, out.size());
+        assertEquals(999, out.get(999));
+        assertEquals(999 * 1000 / 2, out.stream().sum());
+    }
+
+    @Test
+    public void testOutputIsImmutable() {
+        var builder = new IntArrayBuilder();
+        builder.appendInt(4);
+        var out = builder.toOutput();
+        out.toArray()[0] = -2;
+        builder.appendInt(7);
+
+        assertEquals(IntArray.of(4), out);
+    }
+
+    @Test
+    public void testConverting() {
+        var builder = IntArrayBuilder.<String>converting(Integer::parseInt);
+        builder.append("4").append("-2");
+
+        var out = builder.toOutput();
+
+        assertEquals(IntArray.of(4, -2), out);
+    }
+
+    @Test
+    public void testCombine() {
+        var builder = IntArrayBuilder.<String>converting(Integer::parseInt);
+        builder.append("4");
+        var later = IntArrayBuilder.<String>converting(Integer::parseInt);
+        later.append("-2").append("7");
+
+        var out = builder.combine(later).toOutput();
+
+        assertEquals(IntArray.of(4, -2, 7), out);
+        assertEquals("[4, -2, 7]", out.toString());
+    }
+
+    @Test
+    public void testWithCapacity() {
+        var builder = new IntArrayBuilder();
+        builder.withCapacity(2);
+        builder.appendInt(7).appendInt(7);
+        var out = builder.toOutput();
+        builder.appendInt(7);
+
+        assertEquals(IntArray.of(7, 7), out);
+        assertEquals(IntArray.of(7, 7, 7), builder.toOutput());
+    }
+}
@@ -31,5 +31,27 @@ public class ListBuilderTest {
         assertEquals(List.of(Token.H, Token.E, Token.L, Token.L, Token.O), out);
     }
 
+    @Test
+    public void testCombine() {
+        var builder = new ListBuilder<Token>();
+        builder.append(Token.H).append(Token.E);
+        var later = new ListBuilder<Token>();
+        later.append(Token.L).append(Token.L).append(Token.O);
+
+        var out = builder.combine(later).toOutput();
+
+        assertEquals(List.of(Token.H, Token.E, Token.L, Token.L, Token.O), out);
+    }
+
+    @Test
+    public void testWithCapacity() {
+        var builder = new ListBuilder<Token>().withCapacity(3);
+        builder.append(Token.H).append(Token.O).append(Token.H);
+
+        var out = builder.toOutput();
+
+        assertEquals(List.of(Token.H, Token.O, Token.H), out);
+    }
+
     private enum Token {E, H, L, O}
 }
@@ -0,0 +1,91 @@
+package io.kpatel.parsers.builder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LongArrayBuilderTest {
+    @Test
+    public void testEmpty() {
+        var builder = new LongArrayBuilder();
+
+        var out = builder.toOutput();
+
+        assertTrue(out.isEmpty());
+        assertEquals(LongArray.of(), out);
+    }
+
+    @Test
+    public void testAppendPart() {
+        var builder = new LongArrayBuilder();
+        builder.appendLong(4_000_000_000L)
+                .appendLong(-2L)
+                .append(Long.valueOf(7L));
+
+        var out = builder.toOutput();
+
+        assertEquals(LongArray.of(4_000_000_000L, -2L, 7L), out);
+        assertEquals(3, out.size());
+        assertEquals(-2L, out.get(1));
+    }
+
+    @Test
+    public void testGrowth() {
+        var builder = new LongArrayBuilder();
+        for (int idx = 0; idx < 1000; idx++) {
+            builder.appendLong(idx);
+        }
+
+        var out = builder.toOutput();
+
+        assertEquals(1000, out.size());
+        assertEquals(999, out.get(999));
+        assertEquals(999 * 1000 / 2, out.stream().sum());
+    }
+
+    @Test
+    public void testOutputIsImmutable() {
+        var builder = new LongArrayBuilder();
+        builder.appendLong(4_000_000_000L);
+        var out = builder.toOutput();
+        out.toArray()[0] = -2L;
+        builder.appendLong(7L);
+
+        assertEquals(LongArray.of(4_000_000_000L), out);
+    }
+
+    @Test
+    public void testConverting() {
+        var builder = LongArrayBuilder.<String>converting(Long::parseLong);
+        builder.append("4000000000").append("-2");
+
+        var out = builder.toOutput();
+
+        assertEquals(LongArray.of(4_000_000_000L, -2L), out);
+    }
+
+    @Test
+    public void testCombine() {
+        var builder = LongArrayBuilder.<String>converting(Long::parseLong);
+        builder.append("4000000000");
+        var later = LongArrayBuilder.<String>converting(Long::parseLong);
+        later.append("-2").append("7");
+
+        var out = builder.combine(later).toOutput();
+
+        assertEquals(LongArray.of(4_000_000_000L, -2L, 7L), out);
+        assertEquals("[4000000000, -2, 7]", out.toString());
+    }
+
+    @Test
+    public void testWithCapacity() {
+        var builder = new LongArrayBuilder();
+        builder.withCapacity(2);
+        builder.appendLong(7L).appendLong(7L);
+        var out = builder.toOutput();
+        builder.appendLong(7L);
+
+        assertEquals(LongArray.of(7L, 7L), out);
+        assertEquals(LongArray.of(7L, 7L, 7L), builder.toOutput());
+    }
+}
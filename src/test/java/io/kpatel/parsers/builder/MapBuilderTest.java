@@ -36,5 +36,34 @@ public class MapBuilderTest {
                 "d", Token.D), out);
     }
 
+    @Test
+    public void testCombine() {
+        var builder = new MapBuilder<String, Token>();
+        builder.append(Map.entry("W", Token.W))
+                .append(Map.entry("o", Token.R));
+        var later = new MapBuilder<String, Token>();
+        later.append(Map.entry("o", Token.O))
+                .append(Map.entry("d", Token.D));
+
+        var out = builder.combine(later).toOutput();
+
+        assertEquals(Map.of(
+                "W", Token.W,
+                "o", Token.O,
+                "d", Token.D), out);
+    }
+
+    @Test
+    public void testWithCapacity() {
+        var builder = new MapBuilder<String, Integer>();
+        builder.append(Map.entry("a", 1))
+                .withCapacity(100)
+                .append(Map.entry("b", 2));
+
+        var out = builder.toOutput();
+
+        assertEquals(Map.of("a", 1, "b", 2), out);
+    }
+
     private enum Token {D, L, O, R, W}
 }
@@ -0,0 +1,97 @@
+package io.kpatel.parsers.builder;
+
+import io.kpatel.parsers.stream.CharSlice;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class StringInternerTest {
+    @Test
+    public void testInternString() {
+        var interner = new StringInterner();
+        var first = interner.intern(new String("host"));
+
+        assertSame(first, interner.intern(new String("host")));
+        assertNotSame(first, interner.intern("hosts"));
+    }
+
+    @Test
+    public void testInternCharSequences() {
+        var interner = new StringInterner();
+        var first = interner.intern(new CharSlice("a host here", 2, 6));
+
+        assertEquals("host", first);
+        assertSame(first, interner.intern(new StringBuilder("host")));
+        assertSame(first, interner.intern(new CharSlice("host", 0, 4)));
+        assertSame(first, interner.intern("host"));
+    }
+
+    @Test
+    public void testBounded() {
+        var interner = new StringInterner(8);
+        var distinct = new HashSet<String>();
+        for (int idx = 0; idx < 1000; idx++) {
+            distinct.add(interner.intern(String.valueOf(idx % 100)));
+        }
+
+        assertEquals(8, interner.getCapacity());
+        assertTrue(100 <= distinct.size());
+    }
+
+    @Test
+    public void testEvictionKeepsRecent() {
+        var interner = new StringInterner(1);
+        var first = interner.intern(new String("a"));
+        var second = interner.intern(new String("b"));
+
+        assertSame(first, interner.intern("a"));
+        assertSame(second, interner.intern("b"));
+    }
+
+    @Test
+    public void testLongSequences() {
+        var interner = new StringInterner();
+        var text = String.join("", Collections.nCopies(StringInterner.MAX_LENGTH + 1, "x"));
+        var first = interner.intern(new StringBuilder(text));
+
+        assertEquals(text, first);
+        assertNotSame(first, interner.intern(new StringBuilder(text)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongCapacity() {
+        new StringInterner(0);
+    }
+
+    @Test
+    public void testConcurrentInterning() throws Exception {
+        var interner = new StringInterner(64);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<Boolean>>();
+            for (int task = 0; task < 4; task++) {
+                futures.add(pool.submit(() -> {
+                    for (int idx = 0; idx < 100_000; idx++) {
+                        var key = "key" + idx % 200;
+                        if (!key.equals(interner.intern(new StringBuilder(key)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (var future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.kpatel.parsers.builder;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class TextBuilderTest {
     @Test
@@ -27,4 +28,40 @@ public class TextBuilderTest {
 
         assertEquals("Hello", out);
     }
+
+    @Test
+    public void testCombine() {
+        var builder = new TextBuilder();
+        builder.append("He");
+        var later = new TextBuilder();
+        later.append("l").append("lo");
+
+        var out = builder.combine(later).toOutput();
+
+        assertEquals("Hello", out);
+    }
+
+    @Test
+    public void testWithCapacity() {
+        var builder = new TextBuilder().withCapacity(2);
+        builder.append("He").append("llo");
+
+        var out = builder.toOutput();
+
+        assertEquals("Hello", out);
+    }
+
+    @Test
+    public void testInterning() {
+        var interner = new StringInterner();
+        var builder = new TextBuilder(interner);
+        builder.append("He").append("llo");
+        var later = new TextBuilder(interner);
+        later.append("Hel").append("lo");
+
+        var out = builder.toOutput();
+
+        assertEquals("Hello", out);
+        assertSame(out, later.toOutput());
+    }
 }
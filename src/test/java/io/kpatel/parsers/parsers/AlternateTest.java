@@ -1,16 +1,34 @@
 package io.kpatel.parsers.parsers;
 
 import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
 import io.kpatel.parsers.stream.StringStream;
 import org.junit.Test;
 
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.stream.ListStream;
+
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compile;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileContext;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileGenerated;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileTrampoline;
 import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.MiscParsers.optional;
+import static io.kpatel.parsers.prebuilt.StringParsers.digit;
+import static io.kpatel.parsers.prebuilt.StringParsers.endOfFile;
+import static io.kpatel.parsers.prebuilt.StringParsers.keywords;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
 import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class AlternateTest {
     public Supplier<Parser<String, String, Character>> alternateParser() {
@@ -61,4 +79,108 @@ public class AlternateTest {
 
         assertFalse(result.isSuccess());
     }
+
+    @Test
+    public void testAlternateOverlappingInOrder() {
+        var stream = new StringStream("ac");
+        var parser = alternate(Arrays.asList(
+                sequence("ab", () -> "Cannot find ab"),
+                sequence("a", () -> "Cannot find a"),
+                map(digit(), String::valueOf))).get();
+
+        assertEquals("a", parser.parse(stream).getOrThrow());
+    }
+
+    @Test
+    public void testAlternatePredicateBranch() {
+        var stream = new StringStream("7");
+        var parser = alternate(Arrays.asList(
+                sequence("1", () -> "Cannot find 1"),
+                keywords(List.of("true", "false")),
+                map(digit(), String::valueOf))).get();
+
+        assertEquals("7", parser.parse(stream).getOrThrow());
+    }
+
+    @Test
+    public void testAlternateNullableBranch() {
+        var stream = new StringStream("c");
+        var parser = alternate(Arrays.asList(
+                TerminalParsers.<String, Character>sequence("a", () -> "Cannot find a"),
+                optional(sequence("b", () -> "Cannot find b")))).get();
+
+        assertEquals("", parser.parse(stream).getOrThrow());
+    }
+
+    @Test
+    public void testAlternateEndOfStream() {
+        var stream = new StringStream("");
+        var parser = alternate(Arrays.asList(
+                item('a', () -> "Cannot find a"),
+                endOfFile())).get();
+
+        assertEquals(Character.valueOf('\0'), parser.parse(stream).getOrThrow());
+    }
+
+    @Test
+    public void testAlternateOpaqueBranchAlwaysTried() {
+        var calls = new AtomicInteger();
+        Supplier<Parser<String, String, Character>> opaque = () -> stream -> {
+            calls.incrementAndGet();
+            return Result.failure(stream.getErrorContext(), () -> "Opaque");
+        };
+        var parser = alternate(Arrays.asList(
+                sequence("a", () -> "Cannot find a"),
+                opaque,
+                sequence("b", () -> "Cannot find b"))).get();
+
+        assertEquals("b", parser.parse(new StringStream("b")).getOrThrow());
+        assertFalse(parser.parse(new StringStream("")).isSuccess());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testAlternateNoCandidateFailed() {
+        var stream = new StringStream("z");
+        var parser = alternate(Arrays.asList(
+                TerminalParsers.<String, Character>sequence("a", () -> "Cannot find a"),
+                TerminalParsers.<String, Character>sequence("b", () -> "Cannot find b"))).get();
+
+        assertFalse(parser.parse(stream).isSuccess());
+    }
+
+    @Test
+    public void testAlternateNoCandidateMessage() {
+        Supplier<Parser<Character, String, Character>> grammar = alternate(Arrays.asList(
+                item('a', () -> "Expected 'a'"),
+                item('b', () -> "Expected 'b'")));
+
+        for (Result<?, ?, ?> result : List.of(
+                grammar.get().parse(new StringStream("c")),
+                compile(grammar).parse(new StringStream("c")),
+                compileContext(grammar).parse(new StringStream("c")),
+                compileGenerated(grammar).parse(new StringStream("c")),
+                compileTrampoline(grammar).parse(new StringStream("c")))) {
+            assertTrue(errorOf(result), errorOf(result).endsWith(": Expected 'b'"));
+        }
+    }
+
+    private static String errorOf(Result<?, ?, ?> result) {
+        try {
+            result.getOrThrow();
+            return null;
+        } catch (ParserError error) {
+            return error.getMessage();
+        }
+    }
+
+    @Test
+    public void testAlternateListStream() {
+        var stream = new ListStream<>(Arrays.asList("let", "x"));
+        var parser = alternate(Arrays.asList(
+                TerminalParsers.<List<String>, String>item("if", () -> "Cannot find if"),
+                TerminalParsers.<List<String>, String>item("let", () -> "Cannot find let"))).get();
+
+        assertEquals("let", parser.parse(stream).getOrThrow());
+    }
 }
@@ -0,0 +1,184 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.prebuilt.BacktrackEntry;
+import io.kpatel.parsers.prebuilt.BacktrackProfile;
+import io.kpatel.parsers.prebuilt.GrammarProfile;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.*;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class BacktrackTest {
+    /**
+     * WHAT: "abc" or "abd", which shares the parser of "ab" between branches
+     */
+    private static Supplier<Parser<String, String, Character>> branches() {
+        var ab = named("ab", TerminalParsers.<String, Character>sequence("ab", () -> "Expected 'ab'"));
+        return alternate(List.of(
+                named("abc", pipe(ab, TerminalParsers.<String, Character>sequence("c", () -> "Expected 'c'"),
+                        String::concat)),
+                named("abd", pipe(ab, TerminalParsers.<String, Character>sequence("d", () -> "Expected 'd'"),
+                        String::concat))));
+    }
+
+    /**
+     * WHAT: The depth of nested parentheses around an 'x', in a named rule
+     */
+    private static Supplier<Parser<Integer, String, Character>> nesting() {
+        Rule<Integer, String, Character> depth = rule("depth");
+        depth.bind(alternate(List.of(
+                map(item('x', () -> "Expected 'x'"), x -> 0),
+                map(between(
+                        item('(', () -> "Expected '('"),
+                        depth,
+                        item(')', () -> "Expected ')'")), d -> d + 1))));
+        return depth;
+    }
+
+    private static BacktrackEntry entry(BacktrackProfile profile, String label) {
+        var matching = profile.getEntries().stream()
+                .filter(entry -> entry.getLabel().equals(label))
+                .collect(Collectors.toList());
+        assertEquals(label, 1, matching.size());
+        return matching.get(0);
+    }
+
+    @Test
+    public void testFailedBranch() {
+        var profile = new BacktrackProfile();
+        var parser = compile(profile(branches(), profile));
+
+        assertEquals("abd", parser.parse(new StringStream("abd")).getOrThrow());
+
+        var abc = entry(profile, "abc/pipe");
+        assertEquals(1, abc.getRewinds());
+        assertEquals(2, abc.getDiscardedItems());
+        assertEquals(2, abc.getMaxRewind());
+        assertEquals(abc.getId(), profile.getEntries().get(0).getId());
+
+        var ab = entry(profile, "ab/sequence");
+        assertEquals(2, ab.getInvocations());
+        assertEquals(1, ab.getRevisits());
+        assertEquals(2, ab.getMaxVisits());
+        assertEquals(0, ab.getRewinds());
+
+        assertEquals(0, entry(profile, "alternate").getRewinds());
+        assertEquals(2, profile.getMaxRewind());
+        assertArrayEquals(new long[]{0, 1}, profile.getRewindHistogram());
+    }
+
+    @Test
+    public void testVisitHistogram() {
+        var profile = new BacktrackProfile();
+        var parser = compileContext(profile(branches(), profile));
+        parser.parse(new StringStream("abd"));
+        parser.parse(new StringStream("abd"));
+
+        // Each parse: alternate, abc, ab (twice), c, abd, d
+        assertArrayEquals(new long[]{2 * 5, 2}, profile.getVisitHistogram());
+        assertEquals(2, entry(profile, "ab/sequence").getRevisits());
+    }
+
+    @Test
+    public void testPeek() {
+        var profile = new BacktrackProfile();
+        var word = TerminalParsers.<String, Character>sequence("word", () -> "Expected 'word'");
+        compileContext(profile(peek(word), profile)).parse(new StringStream("words"));
+
+        var peek = entry(profile, "peek");
+        assertEquals(1, peek.getRewinds());
+        assertEquals(4, peek.getDiscardedItems());
+        assertEquals(0, entry(profile, "sequence").getRewinds());
+    }
+
+    @Test
+    public void testTrailingDelimiter() {
+        var profile = new BacktrackProfile();
+        var number = filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number");
+        var parser = compile(profile(delimitedList(number,
+                TerminalParsers.<String, Character>item(',', () -> "Expected ','")), profile));
+
+        var result = parser.parse(new StringStream("1,2,"));
+
+        assertEquals(List.of("1", "2"), result.getOrThrow());
+        var delimited = entry(profile, "delimited");
+        assertEquals(1, delimited.getRewinds());
+        assertEquals(1, delimited.getMaxRewind());
+    }
+
+    @Test
+    public void testEnginesAgree() {
+        var input = "((((x))";
+        var resultProfile = new BacktrackProfile();
+        var contextProfile = new BacktrackProfile();
+        var trampolineProfile = new BacktrackProfile();
+
+        assertFalse(compile(profile(nesting(), resultProfile)).parse(new StringStream(input)).isSuccess());
+        assertFalse(compileContext(profile(nesting(), contextProfile)).parse(new StringStream(input)).isSuccess());
+        assertFalse(compileTrampoline(profile(nesting(), trampolineProfile))
+                .parse(new StringStream(input)).isSuccess());
+
+        Function<BacktrackProfile, List<String>> entries = profile -> profile.getEntries().stream()
+                .map(BacktrackEntry::toString)
+                .collect(Collectors.toList());
+        assertEquals(entries.apply(resultProfile), entries.apply(contextProfile));
+        assertEquals(entries.apply(resultProfile), entries.apply(trampolineProfile));
+        assertArrayEquals(resultProfile.getVisitHistogram(), trampolineProfile.getVisitHistogram());
+        // The suffix around "((x))" throws it away, once its ')' is missing
+        assertEquals(5, resultProfile.getMaxRewind());
+    }
+
+    @Test
+    public void testAbandonedFrames() {
+        var profile = new BacktrackProfile();
+        var parser = compileTrampoline(profile(nesting(), profile)).withMaxDepth(32);
+
+        assertFalse(parser.parse(new StringStream("((((((((((x))))))))))")).isSuccess());
+        profile.reset();
+        assertEquals(Integer.valueOf(1), parser.parse(new StringStream("(x)")).getOrThrow());
+
+        // Only the second parse: depth/alternate at 0 and 1, one visit each
+        assertEquals(2, entry(profile, "depth/alternate").getInvocations());
+        assertEquals(0, entry(profile, "depth/alternate").getRevisits());
+        assertEquals(1, entry(profile, "depth/alternate").getMaxVisits());
+    }
+
+    @Test
+    public void testBothProfiles() {
+        var backtracks = new BacktrackProfile();
+        var times = new GrammarProfile();
+        var parser = compile(profile(profile(branches(), times), backtracks));
+
+        assertEquals("abc", parser.parse(new StringStream("abc")).getOrThrow());
+        assertEquals(times.getEntries().size(), backtracks.getEntries().size());
+        assertEquals(1, times.getEntries().stream()
+                .filter(entry -> entry.getLabel().equals("ab/sequence"))
+                .findFirst().orElseThrow().getInvocations());
+        assertEquals(1, entry(backtracks, "ab/sequence").getInvocations());
+    }
+
+    @Test
+    public void testReport() {
+        var profile = new BacktrackProfile();
+        compile(profile(branches(), profile)).parse(new StringStream("abd"));
+
+        var report = profile.toString();
+        assertTrue(report, report.startsWith("Max Rewind: 2 Items"));
+        assertTrue(report, report.contains("Visits per Position"));
+        assertTrue(report, report.contains("abc/pipe"));
+    }
+}
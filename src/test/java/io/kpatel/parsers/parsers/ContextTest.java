@@ -0,0 +1,231 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileContext;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.rule;
+import static io.kpatel.parsers.prebuilt.MiscParsers.*;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.StringParsers.*;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+import static org.junit.Assert.*;
+
+public class ContextTest {
+    /**
+     * WHAT: A sum of numbers, with parenthesized sub-sums, e.g. "1+(2+3)"
+     */
+    private static Supplier<Parser<Integer, String, Character>> sum() {
+        Rule<Integer, String, Character> sum = rule();
+        var number = map(filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"),
+                Integer::parseInt);
+        var term = alternate(List.of(number, between(
+                item('(', () -> "Expected '('"),
+                sum,
+                item(')', () -> "Expected ')'"))));
+        sum.bind(map(delimitedList(term, item('+', () -> "Expected '+'")),
+                terms -> terms.stream().mapToInt(Integer::intValue).sum()));
+        return sum;
+    }
+
+    /**
+     * HELPER: The context engine must accept what the Parser accepts, and
+     * fail with the same message otherwise, in every failure mode
+     * - Except in FURTHEST mode, which reports another failure by design
+     */
+    private static <T> void assertSameOutcome(
+            Supplier<Parser<T, String, Character>> grammar, String... inputs) {
+        var parser = compileContext(grammar);
+        for (FailureMode mode : FailureMode.values()) {
+            for (String input : inputs) {
+                var expected = grammar.get().parse(new StringStream(input));
+                var actual = parser.withFailureMode(mode).parse(new StringStream(input));
+
+                assertEquals(input, expected.isSuccess(), actual.isSuccess());
+                assertEquals(input, expected.get(), actual.get());
+                if (!expected.isSuccess() && mode != FailureMode.FURTHEST) {
+                    assertEquals(input, errorOf(expected), errorOf(actual));
+                }
+            }
+        }
+    }
+
+    private static String errorOf(Result<?, ?, ?> result) {
+        try {
+            result.getOrThrow();
+            return null;
+        } catch (ParserError error) {
+            return error.getMessage();
+        }
+    }
+
+    @Test
+    public void testTerminals() {
+        assertSameOutcome(letter(), "a", "1", "");
+        assertSameOutcome(TerminalParsers.<String, Character>item(), "a", "");
+        assertSameOutcome(sequence("Hello", () -> "Expected Hello"), "Hello World", "Help", "Hell", "");
+        assertSameOutcome(letters(), "abc1", "1");
+        assertSameOutcome(TerminalParsers.<String, Character>run(Character::isDigit, () -> "Expected Digits"),
+                "123a", "a");
+        assertSameOutcome(keywords(List.of("if", "in", "int")), "int x", "inx", "if(", "");
+        assertSameOutcome(endOfFile(), "", "a");
+    }
+
+    @Test
+    public void testCombinators() {
+        var word = letters();
+        assertSameOutcome(pipe(word, digits(), (w, d) -> w + ":" + d), "ab12", "12", "ab");
+        assertSameOutcome(suffix(word, item(';', () -> "Expected ';'")), "ab;", "ab", ";");
+        assertSameOutcome(peek(letter()), "a", "1");
+        assertSameOutcome(optional(sequence("a", () -> "Expected a")), "a", "b");
+        assertSameOutcome(otherwise(digit(), letter()), "1", "a", "-");
+        assertSameOutcome(flatMap(digit(), d -> repeatString(sequence("x", () -> "Expected x"),
+                Character.getNumericValue(d))), "3xxx", "3xx", "0");
+    }
+
+    @Test
+    public void testRepetitions() {
+        var one = TerminalParsers.<String, Character>sequence("1 ", () -> "Can not find 1");
+        assertSameOutcome(zeroOrMoreString(one), "1 1 2 ", "2 ", "");
+        assertSameOutcome(oneOrMoreString(one), "1 1 2 ", "2 ");
+        assertSameOutcome(repeatString(one, 3), "1 1 1 1 ", "1 1 2 ");
+        assertSameOutcome(rangedRepeatString(one, 2, 4), "1 1 1 2 2 ", "1 1 1 1 1 ", "1 2 ");
+        assertSameOutcome(delimitedList(digits(), item(',', () -> "Expected ','")), "1,2,3", "1,2,", "");
+        assertSameOutcome(concatenateString(List.of(letters(), digits(), letters())), "ab12cd", "ab");
+    }
+
+    @Test
+    public void testRule() {
+        assertSameOutcome(sum(), "1+2+3", "1+(2+(3+4))+5", "(1+2", "1+)", "+");
+        assertEquals(Integer.valueOf(15), compileContext(sum())
+                .parse(new StringStream("1+(2+(3+4))+5")).getOrThrow());
+    }
+
+    @Test
+    public void testOpaqueParser() {
+        Supplier<Parser<String, String, Character>> opaque = () -> stream -> stream.getLeadingItem()
+                .filter(c -> c == '!')
+                .map(c -> Result.success("bang", stream.jump(1)))
+                .orElseGet(() -> Result.failure(stream.getErrorContext(), () -> "Expected '!'"));
+        var word = TerminalParsers.<String, Character>run(Character::isLetter, () -> "Expected a Word");
+        assertSameOutcome(zeroOrMoreList(alternate(List.of(word, opaque))), "ab!!c", "!?");
+    }
+
+    @Test
+    public void testContextReuse() {
+        var parser = compileContext(suffix(sum(), item(';', () -> "Expected ';'")));
+        var context = new ParseContext<>(new StringStream("1+2;(3+4);5"));
+
+        assertTrue(parser.parse(context));
+        assertEquals(Integer.valueOf(3), context.getValue());
+        assertTrue(parser.parse(context));
+        assertEquals(Integer.valueOf(7), context.getValue());
+        assertEquals(10, context.getCursor().getPosition());
+        assertFalse(parser.parse(context));
+        assertEquals(10, context.getCursor().getPosition());
+    }
+
+    @Test
+    public void testListStream() {
+        var parser = compileContext(delimitedList(
+                TerminalParsers.<List<Integer>, Integer>item(1, () -> "Expected 1"),
+                TerminalParsers.<List<Integer>, Integer>item(0, () -> "Expected 0")));
+        var result = parser.parse(new ListStream<>(List.of(1, 0, 1, 0, 2)));
+
+        assertEquals(List.of(1, 1), result.getOrThrow());
+    }
+
+    @Test
+    public void testLightFailure() {
+        var parser = compileContext(suffix(sum(), endOfFile())).withFailureMode(FailureMode.LIGHT);
+        var context = new ParseContext<>(new StringStream("1+(2"), FailureMode.LIGHT);
+
+        assertFalse(parser.parse(context));
+        assertEquals(ParseContext.EXPECTED_END, context.getErrorCode());
+        assertEquals(1, context.getErrorPosition());
+        assertFalse(context.getErrorMessage().isPresent());
+        assertEquals("[(Pos: 1)] : Expected End of Stream", errorOf(context.toResult()));
+    }
+
+    @Test
+    public void testLightFailureReplayedOnce() {
+        var calls = new AtomicInteger();
+        Supplier<Parser<String, String, Character>> counted = () -> stream -> {
+            calls.incrementAndGet();
+            return Result.failure(stream.getErrorContext(), () -> "Expected Nothing");
+        };
+        var parser = compileContext(counted).withFailureMode(FailureMode.LIGHT);
+        var result = parser.parse(new StringStream("abc"));
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, calls.get());
+        assertEquals("[(Line: 1, Col: 0)] : Expected Nothing", errorOf(result));
+        assertEquals("[(Line: 1, Col: 0)] : Expected Nothing", errorOf(result));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testFurthestFailure() {
+        var parser = compileContext(suffix(sum(), endOfFile())).withFailureMode(FailureMode.FURTHEST);
+        var context = new ParseContext<>(new StringStream("1+(2"), FailureMode.FURTHEST);
+
+        assertFalse(parser.parse(context));
+        assertEquals(1, context.getErrorPosition());
+        assertEquals(4, context.getFurthestPosition());
+        var expected = context.getExpected().orElseThrow();
+        assertTrue(expected.expectsChar(')'));
+        assertTrue(expected.expectsChar('+'));
+        assertFalse(expected.expectsChar('('));
+        assertEquals("[(Line: 1, Col: 4)] : Expected one of: ')', '+'", errorOf(context.toResult()));
+        assertEquals("[(Line: 1, Col: 4)] : Expected one of: ')', '+'",
+                errorOf(parser.parse(new StringStream("1+(2"))));
+    }
+
+    @Test
+    public void testFurthestFailureTokens() {
+        var statement = alternate(List.of(
+                TerminalParsers.<String, Character>sequence("let", () -> "Expected let"),
+                TerminalParsers.<String, Character>sequence("var", () -> "Expected var"),
+                TerminalParsers.<String, Character>sequence("lex", () -> "Expected lex")));
+        var parser = compileContext(zeroOrMoreList(statement)).withFailureMode(FailureMode.FURTHEST);
+        var context = new ParseContext<>(new StringStream("letlexlo"), FailureMode.FURTHEST);
+
+        assertTrue(parser.parse(context));
+        assertEquals(List.of("let", "lex"), context.getValue());
+        assertEquals(6, context.getFurthestPosition());
+        var expected = context.getExpected().orElseThrow();
+        assertEquals(2, expected.getTokenCount());
+        assertEquals("Expected let", expected.describeToken(0));
+        assertEquals("Expected let | Expected lex", expected.format());
+
+        assertEquals("[(Line: 1, Col: 0)] : Expected let | Expected var | Expected lex",
+                errorOf(compileContext(statement).withFailureMode(FailureMode.FURTHEST)
+                        .parse(new StringStream("x"))));
+    }
+
+    @Test
+    public void testFurthestFailureDeduplicates() {
+        var parser = compileContext(oneOrMoreList(otherwise(
+                TerminalParsers.<String, Character>item('a', () -> "Expected a"),
+                TerminalParsers.<String, Character>item('a', () -> "Expected a"))))
+                .withFailureMode(FailureMode.FURTHEST);
+        var result = parser.parse(new StringStream("b"));
+
+        assertEquals("[(Line: 1, Col: 0)] : Expected one of: 'a'", errorOf(result));
+    }
+}
@@ -1,12 +1,19 @@
 package io.kpatel.parsers.parsers;
 
 import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.DoubleArray;
+import io.kpatel.parsers.builder.LongArray;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
 import io.kpatel.parsers.stream.StringStream;
 import org.junit.Test;
 
 import java.util.function.Supplier;
 
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedDoubles;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedLongs;
 import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedString;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
 import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
 import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
 import static org.junit.Assert.assertEquals;
@@ -51,4 +58,26 @@ public class DelimitedTest {
 
         assertEquals("HelloHelloHello", item);
     }
+
+    @Test
+    public void testDelimitedLongs() {
+        var parser = delimitedLongs(digits(), item(',', () -> "Cannot find Delimiter"), Long::parseLong);
+        var stream = new StringStream("4000000000,2,3;4");
+
+        var item = parser.get().parse(stream).getOrThrow();
+
+        assertEquals(LongArray.of(4_000_000_000L, 2, 3), item);
+    }
+
+    @Test
+    public void testDelimitedDoubles() {
+        var number = TerminalParsers.<String, Character>run(
+                c -> Character.isDigit(c) || c == '.' || c == '-', () -> "Cannot find Number");
+        var parser = delimitedDoubles(number, item(' ', () -> "Cannot find Delimiter"), Double::parseDouble);
+        var stream = new StringStream("1.5 -2 0.25");
+
+        assertEquals(DoubleArray.of(1.5, -2.0, 0.25), parser.get().parse(stream).getOrThrow());
+        assertEquals(DoubleArray.of(1.5, -2.0, 0.25),
+                GrammarParsers.compileContext(parser).parse(new StringStream("1.5 -2 0.25")).getOrThrow());
+    }
 }
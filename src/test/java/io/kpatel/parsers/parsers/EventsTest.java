@@ -0,0 +1,79 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.prebuilt.GrammarProfile;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class EventsTest {
+    /**
+     * WHAT: The depth of nested parentheses around an 'x', in a named rule
+     */
+    private static Supplier<Parser<Integer, String, Character>> nesting() {
+        Rule<Integer, String, Character> depth = rule("depth");
+        depth.bind(alternate(List.of(
+                map(item('x', () -> "Expected 'x'"), x -> 0),
+                map(between(
+                        item('(', () -> "Expected '('"),
+                        depth,
+                        item(')', () -> "Expected ')'")), d -> d + 1))));
+        return depth;
+    }
+
+    @Test
+    public void testSameOutcome() {
+        var recorded = recordEvents(nesting(), 1);
+        assertEquals(Integer.valueOf(3), compile(recorded).parse(new StringStream("(((x)))")).getOrThrow());
+        assertEquals(Integer.valueOf(3), compileContext(recorded).parse(new StringStream("(((x)))")).getOrThrow());
+        assertEquals(Integer.valueOf(3), compileTrampoline(recorded).parse(new StringStream("(((x)))")).getOrThrow());
+        assertFalse(compile(recorded).parse(new StringStream("((((x))")).isSuccess());
+        assertFalse(compileContext(recorded).parse(new StringStream("((((x))")).isSuccess());
+        assertFalse(compileTrampoline(recorded).parse(new StringStream("((((x))")).isSuccess());
+    }
+
+    @Test
+    public void testRemaining() {
+        var result = compile(recordEvents(nesting())).parse(new StringStream("(x)y"));
+        long[] position = {-1};
+        result.chain((depth, remaining) -> {
+            position[0] = remaining.getPosition();
+            return result;
+        });
+        assertEquals(3, position[0]);
+    }
+
+    @Test
+    public void testProfiledAfterwards() {
+        var plain = new GrammarProfile();
+        var recorded = new GrammarProfile();
+        compile(profile(nesting(), plain)).parse(new StringStream("((x))"));
+        compile(profile(recordEvents(nesting()), recorded)).parse(new StringStream("((x))"));
+
+        // Recording wraps no node twice, so every node is profiled once
+        assertEquals(plain.getEntries().size(), recorded.getEntries().size());
+        assertEquals(
+                plain.getEntries().stream().mapToLong(entry -> entry.getInvocations()).sum(),
+                recorded.getEntries().stream().mapToLong(entry -> entry.getInvocations()).sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeepBacktrackMustBePositive() {
+        recordEvents(nesting(), 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullGrammar() {
+        recordEvents(null);
+    }
+}
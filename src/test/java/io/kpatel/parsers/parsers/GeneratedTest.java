@@ -0,0 +1,256 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.prebuilt.GrammarProfile;
+import io.kpatel.parsers.prebuilt.MiscParsers;
+import io.kpatel.parsers.prebuilt.ProfileEntry;
+import io.kpatel.parsers.prebuilt.RepetitionParsers;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.*;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.*;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.StringParsers.*;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+import static org.junit.Assert.*;
+
+public class GeneratedTest {
+    /**
+     * HELPER: The generated parser must accept what the context parser
+     * accepts, w/ an equal value and remaining stream, and fail w/ the same
+     * message otherwise, in every failure mode
+     */
+    private static <T, Seq, Itm> void assertSameOutcome(
+            Supplier<Parser<T, Seq, Itm>> grammar,
+            Function<String, ParserStream<Seq, Itm>> streams,
+            String... inputs) {
+        var generated = compileGenerated(grammar);
+        for (FailureMode mode : FailureMode.values()) {
+            var expectedParser = compileContext(grammar).withFailureMode(mode);
+            var actualParser = generated.withFailureMode(mode);
+            for (String input : inputs) {
+                var expected = expectedParser.parse(streams.apply(input));
+                var actual = actualParser.parse(streams.apply(input));
+
+                assertEquals(input, expected.isSuccess(), actual.isSuccess());
+                assertEquals(input, expected.get(), actual.get());
+                assertEquals(input, remainingOf(expected), remainingOf(actual));
+                assertEquals(input, errorOf(expected), errorOf(actual));
+            }
+        }
+    }
+
+    private static <T> void assertSameOutcome(
+            Supplier<Parser<T, String, Character>> grammar, String... inputs) {
+        assertSameOutcome(grammar, StringStream::new, inputs);
+    }
+
+    private static <T, Seq, Itm> long remainingOf(Result<T, Seq, Itm> result) {
+        long[] position = {-1};
+        result.chain((value, remaining) -> {
+            position[0] = remaining.getPosition();
+            return result;
+        });
+        return position[0];
+    }
+
+    private static String errorOf(Result<?, ?, ?> result) {
+        try {
+            result.getOrThrow();
+            return null;
+        } catch (ParserError error) {
+            return error.getMessage();
+        }
+    }
+
+    @Test
+    public void testTerminals() {
+        var tag = between(
+                TerminalParsers.<String, Character>sequence("<", () -> "Expected '<'"),
+                letters(),
+                TerminalParsers.<String, Character>sequence(">", () -> "Expected '>'"));
+
+        assertSameOutcome(tag, "<tag>", "<tag", "tag>", "<>", "");
+        assertSameOutcome(letter(), "a", "1", "");
+        assertSameOutcome(item('x', () -> "Expected 'x'"), "x", "y", "");
+    }
+
+    @Test
+    public void testRepetitions() {
+        var words = delimitedList(letters(), item(',', () -> "Expected ','"));
+        var numbers = oneOrMoreList(suffix(digits(), item(';', () -> "Expected ';'")));
+        var counted = zeroOrMore(IntCount::new, letter());
+
+        assertSameOutcome(words, "a,bc,d", "a,", ",a", "");
+        assertSameOutcome(numbers, "1;22;3", "1;2", ";", "");
+        assertSameOutcome(counted, "abc1", "1", "");
+        assertEquals(3, (int) compileGenerated(counted).parse(new StringStream("abc")).getOrThrow());
+    }
+
+    @Test
+    public void testConcatenations() {
+        var assignment = concatenateList(List.of(letters(), sequence("=", () -> "Expected '='"), digits()));
+        var empty = RepetitionParsers.<Object, String, Character>concatenateList(List.of());
+
+        assertSameOutcome(assignment, "x=1", "x=", "=1", "");
+        assertSameOutcome(empty, "x", "");
+        assertEquals(List.of("x", "=", "12"), compileGenerated(assignment).parse(new StringStream("x=12")).getOrThrow());
+    }
+
+    @Test
+    public void testAlternations() {
+        var value = alternate(List.of(
+                map(digits(), d -> "number " + d),
+                map(letters(), l -> "word " + l),
+                sequence("()", () -> "Expected '()'")));
+        var none = MiscParsers.<Object, String, Character>alternate(List.of());
+        var ambiguous = MiscParsers.<Character, String, Character>alternate(List.of(
+                prefix(item('a', () -> "Expected 'a'"), item('b', () -> "Expected 'b'")),
+                prefix(item('a', () -> "Expected 'a'"), item('c', () -> "Expected 'c'"))));
+
+        assertSameOutcome(value, "12", "ab", "()", "(", "+", "");
+        assertSameOutcome(none, "x", "");
+        assertSameOutcome(ambiguous, "ab", "ac", "ad", "b", "");
+    }
+
+    @Test
+    public void testMapsAndOmits() {
+        var number = map(map(digits(), Integer::parseInt), n -> n * 2);
+        var omitted = omit(zeroOrMoreList(letter()), List::of);
+        var filtered = filter(digits(), d -> d.length() == 2, () -> "Expected Two Digits");
+
+        assertSameOutcome(number, "21", "007x");
+        assertSameOutcome(omitted, "abc", "");
+        assertSameOutcome(filtered, "12", "123", "");
+    }
+
+    @Test
+    public void testRecursiveGrammar() {
+        Rule<Integer, String, Character> sum = rule("sum");
+        var number = map(filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"), Integer::parseInt);
+        var term = alternate(List.of(number, between(
+                sequence("(", () -> "Expected '('"),
+                sum,
+                sequence(")", () -> "Expected ')'"))));
+        sum.bind(map(delimitedList(term, item('+', () -> "Expected '+'")),
+                terms -> terms.stream().mapToInt(Integer::intValue).sum()));
+
+        assertSameOutcome(sum, "1+(2+3)", "((1)+2)+3", "1+(2+", "(1", "+", "");
+        assertEquals(6, (int) compileGenerated(sum).parse(new StringStream("1+(2+3)")).getOrThrow());
+    }
+
+    @Test
+    public void testOtherStreams() {
+        var positives = oneOrMoreList(TerminalParsers.<List<Integer>, Integer>item(i -> 0 < i, () -> "Expected Positive"));
+        Function<String, ParserStream<List<Integer>, Integer>> numbers = input -> new ListStream<>(input.chars()
+                .map(c -> c - '0')
+                .boxed()
+                .collect(Collectors.toList()));
+        var literal = TerminalParsers.<List<Integer>, Integer>sequence(List.of(1, 2), () -> "Expected 1, 2");
+
+        assertSameOutcome(positives, numbers, "120", "012", "");
+        assertSameOutcome(literal, numbers, "12", "13", "");
+    }
+
+    @Test
+    public void testCustomParsers() {
+        Supplier<Parser<String, String, Character>> custom = () -> stream -> stream.getLeadingItem()
+                .filter(c -> c == '!')
+                .map(c -> Result.success("bang", stream.jump(1)))
+                .orElseGet(() -> Result.failure(stream.getErrorContext(), () -> "Expected '!'"));
+        var grammar = zeroOrMoreList(alternate(List.of(custom, map(letter(), String::valueOf))));
+
+        assertSameOutcome(grammar, "a!b!", "!!", "1", "");
+    }
+
+    @Test
+    public void testOptimizedGrammar() {
+        var tags = delimitedList(optimize(between(
+                TerminalParsers.<String, Character>sequence("<", () -> "Expected '<'"),
+                TerminalParsers.<String, Character>sequence("tag", () -> "Expected 'tag'"),
+                TerminalParsers.<String, Character>sequence(">", () -> "Expected '>'"))), whitespace());
+
+        assertSameOutcome(tags, "<tag> <tag>", "<tag> <ta", "");
+        assertSameOutcome(optimize(zeroOrMoreList(letter())), "abc1", "");
+    }
+
+    @Test
+    public void testProfiledGrammar() {
+        var profile = new GrammarProfile();
+        var grammar = profile(zeroOrMoreList(map(letter(), Character::toUpperCase)), profile);
+        compileGenerated(grammar).parse(new StringStream("abc"));
+
+        Map<String, Long> invocations = profile.getEntries().stream()
+                .collect(Collectors.toMap(ProfileEntry::getFactory, ProfileEntry::getInvocations, Long::sum));
+        assertEquals(1L, (long) invocations.get("zeroOrMore"));
+        assertEquals(4L, (long) invocations.get("map"));
+    }
+
+    @Test
+    public void testContextReuse() {
+        var parser = compileGenerated(suffix(letters(), item(';', () -> "Expected ';'")));
+        var context = new ParseContext<>(new StringStream("ab;cd;"));
+
+        assertTrue(parser.parse(context));
+        assertEquals("ab", context.getValue());
+        assertTrue(parser.parse(context));
+        assertEquals("cd", context.getValue());
+        assertFalse(parser.parse(context));
+    }
+
+    @Test
+    public void testGeneratedOnce() {
+        var grammar = delimitedList(letters(), item(',', () -> "Expected ','"));
+        compileGenerated(grammar).parse(new StringStream("a,b"));
+        var classes = ManagementFactory.getClassLoadingMXBean();
+        long loaded = classes.getTotalLoadedClassCount();
+
+        for (int idx = 0; idx < 100; idx++) {
+            assertEquals(List.of("a", "b"), compileGenerated(grammar).parse(new StringStream("a,b")).getOrThrow());
+        }
+        // Each generation would define a class per node
+        assertTrue(classes.getTotalLoadedClassCount() - loaded < 100);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullGrammar() {
+        compileGenerated(null);
+    }
+
+    /**
+     * HELPER: A Builder which only counts its parts
+     */
+    private static final class IntCount implements Builder<Integer, Character> {
+        private int count;
+
+        @Override
+        public Builder<Integer, Character> append(Character part) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public Integer toOutput() {
+            return count;
+        }
+    }
+}
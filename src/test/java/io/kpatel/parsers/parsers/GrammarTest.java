@@ -0,0 +1,126 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compile;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.rule;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMoreString;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class GrammarTest {
+    /**
+     * WHAT: The depth of nested parentheses around an 'x', e.g. "((x))" is 2
+     */
+    private static Supplier<Parser<Integer, String, Character>> nesting() {
+        Rule<Integer, String, Character> depth = rule();
+        depth.bind(alternate(List.of(
+                map(item('x', () -> "Expected 'x'"), x -> 0),
+                map(between(
+                        item('(', () -> "Expected '('"),
+                        depth,
+                        item(')', () -> "Expected ')'")), d -> d + 1))));
+        return depth;
+    }
+
+    @Test
+    public void testRuleSuccess() {
+        var stream = new StringStream("(((x)))");
+        var result = nesting().get().parse(stream);
+
+        assertEquals(Integer.valueOf(3), result.getOrThrow());
+    }
+
+    @Test
+    public void testRuleFailure() {
+        var stream = new StringStream("((x)");
+        var result = nesting().get().parse(stream);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRuleNotBound() {
+        Rule<Integer, String, Character> depth = rule();
+        depth.get();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRuleBoundTwice() {
+        Rule<Character, String, Character> letter = rule();
+        letter.bind(item('a', () -> "Expected 'a'"));
+        letter.bind(item('b', () -> "Expected 'b'"));
+    }
+
+    @Test
+    public void testParserBuiltOnce() {
+        var parser = map(item('a', () -> "Expected 'a'"), Character::toUpperCase);
+
+        assertSame(parser.get(), parser.get());
+    }
+
+    @Test
+    public void testCompileSuccess() {
+        var parser = compile(nesting());
+
+        assertEquals(Integer.valueOf(2), parser.parse(new StringStream("((x))")).getOrThrow());
+        assertEquals(Integer.valueOf(0), parser.parse(new StringStream("x")).getOrThrow());
+        assertFalse(parser.parse(new StringStream("(x")).isSuccess());
+    }
+
+    @Test
+    public void testCompileResolvesSuppliersOnce() {
+        var calls = new AtomicInteger();
+        Supplier<Parser<String, String, Character>> letter = () -> {
+            calls.incrementAndGet();
+            return map(TerminalParsers.<String, Character>item('a', () -> "Expected 'a'"), String::valueOf).get();
+        };
+        var parser = compile(zeroOrMoreString(letter));
+
+        assertEquals("aaaa", parser.parse(new StringStream("aaaa")).getOrThrow());
+        assertEquals("aa", parser.parse(new StringStream("aa")).getOrThrow());
+        assertEquals(1, calls.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCompileRuleNotBound() {
+        Rule<Integer, String, Character> depth = rule();
+        compile(map(depth, d -> d + 1));
+    }
+
+    @Test
+    public void testCompileShared() throws Exception {
+        var parser = compile(nesting());
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var tasks = new ArrayList<Callable<Integer>>();
+            for (int idx = 0; idx < 64; idx++) {
+                var depth = idx % 8;
+                var text = String.join("", Collections.nCopies(depth, "("))
+                        + "x" + String.join("", Collections.nCopies(depth, ")"));
+                tasks.add(() -> parser.parse(new StringStream(text)).getOrThrow() - depth);
+            }
+            for (Future<Integer> difference : executor.invokeAll(tasks)) {
+                assertEquals(Integer.valueOf(0), difference.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.ReaderStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compile;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileContext;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileGenerated;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileTrampoline;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.rule;
+import static io.kpatel.parsers.prebuilt.MemoParsers.memo;
+import static io.kpatel.parsers.prebuilt.MemoParsers.packrat;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class MemoTest {
+    /**
+     * WHAT: Wrap a parser to count how often it parses
+     */
+    private static <T> Supplier<Parser<T, String, Character>> counting(
+            Supplier<Parser<T, String, Character>> parser,
+            AtomicInteger counter) {
+        return () -> stream -> {
+            counter.incrementAndGet();
+            return parser.get().parse(stream);
+        };
+    }
+
+    /**
+     * WHAT: An alternate whose branches all start with the given rule
+     */
+    private static Supplier<Parser<Character, String, Character>> branches(
+            Supplier<Parser<Character, String, Character>> rule) {
+        return alternate(List.of(
+                suffix(rule, item('+', () -> "Expected '+'")),
+                suffix(rule, item('-', () -> "Expected '-'")),
+                rule));
+    }
+
+    @Test
+    public void testWithoutMemo() {
+        var counter = new AtomicInteger();
+        var rule = counting(item('a', () -> "Expected 'a'"), counter);
+
+        var result = branches(rule).get().parse(new StringStream("a"));
+
+        assertEquals(Character.valueOf('a'), result.getOrThrow());
+        assertEquals(3, counter.get());
+    }
+
+    @Test
+    public void testMemo() {
+        var counter = new AtomicInteger();
+        var rule = memo(counting(item('a', () -> "Expected 'a'"), counter));
+
+        var result = memo(branches(rule)).get().parse(new StringStream("a"));
+
+        assertEquals(Character.valueOf('a'), result.getOrThrow());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testMemoInnerRuleCompiled() {
+        var counter = new AtomicInteger();
+        var rule = memo(counting(item('a', () -> "Expected 'a'"), counter));
+        var grammar = branches(rule);
+
+        assertEquals(Character.valueOf('a'), compile(grammar).parse(new StringStream("a")).getOrThrow());
+        assertEquals(Character.valueOf('a'), compileContext(grammar).parse(new StringStream("a")).getOrThrow());
+        assertEquals(Character.valueOf('a'), compileGenerated(grammar).parse(new StringStream("a")).getOrThrow());
+        assertEquals(Character.valueOf('a'), compileTrampoline(grammar).parse(new StringStream("a")).getOrThrow());
+        assertEquals(4, counter.get());
+    }
+
+    @Test
+    public void testMemoFailure() {
+        var counter = new AtomicInteger();
+        var rule = memo(counting(item('a', () -> "Expected 'a'"), counter));
+
+        var result = memo(branches(rule)).get().parse(new StringStream("b"));
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testMemoPerParse() {
+        var counter = new AtomicInteger();
+        var rule = memo(counting(item('a', () -> "Expected 'a'"), counter));
+        var parser = memo(branches(rule)).get();
+
+        parser.parse(new StringStream("a"));
+        parser.parse(new StringStream("a"));
+
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testPackrat() {
+        var counter = new AtomicInteger();
+        var rule = counting(item('a', () -> "Expected 'a'"), counter);
+
+        var result = packrat(branches(rule)).get().parse(new StringStream("a"));
+
+        assertEquals(Character.valueOf('a'), result.getOrThrow());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testPackratSparseStream() {
+        var counter = new AtomicInteger();
+        var rule = counting(item('a', () -> "Expected 'a'"), counter);
+
+        var result = packrat(branches(rule)).get()
+                .parse(ReaderStream.of(new StringReader("a-")));
+
+        assertEquals(Character.valueOf('a'), result.getOrThrow());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testPackratRule() {
+        var counter = new AtomicInteger();
+        Rule<Character, String, Character> rule = rule();
+        rule.bind(counting(item('a', () -> "Expected 'a'"), counter));
+        var parser = packrat(branches(rule));
+
+        assertEquals(Character.valueOf('a'), parser.get().parse(new StringStream("a")).getOrThrow());
+        assertEquals(Character.valueOf('a'), compileTrampoline(parser).parse(new StringStream("a")).getOrThrow());
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testPackratEndsWithParse() {
+        var counter = new AtomicInteger();
+        var rule = counting(item('a', () -> "Expected 'a'"), counter);
+
+        packrat(branches(rule)).get().parse(new StringStream("a"));
+        branches(rule).get().parse(new StringStream("a"));
+
+        assertEquals(4, counter.get());
+    }
+}
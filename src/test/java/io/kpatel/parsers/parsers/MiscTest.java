@@ -1,16 +1,21 @@
 package io.kpatel.parsers.parsers;
 
 import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.StringInterner;
 import io.kpatel.parsers.prebuilt.AffixParsers;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
 import io.kpatel.parsers.prebuilt.MiscParsers;
 import io.kpatel.parsers.prebuilt.TerminalParsers;
 import io.kpatel.parsers.stream.StringStream;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static io.kpatel.parsers.prebuilt.MiscParsers.*;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
 import static io.kpatel.parsers.prebuilt.StringParsers.letter;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
 import static org.junit.Assert.*;
 
 public class MiscTest {
@@ -218,6 +223,34 @@ public class MiscTest {
         assertFalse(result.isSuccess());
     }
 
+    @Test
+    public void testIntern() {
+        var word = TerminalParsers.<String, Character>run(Character::isLetter, () -> "Cannot Find Word");
+        var space = TerminalParsers.<String, Character>item(' ', () -> "Cannot Find Space");
+        var parser = delimitedList(intern(word), space).get();
+
+        List<String> words = parser.parse(new StringStream("host alpha host beta host")).getOrThrow();
+
+        assertEquals(List.of("host", "alpha", "host", "beta", "host"), words);
+        assertSame(words.get(0), words.get(2));
+        assertSame(words.get(0), words.get(4));
+    }
+
+    @Test
+    public void testInternSharedInterner() {
+        var interner = new StringInterner();
+        var word = intern(TerminalParsers.<String, Character>run(Character::isLetter, () -> "Cannot Find Word"),
+                interner);
+        var first = word.get().parse(new StringStream("host")).getOrThrow();
+        var compiled = GrammarParsers.compileContext(word);
+
+        assertSame(first, compiled.parse(new StringStream("host;")).getOrThrow());
+        assertSame(first, interner.intern("host"));
+        assertSame(first, intern(letters(), interner).get().parse(new StringStream("host")).getOrThrow());
+        assertSame(first, intern(TerminalParsers.<String, Character>sequence(new String("host"), () -> "Cannot Find Host"),
+                interner).get().parse(new StringStream("host")).getOrThrow());
+    }
+
     class Recursive {
         Character character;
         Recursive recursive;
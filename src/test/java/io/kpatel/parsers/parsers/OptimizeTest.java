@@ -0,0 +1,228 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.GrammarProfile;
+import io.kpatel.parsers.prebuilt.ProfileEntry;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.ParserStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.*;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.*;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.StringParsers.*;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+import static org.junit.Assert.*;
+
+public class OptimizeTest {
+    /**
+     * HELPER: The optimized grammar must accept what the grammar accepts,
+     * w/ an equal value and remaining stream, and fail w/ the same message
+     * otherwise, on every engine and in every failure mode
+     */
+    private static <T, Seq, Itm> void assertSameOutcome(
+            Supplier<Parser<T, Seq, Itm>> grammar,
+            Function<String, ParserStream<Seq, Itm>> streams,
+            String... inputs) {
+        var optimized = optimize(grammar);
+        var engines = new ArrayList<Function<Supplier<Parser<T, Seq, Itm>>, Parser<T, Seq, Itm>>>();
+        engines.add(g -> compile(g));
+        for (FailureMode mode : FailureMode.values()) {
+            engines.add(g -> compileContext(g).withFailureMode(mode));
+            engines.add(g -> compileTrampoline(g).withFailureMode(mode));
+        }
+        for (var engine : engines) {
+            var expectedParser = engine.apply(grammar);
+            var actualParser = engine.apply(optimized);
+            for (String input : inputs) {
+                var expected = expectedParser.parse(streams.apply(input));
+                var actual = actualParser.parse(streams.apply(input));
+
+                assertEquals(input, expected.isSuccess(), actual.isSuccess());
+                assertEquals(input, expected.get(), actual.get());
+                assertEquals(input, remainingOf(expected), remainingOf(actual));
+                assertEquals(input, errorOf(expected), errorOf(actual));
+            }
+        }
+    }
+
+    private static <T> void assertSameOutcome(
+            Supplier<Parser<T, String, Character>> grammar, String... inputs) {
+        assertSameOutcome(grammar, StringStream::new, inputs);
+    }
+
+    private static <T, Seq, Itm> long remainingOf(Result<T, Seq, Itm> result) {
+        long[] position = {-1};
+        result.chain((value, remaining) -> {
+            position[0] = remaining.getPosition();
+            return result;
+        });
+        return position[0];
+    }
+
+    private static String errorOf(Result<?, ?, ?> result) {
+        try {
+            result.getOrThrow();
+            return null;
+        } catch (ParserError error) {
+            return error.getMessage();
+        }
+    }
+
+    /**
+     * HELPER: The factories of the nodes of the optimized grammar, as profiled, sorted by name
+     */
+    private static <T> List<String> factoriesOf(Supplier<Parser<T, String, Character>> grammar, String input) {
+        var profile = new GrammarProfile();
+        compile(profile(optimize(grammar), profile)).parse(new StringStream(input));
+        return profile.getEntries().stream()
+                .map(ProfileEntry::getFactory)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFusedLiterals() {
+        var tag = between(
+                TerminalParsers.<String, Character>sequence("<", () -> "Expected '<'"),
+                TerminalParsers.<String, Character>sequence("tag", () -> "Expected 'tag'"),
+                TerminalParsers.<String, Character>sequence(">", () -> "Expected '>'"));
+
+        assertSameOutcome(tag, "<tag>", "<tag>rest", "<tax>", "<tag", "<", "");
+        assertEquals(List.of("fusedSequence"), factoriesOf(tag, "<tag>"));
+    }
+
+    @Test
+    public void testFusedConcatenation() {
+        var keywords = concatenateList(List.of(
+                TerminalParsers.<String, Character>sequence("let", () -> "Expected 'let'"),
+                TerminalParsers.<String, Character>sequence(" ", () -> "Expected ' '"),
+                TerminalParsers.<String, Character>sequence("x", () -> "Expected 'x'")));
+
+        assertSameOutcome(keywords, "let x", "let y", "lex", "");
+        assertEquals(List.of("let", " ", "x"), compile(optimize(keywords)).parse(new StringStream("let x")).getOrThrow());
+        assertEquals(List.of("fusedSequence"), factoriesOf(keywords, "let x"));
+    }
+
+    @Test
+    public void testUnfusedParts() {
+        var assignment = prefix(
+                TerminalParsers.<String, Character>sequence("x", () -> "Expected 'x'"),
+                prefix(TerminalParsers.<String, Character>sequence("=", () -> "Expected '='"), digits()));
+
+        assertSameOutcome(assignment, "x=12", "x=", "x+1", "");
+        assertFalse(factoriesOf(assignment, "x=12").contains("fusedSequence"));
+    }
+
+    @Test
+    public void testItemRuns() {
+        var digitList = zeroOrMoreList(TerminalParsers.<String, Character>item(Character::isDigit, () -> "Expected Digit"));
+        var letterList = oneOrMoreList(letter());
+
+        assertSameOutcome(digitList, "123a", "a", "");
+        assertSameOutcome(letterList, "ab1", "1", "");
+        assertEquals(List.of("fusedRepetition", "item"), factoriesOf(digitList, "123"));
+        assertEquals(List.of("charItem", "fusedRepetition"), factoriesOf(letterList, "ab"));
+    }
+
+    @Test
+    public void testItemRunsOfOtherStreams() {
+        var positives = oneOrMoreList(TerminalParsers.<List<Integer>, Integer>item(i -> 0 < i, () -> "Expected Positive"));
+        Function<String, ParserStream<List<Integer>, Integer>> numbers = input -> new ListStream<>(input.chars()
+                .map(c -> c - '0')
+                .boxed()
+                .collect(Collectors.toList()));
+
+        assertSameOutcome(positives, numbers, "120", "012", "");
+    }
+
+    @Test
+    public void testNestedMaps() {
+        var number = map(map(map(digits(), Integer::parseInt), n -> n * 2), n -> n + 1);
+
+        assertSameOutcome(number, "21", "007x");
+        var factories = factoriesOf(number, "21");
+        assertEquals(1, factories.stream().filter("map"::equals).count());
+    }
+
+    @Test
+    public void testOmit() {
+        var omittedRun = omit(map(zeroOrMoreList(letter()), List::size), () -> -1);
+        var omittedParts = omit(concatenateList(List.of(letters(), map(digits(), String::length))), List::of);
+        var omittedAffix = omit(between(
+                item('(', () -> "Expected '('"),
+                map(letters(), String::length),
+                item(')', () -> "Expected ')'")), () -> 0);
+
+        assertSameOutcome(omittedRun, "abc1", "1", "");
+        assertSameOutcome(omittedParts, "ab12", "12", "ab", "");
+        assertSameOutcome(omittedAffix, "(abc)", "(abc", "abc", "");
+        assertFalse(factoriesOf(omittedRun, "abc").contains("map"));
+        assertFalse(factoriesOf(omittedParts, "ab12").contains("map"));
+        assertFalse(factoriesOf(omittedAffix, "(abc)").contains("map"));
+    }
+
+    @Test
+    public void testOmitKeepsFilters() {
+        var even = omit(filter(map(digits(), String::length), n -> n % 2 == 0, () -> "Expected Even Digits"), () -> 0);
+
+        assertSameOutcome(even, "12", "123", "");
+        assertTrue(factoriesOf(even, "12").contains("map"));
+    }
+
+    @Test
+    public void testRecursiveGrammar() {
+        Rule<Integer, String, Character> sum = rule("sum");
+        var number = map(map(filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"),
+                Integer::parseInt), n -> n);
+        var term = alternate(List.of(number, between(
+                sequence("(", () -> "Expected '('"),
+                sum,
+                sequence(")", () -> "Expected ')'"))));
+        sum.bind(map(delimitedList(term, omit(item('+', () -> "Expected '+'"), () -> '+')),
+                terms -> terms.stream().mapToInt(Integer::intValue).sum()));
+
+        assertSameOutcome(sum, "1+(2+3)", "1+(2+", "(1)", "+", "");
+    }
+
+    @Test
+    public void testOriginalUnchanged() {
+        Rule<String, String, Character> word = rule("word");
+        word.bind(prefix(
+                TerminalParsers.<String, Character>sequence("a", () -> "Expected 'a'"),
+                TerminalParsers.<String, Character>sequence("b", () -> "Expected 'b'")));
+        var optimized = optimize(word);
+
+        assertNotSame(word, optimized);
+        assertEquals(List.of("prefix", "sequence", "sequence"), factoriesOfPlain(word));
+        assertEquals("b", compile(optimized).parse(new StringStream("ab")).getOrThrow());
+    }
+
+    private static List<String> factoriesOfPlain(Supplier<Parser<String, String, Character>> grammar) {
+        var profile = new GrammarProfile();
+        compile(profile(grammar, profile)).parse(new StringStream("ab"));
+        return profile.getEntries().stream()
+                .map(ProfileEntry::getFactory)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullGrammar() {
+        optimize(null);
+    }
+}
@@ -0,0 +1,97 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.ListBuilder;
+import io.kpatel.parsers.builder.TextBuilder;
+import io.kpatel.parsers.prebuilt.BoundaryScanner;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.MiscParsers.pipe;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelRepetitionTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    /**
+     * HELPER: The output of the parser, then the rest of the stream
+     */
+    private static <T> String parseAll(Supplier<Parser<T, String, Character>> parser, String input) {
+        var rest = TerminalParsers.<String, Character>optionalRun(c -> true);
+        return pipe(parser, rest, (out, remaining) -> out + "|" + remaining).get()
+                .parse(new StringStream(input)).getOrThrow();
+    }
+
+    /**
+     * HELPER: Lines of numbers, with the given record in the middle
+     */
+    private static String lines(int count, String middle) {
+        var lines = new ArrayList<String>();
+        for (int idx = 0; idx < count; idx++) {
+            lines.add(idx == count / 2 ? middle : String.valueOf(idx * 37));
+        }
+        return String.join("\n", lines);
+    }
+
+    private static void assertSameAsDelimited(BoundaryScanner scanner, int chunkSize, String... inputs) {
+        var number = digits();
+        var newline = TerminalParsers.<String, Character>item('\n', () -> "Expected a Newline");
+        var sequential = delimitedList(number, newline);
+        var parallel = parallelDelimited(ListBuilder::new, number, newline, scanner, POOL, chunkSize);
+        for (String input : inputs) {
+            assertEquals(input, parseAll(sequential, input), parseAll(parallel, input));
+        }
+    }
+
+    @Test
+    public void testDelimited() {
+        assertSameAsDelimited(BoundaryScanner.after('\n'), 8,
+                lines(100, "50"), lines(100, "50") + "\n", lines(100, "abc"),
+                lines(100, ""), "", "1\n2", "abc\n1\n2\n3\n4\n5\n6\n7\n8\n9");
+    }
+
+    @Test
+    public void testWrongBoundaries() {
+        assertSameAsDelimited((text, from) -> from, 5,
+                lines(100, "50"), lines(100, "abc"), lines(100, "") + "\n");
+        assertSameAsDelimited((text, from) -> Math.min(text.length(), from + 11), 3,
+                lines(100, "50"), lines(100, "abc"));
+    }
+
+    @Test
+    public void testZeroOrMore() {
+        var word = pipe(letters(), TerminalParsers.<String, Character>item(';', () -> "Expected ';'"), (w, s) -> w);
+        var sequential = zeroOrMore(TextBuilder::new, word);
+        var parallel = parallelZeroOrMore(TextBuilder::new, word, BoundaryScanner.after(';'), POOL, 4);
+        var input = String.join("", Collections.nCopies(50, "ab;cde;")) + "f;1;g;";
+
+        assertEquals(parseAll(sequential, input), parseAll(parallel, input));
+    }
+
+    @Test
+    public void testDerivedScanner() {
+        var parser = parallelDelimitedList(digits(), TerminalParsers.<String, Character>item(',', () -> "Expected ','"));
+        var input = lines(200_000, "1").replace('\n', ',');
+
+        List<String> numbers = parser.get().parse(new StringStream(input)).getOrThrow();
+        assertEquals(200_000, numbers.size());
+        assertEquals("37", numbers.get(1));
+    }
+}
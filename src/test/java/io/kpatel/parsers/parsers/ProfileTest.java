@@ -0,0 +1,185 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.GrammarProfile;
+import io.kpatel.parsers.prebuilt.ProfileEntry;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.filter;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class ProfileTest {
+    /**
+     * WHAT: A comma delimited list of named numbers, e.g. "1,22,333"
+     */
+    private static Supplier<Parser<List<String>, String, Character>> numbers() {
+        var number = named("number", filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"));
+        return delimitedList(number, TerminalParsers.<String, Character>item(',', () -> "Expected ','"));
+    }
+
+    /**
+     * WHAT: The depth of nested parentheses around an 'x', in a named rule
+     */
+    private static Supplier<Parser<Integer, String, Character>> nesting() {
+        Rule<Integer, String, Character> depth = rule("depth");
+        depth.bind(alternate(List.of(
+                map(item('x', () -> "Expected 'x'"), x -> 0),
+                map(between(
+                        item('(', () -> "Expected '('"),
+                        depth,
+                        item(')', () -> "Expected ')'")), d -> d + 1))));
+        return depth;
+    }
+
+    private static ProfileEntry entry(GrammarProfile profile, String label) {
+        var matching = profile.getEntries().stream()
+                .filter(entry -> entry.getLabel().equals(label))
+                .collect(Collectors.toList());
+        assertEquals(label, 1, matching.size());
+        return matching.get(0);
+    }
+
+    @Test
+    public void testCounts() {
+        var profile = new GrammarProfile();
+        var parser = compile(profile(numbers(), profile));
+
+        assertEquals(List.of("1", "22", "333"), parser.parse(new StringStream("1,22,333")).getOrThrow());
+
+        var number = entry(profile, "number/filter");
+        assertEquals(3, number.getInvocations());
+        assertEquals(3, number.getSuccesses());
+        assertEquals(6, number.getItemsConsumed());
+        assertEquals("number", number.getRule().orElse(null));
+        assertEquals("filter", number.getFactory());
+
+        var delimiter = entry(profile, "item");
+        assertEquals(3, delimiter.getInvocations());
+        assertEquals(2, delimiter.getSuccesses());
+        assertEquals(1, delimiter.getFailures());
+        assertEquals(2, delimiter.getItemsConsumed());
+
+        var list = entry(profile, "delimited");
+        assertEquals(1, list.getSuccesses());
+        assertEquals(8, list.getItemsConsumed());
+        assertFalse(list.getRule().isPresent());
+    }
+
+    @Test
+    public void testTimes() {
+        var profile = new GrammarProfile();
+        var parser = compile(profile(numbers(), profile));
+        parser.parse(new StringStream("1,22,333,4444"));
+
+        var entries = profile.getEntries();
+        long exclusive = 0;
+        for (ProfileEntry entry : entries) {
+            assertTrue(entry.toString(), 0 <= entry.getExclusiveNanos());
+            assertTrue(entry.toString(), entry.getExclusiveNanos() <= entry.getInclusiveNanos());
+            exclusive += entry.getExclusiveNanos();
+        }
+        assertEquals(entry(profile, "delimited").getInclusiveNanos(), exclusive);
+        for (int idx = 1; idx < entries.size(); idx++) {
+            assertTrue(entries.get(idx).getExclusiveNanos() <= entries.get(idx - 1).getExclusiveNanos());
+        }
+    }
+
+    @Test
+    public void testEnginesAgree() {
+        var input = "((((x))))";
+        var resultProfile = new GrammarProfile();
+        var contextProfile = new GrammarProfile();
+        var trampolineProfile = new GrammarProfile();
+
+        assertEquals(Integer.valueOf(4), compile(profile(nesting(), resultProfile))
+                .parse(new StringStream(input)).getOrThrow());
+        assertEquals(Integer.valueOf(4), compileContext(profile(nesting(), contextProfile))
+                .parse(new StringStream(input)).getOrThrow());
+        assertEquals(Integer.valueOf(4), compileTrampoline(profile(nesting(), trampolineProfile))
+                .parse(new StringStream(input)).getOrThrow());
+
+        Function<ProfileEntry, String> counts = entry -> String.format("#%d %s %d/%d %d", entry.getId(),
+                entry.getLabel(), entry.getSuccesses(), entry.getFailures(), entry.getItemsConsumed());
+        var expected = resultProfile.getEntries().stream().map(counts).sorted().collect(Collectors.toList());
+        assertEquals(expected, contextProfile.getEntries().stream().map(counts).sorted()
+                .collect(Collectors.toList()));
+        assertEquals(expected, trampolineProfile.getEntries().stream().map(counts).sorted()
+                .collect(Collectors.toList()));
+
+        var alternate = entry(resultProfile, "depth/alternate");
+        assertEquals(5, alternate.getInvocations());
+        assertEquals(9 + 7 + 5 + 3 + 1, alternate.getItemsConsumed());
+    }
+
+    @Test
+    public void testCustomParser() {
+        Supplier<Parser<Character, String, Character>> custom = () -> stream -> stream.getLeadingItem()
+                .map(item -> Result.success(item, stream.jump(1)))
+                .orElseGet(() -> Result.failure(stream.getErrorContext(), () -> "Expected an Item"));
+        var profile = new GrammarProfile();
+        compileContext(profile(named("any", custom), profile)).parse(new StringStream("y"));
+
+        var any = entry(profile, "any/custom");
+        assertEquals(1, any.getSuccesses());
+        assertEquals(1, any.getItemsConsumed());
+    }
+
+    @Test
+    public void testReset() {
+        var profile = new GrammarProfile();
+        var parser = compile(profile(numbers(), profile));
+        parser.parse(new StringStream("1,2"));
+        profile.reset();
+
+        for (ProfileEntry entry : profile.getEntries()) {
+            assertEquals(0, entry.getInvocations());
+            assertEquals(0, entry.getInclusiveNanos());
+        }
+        parser.parse(new StringStream("1,2"));
+        assertEquals(2, entry(profile, "number/filter").getInvocations());
+    }
+
+    @Test
+    public void testReports() {
+        var profile = new GrammarProfile();
+        compile(profile(numbers(), profile)).parse(new StringStream("1,22"));
+
+        var csv = profile.toCsv().split("\n");
+        assertEquals("id,rule,factory,invocations,successes,failures,inclusiveNanos,exclusiveNanos,itemsConsumed",
+                csv[0]);
+        assertEquals(profile.getEntries().size() + 1, csv.length);
+        var delimited = entry(profile, "delimited");
+        assertTrue(List.of(csv).contains(String.format("%d,,delimited,1,1,0,%d,%d,4", delimited.getId(),
+                delimited.getInclusiveNanos(), delimited.getExclusiveNanos())));
+
+        var table = profile.toString();
+        assertTrue(table, table.startsWith("Node"));
+        assertTrue(table, table.contains("number/filter"));
+        assertEquals(profile.getEntries().size() + 1, table.split("\n").length);
+    }
+
+    @Test
+    public void testNamedRule() {
+        Rule<Integer, String, Character> depth = rule("depth");
+
+        assertEquals("depth", depth.getName().orElse(null));
+        assertFalse(rule().getName().isPresent());
+        assertEquals(Integer.valueOf(2), compile(nesting()).parse(new StringStream("((x))")).getOrThrow());
+    }
+}
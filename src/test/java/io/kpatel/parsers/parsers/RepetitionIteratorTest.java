@@ -0,0 +1,150 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.ReaderStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.MiscParsers.filter;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static org.junit.Assert.*;
+
+public class RepetitionIteratorTest {
+    private static Supplier<Parser<Character, String, Character>> comma() {
+        return TerminalParsers.item(',', () -> "Expected ','");
+    }
+
+    /**
+     * HELPER: An endless Reader of "0\n1\n2\n...", which counts what was read
+     */
+    private static final class CountingReader extends Reader {
+        private final StringBuilder pending = new StringBuilder();
+        private int line;
+        private long read;
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            while (pending.length() < length) {
+                pending.append(line++).append('\n');
+            }
+            pending.getChars(0, length, buffer, offset);
+            pending.delete(0, length);
+            read += length;
+            return length;
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+
+    @Test
+    public void testIterate() {
+        var newline = TerminalParsers.<String, Character>item('\n', () -> "Expected a Newline");
+        var iterator = iterate(suffix(digits(), newline), new StringStream("1\n22\n333\n"));
+        var elements = new ArrayList<String>();
+        iterator.forEachRemaining(elements::add);
+
+        assertEquals(List.of("1", "22", "333"), elements);
+        assertTrue(iterator.getRemaining().atEndOfStream());
+    }
+
+    @Test
+    public void testIterateDelimited() {
+        var elements = iterateDelimited(digits(), comma(), new StringStream("1,2,3"));
+
+        assertEquals("1", elements.next());
+        assertEquals(1, elements.getRemaining().getPosition());
+        assertEquals("2", elements.next());
+        assertEquals("3", elements.next());
+        assertFalse(elements.hasNext());
+    }
+
+    @Test
+    public void testEmpty() {
+        var elements = iterateDelimited(digits(), comma(), new StringStream(""));
+
+        assertFalse(elements.hasNext());
+        try {
+            elements.next();
+            fail("Expected a NoSuchElementException");
+        } catch (NoSuchElementException expected) {
+            assertFalse(elements.hasNext());
+        }
+    }
+
+    @Test
+    public void testFailureSurfacesAtElement() {
+        var elements = iterateDelimited(letters(), comma(), new StringStream("ab,cd;ef"));
+
+        assertEquals("ab", elements.next());
+        assertEquals("cd", elements.next());
+        try {
+            elements.next();
+            fail("Expected a ParserError");
+        } catch (ParserError error) {
+            assertTrue(error.getMessage(), error.getMessage().contains("Expected ','"));
+        }
+        assertFalse(elements.hasNext());
+        assertEquals(5, elements.getRemaining().getPosition());
+    }
+
+    @Test
+    public void testTrailingDelimiterFails() {
+        var number = filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number");
+        var elements = iterateDelimited(number, comma(), new StringStream("1,2,"));
+
+        assertEquals("1", elements.next());
+        assertEquals("2", elements.next());
+        assertTrue(elements.hasNext());
+        try {
+            elements.next();
+            fail("Expected a ParserError");
+        } catch (ParserError error) {
+            assertTrue(error.getMessage(), error.getMessage().contains("Expected a Number"));
+            assertFalse(elements.hasNext());
+        }
+    }
+
+    @Test
+    public void testLazyStream() {
+        var reader = new CountingReader();
+        var newline = TerminalParsers.<String, Character>item('\n', () -> "Expected a Newline");
+        var numbers = stream(suffix(digits(), newline), ReaderStream.of(reader, 64))
+                .skip(10_000)
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("10000", "10001", "10002"), numbers);
+        assertTrue(reader.read < 64 * 1000);
+    }
+
+    @Test(expected = ParserError.class)
+    public void testStreamFailure() {
+        streamDelimited(letters(), comma(), new StringStream("ab,cd;ef"))
+                .forEach(element -> assertEquals(2, element.length()));
+    }
+
+    @Test
+    public void testListStream() {
+        var one = TerminalParsers.<List<Integer>, Integer>item(1, () -> "Expected 1");
+        var zero = TerminalParsers.<List<Integer>, Integer>item(0, () -> "Expected 0");
+
+        assertEquals(List.of(1, 1, 1), streamDelimited(one, zero, new ListStream<>(List.of(1, 0, 1, 0, 1)))
+                .collect(Collectors.toList()));
+    }
+}
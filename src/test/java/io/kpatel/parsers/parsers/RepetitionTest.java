@@ -1,12 +1,23 @@
 package io.kpatel.parsers.parsers;
 
 import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.builder.Builder;
+import io.kpatel.parsers.builder.IntArray;
+import io.kpatel.parsers.builder.ListBuilder;
+import io.kpatel.parsers.builder.TextBuilder;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
 import io.kpatel.parsers.stream.StringStream;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileContext;
+import static io.kpatel.parsers.prebuilt.StringParsers.digits;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
 import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -146,4 +157,63 @@ public class RepetitionTest {
 
         assertFalse(result.isSuccess());
     }
+
+    @Test
+    public void testZeroOrMoreInts() {
+        var stream = new StringStream("12;-;7;");
+        var parser = zeroOrMoreInts(suffix(digits(), item(';', () -> "Can not find ;")),
+                text -> text.isEmpty() ? -1 : Integer.parseInt(text)).get();
+        var result = parser.parse(stream);
+
+        var item = result.getOrThrow();
+
+        assertEquals(IntArray.of(12), item);
+    }
+
+    @Test
+    public void testCapacityHints() {
+        var hints = new ArrayList<Integer>();
+        Supplier<Builder<String, String>> provider = () -> new Builder<>() {
+            private final TextBuilder text = new TextBuilder();
+
+            @Override
+            public Builder<String, String> append(String part) {
+                text.append(part);
+                return this;
+            }
+
+            @Override
+            public Builder<String, String> withCapacity(int parts) {
+                hints.add(parts);
+                return this;
+            }
+
+            @Override
+            public String toOutput() {
+                return text.toOutput();
+            }
+        };
+        var one = TerminalParsers.<String, Character>sequence("1 ", () -> "Can not find 1");
+        var stream = new StringStream("1 1 1 1 ");
+
+        assertEquals("1 1 1 ", repeat(provider, one, 3).get().parse(stream).getOrThrow());
+        assertEquals("1 1 1 1 ", rangedRepeat(provider, one, 2, 5).get().parse(stream).getOrThrow());
+        assertEquals("1 1 ", concatenate(provider, List.of(one, one)).get().parse(stream).getOrThrow());
+        assertEquals("1 1 1 1 ", zeroOrMore(provider, one).get().parse(stream).getOrThrow());
+        assertEquals(List.of(3, 2, 2), hints);
+    }
+
+    @Test
+    public void testLargeCountOnShortInput() {
+        var a = TerminalParsers.<String, Character>item('a', () -> "Expected 'a'");
+        var text = TerminalParsers.<String, Character>sequence("a", () -> "Expected 'a'");
+        var stream = new StringStream("ab");
+
+        assertFalse(repeat(ListBuilder<Character>::new, a, 400_000_000).get().parse(stream).isSuccess());
+        assertFalse(rangedRepeat(ListBuilder<Character>::new, a, 400_000_000, 400_000_001).get()
+                .parse(stream).isSuccess());
+        assertFalse(repeatString(text, 400_000_000).get().parse(stream).isSuccess());
+        assertFalse(compileContext(repeat(ListBuilder<Character>::new, a, 400_000_000))
+                .parse(stream).isSuccess());
+    }
 }
@@ -3,6 +3,7 @@ package io.kpatel.parsers.parsers;
 import io.kpatel.parsers.stream.StringStream;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.kpatel.parsers.prebuilt.AffixParsers.prefix;
@@ -171,4 +172,94 @@ public class StringTest {
 
         assertFalse(result.isSuccess());
     }
+
+    @Test
+    public void testKeywordSuccessLongest() {
+        var stream = new StringStream("foreach x");
+        var result = keywords(List.of("for", "foreach", "fore")).get().parse(stream);
+
+        var item = result.getOrThrow();
+
+        assertEquals("foreach", item);
+    }
+
+    @Test
+    public void testKeywordSuccessShorterAtBoundary() {
+        var stream = new StringStream("for-x");
+        var result = keywords(List.of("for", "for-x1")).get().parse(stream);
+
+        var item = result.getOrThrow();
+
+        assertEquals("for", item);
+    }
+
+    @Test
+    public void testKeywordSuccessRetriesShorter() {
+        var stream = new StringStream("a-b");
+        var result = keywords(List.of("a", "a-b")).get().parse(stream);
+
+        assertEquals("a-b", result.getOrThrow());
+
+        stream = new StringStream("a-bc");
+        result = keywords(List.of("a", "a-b")).get().parse(stream);
+
+        assertEquals("a", result.getOrThrow());
+    }
+
+    @Test
+    public void testKeywordFailurePrefix() {
+        var stream = new StringStream("fo");
+        var result = keywords(List.of("for", "foreach")).get().parse(stream);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void testKeywordFailureEmpty() {
+        var stream = new StringStream("Hello");
+        var result = keywords(List.of()).get().parse(stream);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void testKeywordSuccessMany() {
+        var words = new ArrayList<String>();
+        for (int idx = 0; idx < 400; idx++) {
+            words.add("kw" + idx);
+        }
+        var parser = keywords(words).get();
+
+        assertEquals("kw399", parser.parse(new StringStream("kw399 ")).getOrThrow());
+        assertEquals("kw4", parser.parse(new StringStream("kw4+")).getOrThrow());
+        assertFalse(parser.parse(new StringStream("kw400")).isSuccess());
+    }
+
+    @Test
+    public void testCharItemSuccess() {
+        var stream = new StringStream("Hello World");
+        var result = charItem(c -> c == 'H', () -> "Cannot find 'H'").get().parse(stream);
+
+        var item = result.getOrThrow();
+
+        assertEquals(Character.valueOf('H'), item);
+    }
+
+    @Test
+    public void testCharItemFailure() {
+        var stream = new StringStream("");
+        var result = charItem(c -> true, () -> "Cannot find Character").get().parse(stream);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void testOptionalCharRunSuccess() {
+        var stream = new StringStream("123 Hello");
+        var result = prefix(optionalCharRun(Character::isDigit), whitespace()).get().parse(stream);
+
+        var item = result.getOrThrow();
+
+        assertEquals(" ", item);
+    }
 }
@@ -0,0 +1,159 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.FailureMode;
+import io.kpatel.parsers.ParseContext;
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.ParserError;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import io.kpatel.parsers.stream.ListStream;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.between;
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.compileTrampoline;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.rule;
+import static io.kpatel.parsers.prebuilt.MiscParsers.*;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.*;
+import static io.kpatel.parsers.prebuilt.StringParsers.*;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.sequence;
+import static org.junit.Assert.*;
+
+public class TrampolineTest {
+    /**
+     * WHAT: A sum of numbers, with parenthesized sub-sums, e.g. "1+(2+3)"
+     */
+    private static Supplier<Parser<Integer, String, Character>> sum() {
+        Rule<Integer, String, Character> sum = rule();
+        var number = map(filter(digits(), d -> !d.isEmpty(), () -> "Expected a Number"),
+                Integer::parseInt);
+        var term = alternate(List.of(number, between(
+                item('(', () -> "Expected '('"),
+                sum,
+                item(')', () -> "Expected ')'"))));
+        sum.bind(map(delimitedList(term, item('+', () -> "Expected '+'")),
+                terms -> terms.stream().mapToInt(Integer::intValue).sum()));
+        return sum;
+    }
+
+    /**
+     * HELPER: The number 1 nested in the given depth of parentheses
+     */
+    private static String nested(int depth) {
+        return String.join("", Collections.nCopies(depth, "("))
+                + "1"
+                + String.join("", Collections.nCopies(depth, ")"));
+    }
+
+    /**
+     * HELPER: The trampoline must accept what the Parser accepts, and fail
+     * with the same message otherwise, in the modes that keep messages
+     */
+    private static <T> void assertSameOutcome(
+            Supplier<Parser<T, String, Character>> grammar, String... inputs) {
+        var parser = compileTrampoline(grammar);
+        for (FailureMode mode : List.of(FailureMode.DIAGNOSTIC, FailureMode.LIGHT)) {
+            for (String input : inputs) {
+                var expected = grammar.get().parse(new StringStream(input));
+                var actual = parser.withFailureMode(mode).parse(new StringStream(input));
+
+                assertEquals(input, expected.isSuccess(), actual.isSuccess());
+                assertEquals(input, expected.get(), actual.get());
+                if (!expected.isSuccess()) {
+                    assertEquals(input, errorOf(expected), errorOf(actual));
+                }
+            }
+        }
+    }
+
+    private static String errorOf(Result<?, ?, ?> result) {
+        try {
+            result.getOrThrow();
+            return null;
+        } catch (ParserError error) {
+            return error.getMessage();
+        }
+    }
+
+    @Test
+    public void testCombinators() {
+        var word = letters();
+        assertSameOutcome(pipe(word, digits(), (w, d) -> w + ":" + d), "ab12", "12", "ab");
+        assertSameOutcome(suffix(word, item(';', () -> "Expected ';'")), "ab;", "ab", ";");
+        assertSameOutcome(peek(letter()), "a", "1");
+        assertSameOutcome(optional(sequence("a", () -> "Expected a")), "a", "b");
+        assertSameOutcome(otherwise(digit(), letter()), "1", "a", "-");
+        assertSameOutcome(filter(digits(), d -> d.length() == 2, () -> "Expected 2 Digits"), "12", "123", "a");
+        assertSameOutcome(flatMap(digit(), d -> repeatString(sequence("x", () -> "Expected x"),
+                Character.getNumericValue(d))), "3xxx", "3xx", "0");
+        assertSameOutcome(alternate(List.of(digits(), letters())), "12", "ab", "-", "");
+    }
+
+    @Test
+    public void testRepetitions() {
+        var one = TerminalParsers.<String, Character>sequence("1 ", () -> "Can not find 1");
+        assertSameOutcome(zeroOrMoreString(one), "1 1 2 ", "2 ", "");
+        assertSameOutcome(oneOrMoreString(one), "1 1 2 ", "2 ");
+        assertSameOutcome(repeatString(one, 3), "1 1 1 1 ", "1 1 2 ");
+        assertSameOutcome(repeatString(one, 0), "1 ", "");
+        assertSameOutcome(rangedRepeatString(one, 2, 4), "1 1 1 2 2 ", "1 1 1 1 1 ", "1 2 ");
+        assertSameOutcome(rangedRepeatString(one, -1, 2), "1 1 1 1 1 ", "");
+        assertSameOutcome(delimitedList(digits(), item(',', () -> "Expected ','")), "1,2,3", "1,2,", "");
+        assertSameOutcome(concatenateString(List.of(letters(), digits(), letters())), "ab12cd", "ab");
+    }
+
+    @Test
+    public void testRule() {
+        assertSameOutcome(sum(), "1+2+3", "1+(2+(3+4))+5", "(1+2", "1+)", "+");
+    }
+
+    @Test
+    public void testDeepNesting() {
+        var parser = compileTrampoline(suffix(sum(), endOfFile()));
+
+        assertEquals(Integer.valueOf(1), parser.parse(new StringStream(nested(100_000))).getOrThrow());
+    }
+
+    @Test
+    public void testMaxDepth() {
+        var parser = compileTrampoline(sum()).withMaxDepth(50);
+        var context = new ParseContext<>(new StringStream(nested(100)));
+
+        assertFalse(parser.parse(context));
+        assertEquals(ParseContext.DEPTH_EXCEEDED, context.getErrorCode());
+        assertEquals(0, context.getCursor().getPosition());
+        assertTrue(errorOf(context.toResult()).endsWith("Maximum Depth of 50 Exceeded"));
+        assertEquals(Integer.valueOf(1), parser.withMaxDepth(1000)
+                .parse(new StringStream(nested(100))).getOrThrow());
+    }
+
+    @Test
+    public void testContextReuse() {
+        var parser = compileTrampoline(suffix(sum(), item(';', () -> "Expected ';'")));
+        var context = new ParseContext<>(new StringStream("1+2;(3+4);5"));
+
+        assertTrue(parser.parse(context));
+        assertEquals(Integer.valueOf(3), context.getValue());
+        assertTrue(parser.parse(context));
+        assertEquals(Integer.valueOf(7), context.getValue());
+        assertFalse(parser.parse(context));
+        assertEquals(10, context.getCursor().getPosition());
+    }
+
+    @Test
+    public void testListStream() {
+        var parser = compileTrampoline(delimitedList(
+                TerminalParsers.<List<Integer>, Integer>item(1, () -> "Expected 1"),
+                TerminalParsers.<List<Integer>, Integer>item(0, () -> "Expected 0")));
+        var result = parser.parse(new ListStream<>(List.of(1, 0, 1, 0, 2)));
+
+        assertEquals(List.of(1, 1), result.getOrThrow());
+    }
+}
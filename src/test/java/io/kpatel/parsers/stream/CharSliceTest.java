@@ -0,0 +1,148 @@
+package io.kpatel.parsers.stream;
+
+import io.kpatel.parsers.builder.StringInterner;
+import io.kpatel.parsers.prebuilt.GrammarParsers;
+import io.kpatel.parsers.prebuilt.MiscParsers;
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class CharSliceTest {
+    @Test
+    public void testSliceContent() {
+        var slice = new CharSlice("Hello World", 6, 11);
+
+        assertEquals(5, slice.length());
+        assertEquals('W', slice.charAt(0));
+        assertEquals("World", slice.toString());
+    }
+
+    @Test
+    public void testMaterializeOnce() {
+        var slice = new CharSlice("Hello World", 0, 5);
+
+        assertSame(slice.toString(), slice.toString());
+    }
+
+    @Test
+    public void testSubSequence() {
+        var slice = new CharSlice("Hello World", 6, 11);
+
+        var subSlice = slice.subSequence(1, 3);
+
+        assertEquals("or", subSlice.toString());
+    }
+
+    @Test
+    public void testContentEquals() {
+        var slice = new CharSlice("Hello World", 6, 11);
+
+        assertTrue(slice.contentEquals("World"));
+        assertTrue(slice.contentEquals(new StringBuilder("World")));
+        assertFalse(slice.contentEquals("Worlds"));
+        assertFalse(slice.contentEquals("Hello"));
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        var slice1 = new CharSlice("Hello World", 0, 5);
+        var slice2 = new CharSlice("Hello", 0, 5);
+
+        assertEquals(slice1, slice2);
+        assertEquals("Hello".hashCode(), slice1.hashCode());
+        assertNotEquals(slice1, new CharSlice("Hello World", 6, 11));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new CharSlice("Hello", 2, 6);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCharAtOutOfBounds() {
+        new CharSlice("Hello World", 0, 5).charAt(5);
+    }
+
+    @Test
+    public void testInternedRunIsNotMaterialized() {
+        var interner = new StringInterner();
+        var cached = interner.intern("host");
+        var word = MiscParsers.intern(TerminalParsers.<String, Character>run(
+                Character::isLetter, () -> "Cannot Find Word"), interner);
+        var stream = new SlicingStream(new StringStream("host;"));
+        var context = new SlicingStream(new StringStream("host;"));
+
+        assertSame(cached, word.get().parse(stream).getOrThrow());
+        assertSame(cached, GrammarParsers.compileContext(word).parse(context).getOrThrow());
+        assertFalse(stream.slices.isEmpty());
+        assertFalse(context.slices.isEmpty());
+        for (CharSlice slice : stream.slices) {
+            assertFalse(slice.isMaterialized());
+        }
+        for (CharSlice slice : context.slices) {
+            assertFalse(slice.isMaterialized());
+        }
+    }
+
+    /**
+     * HELPER: A generic Stream over a StringStream, which keeps the slices of
+     * the runs it holds
+     */
+    private static final class SlicingStream implements ParserStream<String, Character> {
+        private final StringStream stream;
+        private final List<CharSlice> slices;
+
+        private SlicingStream(StringStream stream) {
+            this(stream, new ArrayList<>());
+        }
+
+        private SlicingStream(StringStream stream, List<CharSlice> slices) {
+            this.stream = stream;
+            this.slices = slices;
+        }
+
+        @Override
+        public Optional<Character> getLeadingItem() {
+            return stream.getLeadingItem();
+        }
+
+        @Override
+        public SequenceHolder<String> getLeadingSequence(int length) {
+            return stream.getLeadingSequence(length);
+        }
+
+        @Override
+        public SequenceHolder<String> getLeadingRun(Predicate<Character> predicate) {
+            var holder = stream.getLeadingRun(predicate);
+            holder.getSlice().ifPresent(slices::add);
+            return holder;
+        }
+
+        @Override
+        public SequenceHolder<String> holdSequence(String sequence) {
+            return stream.holdSequence(sequence);
+        }
+
+        @Override
+        public SlicingStream jump(int n) {
+            return new SlicingStream(stream.jump(n), slices);
+        }
+
+        @Override
+        public long getPosition() {
+            return stream.getPosition();
+        }
+
+        @Override
+        public Supplier<String> getErrorContext() {
+            return stream.getErrorContext();
+        }
+    }
+}
@@ -182,4 +182,45 @@ public class ListStreamTest {
             return flag;
         }
     }
+
+    @Test
+    public void testPosition() {
+        var stream = new ListStream<>(Arrays.asList(
+                Token.H, Token.E, Token.L, Token.L, Token.O));
+
+        assertEquals(0, stream.getPosition());
+        assertEquals(2, stream.jump(2).getPosition());
+        assertEquals(5, stream.jump(100).getPosition());
+    }
+
+    @Test
+    public void testCursorReset() {
+        var cursor = new ListStream<>(Arrays.asList(
+                Token.H, Token.E, Token.L, Token.L, Token.O)).cursor();
+
+        int outer = cursor.mark();
+        cursor.advance(2);
+        int inner = cursor.mark();
+        cursor.advance(2);
+        cursor.reset(inner);
+        assertEquals(2, cursor.getPosition());
+        assertEquals(Token.L, cursor.peekItem());
+        cursor.reset(outer);
+        assertEquals(0, cursor.getPosition());
+        assertEquals(Token.H, cursor.toStream().getLeadingItem().get());
+    }
+
+    @Test
+    public void testCursorRelease() {
+        var cursor = new ListStream<>(Arrays.asList(
+                Token.H, Token.E, Token.L, Token.L, Token.O)).cursor();
+
+        int mark = cursor.mark();
+        cursor.advance(100);
+        cursor.release(mark);
+
+        assertTrue(cursor.atEndOfStream());
+        assertNull(cursor.peekItem());
+        assertEquals(mark, cursor.mark());
+    }
 }
@@ -0,0 +1,106 @@
+package io.kpatel.parsers.stream;
+
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class MappedByteStreamTest {
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped", ".bin");
+        Files.write(file, "Hello World".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testLeadingItem() throws IOException {
+        var stream = MappedByteStream.open(file);
+
+        var item = stream.getLeadingItem();
+
+        assertTrue(item.isPresent());
+        assertEquals(Byte.valueOf((byte) 'H'), item.get());
+    }
+
+    @Test
+    public void testLeadingSequenceAcrossSegments() throws IOException {
+        var stream = MappedByteStream.open(file, 4);
+
+        var sequence = stream.jump(2).getLeadingSequence(6);
+
+        assertEquals(6, sequence.getLength());
+        assertEquals(bytes("llo Wo"), sequence.getSequence());
+    }
+
+    @Test
+    public void testLeadingRunAcrossSegments() throws IOException {
+        var stream = MappedByteStream.open(file, 3);
+
+        var run = stream.getLeadingRun(b -> b != ' ');
+
+        assertEquals(5, run.getLength());
+        assertEquals(bytes("Hello"), run.getSequence());
+    }
+
+    @Test
+    public void testJumpAndPosition() throws IOException {
+        var stream = MappedByteStream.open(file, 4);
+
+        var jumped = stream.jump(6);
+
+        assertEquals(6, jumped.getPosition());
+        assertEquals(Byte.valueOf((byte) 'W'), jumped.getLeadingItem().get());
+        assertEquals(11, stream.jump(100).getPosition());
+        assertTrue(stream.jump(100).atEndOfStream());
+    }
+
+    @Test
+    public void testSequenceParser() throws IOException {
+        var stream = MappedByteStream.open(file, 4);
+        var parser = TerminalParsers.<ByteBuffer, Byte>
+                sequence(bytes("Hello"), () -> "Cannot find Hello").get();
+
+        var result = parser.parse(stream);
+
+        assertEquals(bytes("Hello"), result.getOrThrow());
+    }
+
+    @Test
+    public void testSequenceParserFailure() throws IOException {
+        var stream = MappedByteStream.open(file, 4);
+        var parser = TerminalParsers.<ByteBuffer, Byte>
+                sequence(bytes("World"), () -> "Cannot find World").get();
+
+        var result = parser.parse(stream);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        Files.write(file, new byte[0]);
+        var stream = MappedByteStream.open(file);
+
+        assertTrue(stream.atEndOfStream());
+        assertEquals(0, stream.getLeadingSequence(5).getLength());
+    }
+}
@@ -0,0 +1,115 @@
+package io.kpatel.parsers.stream;
+
+import io.kpatel.parsers.prebuilt.TerminalParsers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.prefix;
+import static io.kpatel.parsers.prebuilt.MemoParsers.packrat;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.zeroOrMoreList;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static io.kpatel.parsers.prebuilt.StringParsers.whitespace;
+import static org.junit.Assert.*;
+
+public class MappedCharStreamTest {
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped", ".txt");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testLeadingItem() throws IOException {
+        Files.write(file, "Hello World".getBytes(StandardCharsets.UTF_8));
+        var stream = MappedCharStream.open(file, StandardCharsets.UTF_8);
+
+        assertEquals(Character.valueOf('H'), stream.getLeadingItem().get());
+        assertEquals('o', stream.peekChar(4));
+    }
+
+    @Test
+    public void testMultiByteCharacters() throws IOException {
+        Files.write(file, "h\u00E9\u20AC\uD83D\uDE00!".getBytes(StandardCharsets.UTF_8));
+        var stream = MappedCharStream.open(file, StandardCharsets.UTF_8, 4);
+
+        var sequence = stream.getLeadingSequence(100);
+
+        assertEquals("h\u00E9\u20AC\uD83D\uDE00!", sequence.getSequence());
+        assertEquals(6, sequence.getLength());
+    }
+
+    @Test
+    public void testJumpWithinSurrogatePair() throws IOException {
+        Files.write(file, "a\uD83D\uDE00b".getBytes(StandardCharsets.UTF_8));
+        var stream = MappedCharStream.open(file, StandardCharsets.UTF_8);
+
+        var high = stream.jump(1);
+        var low = stream.jump(2);
+
+        assertEquals(0xD83D, high.peekChar());
+        assertEquals(0xDE00, low.peekChar());
+        assertEquals(1, high.getPosition());
+        assertEquals(2, low.getPosition());
+        assertEquals('b', low.jump(1).peekChar());
+        assertEquals(5, low.jump(1).getPosition());
+    }
+
+    @Test
+    public void testPackratOverSurrogatePair() throws IOException {
+        Files.write(file, "a\uD83D\uDE00b".getBytes(StandardCharsets.UTF_8));
+        var stream = MappedCharStream.open(file, StandardCharsets.UTF_8);
+        var parser = packrat(zeroOrMoreList(TerminalParsers.<String, Character>item(c -> true, () -> "Expected a Character")));
+
+        var characters = parser.get().parse(stream).getOrThrow();
+
+        assertEquals(List.of('a', '\uD83D', '\uDE00', 'b'), characters);
+    }
+
+    @Test
+    public void testMalformedInput() throws IOException {
+        Files.write(file, new byte[]{'a', (byte) 0xC3, 'b'});
+        var stream = MappedCharStream.open(file, StandardCharsets.UTF_8);
+
+        assertEquals("a\uFFFDb", stream.getLeadingSequence(3).getSequence());
+    }
+
+    @Test
+    public void testSingleByteCharset() throws IOException {
+        Files.write(file, new byte[]{'a', (byte) 0xE9});
+        var latin = MappedCharStream.open(file, StandardCharsets.ISO_8859_1);
+        var ascii = MappedCharStream.open(file, StandardCharsets.US_ASCII);
+
+        assertEquals("a\u00E9", latin.getLeadingSequence(2).getSequence());
+        assertEquals("a\uFFFD", ascii.getLeadingSequence(2).getSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedCharset() throws IOException {
+        MappedCharStream.open(file, StandardCharsets.UTF_16);
+    }
+
+    @Test
+    public void testParsers() throws IOException {
+        Files.write(file, "Hello   World".getBytes(StandardCharsets.UTF_8));
+        var stream = MappedCharStream.open(file, StandardCharsets.UTF_8, 4);
+        var parser = prefix(TerminalParsers.sequence("Hello", () -> "Cannot find Hello"),
+                prefix(whitespace(), letters())).get();
+
+        var result = parser.parse(stream);
+
+        assertEquals("World", result.getOrThrow());
+    }
+}
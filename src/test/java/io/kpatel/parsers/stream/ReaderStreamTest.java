@@ -0,0 +1,188 @@
+package io.kpatel.parsers.stream;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.delimitedList;
+import static io.kpatel.parsers.prebuilt.RepetitionParsers.iterateDelimited;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class ReaderStreamTest {
+    /**
+     * WHAT: A Reader which counts the characters handed out
+     */
+    private static final class CountingReader extends Reader {
+        private final Reader reader;
+        private int count;
+
+        private CountingReader(String text) {
+            this.reader = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = reader.read(buffer, offset, length);
+            count += Math.max(read, 0);
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * HELPER: An endless Reader of "a,a,a,...", which keeps a weak reference
+     * to the first buffer it fills
+     */
+    private static final class EndlessReader extends Reader {
+        private WeakReference<char[]> first;
+        private long position;
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (first == null) {
+                first = new WeakReference<>(buffer);
+            }
+            for (int idx = offset; idx < offset + length; idx++) {
+                buffer[idx] = position++ % 2 == 0 ? 'a' : ',';
+            }
+            return length;
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+
+    @Test
+    public void testLeadingItem() {
+        var stream = ReaderStream.of(new StringReader("Hello"));
+
+        assertEquals(Character.valueOf('H'), stream.getLeadingItem().get());
+        assertFalse(stream.atEndOfStream());
+    }
+
+    @Test
+    public void testEmptyReader() {
+        var stream = ReaderStream.of(new StringReader(""));
+
+        assertTrue(stream.atEndOfStream());
+        assertEquals(CharParserStream.END_OF_STREAM, stream.peekChar());
+        assertEquals(0, stream.getLeadingSequence(5).getLength());
+    }
+
+    @Test
+    public void testLeadingSequenceAcrossChunks() {
+        var stream = ReaderStream.of(new StringReader("Hello World"), 3);
+
+        var sequence = stream.jump(2).getLeadingSequence(7);
+
+        assertEquals("llo Wor", sequence.getSequence());
+        assertEquals(7, sequence.getLength());
+    }
+
+    @Test
+    public void testLeadingRunAcrossChunks() {
+        var stream = ReaderStream.of(new StringReader("Hello World"), 2);
+
+        var run = stream.getLeadingRun(Character::isLetter);
+
+        assertEquals("Hello", run.getSequence());
+        assertEquals('W', stream.jump(6).peekChar());
+        assertEquals('d', stream.peekChar(10));
+        assertEquals(CharParserStream.END_OF_STREAM, stream.peekChar(11));
+    }
+
+    @Test
+    public void testJumpAndPosition() {
+        var stream = ReaderStream.of(new StringReader("Hello World"), 4);
+
+        assertEquals(4, stream.jump(4).getPosition());
+        assertEquals(6, stream.jump(2).jump(4).getPosition());
+        assertEquals(11, stream.jump(100).getPosition());
+        assertTrue(stream.jump(100).atEndOfStream());
+    }
+
+    @Test
+    public void testReadsOnDemand() {
+        var reader = new CountingReader("Hello World");
+        var stream = ReaderStream.of(reader, 4);
+
+        assertEquals(0, reader.count);
+        stream.getLeadingItem();
+        assertEquals(4, reader.count);
+        stream.jump(5).getLeadingItem();
+        assertEquals(8, reader.count);
+    }
+
+    @Test
+    public void testChannel() {
+        var bytes = "Hello World".getBytes(StandardCharsets.UTF_8);
+        var channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+        var stream = ReaderStream.of(channel, StandardCharsets.UTF_8);
+
+        assertEquals("Hello World", stream.getLeadingSequence(100).getSequence());
+    }
+
+    @Test
+    public void testParsers() {
+        var stream = ReaderStream.of(new StringReader("one,two,three!"), 3);
+        var parser = suffix(
+                delimitedList(letters(), item(',', () -> "Expected ','")),
+                item('!', () -> "Expected '!'")).get();
+
+        var result = parser.parse(stream);
+
+        assertEquals(List.of("one", "two", "three"), result.getOrThrow());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testReadFailure() {
+        var reader = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Broken Pipe");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ReaderStream.of(reader).getLeadingItem();
+    }
+
+    @Test
+    public void testReleasesReadChunks() throws InterruptedException {
+        var reader = new EndlessReader();
+        // Only the iterator holds a stream, the latest one
+        var elements = iterateDelimited(letters(), item(',', () -> "Expected ','"),
+                ReaderStream.of(reader, 1024));
+
+        for (int idx = 0; idx < 100_000; idx++) {
+            assertEquals("a", elements.next());
+        }
+        for (int attempt = 0; attempt < 10 && reader.first.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reader.first.get());
+        assertTrue(elements.hasNext());
+    }
+}
@@ -161,4 +161,169 @@ public class StringStreamTest {
         assertEquals(3, stream2.getLineNumber());
         assertEquals(6, stream2.getColumnNumber());
     }
+
+    @Test
+    public void testPeekChar() {
+        var stream = new StringStream("Hello");
+
+        assertEquals('H', stream.peekChar());
+        assertEquals('o', stream.peekChar(4));
+    }
+
+    @Test
+    public void testPeekCharEmpty() {
+        var stream = new StringStream("Hello");
+
+        assertEquals(CharParserStream.END_OF_STREAM, stream.jump(5).peekChar());
+        assertEquals(CharParserStream.END_OF_STREAM, stream.peekChar(5));
+        assertEquals(CharParserStream.END_OF_STREAM, stream.peekChar(-1));
+    }
+
+    @Test
+    public void testLeadingCharRun() {
+        var stream = new StringStream("Hello World");
+
+        var run = stream.getLeadingCharRun(Character::isAlphabetic);
+
+        assertEquals("Hello", run.getSequence());
+        assertEquals(5, run.getLength());
+    }
+
+    @Test
+    public void testLeadingCharRunOnEmptyStream() {
+        var stream = new StringStream("");
+
+        var run = stream.getLeadingCharRun(Character::isAlphabetic);
+
+        assertEquals("", run.getSequence());
+        assertEquals(0, run.getLength());
+    }
+
+    @Test
+    public void testLeadingSequenceSlice() {
+        var stream = new StringStream("Hello World");
+
+        var sequence = stream.getLeadingSequence(5);
+
+        assertTrue(sequence.getSlice().isPresent());
+        assertTrue(sequence.getSlice().get().contentEquals("Hello"));
+    }
+
+    @Test
+    public void testLeadingRunSlice() {
+        var stream = new StringStream("Hello World");
+
+        var run = stream.getLeadingRun(Character::isAlphabetic);
+
+        assertTrue(run.getSlice().isPresent());
+        assertSame(run.getSequence(), run.getSequence());
+    }
+
+    @Test
+    public void testLineColumnChainedJump() {
+        StringStream stream1 = new StringStream("Hello\nWorld\nFoobar");
+
+        StringStream stream2 = stream1.jump(3).jump(3);
+        StringStream stream3 = stream2.jump(2);
+        StringStream stream4 = stream3.jump(4);
+
+        assertEquals(2, stream2.getLineNumber());
+        assertEquals(0, stream2.getColumnNumber());
+        assertEquals(2, stream3.getLineNumber());
+        assertEquals(2, stream3.getColumnNumber());
+        assertEquals(3, stream4.getLineNumber());
+        assertEquals(0, stream4.getColumnNumber());
+    }
+
+    @Test
+    public void testLineNumberWithoutNewline() {
+        StringStream stream = new StringStream("Hello World").jump(6);
+
+        assertEquals(1, stream.getLineNumber());
+        assertEquals(6, stream.getColumnNumber());
+    }
+
+    @Test
+    public void testPosition() {
+        StringStream stream = new StringStream("Hello World");
+
+        assertEquals(0, stream.getPosition());
+        assertEquals(6, stream.jump(6).getPosition());
+        assertEquals(11, stream.jump(100).getPosition());
+        assertEquals(11, stream.jump(Integer.MAX_VALUE).getPosition());
+    }
+
+    @Test
+    public void testErrorContext() {
+        StringStream stream = new StringStream("Hello\nWorld").jump(8);
+
+        assertEquals("(Line: 2, Col: 2)", stream.getErrorContext().get());
+    }
+
+    @Test
+    public void testWithoutLineTracking() {
+        StringStream stream = StringStream.withoutLineTracking("Hello\nWorld").jump(8);
+
+        assertFalse(stream.isTrackingLines());
+        assertEquals(8, stream.getPosition());
+        assertEquals(Character.valueOf('r'), stream.getLeadingItem().get());
+        assertEquals("(Pos: 8)", stream.getErrorContext().get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWithoutLineTrackingLineNumber() {
+        StringStream.withoutLineTracking("Hello\nWorld").getLineNumber();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWithoutLineTrackingColumnNumber() {
+        StringStream.withoutLineTracking("Hello\nWorld").getColumnNumber();
+    }
+
+    @Test
+    public void testCursorAdvance() {
+        var cursor = new StringStream("Hello World").cursor();
+
+        cursor.advance(6);
+
+        assertEquals(6, cursor.getPosition());
+        assertEquals('W', cursor.peekChar());
+        assertTrue(cursor.startsWith("World"));
+        assertFalse(cursor.startsWith("World!"));
+        cursor.advance(100);
+        assertTrue(cursor.atEndOfStream());
+        assertNull(cursor.peekItem());
+    }
+
+    @Test
+    public void testCursorReset() {
+        var cursor = new StringStream("Hello World").cursor();
+
+        int mark = cursor.mark();
+        cursor.advance(6);
+        cursor.reset(mark);
+
+        assertEquals(0, cursor.getPosition());
+        assertEquals("Hello", cursor.getLeadingCharRun(Character::isLetter).getSequence());
+    }
+
+    @Test
+    public void testCursorToStream() {
+        var cursor = new StringStream("Hello\nWorld").cursor();
+
+        cursor.advance(8);
+        var stream = cursor.toStream();
+
+        assertEquals(8, stream.getPosition());
+        assertEquals("(Line: 2, Col: 2)", stream.getErrorContext().get());
+        cursor.seek(stream.jump(2));
+        assertEquals(10, cursor.getPosition());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorSeekOtherString() {
+        var cursor = new StringStream("Hello").cursor();
+
+        cursor.seek(new StringStream("World"));
+    }
 }
@@ -0,0 +1,123 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.StringStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.suffix;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.StringParsers.letters;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class RecordedEventsTest {
+    private Recording recording;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("parse", ".jfr");
+        recording = new Recording();
+        recording.enable("io.kpatel.parsers.ParseSession");
+        recording.enable("io.kpatel.parsers.SlowRule").withThreshold(Duration.ZERO);
+        recording.enable("io.kpatel.parsers.DeepBacktrack");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        recording.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * WHAT: A word, w/ or w/o a ';' after it, in a named rule
+     * - The first branch reads the word before it fails on a missing ';'
+     */
+    private static Supplier<Parser<String, String, Character>> statement() {
+        Rule<String, String, Character> statement = rule("statement");
+        return statement.bind(alternate(List.of(
+                suffix(letters(), item(';', () -> "Expected ';'")),
+                letters())));
+    }
+
+    /**
+     * HELPER: The events of the recording w/ the given name
+     */
+    private List<RecordedEvent> eventsNamed(String name) throws IOException {
+        recording.stop();
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testParseSession() throws IOException {
+        recording.start();
+        compileContext(statement()).parse(new StringStream("abc!"));
+        compile(statement()).parse(new StringStream("!"));
+
+        var sessions = eventsNamed("io.kpatel.parsers.ParseSession");
+        assertEquals(2, sessions.size());
+        assertEquals("context", sessions.get(0).getString("engine"));
+        assertEquals(0L, sessions.get(0).getLong("position"));
+        assertEquals(4L, sessions.get(0).getLong("inputSize"));
+        assertEquals(3L, sessions.get(0).getLong("itemsConsumed"));
+        assertTrue(sessions.get(0).getBoolean("success"));
+        assertEquals("result", sessions.get(1).getString("engine"));
+        assertEquals(1L, sessions.get(1).getLong("inputSize"));
+        assertEquals(0L, sessions.get(1).getLong("itemsConsumed"));
+        assertTrue(sessions.get(1).getBoolean("success"));
+    }
+
+    @Test
+    public void testSlowRule() throws IOException {
+        recording.start();
+        compile(recordEvents(statement())).parse(new StringStream("abc;d"));
+
+        var rules = eventsNamed("io.kpatel.parsers.SlowRule");
+        assertEquals(1, rules.size());
+        assertEquals("statement", rules.get(0).getString("rule"));
+        assertEquals(0L, rules.get(0).getLong("position"));
+        assertEquals(4L, rules.get(0).getLong("itemsConsumed"));
+        assertTrue(rules.get(0).getBoolean("success"));
+    }
+
+    @Test
+    public void testDeepBacktrack() throws IOException {
+        recording.start();
+        compileContext(recordEvents(statement(), 3)).parse(new StringStream("abc"));
+        compileContext(recordEvents(statement(), 4)).parse(new StringStream("abc"));
+
+        var backtracks = eventsNamed("io.kpatel.parsers.DeepBacktrack");
+        assertEquals(1, backtracks.size());
+        assertEquals("statement", backtracks.get(0).getString("rule"));
+        assertEquals("suffix", backtracks.get(0).getString("factory"));
+        assertEquals(0L, backtracks.get(0).getLong("position"));
+        assertEquals(3L, backtracks.get(0).getLong("discardedItems"));
+    }
+
+    @Test
+    public void testDisabledEvents() throws IOException {
+        recording.disable("io.kpatel.parsers.SlowRule");
+        recording.start();
+        compile(recordEvents(statement())).parse(new StringStream("abc;"));
+
+        assertTrue(eventsNamed("io.kpatel.parsers.SlowRule").isEmpty());
+    }
+}
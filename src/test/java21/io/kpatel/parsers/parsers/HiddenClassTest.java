@@ -0,0 +1,61 @@
+package io.kpatel.parsers.parsers;
+
+import io.kpatel.parsers.Parser;
+import io.kpatel.parsers.Result;
+import io.kpatel.parsers.prebuilt.Rule;
+import io.kpatel.parsers.stream.StringStream;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static io.kpatel.parsers.prebuilt.AffixParsers.prefix;
+import static io.kpatel.parsers.prebuilt.GrammarParsers.*;
+import static io.kpatel.parsers.prebuilt.MiscParsers.alternate;
+import static io.kpatel.parsers.prebuilt.MiscParsers.map;
+import static io.kpatel.parsers.prebuilt.TerminalParsers.item;
+import static org.junit.Assert.*;
+
+public class HiddenClassTest {
+    /**
+     * HELPER: A parser which keeps the classes on the stack as it runs,
+     * hidden ones included, and accepts nothing
+     */
+    private static Supplier<Parser<String, String, Character>> probe(List<Class<?>> classes) {
+        var walker = StackWalker.getInstance(Set.of(
+                StackWalker.Option.RETAIN_CLASS_REFERENCE,
+                StackWalker.Option.SHOW_HIDDEN_FRAMES));
+        return () -> stream -> {
+            walker.forEach(frame -> classes.add(frame.getDeclaringClass()));
+            return Result.success("", stream);
+        };
+    }
+
+    @Test
+    public void testGeneratedClassesAreHidden() {
+        var classes = new ArrayList<Class<?>>();
+        var grammar = prefix(item('a', () -> "Expected 'a'"), probe(classes));
+
+        assertEquals("", compileGenerated(grammar).parse(new StringStream("a")).getOrThrow());
+
+        var generated = classes.stream()
+                .filter(type -> type.getName().startsWith("io.kpatel.parsers.prebuilt.AffixTemplate$"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No generated class on the stack: " + classes));
+        assertTrue(generated.isHidden());
+        assertSame(Parser.class.getClassLoader(), generated.getClassLoader());
+    }
+
+    @Test
+    public void testRecursiveGrammar() {
+        Rule<Integer, String, Character> depth = rule("depth");
+        depth.bind(alternate(List.of(
+                map(item('x', () -> "Expected 'x'"), x -> 0),
+                map(prefix(item('(', () -> "Expected '('"), depth), d -> d + 1))));
+
+        assertEquals(Integer.valueOf(3), compileGenerated(depth).parse(new StringStream("(((x")).getOrThrow());
+        assertFalse(compileGenerated(depth).parse(new StringStream("((y")).isSuccess());
+    }
+}